@@ -6,9 +6,11 @@
 
 from fastapi import FastAPI, HTTPException
 from fastapi.middleware.cors import CORSMiddleware
+from fastapi.responses import StreamingResponse
 from pydantic import BaseModel
 from typing import List, Dict, Any, Optional, Union
 import uvicorn
+import asyncio
 from datetime import datetime
 import json
 import random
@@ -50,6 +52,8 @@ class APIResponse(BaseModel):
 class ChatRequest(BaseModel):
     user_id: str
     message: str
+    summary: Optional[str] = None
+    history: Optional[List[Dict[str, str]]] = None
 
 class ChatResponse(BaseModel):
     user_id: str
@@ -909,6 +913,34 @@ async def chat_with_bot(request: ChatRequest):
             error=str(e)
         )
 
+@app.post("/api/v1/chatbot/chat/stream")
+async def chat_with_bot_stream(request: ChatRequest):
+    """챗봇과 대화하기 (Server-Sent Events 스트리밍)"""
+    def event(payload: Dict[str, Any]) -> str:
+        return f"data: {json.dumps(payload, ensure_ascii=False)}\n\n"
+
+    async def event_stream():
+        if not request.message.strip():
+            yield event({"delta": "", "done": True, "error": "메시지를 입력해주세요"})
+            return
+
+        bot_response = get_mock_response(request.message)
+        words = bot_response.split(" ")
+        for i, word in enumerate(words):
+            await asyncio.sleep(0.05)
+            yield event({"delta": word if i == len(words) - 1 else word + " ", "done": False})
+
+        chat_history.setdefault(request.user_id, []).append({
+            "user": request.message,
+            "assistant": bot_response,
+            "timestamp": datetime.now().isoformat()
+        })
+        chat_history[request.user_id] = chat_history[request.user_id][-10:]
+        yield event({"delta": "", "done": True})
+
+    return StreamingResponse(event_stream(), media_type="text/event-stream",
+                             headers={"Cache-Control": "no-cache", "X-Accel-Buffering": "no"})
+
 @app.get("/api/v1/chatbot/suggestions")
 async def get_suggested_questions():
     """추천 질문 목록 조회"""
@@ -1473,6 +1505,31 @@ async def analyze_text_sentiment(request: SentimentRequest):
             error=str(e)
         )
 
+@app.post("/api/v1/sentiment/analyze-batch")
+async def analyze_text_sentiment_batch(request: Dict[str, Any]):
+    """여러 텍스트 일괄 감정 분석 (data는 요청 items와 같은 순서의 항목별 결과)"""
+    try:
+        results = []
+        for item in request.get("items", []):
+            results.append({
+                "success": True,
+                "message": "감정 분석이 완료되었습니다",
+                "data": analyze_sentiment(item.get("text", ""), item.get("language", "ko"))
+            })
+
+        return APIResponse(
+            success=True,
+            message=f"{len(results)}건의 감정 분석이 완료되었습니다",
+            data=results
+        )
+
+    except Exception as e:
+        return APIResponse(
+            success=False,
+            message="일괄 감정 분석 중 오류가 발생했습니다",
+            error=str(e)
+        )
+
 # =======================
 # 이미지 생성 API
 # =======================
@@ -1,5 +1,7 @@
 from fastapi import APIRouter, HTTPException
+from fastapi.responses import StreamingResponse
 from typing import List, Dict, Any, Optional
+import json
 import logging
 from datetime import datetime
 
@@ -15,6 +17,8 @@ router = APIRouter()
 class ChatRequest(BaseModel):
     user_id: str
     message: str
+    summary: Optional[str] = None  # 최근 턴에서 밀려난 이전 대화 요약
+    history: Optional[List[Dict[str, str]]] = None  # 최근 대화 턴 [{"user": ..., "assistant": ...}]
 
 class ChatResponse(BaseModel):
     user_id: str
@@ -55,7 +59,7 @@ async def chat_with_bot(request: ChatRequest):
         clean_message = message_validation["sanitized"]
         
         # 챗봇 서비스 호출
-        result = await chatbot_service.chat(clean_user_id, clean_message)
+        result = await chatbot_service.chat(clean_user_id, clean_message, request.summary, request.history)
         
         if result["success"]:
             # 응답 데이터도 sanitize
@@ -90,6 +94,43 @@ async def chat_with_bot(request: ChatRequest):
             error=str(e)
         )
 
+def _sse_event(payload: Dict[str, Any]) -> str:
+    """SSE data 이벤트 한 건"""
+    return f"data: {json.dumps(payload, ensure_ascii=False)}\n\n"
+
+@router.post("/chat/stream")
+async def chat_with_bot_stream(request: ChatRequest):
+    """챗봇과 대화하기 (Server-Sent Events 스트리밍)
+
+    응답 조각마다 {"delta": ..., "done": false} 이벤트를 보내고 {"delta": "", "done": true}로 끝냅니다.
+    실패하면 마지막 이벤트에 error가 담깁니다. 클라이언트가 연결을 끊으면 생성을 중단합니다.
+    """
+    user_id_validation = security_utils.validate_user_input(request.user_id, 100)
+    message_validation = security_utils.validate_user_input(request.message, 5000)
+
+    async def event_stream():
+        if not user_id_validation["valid"]:
+            yield _sse_event({"delta": "", "done": True, "error": f"사용자 ID 오류: {user_id_validation['error']}"})
+            return
+        if not message_validation["valid"]:
+            yield _sse_event({"delta": "", "done": True, "error": f"메시지 오류: {message_validation['error']}"})
+            return
+
+        try:
+            async for delta in chatbot_service.chat_stream(user_id_validation["sanitized"], message_validation["sanitized"],
+                                                          request.summary, request.history):
+                yield _sse_event({"delta": security_utils.sanitize_html(delta), "done": False})
+            yield _sse_event({"delta": "", "done": True})
+        except Exception as e:
+            logger.error(f"챗봇 스트리밍 API 오류: {e}")
+            yield _sse_event({"delta": "", "done": True, "error": "챗봇 응답 생성에 실패했습니다"})
+
+    return StreamingResponse(
+        event_stream(),
+        media_type="text/event-stream",
+        headers={"Cache-Control": "no-cache", "X-Accel-Buffering": "no"}
+    )
+
 @router.get("/suggestions", response_model=APIResponse)
 async def get_suggested_questions():
     """추천 질문 목록 조회"""
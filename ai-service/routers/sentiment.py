@@ -1,5 +1,7 @@
 from fastapi import APIRouter, HTTPException
-from typing import Dict, Any
+from typing import Dict, Any, List
+import asyncio
+import json
 import logging
 from datetime import datetime
 from pydantic import BaseModel
@@ -142,6 +144,64 @@ class SentimentAnalysisService:
                 "error": str(e)
             }
 
+    async def analyze_sentiment_batch(self, items: List[Dict[str, str]]) -> List[Dict[str, Any]]:
+        """여러 텍스트를 한 번의 모델 호출로 분석 (짧은 텍스트의 요청별 오버헤드 절감)
+
+        응답을 항목 수만큼 해석하지 못하면 항목별 단건 분석으로 처리합니다.
+        """
+        numbered = "\n".join(
+            f"[{i}] ({item.get('language', 'ko')}) {item['text']}" for i, item in enumerate(items)
+        )
+        system_prompt = """
+        당신은 자연어처리 및 감정 분석 분야의 전문가입니다.
+        번호가 붙은 각 텍스트의 감정을 positive/negative/neutral 중 하나로 분류하고 신뢰도(0-100)를 매겨주세요.
+
+        응답 형식: 입력과 같은 순서의 JSON 배열만 출력하세요.
+        [{"index": 0, "label": "positive", "confidence": 85, "reason": "간단한 근거"}, ...]
+        """
+
+        try:
+            result = await enhanced_openai_service.generate_completion_with_retry(
+                messages=[
+                    {"role": "system", "content": system_prompt},
+                    {"role": "user", "content": f"다음 텍스트들을 분석해주세요:\n\n{numbered}"}
+                ],
+                max_tokens=60 * len(items) + 50,
+                temperature=0.3,
+                use_cache=True
+            )
+            content = result.get('content', '')
+            parsed = json.loads(content[content.index('['):content.rindex(']') + 1])
+            by_index = {int(entry["index"]): entry for entry in parsed}
+            if len(by_index) != len(items) or set(by_index) != set(range(len(items))):
+                raise ValueError(f"expected {len(items)} results, got {len(by_index)}")
+
+            analyses = []
+            for i, item in enumerate(items):
+                entry = by_index[i]
+                sentiment = str(entry.get("label", "neutral")).lower()
+                if sentiment not in ["positive", "negative", "neutral"]:
+                    sentiment = "neutral"
+                confidence = max(0.0, min(100.0, float(entry.get("confidence", 50)))) / 100.0
+                score = confidence if sentiment == "positive" else -confidence if sentiment == "negative" else 0.0
+                analyses.append({
+                    "label": sentiment,
+                    "score": score,
+                    "confidence": confidence,
+                    "explanation": entry.get("reason") or f"분석된 감정: {sentiment}, 신뢰도: {confidence * 100:.1f}%",
+                    "sentiment": sentiment,
+                    "emotion_icon": self.emotion_icons.get(sentiment, "😐"),
+                    "keywords": self.emotion_keywords.get(sentiment, ["balanced"]),
+                    "analyzed_text": item['text'][:100] + "..." if len(item['text']) > 100 else item['text'],
+                })
+            return analyses
+
+        except Exception as e:
+            logger.warning(f"일괄 감정 분석 응답 해석 실패, 항목별 분석으로 처리: {e}")
+            return list(await asyncio.gather(*[
+                self.analyze_sentiment(item['text'], item.get('language', 'ko')) for item in items
+            ]))
+
 sentiment_service = SentimentAnalysisService()
 
 @router.get("/health", response_model=APIResponse)
@@ -188,6 +248,45 @@ async def analyze_sentiment_endpoint(request: SentimentAnalyzeRequest):
             error=str(e)
         )
 
+class SentimentBatchAnalyzeRequest(BaseModel):
+    items: List[SentimentAnalyzeRequest]
+
+@router.post("/analyze-batch", response_model=APIResponse)
+async def analyze_sentiment_batch_endpoint(request: SentimentBatchAnalyzeRequest):
+    """여러 텍스트 일괄 감정 분석 (data는 요청 items와 같은 순서의 항목별 결과)"""
+    try:
+        if not request.items:
+            raise HTTPException(status_code=400, detail="분석할 텍스트가 필요합니다")
+        if len(request.items) > 64:
+            raise HTTPException(status_code=400, detail="한 번에 최대 64건까지 분석할 수 있습니다")
+
+        results = await sentiment_service.analyze_sentiment_batch(
+            [{"text": item.text, "language": item.language} for item in request.items]
+        )
+
+        return APIResponse(
+            success=True,
+            message=f"{len(results)}건의 감정 분석이 완료되었습니다",
+            data=[
+                {
+                    "success": "error" not in result,
+                    "message": "감정 분석이 완료되었습니다" if "error" not in result else "감정 분석에 실패했습니다",
+                    "data": result
+                }
+                for result in results
+            ]
+        )
+
+    except HTTPException:
+        raise
+    except Exception as e:
+        logger.error(f"일괄 감정 분석 API 오류: {e}")
+        return APIResponse(
+            success=False,
+            message="일괄 감정 분석에 실패했습니다",
+            error=str(e)
+        )
+
 @router.get("/emotions", response_model=APIResponse)
 async def get_emotion_info():
     """지원하는 감정 정보 조회"""
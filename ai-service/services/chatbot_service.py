@@ -1,10 +1,11 @@
 import os
-from typing import List, Dict, Any, Optional
+from typing import List, Dict, Any, Optional, AsyncIterator
 from pathlib import Path
 import logging
 
 from llama_index.core import VectorStoreIndex, SimpleDirectoryReader, ServiceContext
 from llama_index.core.memory import ChatMemoryBuffer
+from llama_index.core.llms import ChatMessage, MessageRole
 from llama_index.core.chat_engine import CondenseQuestionChatEngine
 from llama_index.llms.openai import OpenAI
 from llama_index.embeddings.openai import OpenAIEmbedding
@@ -146,7 +147,24 @@ class ChatbotService:
             del self.user_sessions[user_id]
             logger.info(f"사용자 {user_id}의 세션이 초기화되었습니다")
     
-    async def chat(self, user_id: str, message: str) -> Dict[str, Any]:
+    def _build_chat_history(self, summary: Optional[str],
+                            history: Optional[List[Dict[str, str]]]) -> Optional[List[ChatMessage]]:
+        """백엔드가 보낸 대화 맥락(이전 대화 요약 + 최근 턴)을 채팅 엔진 히스토리로 변환
+
+        맥락이 없으면 None을 반환해 엔진의 기존 메모리를 그대로 사용합니다.
+        """
+        if summary is None and history is None:
+            return None
+        messages = []
+        if summary:
+            messages.append(ChatMessage(role=MessageRole.SYSTEM, content=f"이전 대화 요약:\n{summary}"))
+        for turn in history or []:
+            messages.append(ChatMessage(role=MessageRole.USER, content=turn.get("user") or ""))
+            messages.append(ChatMessage(role=MessageRole.ASSISTANT, content=turn.get("assistant") or ""))
+        return messages
+
+    async def chat(self, user_id: str, message: str, summary: Optional[str] = None,
+                   history: Optional[List[Dict[str, str]]] = None) -> Dict[str, Any]:
         """챗봇과 대화"""
         if not self.chat_engine:
             return {
@@ -165,7 +183,8 @@ class ChatbotService:
             korean_prompt = f"[한국어로만 답변] 당신은 '잡았다' 취업 플랫폼의 전문 상담사입니다. 친근하고 정중한 한국어로 취업 관련 조언을 제공해주세요. 질문: {message}"
             
             # 채팅 엔진으로 응답 생성
-            response = self.chat_engine.chat(korean_prompt)
+            response = self.chat_engine.chat(korean_prompt,
+                                             chat_history=self._build_chat_history(summary, history))
             response_text = str(response)
             
             # 세션 히스토리에 추가
@@ -196,6 +215,38 @@ class ChatbotService:
                 "error": str(e)
             }
     
+    async def chat_stream(self, user_id: str, message: str, summary: Optional[str] = None,
+                          history: Optional[List[Dict[str, str]]] = None) -> AsyncIterator[str]:
+        """챗봇과 대화 (응답을 생성되는 대로 조각 단위로 반환)
+
+        클라이언트 연결이 끊기면 이 제너레이터가 취소되어 LLM 스트림도 함께 중단됩니다.
+        히스토리는 응답이 끝까지 생성된 경우에만 저장합니다.
+        """
+        if not self.chat_engine:
+            raise RuntimeError("chat_engine_not_available")
+
+        session = self.get_user_session(user_id)
+        logger.info(f"사용자 {user_id} 스트리밍 질문: {message}")
+
+        korean_prompt = f"[한국어로만 답변] 당신은 '잡았다' 취업 플랫폼의 전문 상담사입니다. 친근하고 정중한 한국어로 취업 관련 조언을 제공해주세요. 질문: {message}"
+
+        response = await self.chat_engine.astream_chat(korean_prompt,
+                                                       chat_history=self._build_chat_history(summary, history))
+        parts = []
+        async for token in response.async_response_gen():
+            parts.append(token)
+            yield token
+
+        session["chat_history"].append({
+            "user": message,
+            "assistant": "".join(parts),
+            "timestamp": logger.time.now() if hasattr(logger, 'time') else None
+        })
+        if len(session["chat_history"]) > 10:
+            session["chat_history"] = session["chat_history"][-10:]
+
+        logger.info(f"사용자 {user_id} 스트리밍 응답 생성 완료")
+
     async def get_suggested_questions(self) -> List[str]:
         """추천 질문 목록 반환"""
         return [
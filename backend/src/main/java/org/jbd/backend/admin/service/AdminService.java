@@ -3,11 +3,14 @@ package org.jbd.backend.admin.service;
 import lombok.RequiredArgsConstructor;
 import org.jbd.backend.admin.dto.*;
 import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.auth.service.LoginProtectionService;
+import org.jbd.backend.auth.service.PrincipalCache;
+import org.jbd.backend.dashboard.service.JobScoreRankingService;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.domain.enums.UserType;
 import org.jbd.backend.user.repository.UserRepository;
+import org.jbd.backend.user.service.CandidateSearchService;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
@@ -24,7 +27,10 @@ public class AdminService {
     private static final Logger log = LoggerFactory.getLogger(AdminService.class);
     private final UserRepository userRepository;
     private final JwtService jwtService;
-    private final PasswordEncoder passwordEncoder;
+    private final LoginProtectionService loginProtectionService;
+    private final PrincipalCache principalCache;
+    private final JobScoreRankingService jobScoreRankingService;
+    private final CandidateSearchService candidateSearchService;
 
     @Value("${app.admin.secret-key:ADMIN_SECRET_2024}")
     private String adminSecretKey;
@@ -36,7 +42,7 @@ public class AdminService {
         User user = userRepository.findByEmail(request.getEmail())
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!loginProtectionService.matches(request.getPassword(), user.getPasswordHash())) {
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
         }
 
@@ -96,6 +102,9 @@ public class AdminService {
 
             log.debug("Saving user to repository...");
             userRepository.save(user);
+            principalCache.evictAfterCommit(user.getEmail());
+            jobScoreRankingService.removeUserAfterCommit(user.getId());
+            candidateSearchService.reindexAfterCommit(user.getId());
 
             log.info("User {} promoted to admin successfully", request.getEmail());
         } catch (Exception e) {
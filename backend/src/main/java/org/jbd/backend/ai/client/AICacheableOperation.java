@@ -0,0 +1,30 @@
+package org.jbd.backend.ai.client;
+
+/**
+ * 응답 캐시와 동일 요청 병합을 적용하는 AI 작업
+ *
+ * 같은 입력에 같은 결과를 돌려주는 호출만 캐시합니다. 설정 키는 ai.service.cache.operations.{key} 입니다.
+ * 병합된 호출은 작업이 속한 엔드포인트 그룹의 응답 제한 시간까지만 기다립니다.
+ */
+public enum AICacheableOperation {
+
+    SENTIMENT("sentiment", AIEndpoint.SENTIMENT),
+    TRANSLATION("translation", AIEndpoint.TRANSLATION),
+    INTERVIEW_QUESTIONS("interview-questions", AIEndpoint.INTERVIEW);
+
+    private final String key;
+    private final AIEndpoint endpoint;
+
+    AICacheableOperation(String key, AIEndpoint endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public AIEndpoint getEndpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,211 @@
+package org.jbd.backend.ai.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * AI 엔드포인트 그룹별 bulkhead + 서킷 브레이커
+ *
+ * 그룹마다 동시 호출 상한(세마포어)과 서킷 브레이커를 따로 두어, 한 기능(예: 이미지 생성)이 느려져도
+ * 다른 기능의 호출 스레드와 연결을 잠식하지 못하게 합니다. 상한을 넘거나 서킷이 열린 호출은 AI 서비스를 기다리지 않고
+ * {@link AICallRejectedException}으로 즉시 실패하며, 각 클라이언트는 이를 기존 오류 응답 DTO로 변환합니다.
+ *
+ * 동기·비동기 클라이언트가 같은 인스턴스를 공유하므로 두 경로의 실패가 한 서킷에 함께 집계됩니다.
+ * 4xx 응답(429 제외)은 요청 자체의 문제이므로 실패로 세지 않습니다.
+ *
+ * 메트릭:
+ * - ai.circuit.state{endpoint}: 0=CLOSED, 1=OPEN, 2=HALF_OPEN
+ * - ai.circuit.transitions{endpoint,state}: 상태 전환 횟수 (state=전환 후 상태)
+ * - ai.bulkhead.active{endpoint}: 진행 중인 호출 수
+ * - ai.call.rejected{endpoint,reason}: reason=bulkhead_full|circuit_open
+ */
+@Slf4j
+@Component
+public class AICallGuard {
+
+    private final Map<AIEndpoint, EndpointGuard> guards = new EnumMap<>(AIEndpoint.class);
+
+    @Autowired
+    public AICallGuard(AIServiceConfig aiServiceConfig, MeterRegistry meterRegistry) {
+        this(aiServiceConfig, meterRegistry, System::nanoTime);
+    }
+
+    AICallGuard(AIServiceConfig aiServiceConfig, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        for (AIEndpoint endpoint : AIEndpoint.values()) {
+            guards.put(endpoint, new EndpointGuard(endpoint, aiServiceConfig, meterRegistry, nanoClock));
+        }
+    }
+
+    /**
+     * 동기 호출을 bulkhead와 서킷 브레이커 안에서 실행합니다.
+     *
+     * @throws AICallRejectedException 동시 호출 상한 초과 또는 서킷 OPEN
+     */
+    public <T> T call(AIEndpoint endpoint, Supplier<T> call) {
+        EndpointGuard guard = guards.get(endpoint);
+        long generation = guard.acquire();
+        try {
+            T result = call.get();
+            guard.breaker.onSuccess(generation);
+            return result;
+        } catch (RuntimeException e) {
+            guard.onError(generation, e);
+            throw e;
+        } finally {
+            guard.bulkhead.release();
+        }
+    }
+
+    /**
+     * 비동기 호출을 bulkhead와 서킷 브레이커 안에서 실행합니다.
+     * 허용 판단은 구독 시점에 하고, 완료·오류·취소 중 어느 경우든 bulkhead 슬롯을 돌려줍니다.
+     */
+    public <T> Mono<T> guard(AIEndpoint endpoint, Mono<T> call) {
+        EndpointGuard guard = guards.get(endpoint);
+        return Mono.defer(() -> {
+            long generation;
+            try {
+                generation = guard.acquire();
+            } catch (AICallRejectedException e) {
+                return Mono.error(e);
+            }
+            return call
+                    .doOnSuccess(result -> guard.breaker.onSuccess(generation))
+                    .doOnError(e -> guard.onError(generation, e))
+                    .doOnCancel(() -> guard.breaker.onIgnored(generation))
+                    .doFinally(signal -> guard.bulkhead.release());
+        });
+    }
+
+    /**
+     * 스트리밍 호출을 bulkhead와 서킷 브레이커 안에서 실행합니다.
+     * 스트림이 끝날 때까지 bulkhead 슬롯을 점유하며, 정상 완료는 성공, 오류는 실패, 취소는 집계하지 않습니다.
+     */
+    public <T> Flux<T> guardMany(AIEndpoint endpoint, Flux<T> call) {
+        EndpointGuard guard = guards.get(endpoint);
+        return Flux.defer(() -> {
+            long generation;
+            try {
+                generation = guard.acquire();
+            } catch (AICallRejectedException e) {
+                return Flux.error(e);
+            }
+            return call
+                    .doOnComplete(() -> guard.breaker.onSuccess(generation))
+                    .doOnError(e -> guard.onError(generation, e))
+                    .doOnCancel(() -> guard.breaker.onIgnored(generation))
+                    .doFinally(signal -> guard.bulkhead.release());
+        });
+    }
+
+    AICircuitBreaker.State getState(AIEndpoint endpoint) {
+        return guards.get(endpoint).breaker.getState();
+    }
+
+    private static boolean isServiceFailure(Throwable e) {
+        if (e instanceof HttpClientErrorException clientError) {
+            return clientError.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        if (e instanceof WebClientResponseException responseError) {
+            return !responseError.getStatusCode().is4xxClientError()
+                    || responseError.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return true;
+    }
+
+    private static final class EndpointGuard {
+
+        private final AIEndpoint endpoint;
+        private final Semaphore bulkhead;
+        private final int maxConcurrentCalls;
+        private final AICircuitBreaker breaker;
+        private final Counter bulkheadRejections;
+        private final Counter circuitRejections;
+
+        private EndpointGuard(AIEndpoint endpoint, AIServiceConfig config, MeterRegistry meterRegistry,
+                              LongSupplier nanoClock) {
+            this.endpoint = endpoint;
+            this.maxConcurrentCalls = config.getMaxConcurrentCalls(endpoint);
+            this.bulkhead = new Semaphore(maxConcurrentCalls);
+            Map<AICircuitBreaker.State, Counter> transitions = new EnumMap<>(AICircuitBreaker.State.class);
+            for (AICircuitBreaker.State state : AICircuitBreaker.State.values()) {
+                transitions.put(state, Counter.builder("ai.circuit.transitions")
+                        .tag("endpoint", endpoint.getKey())
+                        .tag("state", state.name().toLowerCase())
+                        .register(meterRegistry));
+            }
+            this.breaker = new AICircuitBreaker(
+                    config.getFailureRateThreshold(),
+                    config.getSlidingWindowSize(),
+                    config.getMinimumCalls(),
+                    config.getOpenDuration().toNanos(),
+                    config.getHalfOpenProbes(),
+                    nanoClock,
+                    state -> {
+                        transitions.get(state).increment();
+                        if (state == AICircuitBreaker.State.OPEN) {
+                            log.warn("AI circuit opened: endpoint={}", endpoint.getKey());
+                        } else {
+                            log.info("AI circuit {}: endpoint={}", state, endpoint.getKey());
+                        }
+                    });
+            this.bulkheadRejections = rejectionCounter(meterRegistry, "bulkhead_full");
+            this.circuitRejections = rejectionCounter(meterRegistry, "circuit_open");
+
+            Gauge.builder("ai.circuit.state", breaker, b -> b.getState().ordinal())
+                    .tag("endpoint", endpoint.getKey())
+                    .register(meterRegistry);
+            Gauge.builder("ai.bulkhead.active", bulkhead, s -> maxConcurrentCalls - s.availablePermits())
+                    .tag("endpoint", endpoint.getKey())
+                    .register(meterRegistry);
+        }
+
+        /**
+         * bulkhead 슬롯을 먼저 잡고 서킷 허용 여부를 확인합니다. 거절되면 잡은 슬롯을 돌려줍니다.
+         */
+        private long acquire() {
+            if (!bulkhead.tryAcquire()) {
+                bulkheadRejections.increment();
+                throw new AICallRejectedException(endpoint, "bulkhead_full");
+            }
+            long generation = breaker.tryAcquire();
+            if (generation == AICircuitBreaker.REJECTED) {
+                bulkhead.release();
+                circuitRejections.increment();
+                throw new AICallRejectedException(endpoint, "circuit_open");
+            }
+            return generation;
+        }
+
+        private void onError(long generation, Throwable e) {
+            if (isServiceFailure(e)) {
+                breaker.onFailure(generation);
+            } else {
+                breaker.onSuccess(generation);
+            }
+        }
+
+        private Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+            return Counter.builder("ai.call.rejected")
+                    .tag("endpoint", endpoint.getKey())
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.jbd.backend.ai.client;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * bulkhead가 가득 찼거나 서킷이 열려 AI 서비스를 호출하지 않고 거절했을 때 발생합니다.
+ *
+ * RestClientException을 상속해 기존 호출부의 catch 블록이 그대로 오류 응답으로 변환합니다.
+ * 빠른 실패 경로에서 자주 생성되므로 스택 트레이스를 채우지 않습니다.
+ */
+final class AICallRejectedException extends RestClientException {
+
+    AICallRejectedException(AIEndpoint endpoint, String reason) {
+        super("AI call rejected: endpoint=" + endpoint.getKey() + ", reason=" + reason);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,158 @@
+package org.jbd.backend.ai.client;
+
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 수 기반 슬라이딩 윈도우 서킷 브레이커
+ *
+ * CLOSED 상태에서는 최근 slidingWindowSize건의 성공·실패를 링 버퍼에 기록하고, 최소 호출 수를 넘긴 뒤
+ * 실패율이 임계값 이상이면 OPEN으로 전환해 openDuration 동안 호출을 즉시 거절합니다.
+ * 그 뒤 첫 호출 시점에 HALF_OPEN으로 넘어가 halfOpenProbes건만 시험 호출을 허용하고,
+ * 모두 성공하면 CLOSED로, 하나라도 실패하면 다시 OPEN으로 돌아갑니다.
+ *
+ * 상태가 바뀔 때마다 세대(generation)가 증가하며, 이전 세대에 허용된 호출의 결과는 무시합니다.
+ * 그래서 OPEN 전에 시작된 느린 호출이 HALF_OPEN 시험 결과로 잘못 집계되지 않습니다.
+ */
+final class AICircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /** 호출이 거절되었을 때 {@link #tryAcquire()}가 반환하는 값 */
+    static final long REJECTED = -1;
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+    private final Consumer<State> transitionListener;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    /**
+     * @param failureRateThreshold OPEN으로 전환할 실패율 (%)
+     * @param slidingWindowSize 실패율을 계산할 최근 호출 수
+     * @param minimumCalls 실패율을 판단하기 전 필요한 최소 호출 수
+     * @param openDurationNanos OPEN 상태 유지 시간
+     * @param halfOpenProbes HALF_OPEN 상태에서 허용할 시험 호출 수
+     * @param nanoClock 단조 증가 시계 (System::nanoTime)
+     * @param transitionListener 상태 전환 시 새 상태를 받는 콜백
+     */
+    AICircuitBreaker(int failureRateThreshold, int slidingWindowSize, int minimumCalls, long openDurationNanos,
+                     int halfOpenProbes, LongSupplier nanoClock, Consumer<State> transitionListener) {
+        if (slidingWindowSize <= 0 || halfOpenProbes <= 0 || failureRateThreshold <= 0 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("slidingWindowSize, halfOpenProbes는 1 이상, failureRateThreshold는 1~100이어야 합니다.");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new boolean[slidingWindowSize];
+        this.minimumCalls = Math.min(Math.max(minimumCalls, 1), slidingWindowSize);
+        this.openDurationNanos = openDurationNanos;
+        this.halfOpenProbes = halfOpenProbes;
+        this.nanoClock = nanoClock;
+        this.transitionListener = transitionListener;
+    }
+
+    /**
+     * 호출 허용 여부를 판단합니다.
+     *
+     * @return 허용되면 결과 보고에 사용할 세대 번호, 거절되면 {@link #REJECTED}
+     */
+    synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return REJECTED;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes - probeSuccesses) {
+                return REJECTED;
+            }
+            probesInFlight++;
+        }
+        return generation;
+    }
+
+    synchronized void onSuccess(long acquiredGeneration) {
+        if (acquiredGeneration != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            probesInFlight--;
+            if (++probeSuccesses >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    synchronized void onFailure(long acquiredGeneration) {
+        if (acquiredGeneration != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * 결과 없이 끝난 호출(취소, bulkhead 거절 등)을 보고합니다. HALF_OPEN 시험 슬롯만 돌려줍니다.
+     */
+    synchronized void onIgnored(long acquiredGeneration) {
+        if (acquiredGeneration == generation && state == State.HALF_OPEN) {
+            probesInFlight--;
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        generation++;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        } else if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+        transitionListener.accept(next);
+    }
+}
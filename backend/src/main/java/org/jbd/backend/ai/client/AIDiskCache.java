@@ -0,0 +1,130 @@
+package org.jbd.backend.ai.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.common.util.LruFileSweeper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.LongSupplier;
+
+/**
+ * AI 응답 디스크 캐시
+ *
+ * 키(16진수 해시)마다 파일 하나를 {디렉터리}/{키 앞 2자}/{키} 경로에 저장합니다.
+ * 파일은 8바이트 만료 시각(epoch ms) 뒤에 응답 JSON이 이어지는 형식이며, 임시 파일에 쓴 뒤 이동하므로
+ * 읽는 쪽이 쓰다 만 파일을 보지 않습니다. 조회 시 수정 시각을 갱신해 정리 시 오래 쓰이지 않은 항목부터 삭제합니다.
+ *
+ * 입출력 오류는 캐시 미스로 처리하고 호출자에게 전파하지 않습니다.
+ */
+@Slf4j
+final class AIDiskCache {
+
+    private static final int HEADER_BYTES = Long.BYTES;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final LongSupplier clock;
+
+    AIDiskCache(Path directory, long maxBytes, LongSupplier clock) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.clock = clock;
+    }
+
+    /**
+     * 만료되지 않은 항목을 반환합니다. 없거나 만료되었거나 읽을 수 없으면 null.
+     */
+    Entry read(String key) {
+        Path file = path(key);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("Failed to read AI cache file {}: {}", file, e.getMessage());
+            return null;
+        }
+        if (bytes.length < HEADER_BYTES) {
+            delete(file);
+            return null;
+        }
+        long now = clock.getAsLong();
+        long expiresAtMillis = ByteBuffer.wrap(bytes, 0, HEADER_BYTES).getLong();
+        if (expiresAtMillis <= now) {
+            delete(file);
+            return null;
+        }
+        LruFileSweeper.touch(file, now);
+        byte[] payload = new byte[bytes.length - HEADER_BYTES];
+        System.arraycopy(bytes, HEADER_BYTES, payload, 0, payload.length);
+        return new Entry(payload, expiresAtMillis);
+    }
+
+    void write(String key, byte[] payload, long expiresAtMillis) {
+        Path file = path(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            temp = Files.createTempFile(file.getParent(), key, LruFileSweeper.TEMP_SUFFIX);
+            byte[] bytes = ByteBuffer.allocate(HEADER_BYTES + payload.length)
+                    .putLong(expiresAtMillis)
+                    .put(payload)
+                    .array();
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write AI cache file {}: {}", file, e.getMessage());
+            if (temp != null) {
+                delete(temp);
+            }
+        }
+    }
+
+    /**
+     * 만료된 항목을 삭제하고, 남은 크기가 상한을 넘으면 오래 쓰이지 않은 항목부터 삭제합니다.
+     *
+     * @return 삭제한 파일 수
+     */
+    int cleanup() {
+        long now = clock.getAsLong();
+        return LruFileSweeper.sweep(directory, 2, maxBytes, now, (file, lastUsedMillis) -> readExpiresAt(file) <= now);
+    }
+
+    /**
+     * 헤더의 만료 시각. 읽을 수 없는 파일은 만료된 것으로 봅니다.
+     */
+    private static long readExpiresAt(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] header = in.readNBytes(HEADER_BYTES);
+            return header.length == HEADER_BYTES ? ByteBuffer.wrap(header).getLong() : Long.MIN_VALUE;
+        } catch (IOException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private Path path(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete AI cache file {}: {}", file, e.getMessage());
+        }
+    }
+
+    record Entry(byte[] payload, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,31 @@
+package org.jbd.backend.ai.client;
+
+/**
+ * AI 서비스 엔드포인트 그룹
+ *
+ * 엔드포인트마다 처리 시간이 크게 다르므로(감정 분석 수백 ms, 이미지 생성 수십 초)
+ * 응답 제한 시간을 그룹별로 따로 설정합니다. 설정 키는 ai.service.timeouts.{key} 입니다.
+ * 스트리밍 그룹(chatbot-stream)의 제한 시간은 전체 응답이 아니라 첫 청크 및 청크 사이의 최대 간격입니다.
+ */
+public enum AIEndpoint {
+
+    CHATBOT("chatbot"),
+    CHATBOT_STREAM("chatbot-stream"),
+    INTERVIEW("interview"),
+    COVER_LETTER("cover-letter"),
+    TRANSLATION("translation"),
+    SENTIMENT("sentiment"),
+    IMAGE("image"),
+    PDF("pdf"),
+    HEALTH("health");
+
+    private final String key;
+
+    AIEndpoint(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
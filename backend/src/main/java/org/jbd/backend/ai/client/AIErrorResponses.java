@@ -0,0 +1,62 @@
+package org.jbd.backend.ai.client;
+
+import org.jbd.backend.ai.dto.*;
+
+/**
+ * AI 서비스 호출 실패 시 돌려주는 오류 응답
+ *
+ * 동기(AIServiceClient)·비동기(ReactiveAIServiceClient) 클라이언트가 같은 형태의 실패 응답을 내도록 한곳에 모았습니다.
+ */
+final class AIErrorResponses {
+
+    private AIErrorResponses() {
+    }
+
+    static ChatbotDto.ChatResponse chat(String errorMessage) {
+        ChatbotDto.ChatData errorData = new ChatbotDto.ChatData(
+            "죄송합니다. 현재 서비스에 일시적인 문제가 발생했습니다. 잠시 후 다시 시도해주세요.",
+            "error", 0.0, 0.0
+        );
+        return new ChatbotDto.ChatResponse(false, errorMessage, errorData);
+    }
+
+    static ChatbotDto.ChatChunk chatChunk(String errorMessage) {
+        return new ChatbotDto.ChatChunk("", true, errorMessage);
+    }
+
+    static InterviewDto.GenerateQuestionsResponse interview(String errorMessage) {
+        return new InterviewDto.GenerateQuestionsResponse(false, errorMessage, null);
+    }
+
+    static InterviewDto.EvaluateAnswerResponse evaluation(String errorMessage) {
+        return new InterviewDto.EvaluateAnswerResponse(false, errorMessage, null);
+    }
+
+    static CoverLetterDto.GenerateCompleteResponse coverLetter(String errorMessage) {
+        return new CoverLetterDto.GenerateCompleteResponse(false, errorMessage, null);
+    }
+
+    static CoverLetterDto.FeedbackResponse feedback(String errorMessage) {
+        return new CoverLetterDto.FeedbackResponse(false, errorMessage, null);
+    }
+
+    static TranslationDto.TranslateResponse translation(String errorMessage) {
+        return new TranslationDto.TranslateResponse(false, errorMessage, null);
+    }
+
+    static ImageGenerationDto.GenerateResponse image(String errorMessage) {
+        return new ImageGenerationDto.GenerateResponse(false, errorMessage, null);
+    }
+
+    static SentimentAnalysisDto.AnalyzeResponse sentiment(String errorMessage) {
+        return new SentimentAnalysisDto.AnalyzeResponse(false, errorMessage, null);
+    }
+
+    static SentimentAnalysisDto.BatchAnalyzeResponse sentimentBatch(String errorMessage) {
+        return new SentimentAnalysisDto.BatchAnalyzeResponse(false, errorMessage, null);
+    }
+
+    static PdfGenerationDto.GeneratePdfResponse pdf(String errorMessage) {
+        return new PdfGenerationDto.GeneratePdfResponse(false, errorMessage, null);
+    }
+}
@@ -0,0 +1,149 @@
+package org.jbd.backend.ai.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.client.ResourceAccessException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 동일 AI 요청 병합(single-flight)
+ *
+ * 같은 키의 호출이 진행 중이면 새 호출을 보내지 않고 진행 중인 호출의 결과(또는 예외)를 함께 받습니다.
+ * 동기·비동기 호출이 같은 진행 중 호출을 공유하며, 먼저 도착한 호출(leader)만 AI 서비스를 호출합니다.
+ *
+ * 키마다 시작 시각 기준의 마감 시각이 있어, 나중에 합류한 호출도 그 이후로는 기다리지 않습니다.
+ * 마감 시각이 지난 호출에는 합류하지 않고 새로 호출합니다.
+ * 비동기 leader의 호출은 구독자와 분리되어 있어, 한 구독자가 취소해도 다른 호출자의 결과에는 영향이 없습니다.
+ *
+ * 결과 객체는 합류한 호출자 사이에 공유되므로 호출자는 응답을 수정하지 않아야 합니다.
+ */
+final class AIRequestCoalescer {
+
+    private final LongSupplier nanoClock;
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+    private final Map<AICacheableOperation, Counter> joined = new EnumMap<>(AICacheableOperation.class);
+
+    AIRequestCoalescer(MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        for (AICacheableOperation operation : AICacheableOperation.values()) {
+            joined.put(operation, Counter.builder("ai.coalescing.joined")
+                    .tag("operation", operation.getKey())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("ai.coalescing.in.flight", flights, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 키의 진행 중 호출이 있으면 그 결과를 기다리고, 없으면 현재 스레드에서 loader를 호출합니다.
+     *
+     * @throws ResourceAccessException 진행 중 호출이 마감 시각까지 끝나지 않은 경우
+     */
+    <T> T execute(AICacheableOperation operation, String key, Duration timeout, Supplier<T> loader) {
+        Flight flight = new Flight(nanoClock.getAsLong() + timeout.toNanos());
+        Flight inFlight = join(key, flight);
+        if (inFlight != null) {
+            joined.get(operation).increment();
+            return await(operation, inFlight);
+        }
+        try {
+            T result = loader.get();
+            flight.future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * {@link #execute}의 비동기 버전. leader는 loader를 바로 구독하며, 모든 호출자에게 키의 마감 시각까지 남은 시간이 적용됩니다.
+     */
+    <T> Mono<T> executeAsync(AICacheableOperation operation, String key, Duration timeout, Mono<T> loader) {
+        return Mono.defer(() -> {
+            Flight flight = new Flight(nanoClock.getAsLong() + timeout.toNanos());
+            Flight inFlight = join(key, flight);
+            if (inFlight != null) {
+                joined.get(operation).increment();
+            } else {
+                inFlight = flight;
+                flight.future.whenComplete((result, error) -> flights.remove(key, flight));
+                loader.subscribe(flight.future::complete, flight.future::completeExceptionally,
+                        () -> flight.future.complete(null));
+            }
+            @SuppressWarnings("unchecked")
+            CompletableFuture<T> future = (CompletableFuture<T>) inFlight.future;
+            return Mono.fromFuture(future, true)
+                    .timeout(Duration.ofNanos(Math.max(0, inFlight.deadlineNanos - nanoClock.getAsLong())));
+        });
+    }
+
+    int inFlight() {
+        return flights.size();
+    }
+
+    /**
+     * 진행 중인 호출에 합류합니다. 없으면 candidate를 등록하고 null을 반환합니다(호출자가 leader).
+     */
+    private Flight join(String key, Flight candidate) {
+        while (true) {
+            Flight existing = flights.putIfAbsent(key, candidate);
+            if (existing == null) {
+                return null;
+            }
+            if (existing.deadlineNanos - nanoClock.getAsLong() > 0) {
+                return existing;
+            }
+            // leader가 마감 시각을 넘겨도 끝나지 않으면 더 기다리지 않고 새 호출로 교체
+            flights.remove(key, existing);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(AICacheableOperation operation, Flight flight) {
+        long remainingNanos = flight.deadlineNanos - nanoClock.getAsLong();
+        try {
+            return (T) flight.future.get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ResourceAccessException("In-flight AI call failed: " + cause);
+        } catch (TimeoutException e) {
+            throw new ResourceAccessException(
+                    "Timed out waiting for in-flight AI call: operation=" + operation.getKey());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException(
+                    "Interrupted while waiting for in-flight AI call: operation=" + operation.getKey());
+        }
+    }
+
+    private static final class Flight {
+
+        private final long deadlineNanos;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        private Flight(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package org.jbd.backend.ai.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 결정적 AI 호출 응답 캐시
+ *
+ * 같은 입력이면 같은 결과를 돌려주는 호출(감정 분석, 번역, 면접 질문 생성)의 성공 응답을
+ * 메모리 LRU와 로컬 디스크 두 단계에 보관합니다. 조회는 메모리 → 디스크 → AI 서비스 순이며,
+ * 디스크에서 찾은 항목은 남은 보관 시간 그대로 메모리로 올립니다.
+ * 캐시에 없는 요청은 {@link AIRequestCoalescer}로 같은 키의 진행 중 호출에 합류하므로, 동시에 들어온 같은 요청은
+ * AI 서비스를 한 번만 호출합니다(ai.service.coalescing.enabled). 응답을 저장하는 것은 실제로 호출한 leader뿐입니다.
+ *
+ * 키는 작업 이름, 모델 버전(ai.service.cache.model-version), 정규화한 요청 JSON의 SHA-256입니다.
+ * 정규화는 필드 이름순 정렬, 문자열의 유니코드 NFC 변환·줄바꿈 통일·앞뒤 공백 제거이며 본문 중간의 공백은 유지합니다.
+ *
+ * 응답은 직렬화한 JSON으로 보관하고 조회할 때마다 새 객체로 역직렬화하므로, 호출자가 응답 객체를 수정해도 캐시에 영향이 없습니다.
+ * 메모리 크기 상한은 직렬화된 바이트 기준이며, 디스크 쓰기는 전용 스레드에서 비동기로 처리합니다(대기열이 가득 차면 생략).
+ *
+ * 메트릭:
+ * - ai.cache.requests{operation,result=memory|disk|miss}
+ * - ai.cache.memory.bytes
+ */
+@Slf4j
+@Component
+public class AIResponseCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+    private static final int DISK_WRITE_QUEUE_SIZE = 1_000;
+
+    private final AIServiceConfig aiServiceConfig;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier clock;
+    private final AIDiskCache diskCache;
+    private final AIRequestCoalescer coalescer;
+    private final Executor diskWriter;
+    private final ExecutorService ownedDiskWriter;
+    private final long memoryMaxBytes;
+    private final LinkedHashMap<String, MemoryEntry> memory = new LinkedHashMap<>(256, 0.75f, true);
+    private long memoryBytes;
+    private final Map<AICacheableOperation, Lookups> lookups = new EnumMap<>(AICacheableOperation.class);
+
+    @Autowired
+    public AIResponseCache(AIServiceConfig aiServiceConfig, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this(aiServiceConfig, objectMapper, meterRegistry, System::currentTimeMillis, newDiskWriter());
+    }
+
+    AIResponseCache(AIServiceConfig aiServiceConfig, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                    LongSupplier clock, Executor diskWriter) {
+        this.aiServiceConfig = aiServiceConfig;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.diskCache = aiServiceConfig.isCacheDiskEnabled()
+                ? new AIDiskCache(Path.of(aiServiceConfig.getCacheDiskDirectory()),
+                        aiServiceConfig.getCacheDiskMaxBytes(), clock)
+                : null;
+        this.coalescer = new AIRequestCoalescer(meterRegistry, System::nanoTime);
+        this.diskWriter = diskWriter;
+        this.ownedDiskWriter = diskWriter instanceof ExecutorService executorService ? executorService : null;
+        this.memoryMaxBytes = aiServiceConfig.getCacheMemoryMaxBytes();
+        for (AICacheableOperation operation : AICacheableOperation.values()) {
+            lookups.put(operation, new Lookups(operation, meterRegistry));
+        }
+        Gauge.builder("ai.cache.memory.bytes", this, cache -> cache.memoryBytes())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답이 있으면 반환하고, 없으면 loader를 호출해 cacheable을 만족하는 응답만 저장합니다.
+     * 같은 요청이 진행 중이면 loader를 호출하지 않고 그 결과를 기다립니다.
+     * 캐시와 병합을 모두 쓰지 않는 작업이면 loader를 그대로 호출합니다.
+     */
+    <T> T getOrLoad(AICacheableOperation operation, Object request, Class<T> type,
+                    Predicate<T> cacheable, Supplier<T> loader) {
+        boolean cacheEnabled = aiServiceConfig.isCacheEnabled(operation);
+        String key = cacheEnabled || aiServiceConfig.isCoalescingEnabled() ? keyFor(operation, request) : null;
+        if (key == null) {
+            return loader.get();
+        }
+        if (cacheEnabled) {
+            T cached = getFromMemory(operation, key, type);
+            if (cached == null) {
+                cached = getFromDisk(operation, key, type);
+            }
+            if (cached != null) {
+                return cached;
+            }
+            lookups.get(operation).misses.increment();
+        }
+        Supplier<T> storingLoader = () -> {
+            T response = loader.get();
+            if (cacheEnabled) {
+                putIfCacheable(operation, key, response, cacheable);
+            }
+            return response;
+        };
+        if (!aiServiceConfig.isCoalescingEnabled()) {
+            return storingLoader.get();
+        }
+        return coalescer.execute(operation, key, coalescingTimeout(operation), storingLoader);
+    }
+
+    /**
+     * 캐시된 응답을 조회만 합니다. 캐시를 쓰지 않는 작업이거나 캐시에 없으면 null.
+     * 여러 요청을 한 번에 보내는 호출이 적중한 항목을 미리 걸러낼 때 사용합니다.
+     */
+    <T> T getIfPresent(AICacheableOperation operation, Object request, Class<T> type) {
+        if (!aiServiceConfig.isCacheEnabled(operation)) {
+            return null;
+        }
+        String key = keyFor(operation, request);
+        if (key == null) {
+            return null;
+        }
+        T cached = getFromMemory(operation, key, type);
+        if (cached == null) {
+            cached = getFromDisk(operation, key, type);
+        }
+        if (cached == null) {
+            lookups.get(operation).misses.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * loader를 거치지 않고 얻은 응답을 {@link #getOrLoad}와 같은 키로 저장합니다.
+     */
+    <T> void put(AICacheableOperation operation, Object request, T response, Predicate<T> cacheable) {
+        if (!aiServiceConfig.isCacheEnabled(operation)) {
+            return;
+        }
+        String key = keyFor(operation, request);
+        if (key != null) {
+            putIfCacheable(operation, key, response, cacheable);
+        }
+    }
+
+    /**
+     * {@link #getOrLoad}의 비동기 버전. 디스크 조회는 boundedElastic 스케줄러에서 실행합니다.
+     */
+    <T> Mono<T> getOrLoadAsync(AICacheableOperation operation, Object request, Class<T> type,
+                               Predicate<T> cacheable, Mono<T> loader) {
+        return Mono.defer(() -> {
+            boolean cacheEnabled = aiServiceConfig.isCacheEnabled(operation);
+            String key = cacheEnabled || aiServiceConfig.isCoalescingEnabled() ? keyFor(operation, request) : null;
+            if (key == null) {
+                return loader;
+            }
+            Mono<T> storingLoader = cacheEnabled
+                    ? loader.doOnNext(response -> putIfCacheable(operation, key, response, cacheable))
+                    : loader;
+            Mono<T> load = aiServiceConfig.isCoalescingEnabled()
+                    ? coalescer.executeAsync(operation, key, coalescingTimeout(operation), storingLoader)
+                    : storingLoader;
+            if (!cacheEnabled) {
+                return load;
+            }
+            T cached = getFromMemory(operation, key, type);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            Mono<T> fromDisk = diskCache == null
+                    ? Mono.empty()
+                    : Mono.fromCallable(() -> getFromDisk(operation, key, type))
+                            .subscribeOn(Schedulers.boundedElastic());
+            return fromDisk.switchIfEmpty(Mono.defer(() -> {
+                lookups.get(operation).misses.increment();
+                return load;
+            }));
+        });
+    }
+
+    /**
+     * 캐시·병합 키. 요청을 직렬화할 수 없으면 null.
+     */
+    String keyFor(AICacheableOperation operation, Object request) {
+        try {
+            byte[] canonical = objectMapper.writeValueAsBytes(normalize(objectMapper.valueToTree(request)));
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getKey().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(aiServiceConfig.getCacheModelVersion().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return HexFormat.of().formatHex(digest.digest(canonical));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("Failed to build AI cache key for {}: {}", operation.getKey(), e.getMessage());
+            return null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 만료된 디스크 항목을 지우고 디스크 크기 상한을 맞춥니다.
+     */
+    @Scheduled(fixedDelayString = "${ai.service.cache.disk.cleanup-interval-ms:600000}")
+    public void cleanupDisk() {
+        if (diskCache == null) {
+            return;
+        }
+        int deleted = diskCache.cleanup();
+        if (deleted > 0) {
+            log.info("AI response disk cache cleanup removed {} files", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ownedDiskWriter != null) {
+            ownedDiskWriter.shutdown();
+        }
+    }
+
+    int inFlight() {
+        return coalescer.inFlight();
+    }
+
+    synchronized long memoryBytes() {
+        return memoryBytes;
+    }
+
+    private Duration coalescingTimeout(AICacheableOperation operation) {
+        return aiServiceConfig.getReadTimeout(operation.getEndpoint());
+    }
+
+    private <T> T getFromMemory(AICacheableOperation operation, String key, Class<T> type) {
+        MemoryEntry entry;
+        synchronized (this) {
+            entry = memory.get(key);
+            if (entry != null && entry.expiresAtMillis <= clock.getAsLong()) {
+                removeFromMemory(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            return null;
+        }
+        T response = deserialize(entry.payload, type);
+        if (response != null) {
+            lookups.get(operation).memoryHits.increment();
+        }
+        return response;
+    }
+
+    private <T> T getFromDisk(AICacheableOperation operation, String key, Class<T> type) {
+        if (diskCache == null) {
+            return null;
+        }
+        AIDiskCache.Entry entry = diskCache.read(key);
+        if (entry == null) {
+            return null;
+        }
+        T response = deserialize(entry.payload(), type);
+        if (response != null) {
+            putInMemory(key, entry.payload(), entry.expiresAtMillis());
+            lookups.get(operation).diskHits.increment();
+        }
+        return response;
+    }
+
+    private <T> void putIfCacheable(AICacheableOperation operation, String key, T response, Predicate<T> cacheable) {
+        if (response == null || !cacheable.test(response)) {
+            return;
+        }
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize AI response for cache: {}", e.getMessage());
+            return;
+        }
+        long expiresAtMillis = clock.getAsLong() + aiServiceConfig.getCacheTtl(operation).toMillis();
+        putInMemory(key, payload, expiresAtMillis);
+        if (diskCache != null) {
+            try {
+                diskWriter.execute(() -> diskCache.write(key, payload, expiresAtMillis));
+            } catch (RuntimeException e) {
+                log.debug("Skipped AI cache disk write: {}", e.getMessage());
+            }
+        }
+    }
+
+    private synchronized void putInMemory(String key, byte[] payload, long expiresAtMillis) {
+        long size = (long) payload.length + ENTRY_OVERHEAD_BYTES;
+        if (size > memoryMaxBytes) {
+            return;
+        }
+        removeFromMemory(key);
+        memory.put(key, new MemoryEntry(payload, expiresAtMillis));
+        memoryBytes += size;
+        // 접근 순서 LinkedHashMap이므로 가장 오래 쓰이지 않은 항목부터 제거
+        Iterator<Map.Entry<String, MemoryEntry>> eldest = memory.entrySet().iterator();
+        while (memoryBytes > memoryMaxBytes && eldest.hasNext()) {
+            memoryBytes -= (long) eldest.next().getValue().payload.length + ENTRY_OVERHEAD_BYTES;
+            eldest.remove();
+        }
+    }
+
+    private void removeFromMemory(String key) {
+        MemoryEntry removed = memory.remove(key);
+        if (removed != null) {
+            memoryBytes -= (long) removed.payload.length + ENTRY_OVERHEAD_BYTES;
+        }
+    }
+
+    private <T> T deserialize(byte[] payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (IOException e) {
+            log.warn("Failed to deserialize cached AI response as {}: {}", type.getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 필드를 이름순으로 정렬하고 문자열 값을 정규화한 사본을 만듭니다.
+     */
+    private static JsonNode normalize(JsonNode node) {
+        if (node.isTextual()) {
+            String text = Normalizer.normalize(node.textValue(), Normalizer.Form.NFC)
+                    .replace("\r\n", "\n")
+                    .strip();
+            return JsonNodeFactory.instance.textNode(text);
+        }
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>();
+            node.fieldNames().forEachRemaining(names::add);
+            names.sort(null);
+            ObjectNode sorted = JsonNodeFactory.instance.objectNode();
+            for (String name : names) {
+                sorted.set(name, normalize(node.get(name)));
+            }
+            return sorted;
+        }
+        if (node.isArray()) {
+            ArrayNode array = JsonNodeFactory.instance.arrayNode();
+            node.forEach(element -> array.add(normalize(element)));
+            return array;
+        }
+        return node;
+    }
+
+    private static ExecutorService newDiskWriter() {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(DISK_WRITE_QUEUE_SIZE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ai-cache-disk-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    private record MemoryEntry(byte[] payload, long expiresAtMillis) {
+    }
+
+    private static final class Lookups {
+
+        private final Counter memoryHits;
+        private final Counter diskHits;
+        private final Counter misses;
+
+        private Lookups(AICacheableOperation operation, MeterRegistry meterRegistry) {
+            this.memoryHits = counter(meterRegistry, operation, "memory");
+            this.diskHits = counter(meterRegistry, operation, "disk");
+            this.misses = counter(meterRegistry, operation, "miss");
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, AICacheableOperation operation, String result) {
+            return Counter.builder("ai.cache.requests")
+                    .tag("operation", operation.getKey())
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
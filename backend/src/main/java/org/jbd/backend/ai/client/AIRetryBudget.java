@@ -0,0 +1,87 @@
+package org.jbd.backend.ai.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 트래픽에 비례하는 재시도 예산
+ *
+ * 1초 단위 버킷 windowSeconds개에 요청 수와 재시도 수를 기록하고, 재시도는
+ * (최근 요청 수 × ratio + 초당 최소 재시도 × windowSeconds)건까지만 허용합니다.
+ * AI 서비스 전체가 장애일 때 모든 요청이 max-attempts배로 불어나는 재시도 폭주를 막고,
+ * 트래픽이 적을 때도 간헐적인 연결 오류는 재시도할 수 있게 합니다.
+ */
+final class AIRetryBudget {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double ratio;
+    private final int minRetries;
+    private final LongSupplier nanoClock;
+
+    private final long[] bucketSeconds;
+    private final long[] requests;
+    private final long[] retries;
+
+    /**
+     * @param ratio 최근 요청 대비 허용 재시도 비율 (0.2 = 20%)
+     * @param minRetriesPerSecond 트래픽과 관계없이 허용할 초당 재시도 수
+     * @param windowSeconds 집계 구간 (초)
+     * @param nanoClock 단조 증가 시계 (System::nanoTime)
+     */
+    AIRetryBudget(double ratio, int minRetriesPerSecond, int windowSeconds, LongSupplier nanoClock) {
+        if (ratio < 0 || minRetriesPerSecond < 0 || windowSeconds <= 0) {
+            throw new IllegalArgumentException("ratio, minRetriesPerSecond는 0 이상, windowSeconds는 1 이상이어야 합니다.");
+        }
+        this.ratio = ratio;
+        this.minRetries = minRetriesPerSecond * windowSeconds;
+        this.nanoClock = nanoClock;
+        this.bucketSeconds = new long[windowSeconds];
+        this.requests = new long[windowSeconds];
+        this.retries = new long[windowSeconds];
+    }
+
+    /**
+     * 재시도가 아닌 새 요청을 기록합니다.
+     */
+    synchronized void onRequest() {
+        requests[bucket()]++;
+    }
+
+    /**
+     * 예산이 남아 있으면 재시도 하나를 차감합니다.
+     *
+     * @return 재시도가 허용되면 true
+     */
+    synchronized boolean tryRetry() {
+        int current = bucket();
+        long recentRequests = 0;
+        long recentRetries = 0;
+        for (int i = 0; i < bucketSeconds.length; i++) {
+            // 집계 구간을 벗어난 버킷은 아직 덮어쓰이지 않았더라도 제외
+            if (bucketSeconds[current] - bucketSeconds[i] < bucketSeconds.length) {
+                recentRequests += requests[i];
+                recentRetries += retries[i];
+            }
+        }
+        if (recentRetries >= minRetries + (long) (recentRequests * ratio)) {
+            return false;
+        }
+        retries[current]++;
+        return true;
+    }
+
+    /**
+     * 현재 초에 해당하는 버킷 인덱스. 한 바퀴 이전의 값이 남아 있으면 비웁니다.
+     */
+    private int bucket() {
+        long second = nanoClock.getAsLong() / NANOS_PER_SECOND;
+        int index = (int) Math.floorMod(second, (long) bucketSeconds.length);
+        if (bucketSeconds[index] != second) {
+            bucketSeconds[index] = second;
+            requests[index] = 0;
+            retries[index] = 0;
+        }
+        return index;
+    }
+}
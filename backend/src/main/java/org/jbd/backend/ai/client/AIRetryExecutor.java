@@ -0,0 +1,197 @@
+package org.jbd.backend.ai.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 AI 호출 재시도
+ *
+ * 연결 오류와 일시적 응답(429, 502, 503, 504)만 재시도하며, 대기 시간은 지수 백오프 상한 안에서 무작위로 고릅니다(full jitter).
+ * 재시도 여부는 세 가지로 제한합니다.
+ * - 시도 횟수: ai.service.retry.max-attempts (첫 호출 포함)
+ * - 마감 시각: 엔드포인트 그룹의 응답 제한 시간. 백오프 후 남은 시간이 없으면 재시도하지 않고,
+ *   재시도 호출의 응답 제한 시간도 남은 시간으로 줄어듭니다.
+ * - 재시도 예산: 최근 요청 수에 비례 ({@link AIRetryBudget})
+ *
+ * 매 시도는 {@link AICallGuard}를 거치므로 서킷이 열리거나 bulkhead가 가득 차면 즉시 중단합니다.
+ * 생성형 호출(챗봇, 자소서, 이미지, PDF)은 재시도하면 비용이 그대로 늘어나므로 이 경로를 쓰지 않습니다.
+ *
+ * 메트릭:
+ * - ai.retry.attempts{endpoint}: 수행한 재시도 수
+ * - ai.retry.skipped{endpoint,reason}: 재시도 가능한 오류였지만 재시도하지 않은 수 (max_attempts|deadline|budget)
+ */
+@Slf4j
+@Component
+public class AIRetryExecutor {
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            HttpStatus.BAD_GATEWAY.value(),
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            HttpStatus.GATEWAY_TIMEOUT.value()
+    );
+
+    private static final long NO_RETRY = -1;
+
+    private final AIServiceConfig aiServiceConfig;
+    private final AICallGuard callGuard;
+    private final AIServiceTransport transport;
+    private final LongSupplier nanoClock;
+    private final Map<AIEndpoint, EndpointRetry> retries = new EnumMap<>(AIEndpoint.class);
+
+    @Autowired
+    public AIRetryExecutor(AIServiceConfig aiServiceConfig, AICallGuard callGuard, AIServiceTransport transport,
+                           MeterRegistry meterRegistry) {
+        this(aiServiceConfig, callGuard, transport, meterRegistry, System::nanoTime);
+    }
+
+    AIRetryExecutor(AIServiceConfig aiServiceConfig, AICallGuard callGuard, AIServiceTransport transport,
+                    MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.aiServiceConfig = aiServiceConfig;
+        this.callGuard = callGuard;
+        this.transport = transport;
+        this.nanoClock = nanoClock;
+        for (AIEndpoint endpoint : AIEndpoint.values()) {
+            retries.put(endpoint, new EndpointRetry(endpoint, aiServiceConfig, meterRegistry, nanoClock));
+        }
+    }
+
+    /**
+     * 동기 호출을 재시도 정책 안에서 실행합니다. 각 시도는 bulkhead·서킷 브레이커를 거칩니다.
+     *
+     * @return 성공한 시도의 결과
+     * @throws RuntimeException 마지막 시도의 예외 (재시도하지 않은 경우 첫 예외)
+     */
+    public <T> T call(AIEndpoint endpoint, Supplier<T> attempt) {
+        EndpointRetry retry = retries.get(endpoint);
+        retry.budget.onRequest();
+        long deadline = nanoClock.getAsLong() + aiServiceConfig.getReadTimeout(endpoint).toNanos();
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return callGuard.call(endpoint, () -> transport.withDeadline(deadline, attempt));
+            } catch (RuntimeException e) {
+                long delayMillis = nextDelayMillis(retry, attemptNumber, e, deadline);
+                if (delayMillis == NO_RETRY) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 비동기 호출을 재시도 정책 안에서 실행합니다.
+     * attempt는 구독할 때마다 새로 요청을 보내야 하며, 전체 Mono에도 응답 제한 시간이 적용됩니다.
+     */
+    public <T> Mono<T> retry(AIEndpoint endpoint, Mono<T> attempt) {
+        EndpointRetry retry = retries.get(endpoint);
+        Duration timeout = aiServiceConfig.getReadTimeout(endpoint);
+        return Mono.defer(() -> {
+            retry.budget.onRequest();
+            long deadline = nanoClock.getAsLong() + timeout.toNanos();
+            return attempt.retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                long delayMillis = nextDelayMillis(retry, (int) signal.totalRetries() + 1, signal.failure(), deadline);
+                return delayMillis == NO_RETRY
+                        ? Mono.error(signal.failure())
+                        : Mono.delay(Duration.ofMillis(delayMillis));
+            })));
+        }).timeout(timeout);
+    }
+
+    /**
+     * 재시도 대기 시간을 계산합니다. 재시도하지 않으면 {@link #NO_RETRY}.
+     */
+    private long nextDelayMillis(EndpointRetry retry, int attemptNumber, Throwable failure, long deadline) {
+        if (!isRetryable(failure)) {
+            return NO_RETRY;
+        }
+        if (attemptNumber >= aiServiceConfig.getRetryMaxAttempts()) {
+            retry.skippedMaxAttempts.increment();
+            return NO_RETRY;
+        }
+        long ceiling = Math.min(aiServiceConfig.getRetryMaxDelay().toMillis(),
+                aiServiceConfig.getRetryBaseDelay().toMillis() << Math.min(attemptNumber - 1, 20));
+        long delayMillis = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        if (nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(delayMillis) >= deadline) {
+            retry.skippedDeadline.increment();
+            return NO_RETRY;
+        }
+        if (!retry.budget.tryRetry()) {
+            retry.skippedBudget.increment();
+            return NO_RETRY;
+        }
+        retry.attempts.increment();
+        log.info("Retrying AI call: endpoint={}, attempt={}, delay={}ms, cause={}",
+                retry.endpoint.getKey(), attemptNumber + 1, delayMillis, failure.getMessage());
+        return delayMillis;
+    }
+
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof AICallRejectedException) {
+            return false;
+        }
+        if (e instanceof HttpStatusCodeException statusError) {
+            return RETRYABLE_STATUSES.contains(statusError.getStatusCode().value());
+        }
+        if (e instanceof WebClientResponseException responseError) {
+            return RETRYABLE_STATUSES.contains(responseError.getStatusCode().value());
+        }
+        // 연결 실패·연결 끊김 등 I/O 오류. 응답 제한 시간 초과는 마감 시각 검사에서 걸러집니다.
+        return e instanceof ResourceAccessException || e instanceof WebClientRequestException;
+    }
+
+    private static final class EndpointRetry {
+
+        private final AIEndpoint endpoint;
+        private final AIRetryBudget budget;
+        private final Counter attempts;
+        private final Counter skippedMaxAttempts;
+        private final Counter skippedDeadline;
+        private final Counter skippedBudget;
+
+        private EndpointRetry(AIEndpoint endpoint, AIServiceConfig config, MeterRegistry meterRegistry,
+                              LongSupplier nanoClock) {
+            this.endpoint = endpoint;
+            this.budget = new AIRetryBudget(config.getRetryBudgetRatio(), config.getMinRetriesPerSecond(),
+                    config.getRetryBudgetWindowSeconds(), nanoClock);
+            this.attempts = Counter.builder("ai.retry.attempts")
+                    .tag("endpoint", endpoint.getKey())
+                    .register(meterRegistry);
+            this.skippedMaxAttempts = skippedCounter(meterRegistry, "max_attempts");
+            this.skippedDeadline = skippedCounter(meterRegistry, "deadline");
+            this.skippedBudget = skippedCounter(meterRegistry, "budget");
+        }
+
+        private Counter skippedCounter(MeterRegistry meterRegistry, String reason) {
+            return Counter.builder("ai.retry.skipped")
+                    .tag("endpoint", endpoint.getKey())
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package org.jbd.backend.ai.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.jbd.backend.ai.dto.SentimentAnalysisDto;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 감정 분석 요청 묶음 처리(micro-batching)
+ *
+ * 짧은 텍스트의 감정 분석은 모델 처리보다 요청마다의 HTTP·프롬프트 오버헤드가 더 크므로,
+ * 여러 호출자의 요청을 최대 max-size건 또는 첫 요청 후 max-wait 동안 모아 배치 엔드포인트로 한 번에 보내고
+ * 항목별 결과를 각 호출자에게 돌려줍니다(ai.service.sentiment-batch).
+ *
+ * 모인 요청이 한 건이면 기존 단건 호출(응답 캐시·병합 포함)을 그대로 사용합니다.
+ * 여러 건이면 단건 호출과 같은 응답 캐시를 항목별로 먼저 확인해 적중한 항목은 바로 돌려주고, 나머지만 배치로 보냅니다.
+ * 배치 응답이 실패했거나 건수가 맞지 않으면(배치 엔드포인트가 없는 이전 버전 AI 서비스 등) 단건 호출로 나누어 처리합니다.
+ * 호출자는 max-wait와 감정 분석 응답 제한 시간을 더한 시간까지만 기다리며, 실패는 예외 대신 오류 응답으로 돌려줍니다.
+ * 단건 호출로 나누어 처리할 때도 이 기한이 지난 항목은 호출하지 않습니다.
+ * 전송 대기 배치 수는 queue-capacity로 제한하며, 넘치면 해당 배치의 요청에 바로 오류 응답을 돌려줍니다.
+ *
+ * 메트릭:
+ * - ai.sentiment.batch.size
+ * - ai.sentiment.batch.fallbacks
+ */
+@Slf4j
+@Component
+public class AISentimentBatcher {
+
+    private final AIServiceClient aiServiceClient;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+    private final Duration waitTimeout;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService dispatcher;
+    private final DistributionSummary batchSizes;
+    private final Counter fallbacks;
+
+    private final Object lock = new Object();
+    private List<Pending> buffer = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public AISentimentBatcher(AIServiceClient aiServiceClient, AIServiceConfig aiServiceConfig,
+                              MeterRegistry meterRegistry) {
+        this.aiServiceClient = aiServiceClient;
+        this.enabled = aiServiceConfig.isSentimentBatchEnabled();
+        this.maxBatchSize = Math.max(1, aiServiceConfig.getSentimentBatchMaxSize());
+        this.maxWait = aiServiceConfig.getSentimentBatchMaxWait();
+        this.waitTimeout = maxWait.plus(aiServiceConfig.getReadTimeout(AIEndpoint.SENTIMENT));
+        this.timer = Executors.newSingleThreadScheduledExecutor(daemonThreads("ai-sentiment-batch-timer"));
+        // 감정 분석 동시 호출 상한보다 많은 배치를 동시에 보내도 bulkhead에서 거절될 뿐이므로 같은 수로 제한
+        int concurrency = aiServiceConfig.getMaxConcurrentCalls(AIEndpoint.SENTIMENT);
+        this.dispatcher = new ThreadPoolExecutor(concurrency, concurrency, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, aiServiceConfig.getSentimentBatchQueueCapacity())),
+                daemonThreads("ai-sentiment-batch"), new ThreadPoolExecutor.AbortPolicy());
+        this.batchSizes = DistributionSummary.builder("ai.sentiment.batch.size")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("ai.sentiment.batch.fallbacks")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 텍스트 하나를 분석합니다. 다른 호출자의 요청과 함께 배치로 전송될 수 있습니다.
+     */
+    public SentimentAnalysisDto.AnalyzeResponse analyze(String text, String language) {
+        return analyzeAll(List.of(new SentimentAnalysisDto.AnalyzeRequest(text, language))).get(0);
+    }
+
+    /**
+     * 여러 텍스트를 한꺼번에 넣어 max-size 단위 배치로 분석합니다. 결과는 요청 순서와 같습니다.
+     */
+    public List<SentimentAnalysisDto.AnalyzeResponse> analyzeAll(List<SentimentAnalysisDto.AnalyzeRequest> requests) {
+        if (!enabled) {
+            return requests.stream()
+                    .map(request -> aiServiceClient.analyzeSentiment(request.text(), request.language()))
+                    .toList();
+        }
+        long deadlineNanos = System.nanoTime() + waitTimeout.toNanos();
+        List<CompletableFuture<SentimentAnalysisDto.AnalyzeResponse>> futures = new ArrayList<>(requests.size());
+        for (SentimentAnalysisDto.AnalyzeRequest request : requests) {
+            futures.add(submit(request, deadlineNanos));
+        }
+        List<SentimentAnalysisDto.AnalyzeResponse> responses = new ArrayList<>(futures.size());
+        for (CompletableFuture<SentimentAnalysisDto.AnalyzeResponse> future : futures) {
+            responses.add(await(future, deadlineNanos));
+        }
+        return responses;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        dispatcher.shutdown();
+    }
+
+    private CompletableFuture<SentimentAnalysisDto.AnalyzeResponse> submit(SentimentAnalysisDto.AnalyzeRequest request,
+                                                                          long deadlineNanos) {
+        Pending pending = new Pending(request, deadlineNanos);
+        List<Pending> full = null;
+        synchronized (lock) {
+            buffer.add(pending);
+            if (buffer.size() >= maxBatchSize) {
+                full = takeBuffer();
+            } else if (buffer.size() == 1) {
+                scheduledFlush = timer.schedule(this::flush, maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return pending.future;
+    }
+
+    private void flush() {
+        List<Pending> batch;
+        synchronized (lock) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            batch = takeBuffer();
+        }
+        dispatch(batch);
+    }
+
+    private List<Pending> takeBuffer() {
+        List<Pending> batch = buffer;
+        buffer = new ArrayList<>(maxBatchSize);
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<Pending> batch) {
+        try {
+            dispatcher.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            String message = dispatcher.isShutdown()
+                    ? "감정 분석 서비스가 종료 중입니다." : "감정 분석 요청이 많아 처리하지 못했습니다.";
+            batch.forEach(pending -> pending.future.complete(AIErrorResponses.sentiment(message)));
+        }
+    }
+
+    private void send(List<Pending> batch) {
+        batchSizes.record(batch.size());
+        try {
+            if (batch.size() == 1) {
+                sendSingle(batch.get(0));
+                return;
+            }
+            List<Pending> misses = new ArrayList<>(batch.size());
+            for (Pending pending : batch) {
+                SentimentAnalysisDto.AnalyzeResponse cached = aiServiceClient.getCachedSentiment(pending.request);
+                if (cached != null) {
+                    pending.future.complete(cached);
+                } else {
+                    misses.add(pending);
+                }
+            }
+            if (misses.size() <= 1) {
+                misses.forEach(this::sendSingle);
+                return;
+            }
+            SentimentAnalysisDto.BatchAnalyzeResponse response = aiServiceClient.analyzeSentimentBatch(
+                    misses.stream().map(pending -> pending.request).toList());
+            if (response != null && response.success() && response.data() != null
+                    && response.data().size() == misses.size()) {
+                for (int i = 0; i < misses.size(); i++) {
+                    SentimentAnalysisDto.AnalyzeResponse item = response.data().get(i);
+                    misses.get(i).future.complete(item != null
+                            ? item : AIErrorResponses.sentiment("감정 분석 결과가 없습니다."));
+                }
+                return;
+            }
+            fallbacks.increment();
+            log.warn("Sentiment batch of {} failed ({}), falling back to single requests", misses.size(),
+                    response != null ? response.message() : "no response");
+            for (Pending pending : misses) {
+                // 호출자가 이미 기다리기를 멈춘 항목은 AI 서비스를 호출하지 않음
+                if (System.nanoTime() - pending.deadlineNanos >= 0) {
+                    pending.future.complete(AIErrorResponses.sentiment("감정 분석 응답 대기 시간이 초과되었습니다."));
+                    continue;
+                }
+                sendSingle(pending);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to send sentiment batch: {}", e.getMessage());
+            // 이미 결과를 받은 항목에는 영향 없음
+            batch.forEach(pending -> pending.future.complete(
+                    AIErrorResponses.sentiment("감정 분석 중 오류가 발생했습니다.")));
+        }
+    }
+
+    private void sendSingle(Pending pending) {
+        pending.future.complete(aiServiceClient.analyzeSentiment(pending.request.text(), pending.request.language()));
+    }
+
+    private SentimentAnalysisDto.AnalyzeResponse await(CompletableFuture<SentimentAnalysisDto.AnalyzeResponse> future,
+                                                       long deadlineNanos) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return AIErrorResponses.sentiment("감정 분석 응답 대기 시간이 초과되었습니다.");
+        } catch (ExecutionException e) {
+            return AIErrorResponses.sentiment("감정 분석 중 오류가 발생했습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return AIErrorResponses.sentiment("감정 분석이 중단되었습니다.");
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Pending {
+
+        private final SentimentAnalysisDto.AnalyzeRequest request;
+        /** 호출자가 결과를 기다리는 기한 (System.nanoTime 기준) */
+        private final long deadlineNanos;
+        private final CompletableFuture<SentimentAnalysisDto.AnalyzeResponse> future = new CompletableFuture<>();
+
+        private Pending(SentimentAnalysisDto.AnalyzeRequest request, long deadlineNanos) {
+            this.request = request;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
@@ -7,7 +7,6 @@ import org.jbd.backend.ai.dto.*;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
 
@@ -16,22 +15,32 @@ import java.util.List;
 @Slf4j
 public class AIServiceClient {
 
-    private final RestTemplate restTemplate;
+    private final AIServiceTransport transport;
     private final AIServiceConfig aiServiceConfig;
+    private final AICallGuard callGuard;
+    private final AIRetryExecutor retryExecutor;
+    private final AIResponseCache responseCache;
 
     // ============= Chatbot Services =============
     
     public ChatbotDto.ChatResponse chatWithBot(String userId, String message) {
+        return chatWithBot(new ChatbotDto.ChatRequest(userId, message));
+    }
+
+    /**
+     * 이전 대화 요약·최근 턴을 포함한 요청으로 챗봇을 호출합니다.
+     */
+    public ChatbotDto.ChatResponse chatWithBot(ChatbotDto.ChatRequest request) {
+        String userId = request.getUserId();
         try {
             String url = aiServiceConfig.getAiServiceBaseUrl() + "/api/v1/chatbot/chat";
-            ChatbotDto.ChatRequest request = new ChatbotDto.ChatRequest(userId, message);
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<ChatbotDto.ChatRequest> entity = new HttpEntity<>(request, headers);
             
-            ResponseEntity<ChatbotDto.ChatResponse> response = restTemplate.postForEntity(
-                url, entity, ChatbotDto.ChatResponse.class
+            ResponseEntity<ChatbotDto.ChatResponse> response = callGuard.call(AIEndpoint.CHATBOT, () ->
+                transport.restTemplate(AIEndpoint.CHATBOT).postForEntity(url, entity, ChatbotDto.ChatResponse.class)
             );
             
             log.info("Chatbot API called successfully for user: {}", userId);
@@ -39,7 +48,7 @@ public class AIServiceClient {
             
         } catch (RestClientException e) {
             log.error("Failed to call chatbot API: {}", e.getMessage());
-            return createErrorChatResponse("챗봇 서비스와 통신 중 오류가 발생했습니다.");
+            return AIErrorResponses.chat("챗봇 서비스와 통신 중 오류가 발생했습니다.");
         }
     }
 
@@ -52,15 +61,15 @@ public class AIServiceClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<ChatbotDto.QuickResponseRequest> entity = new HttpEntity<>(request, headers);
             
-            ResponseEntity<ChatbotDto.ChatResponse> response = restTemplate.postForEntity(
-                url, entity, ChatbotDto.ChatResponse.class
+            ResponseEntity<ChatbotDto.ChatResponse> response = callGuard.call(AIEndpoint.CHATBOT, () ->
+                transport.restTemplate(AIEndpoint.CHATBOT).postForEntity(url, entity, ChatbotDto.ChatResponse.class)
             );
             
             return response.getBody();
             
         } catch (RestClientException e) {
             log.error("Failed to get quick response: {}", e.getMessage());
-            return createErrorChatResponse("빠른 응답 서비스와 통신 중 오류가 발생했습니다.");
+            return AIErrorResponses.chat("빠른 응답 서비스와 통신 중 오류가 발생했습니다.");
         }
     }
 
@@ -77,16 +86,19 @@ public class AIServiceClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<InterviewDto.GenerateQuestionsRequest> entity = new HttpEntity<>(request, headers);
             
-            ResponseEntity<InterviewDto.GenerateQuestionsResponse> response = restTemplate.postForEntity(
-                url, entity, InterviewDto.GenerateQuestionsResponse.class
+            InterviewDto.GenerateQuestionsResponse response = responseCache.getOrLoad(AICacheableOperation.INTERVIEW_QUESTIONS, request,
+                InterviewDto.GenerateQuestionsResponse.class, InterviewDto.GenerateQuestionsResponse::isSuccess, () ->
+                    retryExecutor.call(AIEndpoint.INTERVIEW, () ->
+                        transport.restTemplate(AIEndpoint.INTERVIEW).postForEntity(url, entity, InterviewDto.GenerateQuestionsResponse.class)
+                    ).getBody()
             );
             
             log.info("Interview questions generated for position: {}, type: {}", position, interviewType);
-            return response.getBody();
+            return response;
             
         } catch (RestClientException e) {
             log.error("Failed to generate interview questions: {}", e.getMessage());
-            return createErrorInterviewResponse("면접 질문 생성 중 오류가 발생했습니다.");
+            return AIErrorResponses.interview("면접 질문 생성 중 오류가 발생했습니다.");
         }
     }
 
@@ -101,15 +113,15 @@ public class AIServiceClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<InterviewDto.EvaluateAnswerRequest> entity = new HttpEntity<>(request, headers);
             
-            ResponseEntity<InterviewDto.EvaluateAnswerResponse> response = restTemplate.postForEntity(
-                url, entity, InterviewDto.EvaluateAnswerResponse.class
+            ResponseEntity<InterviewDto.EvaluateAnswerResponse> response = callGuard.call(AIEndpoint.INTERVIEW, () ->
+                transport.restTemplate(AIEndpoint.INTERVIEW).postForEntity(url, entity, InterviewDto.EvaluateAnswerResponse.class)
             );
             
             return response.getBody();
             
         } catch (RestClientException e) {
             log.error("Failed to evaluate answer: {}", e.getMessage());
-            return createErrorEvaluationResponse("답변 평가 중 오류가 발생했습니다.");
+            return AIErrorResponses.evaluation("답변 평가 중 오류가 발생했습니다.");
         }
     }
 
@@ -126,8 +138,8 @@ public class AIServiceClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<CoverLetterDto.GenerateCompleteRequest> entity = new HttpEntity<>(request, headers);
             
-            ResponseEntity<CoverLetterDto.GenerateCompleteResponse> response = restTemplate.postForEntity(
-                url, entity, CoverLetterDto.GenerateCompleteResponse.class
+            ResponseEntity<CoverLetterDto.GenerateCompleteResponse> response = callGuard.call(AIEndpoint.COVER_LETTER, () ->
+                transport.restTemplate(AIEndpoint.COVER_LETTER).postForEntity(url, entity, CoverLetterDto.GenerateCompleteResponse.class)
             );
             
             log.info("Cover letter generated for company: {}, position: {}", company, position);
@@ -135,7 +147,7 @@ public class AIServiceClient {
             
         } catch (RestClientException e) {
             log.error("Failed to generate cover letter: {}", e.getMessage());
-            return createErrorCoverLetterResponse("자소서 생성 중 오류가 발생했습니다.");
+            return AIErrorResponses.coverLetter("자소서 생성 중 오류가 발생했습니다.");
         }
     }
 
@@ -150,15 +162,15 @@ public class AIServiceClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<CoverLetterDto.FeedbackRequest> entity = new HttpEntity<>(request, headers);
             
-            ResponseEntity<CoverLetterDto.FeedbackResponse> response = restTemplate.postForEntity(
-                url, entity, CoverLetterDto.FeedbackResponse.class
+            ResponseEntity<CoverLetterDto.FeedbackResponse> response = callGuard.call(AIEndpoint.COVER_LETTER, () ->
+                transport.restTemplate(AIEndpoint.COVER_LETTER).postForEntity(url, entity, CoverLetterDto.FeedbackResponse.class)
             );
             
             return response.getBody();
             
         } catch (RestClientException e) {
             log.error("Failed to get cover letter feedback: {}", e.getMessage());
-            return createErrorFeedbackResponse("자소서 피드백 중 오류가 발생했습니다.");
+            return AIErrorResponses.feedback("자소서 피드백 중 오류가 발생했습니다.");
         }
     }
 
@@ -180,16 +192,19 @@ public class AIServiceClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<TranslationDto.TranslateRequest> entity = new HttpEntity<>(request, headers);
             
-            ResponseEntity<TranslationDto.TranslateResponse> response = restTemplate.postForEntity(
-                url, entity, TranslationDto.TranslateResponse.class
+            TranslationDto.TranslateResponse response = responseCache.getOrLoad(AICacheableOperation.TRANSLATION, request,
+                TranslationDto.TranslateResponse.class, TranslationDto.TranslateResponse::isSuccess, () ->
+                    retryExecutor.call(AIEndpoint.TRANSLATION, () ->
+                        transport.restTemplate(AIEndpoint.TRANSLATION).postForEntity(url, entity, TranslationDto.TranslateResponse.class)
+                    ).getBody()
             );
             
             log.info("Text translated from {} to {} (document type: {})", sourceLanguage, targetLanguage, documentType);
-            return response.getBody();
+            return response;
             
         } catch (RestClientException e) {
             log.error("Failed to translate text: {}", e.getMessage());
-            return createErrorTranslationResponse("번역 중 오류가 발생했습니다.");
+            return AIErrorResponses.translation("번역 중 오류가 발생했습니다.");
         }
     }
 
@@ -205,16 +220,63 @@ public class AIServiceClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<SentimentAnalysisDto.AnalyzeRequest> entity = new HttpEntity<>(request, headers);
             
-            ResponseEntity<SentimentAnalysisDto.AnalyzeResponse> response = restTemplate.postForEntity(
-                url, entity, SentimentAnalysisDto.AnalyzeResponse.class
+            SentimentAnalysisDto.AnalyzeResponse response = responseCache.getOrLoad(AICacheableOperation.SENTIMENT, request,
+                SentimentAnalysisDto.AnalyzeResponse.class, SentimentAnalysisDto.AnalyzeResponse::success, () ->
+                    retryExecutor.call(AIEndpoint.SENTIMENT, () ->
+                        transport.restTemplate(AIEndpoint.SENTIMENT).postForEntity(url, entity, SentimentAnalysisDto.AnalyzeResponse.class)
+                    ).getBody()
             );
             
             log.info("Sentiment analysis completed for text length: {}", text.length());
-            return response.getBody();
+            return response;
             
         } catch (RestClientException e) {
             log.error("Failed to analyze sentiment: {}", e.getMessage());
-            return createErrorSentimentResponse("감정 분석 중 오류가 발생했습니다.");
+            return AIErrorResponses.sentiment("감정 분석 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 응답 캐시에 있는 감정 분석 결과를 돌려줍니다. 없으면 null.
+     */
+    SentimentAnalysisDto.AnalyzeResponse getCachedSentiment(SentimentAnalysisDto.AnalyzeRequest request) {
+        return responseCache.getIfPresent(AICacheableOperation.SENTIMENT, request, SentimentAnalysisDto.AnalyzeResponse.class);
+    }
+
+    /**
+     * 여러 텍스트를 한 번에 분석합니다. 응답의 data는 요청 순서와 같은 순서입니다.
+     * 성공한 항목은 {@link #analyzeSentiment}와 같은 키로 응답 캐시에 저장합니다.
+     * 호출자를 모아 이 메서드로 보내는 것은 {@link AISentimentBatcher}가 담당합니다.
+     */
+    public SentimentAnalysisDto.BatchAnalyzeResponse analyzeSentimentBatch(
+            List<SentimentAnalysisDto.AnalyzeRequest> requests) {
+        try {
+            String url = aiServiceConfig.getAiServiceBaseUrl() + "/api/v1/sentiment/analyze-batch";
+            SentimentAnalysisDto.BatchAnalyzeRequest request = new SentimentAnalysisDto.BatchAnalyzeRequest(requests);
+            
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            HttpEntity<SentimentAnalysisDto.BatchAnalyzeRequest> entity = new HttpEntity<>(request, headers);
+            
+            ResponseEntity<SentimentAnalysisDto.BatchAnalyzeResponse> response = retryExecutor.call(AIEndpoint.SENTIMENT, () ->
+                transport.restTemplate(AIEndpoint.SENTIMENT).postForEntity(url, entity, SentimentAnalysisDto.BatchAnalyzeResponse.class)
+            );
+            
+            SentimentAnalysisDto.BatchAnalyzeResponse body = response.getBody();
+            if (body != null && body.success() && body.data() != null && body.data().size() == requests.size()) {
+                // 단건 호출과 같은 키로 저장해 이후 단건·배치 요청 모두 재사용
+                for (int i = 0; i < requests.size(); i++) {
+                    responseCache.put(AICacheableOperation.SENTIMENT, requests.get(i), body.data().get(i),
+                        SentimentAnalysisDto.AnalyzeResponse::success);
+                }
+            }
+            
+            log.info("Sentiment batch analysis completed for {} texts", requests.size());
+            return body;
+            
+        } catch (RestClientException e) {
+            log.error("Failed to analyze sentiment batch: {}", e.getMessage());
+            return AIErrorResponses.sentimentBatch("일괄 감정 분석 중 오류가 발생했습니다.");
         }
     }
 
@@ -231,8 +293,8 @@ public class AIServiceClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<ImageGenerationDto.GenerateRequest> entity = new HttpEntity<>(request, headers);
             
-            ResponseEntity<ImageGenerationDto.GenerateResponse> response = restTemplate.postForEntity(
-                url, entity, ImageGenerationDto.GenerateResponse.class
+            ResponseEntity<ImageGenerationDto.GenerateResponse> response = callGuard.call(AIEndpoint.IMAGE, () ->
+                transport.restTemplate(AIEndpoint.IMAGE).postForEntity(url, entity, ImageGenerationDto.GenerateResponse.class)
             );
             
             log.info("Image generated with prompt: {}, style: {}", prompt, style);
@@ -240,7 +302,7 @@ public class AIServiceClient {
             
         } catch (RestClientException e) {
             log.error("Failed to generate image: {}", e.getMessage());
-            return createErrorImageResponse("이미지 생성 중 오류가 발생했습니다.");
+            return AIErrorResponses.image("이미지 생성 중 오류가 발생했습니다.");
         }
     }
 
@@ -260,8 +322,8 @@ public class AIServiceClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<PdfGenerationDto.GenerateCoverLetterPdfRequest> entity = new HttpEntity<>(request, headers);
             
-            ResponseEntity<PdfGenerationDto.GeneratePdfResponse> response = restTemplate.postForEntity(
-                url, entity, PdfGenerationDto.GeneratePdfResponse.class
+            ResponseEntity<PdfGenerationDto.GeneratePdfResponse> response = callGuard.call(AIEndpoint.PDF, () ->
+                transport.restTemplate(AIEndpoint.PDF).postForEntity(url, entity, PdfGenerationDto.GeneratePdfResponse.class)
             );
             
             log.info("Cover letter PDF generated for: {}, position: {}", applicantName, position);
@@ -269,7 +331,7 @@ public class AIServiceClient {
             
         } catch (RestClientException e) {
             log.error("Failed to generate cover letter PDF: {}", e.getMessage());
-            return createErrorPdfResponse("자소서 PDF 생성 중 오류가 발생했습니다.");
+            return AIErrorResponses.pdf("자소서 PDF 생성 중 오류가 발생했습니다.");
         }
     }
     
@@ -282,8 +344,8 @@ public class AIServiceClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<PdfGenerationDto.GenerateResumePdfRequest> entity = new HttpEntity<>(request, headers);
             
-            ResponseEntity<PdfGenerationDto.GeneratePdfResponse> response = restTemplate.postForEntity(
-                url, entity, PdfGenerationDto.GeneratePdfResponse.class
+            ResponseEntity<PdfGenerationDto.GeneratePdfResponse> response = callGuard.call(AIEndpoint.PDF, () ->
+                transport.restTemplate(AIEndpoint.PDF).postForEntity(url, entity, PdfGenerationDto.GeneratePdfResponse.class)
             );
             
             log.info("Resume PDF generated for: {}", request.applicantName());
@@ -291,7 +353,7 @@ public class AIServiceClient {
             
         } catch (RestClientException e) {
             log.error("Failed to generate resume PDF: {}", e.getMessage());
-            return createErrorPdfResponse("이력서 PDF 생성 중 오류가 발생했습니다.");
+            return AIErrorResponses.pdf("이력서 PDF 생성 중 오류가 발생했습니다.");
         }
     }
 
@@ -300,7 +362,8 @@ public class AIServiceClient {
     public boolean checkAIServiceHealth() {
         try {
             String url = aiServiceConfig.getAiServiceBaseUrl() + "/api/v1/chatbot/health";
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = retryExecutor.call(AIEndpoint.HEALTH, () ->
+                transport.restTemplate(AIEndpoint.HEALTH).getForEntity(url, String.class));
             
             if (response.getStatusCode() == HttpStatus.OK) {
                 String responseBody = response.getBody();
@@ -316,46 +379,4 @@ public class AIServiceClient {
             return false;
         }
     }
-
-    // ============= Error Response Creators =============
-    
-    private ChatbotDto.ChatResponse createErrorChatResponse(String errorMessage) {
-        ChatbotDto.ChatData errorData = new ChatbotDto.ChatData(
-            "죄송합니다. 현재 서비스에 일시적인 문제가 발생했습니다. 잠시 후 다시 시도해주세요.", 
-            "error", 0.0, 0.0
-        );
-        return new ChatbotDto.ChatResponse(false, errorMessage, errorData);
-    }
-
-    private InterviewDto.GenerateQuestionsResponse createErrorInterviewResponse(String errorMessage) {
-        return new InterviewDto.GenerateQuestionsResponse(false, errorMessage, null);
-    }
-
-    private InterviewDto.EvaluateAnswerResponse createErrorEvaluationResponse(String errorMessage) {
-        return new InterviewDto.EvaluateAnswerResponse(false, errorMessage, null);
-    }
-
-    private CoverLetterDto.GenerateCompleteResponse createErrorCoverLetterResponse(String errorMessage) {
-        return new CoverLetterDto.GenerateCompleteResponse(false, errorMessage, null);
-    }
-
-    private CoverLetterDto.FeedbackResponse createErrorFeedbackResponse(String errorMessage) {
-        return new CoverLetterDto.FeedbackResponse(false, errorMessage, null);
-    }
-
-    private TranslationDto.TranslateResponse createErrorTranslationResponse(String errorMessage) {
-        return new TranslationDto.TranslateResponse(false, errorMessage, null);
-    }
-
-    private ImageGenerationDto.GenerateResponse createErrorImageResponse(String errorMessage) {
-        return new ImageGenerationDto.GenerateResponse(false, errorMessage, null);
-    }
-    
-    private SentimentAnalysisDto.AnalyzeResponse createErrorSentimentResponse(String errorMessage) {
-        return new SentimentAnalysisDto.AnalyzeResponse(false, errorMessage, null);
-    }
-    
-    private PdfGenerationDto.GeneratePdfResponse createErrorPdfResponse(String errorMessage) {
-        return new PdfGenerationDto.GeneratePdfResponse(false, errorMessage, null);
-    }
 }
\ No newline at end of file
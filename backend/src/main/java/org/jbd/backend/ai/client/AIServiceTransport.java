@@ -0,0 +1,135 @@
+package org.jbd.backend.ai.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * AI 서비스 HTTP 전송 계층
+ *
+ * 모든 AI 호출이 하나의 연결 풀(Apache HttpClient 5)을 공유해 keep-alive 연결을 재사용합니다.
+ * 풀이 가득 차면 pending-acquire-timeout 동안만 연결을 기다리고, 유휴·수명 초과 연결은 백그라운드에서 정리합니다.
+ *
+ * 엔드포인트 그룹마다 응답 제한 시간이 다른 RestTemplate을 두되, 모두 같은 풀을 사용합니다.
+ * 풀 상태는 httpcomponents.httpclient.pool.* 메트릭(httpclient=ai-service)으로 노출됩니다.
+ *
+ * {@link #withDeadline}으로 감싼 호출은 응답 제한 시간이 남은 시간으로 줄어들어, 재시도를 포함한 전체 호출이
+ * 호출자의 제한 시간을 넘지 않습니다.
+ */
+@Slf4j
+@Component
+public class AIServiceTransport {
+
+    public static final String POOL_NAME = "ai-service";
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final RequestConfig defaultRequestConfig;
+    private final Map<AIEndpoint, RestTemplate> restTemplates = new EnumMap<>(AIEndpoint.class);
+
+    public AIServiceTransport(AIServiceConfig aiServiceConfig, MeterRegistry meterRegistry) {
+        int maxConnections = aiServiceConfig.getMaxConnections();
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(aiServiceConfig.getConnectTimeoutMillis()))
+                        .setTimeToLive(TimeValue.of(aiServiceConfig.getMaxLifeTime()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        this.defaultRequestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(aiServiceConfig.getPendingAcquireTimeout()))
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(defaultRequestConfig)
+                .evictIdleConnections(TimeValue.of(aiServiceConfig.getMaxIdleTime()))
+                .evictExpiredConnections()
+                // 기본 재시도(503/429 응답 시 1초 후 재전송)는 POST에도 적용되고 서킷 브레이커에 실패를 숨기므로 끔
+                .disableAutomaticRetries()
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+
+        for (AIEndpoint endpoint : AIEndpoint.values()) {
+            HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+            Duration readTimeout = aiServiceConfig.getReadTimeout(endpoint);
+            requestFactory.setReadTimeout(readTimeout);
+            requestFactory.setHttpContextFactory((method, uri) -> deadlineContext(readTimeout));
+            // 요청 본문이 작은 JSON이므로 버퍼링해 chunked 대신 Content-Length로 전송
+            restTemplates.put(endpoint, new RestTemplate(new BufferingClientHttpRequestFactory(requestFactory)));
+        }
+        log.info("AI service connection pool initialized: maxConnections={}", maxConnections);
+    }
+
+    /**
+     * 엔드포인트 그룹의 응답 제한 시간이 적용된 RestTemplate
+     */
+    public RestTemplate restTemplate(AIEndpoint endpoint) {
+        return restTemplates.get(endpoint);
+    }
+
+    /**
+     * 현재 스레드에서 실행되는 AI 호출의 응답 제한 시간을 deadline까지 남은 시간으로 제한합니다.
+     *
+     * @param deadlineNanos System.nanoTime() 기준 마감 시각
+     */
+    public <T> T withDeadline(long deadlineNanos, Supplier<T> call) {
+        Long previous = DEADLINE.get();
+        DEADLINE.set(deadlineNanos);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                DEADLINE.remove();
+            } else {
+                DEADLINE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 마감 시각이 지정된 호출이면 남은 시간을 응답 제한 시간으로 쓰는 컨텍스트를, 아니면 null(기본 설정)을 반환합니다.
+     */
+    private HttpClientContext deadlineContext(Duration readTimeout) {
+        Long deadline = DEADLINE.get();
+        if (deadline == null) {
+            return null;
+        }
+        long remainingMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.copy(defaultRequestConfig)
+                .setResponseTimeout(Timeout.ofMilliseconds(Math.min(readTimeout.toMillis(), remainingMillis)))
+                .build());
+        return context;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+}
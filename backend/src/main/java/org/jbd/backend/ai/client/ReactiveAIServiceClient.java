@@ -0,0 +1,295 @@
+package org.jbd.backend.ai.client;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.jbd.backend.ai.dto.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * AI 서비스 비동기 클라이언트
+ *
+ * AIServiceClient의 모든 호출을 WebClient 기반 Mono로 제공합니다. 응답을 기다리는 동안 요청 스레드를 점유하지 않으므로
+ * 컨트롤러가 Mono를 그대로 반환하면 느린 AI 호출이 서블릿 스레드 풀을 소진시키지 않습니다.
+ *
+ * 응답 제한 시간(ai.service.timeouts.*)과 연결 풀 설정(ai.service.pool.*)은 동기 클라이언트와 같은 값을 사용하며,
+ * bulkhead·서킷 브레이커(AICallGuard)도 동기 클라이언트와 공유하며, 실패 시에는 예외 대신 같은 오류 응답(success=false)을 돌려줍니다.
+ * 멱등 호출(면접 질문 생성, 번역, 감정 분석, 헬스 체크)은 AIRetryExecutor로 일시적 오류를 재시도하고,
+ * 이 중 결정적 호출의 성공 응답은 동기 클라이언트와 같은 AIResponseCache를 통해 재사용합니다.
+ * 챗봇 스트리밍(streamChat)은 SSE 응답을 Flux로 중계하며 재시도·캐시를 적용하지 않습니다.
+ * 연결 풀 상태는 reactor.netty.connection.provider.* 메트릭(name=ai-service-reactive)으로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class ReactiveAIServiceClient {
+
+    public static final String POOL_NAME = "ai-service-reactive";
+
+    private static final ParameterizedTypeReference<ServerSentEvent<ChatbotDto.ChatChunk>> CHAT_CHUNK_EVENT =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final AIServiceConfig aiServiceConfig;
+    private final AICallGuard callGuard;
+    private final AIRetryExecutor retryExecutor;
+    private final AIResponseCache responseCache;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+
+    public ReactiveAIServiceClient(WebClient.Builder webClientBuilder, AIServiceConfig aiServiceConfig,
+                                   AICallGuard callGuard, AIRetryExecutor retryExecutor,
+                                   AIResponseCache responseCache) {
+        this.aiServiceConfig = aiServiceConfig;
+        this.callGuard = callGuard;
+        this.retryExecutor = retryExecutor;
+        this.responseCache = responseCache;
+        this.connectionProvider = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(aiServiceConfig.getMaxConnections())
+                .pendingAcquireTimeout(aiServiceConfig.getPendingAcquireTimeout())
+                .maxIdleTime(aiServiceConfig.getMaxIdleTime())
+                .maxLifeTime(aiServiceConfig.getMaxLifeTime())
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, aiServiceConfig.getConnectTimeoutMillis());
+        this.webClient = webClientBuilder
+                .baseUrl(aiServiceConfig.getAiServiceBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    // ============= Chatbot Services =============
+
+    public Mono<ChatbotDto.ChatResponse> chatWithBot(String userId, String message) {
+        return chatWithBot(new ChatbotDto.ChatRequest(userId, message));
+    }
+
+    public Mono<ChatbotDto.ChatResponse> chatWithBot(ChatbotDto.ChatRequest request) {
+        return post(AIEndpoint.CHATBOT, "/api/v1/chatbot/chat", request, ChatbotDto.ChatResponse.class)
+                .doOnNext(response -> log.info("Chatbot API called successfully for user: {}", request.getUserId()))
+                .onErrorResume(fallback("Failed to call chatbot API",
+                        AIErrorResponses.chat("챗봇 서비스와 통신 중 오류가 발생했습니다.")));
+    }
+
+    /**
+     * 챗봇 응답을 생성되는 대로 조각 단위로 받습니다.
+     *
+     * 응답 본문은 구독자가 요청한 만큼만 읽으므로(수신 측이 느리면 TCP 흐름 제어로 AI 서비스 송신도 멈춤) 버퍼가 쌓이지 않고,
+     * 구독을 취소하면 연결을 닫아 AI 서비스가 더 이상 토큰을 생성하지 않게 합니다.
+     * 첫 조각과 조각 사이 간격이 ai.service.timeouts.chatbot-stream을 넘거나 호출이 실패하면 오류 조각(done=true)으로 끝납니다.
+     */
+    public Flux<ChatbotDto.ChatChunk> streamChat(String userId, String message) {
+        return streamChat(new ChatbotDto.ChatRequest(userId, message));
+    }
+
+    public Flux<ChatbotDto.ChatChunk> streamChat(ChatbotDto.ChatRequest request) {
+        return callGuard.guardMany(AIEndpoint.CHATBOT_STREAM, webClient.post()
+                        .uri("/api/v1/chatbot/chat/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToFlux(CHAT_CHUNK_EVENT)
+                        .timeout(aiServiceConfig.getReadTimeout(AIEndpoint.CHATBOT_STREAM))
+                        // 데이터가 없는 이벤트(AI 서비스의 heartbeat 주석)는 건너뜀
+                        .mapNotNull(ServerSentEvent::data)
+                        .takeUntil(ChatbotDto.ChatChunk::isDone))
+                .doOnComplete(() -> log.info("Chatbot stream completed for user: {}", request.getUserId()))
+                .onErrorResume(e -> {
+                    log.error("Failed to stream chatbot response: {}", e.getMessage());
+                    return Flux.just(AIErrorResponses.chatChunk("챗봇 서비스와 통신 중 오류가 발생했습니다."));
+                });
+    }
+
+    public Mono<ChatbotDto.ChatResponse> getQuickResponse(String userId, String category) {
+        return post(AIEndpoint.CHATBOT, "/api/v1/chatbot/quick-response",
+                new ChatbotDto.QuickResponseRequest(userId, category), ChatbotDto.ChatResponse.class)
+                .onErrorResume(fallback("Failed to get quick response",
+                        AIErrorResponses.chat("빠른 응답 서비스와 통신 중 오류가 발생했습니다.")));
+    }
+
+    // ============= Interview Services =============
+
+    public Mono<InterviewDto.GenerateQuestionsResponse> generateInterviewQuestions(
+            String position, String interviewType, int count) {
+        InterviewDto.GenerateQuestionsRequest request =
+                new InterviewDto.GenerateQuestionsRequest(position, interviewType, count);
+        return responseCache.getOrLoadAsync(AICacheableOperation.INTERVIEW_QUESTIONS, request,
+                        InterviewDto.GenerateQuestionsResponse.class, InterviewDto.GenerateQuestionsResponse::isSuccess,
+                        retryablePost(AIEndpoint.INTERVIEW, "/api/v1/interview/generate-questions", request,
+                                InterviewDto.GenerateQuestionsResponse.class))
+                .doOnNext(response -> log.info("Interview questions generated for position: {}, type: {}",
+                        position, interviewType))
+                .onErrorResume(fallback("Failed to generate interview questions",
+                        AIErrorResponses.interview("면접 질문 생성 중 오류가 발생했습니다.")));
+    }
+
+    public Mono<InterviewDto.EvaluateAnswerResponse> evaluateAnswer(
+            String question, String answer, String position) {
+        return post(AIEndpoint.INTERVIEW, "/api/v1/interview/evaluate-answer",
+                new InterviewDto.EvaluateAnswerRequest(question, answer, position),
+                InterviewDto.EvaluateAnswerResponse.class)
+                .onErrorResume(fallback("Failed to evaluate answer",
+                        AIErrorResponses.evaluation("답변 평가 중 오류가 발생했습니다.")));
+    }
+
+    // ============= Cover Letter Services =============
+
+    public Mono<CoverLetterDto.GenerateCompleteResponse> generateCompleteCoverLetter(
+            String company, String position, String userExperience, String additionalInfo) {
+        return post(AIEndpoint.COVER_LETTER, "/api/v1/cover-letter/generate-complete",
+                new CoverLetterDto.GenerateCompleteRequest(company, position, userExperience, additionalInfo),
+                CoverLetterDto.GenerateCompleteResponse.class)
+                .doOnNext(response -> log.info("Cover letter generated for company: {}, position: {}",
+                        company, position))
+                .onErrorResume(fallback("Failed to generate cover letter",
+                        AIErrorResponses.coverLetter("자소서 생성 중 오류가 발생했습니다.")));
+    }
+
+    public Mono<CoverLetterDto.FeedbackResponse> getCoverLetterFeedback(
+            String coverLetterText, String position, String company) {
+        return post(AIEndpoint.COVER_LETTER, "/api/v1/cover-letter/feedback",
+                new CoverLetterDto.FeedbackRequest(coverLetterText, position, company),
+                CoverLetterDto.FeedbackResponse.class)
+                .onErrorResume(fallback("Failed to get cover letter feedback",
+                        AIErrorResponses.feedback("자소서 피드백 중 오류가 발생했습니다.")));
+    }
+
+    // ============= Translation Services =============
+
+    public Mono<TranslationDto.TranslateResponse> translateText(
+            String text, String targetLanguage, String sourceLanguage) {
+        return translateText(text, targetLanguage, sourceLanguage, "general");
+    }
+
+    public Mono<TranslationDto.TranslateResponse> translateText(
+            String text, String targetLanguage, String sourceLanguage, String documentType) {
+        TranslationDto.TranslateRequest request =
+                new TranslationDto.TranslateRequest(text, targetLanguage, sourceLanguage, documentType);
+        return responseCache.getOrLoadAsync(AICacheableOperation.TRANSLATION, request,
+                        TranslationDto.TranslateResponse.class, TranslationDto.TranslateResponse::isSuccess,
+                        retryablePost(AIEndpoint.TRANSLATION, "/api/v1/translation/translate", request,
+                                TranslationDto.TranslateResponse.class))
+                .doOnNext(response -> log.info("Text translated from {} to {} (document type: {})",
+                        sourceLanguage, targetLanguage, documentType))
+                .onErrorResume(fallback("Failed to translate text",
+                        AIErrorResponses.translation("번역 중 오류가 발생했습니다.")));
+    }
+
+    // ============= Sentiment Analysis Services =============
+
+    public Mono<SentimentAnalysisDto.AnalyzeResponse> analyzeSentiment(String text, String language) {
+        SentimentAnalysisDto.AnalyzeRequest request = new SentimentAnalysisDto.AnalyzeRequest(text, language);
+        return responseCache.getOrLoadAsync(AICacheableOperation.SENTIMENT, request,
+                        SentimentAnalysisDto.AnalyzeResponse.class, SentimentAnalysisDto.AnalyzeResponse::success,
+                        retryablePost(AIEndpoint.SENTIMENT, "/api/v1/sentiment/analyze", request,
+                                SentimentAnalysisDto.AnalyzeResponse.class))
+                .doOnNext(response -> log.info("Sentiment analysis completed for text length: {}", text.length()))
+                .onErrorResume(fallback("Failed to analyze sentiment",
+                        AIErrorResponses.sentiment("감정 분석 중 오류가 발생했습니다.")));
+    }
+
+    // ============= Image Generation Services =============
+
+    public Mono<ImageGenerationDto.GenerateResponse> generateImage(
+            String prompt, String style, String size, int n) {
+        return post(AIEndpoint.IMAGE, "/api/v1/image/generate",
+                new ImageGenerationDto.GenerateRequest(prompt, style, size, n),
+                ImageGenerationDto.GenerateResponse.class)
+                .doOnNext(response -> log.info("Image generated with prompt: {}, style: {}", prompt, style))
+                .onErrorResume(fallback("Failed to generate image",
+                        AIErrorResponses.image("이미지 생성 중 오류가 발생했습니다.")));
+    }
+
+    // ============= PDF Generation Services =============
+
+    public Mono<PdfGenerationDto.GeneratePdfResponse> generateCoverLetterPdf(
+            String applicantName, String position, String company,
+            String coverLetterContent, String contactInfo, String style) {
+        return post(AIEndpoint.PDF, "/api/v1/pdf/cover-letter",
+                new PdfGenerationDto.GenerateCoverLetterPdfRequest(
+                        applicantName, position, company, coverLetterContent, contactInfo, style),
+                PdfGenerationDto.GeneratePdfResponse.class)
+                .doOnNext(response -> log.info("Cover letter PDF generated for: {}, position: {}",
+                        applicantName, position))
+                .onErrorResume(fallback("Failed to generate cover letter PDF",
+                        AIErrorResponses.pdf("자소서 PDF 생성 중 오류가 발생했습니다.")));
+    }
+
+    public Mono<PdfGenerationDto.GeneratePdfResponse> generateResumePdf(
+            PdfGenerationDto.GenerateResumePdfRequest request) {
+        return post(AIEndpoint.PDF, "/api/v1/pdf/resume", request, PdfGenerationDto.GeneratePdfResponse.class)
+                .doOnNext(response -> log.info("Resume PDF generated for: {}", request.applicantName()))
+                .onErrorResume(fallback("Failed to generate resume PDF",
+                        AIErrorResponses.pdf("이력서 PDF 생성 중 오류가 발생했습니다.")));
+    }
+
+    // ============= Health Check =============
+
+    public Mono<Boolean> checkAIServiceHealth() {
+        return retryExecutor.retry(AIEndpoint.HEALTH, callGuard.guard(AIEndpoint.HEALTH, webClient.get()
+                        .uri("/api/v1/chatbot/health")
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .timeout(aiServiceConfig.getReadTimeout(AIEndpoint.HEALTH))))
+                .map(body -> {
+                    if (body.contains("\"success\":true")) {
+                        return true;
+                    }
+                    log.warn("AI Service health check returned non-successful response: {}", body);
+                    return false;
+                })
+                .defaultIfEmpty(false)
+                .onErrorResume(e -> {
+                    log.error("AI Service health check failed: {}", e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.disposeLater().block(Duration.ofSeconds(5));
+    }
+
+    /**
+     * JSON 요청을 보내고 엔드포인트 그룹의 응답 제한 시간과 bulkhead·서킷 브레이커를 적용합니다.
+     * 4xx/5xx 응답, 연결 실패, 제한 시간 초과, 호출 거절은 모두 오류 신호로 전달됩니다.
+     */
+    private <T> Mono<T> post(AIEndpoint endpoint, String path, Object request, Class<T> responseType) {
+        return callGuard.guard(endpoint, webClient.post()
+                .uri(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(responseType)
+                .timeout(aiServiceConfig.getReadTimeout(endpoint)));
+    }
+
+    /**
+     * 멱등 요청용 post. 일시적 오류는 AIRetryExecutor 정책에 따라 재시도하며, 재시도마다 bulkhead·서킷 브레이커를 다시 거칩니다.
+     */
+    private <T> Mono<T> retryablePost(AIEndpoint endpoint, String path, Object request, Class<T> responseType) {
+        return retryExecutor.retry(endpoint, post(endpoint, path, request, responseType));
+    }
+
+    private static <T> Function<Throwable, Mono<T>> fallback(String logMessage, T errorResponse) {
+        return e -> {
+            log.error("{}: {}", logMessage, e.getMessage());
+            return Mono.just(errorResponse);
+        };
+    }
+}
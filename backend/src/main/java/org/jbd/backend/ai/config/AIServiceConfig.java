@@ -1,22 +1,263 @@
 package org.jbd.backend.ai.config;
 
+import org.jbd.backend.ai.client.AICacheableOperation;
+import org.jbd.backend.ai.client.AIEndpoint;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
 
 @Configuration
 public class AIServiceConfig {
 
+    private final Environment environment;
+
     @Value("${ai.service.base-url:http://localhost:8001}")
-    private String aiServiceBaseUrl;
+    private String aiServiceBaseUrl = "http://localhost:8001";
+
+    @Value("${ai.service.timeout:30000}")
+    private long defaultTimeoutMillis = 30_000;
+
+    @Value("${ai.service.connect-timeout:3000}")
+    private int connectTimeoutMillis = 3_000;
+
+    @Value("${ai.service.pool.max-connections:50}")
+    private int maxConnections = 50;
+
+    @Value("${ai.service.pool.pending-acquire-timeout:5000}")
+    private long pendingAcquireTimeoutMillis = 5_000;
+
+    @Value("${ai.service.pool.max-idle-time:30000}")
+    private long maxIdleTimeMillis = 30_000;
+
+    @Value("${ai.service.pool.max-life-time:300000}")
+    private long maxLifeTimeMillis = 300_000;
+
+    @Value("${ai.service.resilience.default-max-concurrent:10}")
+    private int defaultMaxConcurrentCalls = 10;
+
+    @Value("${ai.service.resilience.failure-rate-threshold:50}")
+    private int failureRateThreshold = 50;
+
+    @Value("${ai.service.resilience.sliding-window-size:20}")
+    private int slidingWindowSize = 20;
+
+    @Value("${ai.service.resilience.minimum-calls:10}")
+    private int minimumCalls = 10;
+
+    @Value("${ai.service.resilience.open-duration:30000}")
+    private long openDurationMillis = 30_000;
+
+    @Value("${ai.service.resilience.half-open-probes:3}")
+    private int halfOpenProbes = 3;
+
+    @Value("${ai.service.retry.max-attempts:3}")
+    private int retryMaxAttempts = 3;
+
+    @Value("${ai.service.retry.delay:1000}")
+    private long retryBaseDelayMillis = 1_000;
+
+    @Value("${ai.service.retry.max-delay:8000}")
+    private long retryMaxDelayMillis = 8_000;
+
+    @Value("${ai.service.retry.budget-ratio:0.2}")
+    private double retryBudgetRatio = 0.2;
+
+    @Value("${ai.service.retry.min-retries-per-second:1}")
+    private int minRetriesPerSecond = 1;
+
+    @Value("${ai.service.retry.budget-window-seconds:10}")
+    private int retryBudgetWindowSeconds = 10;
+
+    @Value("${ai.service.cache.enabled:true}")
+    private boolean cacheEnabled = true;
+
+    @Value("${ai.service.cache.model-version:1}")
+    private String cacheModelVersion = "1";
+
+    @Value("${ai.service.cache.default-ttl:3600000}")
+    private long defaultCacheTtlMillis = 3_600_000;
 
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    @Value("${ai.service.cache.memory.max-bytes:33554432}")
+    private long cacheMemoryMaxBytes = 32L * 1024 * 1024;
+
+    @Value("${ai.service.cache.disk.enabled:true}")
+    private boolean cacheDiskEnabled = true;
+
+    @Value("${ai.service.cache.disk.directory:${java.io.tmpdir}/jbd-ai-cache}")
+    private String cacheDiskDirectory = System.getProperty("java.io.tmpdir") + "/jbd-ai-cache";
+
+    @Value("${ai.service.cache.disk.max-bytes:268435456}")
+    private long cacheDiskMaxBytes = 256L * 1024 * 1024;
+
+    @Value("${ai.service.coalescing.enabled:true}")
+    private boolean coalescingEnabled = true;
+
+    @Value("${ai.service.sentiment-batch.enabled:true}")
+    private boolean sentimentBatchEnabled = true;
+
+    @Value("${ai.service.sentiment-batch.max-size:16}")
+    private int sentimentBatchMaxSize = 16;
+
+    @Value("${ai.service.sentiment-batch.max-wait:20}")
+    private long sentimentBatchMaxWaitMillis = 20;
+
+    @Value("${ai.service.sentiment-batch.queue-capacity:64}")
+    private int sentimentBatchQueueCapacity = 64;
+
+    public AIServiceConfig(Environment environment) {
+        this.environment = environment;
     }
 
     public String getAiServiceBaseUrl() {
         return aiServiceBaseUrl;
     }
-}
\ No newline at end of file
+
+    /**
+     * 엔드포인트 그룹별 응답 제한 시간. 따로 설정하지 않으면 ai.service.timeout을 사용합니다.
+     */
+    public Duration getReadTimeout(AIEndpoint endpoint) {
+        Long millis = environment.getProperty("ai.service.timeouts." + endpoint.getKey(), Long.class);
+        return Duration.ofMillis(millis != null ? millis : defaultTimeoutMillis);
+    }
+
+    public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public Duration getPendingAcquireTimeout() {
+        return Duration.ofMillis(pendingAcquireTimeoutMillis);
+    }
+
+    public Duration getMaxIdleTime() {
+        return Duration.ofMillis(maxIdleTimeMillis);
+    }
+
+    public Duration getMaxLifeTime() {
+        return Duration.ofMillis(maxLifeTimeMillis);
+    }
+
+    /**
+     * 엔드포인트 그룹별 동시 호출 상한(bulkhead). 따로 설정하지 않으면 ai.service.resilience.default-max-concurrent를 사용합니다.
+     */
+    public int getMaxConcurrentCalls(AIEndpoint endpoint) {
+        Integer max = environment.getProperty("ai.service.resilience.max-concurrent." + endpoint.getKey(), Integer.class);
+        return max != null ? max : defaultMaxConcurrentCalls;
+    }
+
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public Duration getOpenDuration() {
+        return Duration.ofMillis(openDurationMillis);
+    }
+
+    public int getHalfOpenProbes() {
+        return halfOpenProbes;
+    }
+
+    public int getRetryMaxAttempts() {
+        return retryMaxAttempts;
+    }
+
+    public Duration getRetryBaseDelay() {
+        return Duration.ofMillis(retryBaseDelayMillis);
+    }
+
+    public Duration getRetryMaxDelay() {
+        return Duration.ofMillis(retryMaxDelayMillis);
+    }
+
+    public double getRetryBudgetRatio() {
+        return retryBudgetRatio;
+    }
+
+    public int getMinRetriesPerSecond() {
+        return minRetriesPerSecond;
+    }
+
+    public int getRetryBudgetWindowSeconds() {
+        return retryBudgetWindowSeconds;
+    }
+
+    /**
+     * 작업별 응답 캐시 사용 여부. ai.service.cache.enabled가 false이거나
+     * ai.service.cache.operations.<key>.enabled가 false(비결정적 응답)이면 캐시하지 않습니다.
+     */
+    public boolean isCacheEnabled(AICacheableOperation operation) {
+        return cacheEnabled && environment.getProperty(
+                "ai.service.cache.operations." + operation.getKey() + ".enabled", Boolean.class, true);
+    }
+
+    /**
+     * 작업별 응답 캐시 보관 시간. 따로 설정하지 않으면 ai.service.cache.default-ttl을 사용합니다.
+     */
+    public Duration getCacheTtl(AICacheableOperation operation) {
+        Long millis = environment.getProperty(
+                "ai.service.cache.operations." + operation.getKey() + ".ttl", Long.class);
+        return Duration.ofMillis(millis != null ? millis : defaultCacheTtlMillis);
+    }
+
+    public String getCacheModelVersion() {
+        return cacheModelVersion;
+    }
+
+    public long getCacheMemoryMaxBytes() {
+        return cacheMemoryMaxBytes;
+    }
+
+    public boolean isCacheDiskEnabled() {
+        return cacheDiskEnabled;
+    }
+
+    public String getCacheDiskDirectory() {
+        return cacheDiskDirectory;
+    }
+
+    public long getCacheDiskMaxBytes() {
+        return cacheDiskMaxBytes;
+    }
+
+    /**
+     * 같은 요청이 진행 중일 때 새로 호출하지 않고 결과를 공유할지 여부. 응답 캐시를 끈 작업에도 적용됩니다.
+     */
+    public boolean isCoalescingEnabled() {
+        return coalescingEnabled;
+    }
+
+    public boolean isSentimentBatchEnabled() {
+        return sentimentBatchEnabled;
+    }
+
+    public int getSentimentBatchMaxSize() {
+        return sentimentBatchMaxSize;
+    }
+
+    /**
+     * 첫 요청이 들어온 뒤 배치를 보내기 전까지 다른 요청을 기다리는 최대 시간
+     */
+    public Duration getSentimentBatchMaxWait() {
+        return Duration.ofMillis(sentimentBatchMaxWaitMillis);
+    }
+
+    /**
+     * 전송을 기다릴 수 있는 배치 수, 넘치면 해당 배치의 요청은 바로 오류 응답을 받음
+     */
+    public int getSentimentBatchQueueCapacity() {
+        return sentimentBatchQueueCapacity;
+    }
+}
@@ -4,8 +4,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.jbd.backend.ai.dto.ChatbotDto;
 import org.jbd.backend.ai.service.AIChatbotService;
+import org.jbd.backend.auth.service.CurrentUser;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * AI 챗봇 REST API 컨트롤러
@@ -14,6 +19,8 @@ import org.springframework.web.bind.annotation.*;
  * AI 챗봇과 관련된 모든 기능을 제공합니다. 외부 AI 서비스와 연동하여
  * 지능형 대화 서비스를 구현합니다.
  *
+ * 채팅 기록은 인증된 사용자 기준으로 관리되며, 요청 헤더로 다른 사용자를 지정할 수 없습니다.
+ *
  * @author JBD Backend Team
  * @version 1.0
  * @since 2025-09-19
@@ -29,6 +36,9 @@ public class AIChatbotController {
     /** AI 챗봇 비즈니스 로직을 처리하는 서비스 */
     private final AIChatbotService aiChatbotService;
 
+    /** 현재 요청의 인증 사용자 */
+    private final CurrentUser currentUser;
+
     /**
      * AI와 채팅을 수행합니다.
      * 사용자의 메시지를 받아 AI 서비스에 전달하고 응답을 반환합니다.
@@ -36,19 +46,35 @@ public class AIChatbotController {
      *
      * @param request 채팅 요청 데이터
      *                - message: 사용자 메시지 (필수)
-     * @param userEmail 사용자 이메일 (헤더를 통해 전달)
-     * @return ResponseEntity<ChatbotDto.ChatResponse> AI 응답 데이터
+     * @return Mono<ResponseEntity<ChatbotDto.ChatResponse>> AI 응답 데이터 (응답을 기다리는 동안 요청 스레드를 점유하지 않음)
      * @apiNote POST /ai/chatbot/chat
      * @see ChatRequest
      * @see ChatbotDto.ChatResponse
      */
     @PostMapping("/chat")
-    public ResponseEntity<ChatbotDto.ChatResponse> chat(
-            @Valid @RequestBody ChatRequest request,
-            @RequestHeader("X-User-Email") String userEmail) {
+    public Mono<ResponseEntity<ChatbotDto.ChatResponse>> chat(
+            @Valid @RequestBody ChatRequest request) {
         
-        ChatbotDto.ChatResponse response = aiChatbotService.processChat(userEmail, request.getMessage());
-        return ResponseEntity.ok(response);
+        return aiChatbotService.processChatAsync(currentUser.getEmail(), request.getMessage())
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * AI와 채팅하며 응답을 생성되는 대로 Server-Sent Events로 받습니다.
+     * 각 이벤트의 data는 응답 조각(delta)이며, 마지막 이벤트는 done=true(실패 시 error 포함)입니다.
+     * 응답이 없는 동안에도 heartbeat 주석이 주기적으로 전송되며, 연결을 끊으면 AI 응답 생성도 중단됩니다.
+     *
+     * @param request 채팅 요청 데이터
+     *                - message: 사용자 메시지 (필수)
+     * @return Flux<ServerSentEvent<ChatbotDto.ChatChunk>> AI 응답 조각 스트림
+     * @apiNote POST /ai/chatbot/chat/stream (Accept: text/event-stream)
+     * @see ChatbotDto.ChatChunk
+     */
+    @PostMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ChatbotDto.ChatChunk>> streamChat(
+            @Valid @RequestBody ChatRequest request) {
+
+        return aiChatbotService.streamChat(currentUser.getEmail(), request.getMessage());
     }
 
     /**
@@ -58,32 +84,29 @@ public class AIChatbotController {
      *
      * @param request 빠른 응답 요청 데이터
      *                - category: 응답 카테고리 (필수)
-     * @param userEmail 사용자 이메일 (헤더를 통해 전달)
-     * @return ResponseEntity<ChatbotDto.ChatResponse> AI 빠른 응답 데이터
+     * @return Mono<ResponseEntity<ChatbotDto.ChatResponse>> AI 빠른 응답 데이터
      * @apiNote POST /ai/chatbot/quick-response
      * @see QuickResponseRequest
      * @see ChatbotDto.ChatResponse
      */
     @PostMapping("/quick-response")
-    public ResponseEntity<ChatbotDto.ChatResponse> getQuickResponse(
-            @Valid @RequestBody QuickResponseRequest request,
-            @RequestHeader("X-User-Email") String userEmail) {
+    public Mono<ResponseEntity<ChatbotDto.ChatResponse>> getQuickResponse(
+            @Valid @RequestBody QuickResponseRequest request) {
         
-        ChatbotDto.ChatResponse response = aiChatbotService.getQuickResponse(userEmail, request.getCategory());
-        return ResponseEntity.ok(response);
+        return aiChatbotService.getQuickResponseAsync(currentUser.getEmail(), request.getCategory())
+                .map(ResponseEntity::ok);
     }
 
     /**
      * 사용자의 채팅 히스토리를 삭제합니다.
      * 해당 사용자의 모든 채팅 기록과 컨텍스트가 영구적으로 삭제됩니다.
      *
-     * @param userEmail 사용자 이메일 (헤더를 통해 전달)
      * @return ResponseEntity<String> 삭제 완료 메시지
      * @apiNote DELETE /ai/chatbot/history
      */
     @DeleteMapping("/history")
-    public ResponseEntity<String> clearChatHistory(@RequestHeader("X-User-Email") String userEmail) {
-        aiChatbotService.clearChatHistory(userEmail);
+    public ResponseEntity<String> clearChatHistory() {
+        aiChatbotService.clearChatHistory(currentUser.getEmail());
         return ResponseEntity.ok("채팅 히스토리가 삭제되었습니다.");
     }
 
@@ -6,6 +6,7 @@ import org.jbd.backend.ai.dto.CoverLetterDto;
 import org.jbd.backend.ai.service.AICoverLetterService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/ai/cover-letter")
@@ -16,30 +17,26 @@ public class AICoverLetterController {
     private final AICoverLetterService aiCoverLetterService;
 
     @PostMapping("/generate")
-    public ResponseEntity<CoverLetterDto.GenerateCompleteResponse> generateCoverLetter(
+    public Mono<ResponseEntity<CoverLetterDto.GenerateCompleteResponse>> generateCoverLetter(
             @Valid @RequestBody GenerateCoverLetterRequest request) {
         
-        CoverLetterDto.GenerateCompleteResponse response = aiCoverLetterService.generateCompleteCoverLetter(
+        return aiCoverLetterService.generateCompleteCoverLetterAsync(
             request.getCompany(),
             request.getPosition(),
             request.getUserExperience(),
             request.getAdditionalInfo()
-        );
-        
-        return ResponseEntity.ok(response);
+        ).map(ResponseEntity::ok);
     }
 
     @PostMapping("/feedback")
-    public ResponseEntity<CoverLetterDto.FeedbackResponse> getCoverLetterFeedback(
+    public Mono<ResponseEntity<CoverLetterDto.FeedbackResponse>> getCoverLetterFeedback(
             @Valid @RequestBody FeedbackRequest request) {
         
-        CoverLetterDto.FeedbackResponse response = aiCoverLetterService.getCoverLetterFeedback(
+        return aiCoverLetterService.getCoverLetterFeedbackAsync(
             request.getCoverLetterText(),
             request.getPosition(),
             request.getCompany()
-        );
-        
-        return ResponseEntity.ok(response);
+        ).map(ResponseEntity::ok);
     }
 
     @GetMapping("/guide")
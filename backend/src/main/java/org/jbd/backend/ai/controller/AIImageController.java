@@ -3,65 +3,92 @@ package org.jbd.backend.ai.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.jbd.backend.ai.dto.ImageGenerationDto;
-import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.service.ImageGenerationJobService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import reactor.core.publisher.Flux;
+
+/**
+ * 이미지 생성 API
+ *
+ * 생성 요청은 작업으로 등록되어 202 Accepted와 작업 상태를 바로 반환합니다.
+ * 결과는 Location 헤더의 상태 조회 API를 주기적으로 호출하거나, 이벤트 스트림(SSE)으로 받습니다.
+ */
 @RestController
 @RequestMapping("/ai/image")
 @RequiredArgsConstructor
 @CrossOrigin(origins = "*")
 public class AIImageController {
 
-    private final AIServiceClient aiServiceClient;
+    private final ImageGenerationJobService imageGenerationJobService;
 
     @PostMapping("/generate")
-    public ResponseEntity<ImageGenerationDto.GenerateResponse> generateImage(
+    public ResponseEntity<ImageGenerationDto.JobStatus> generateImage(
             @Valid @RequestBody GenerateImageRequest request) {
         
-        ImageGenerationDto.GenerateResponse response = aiServiceClient.generateImage(
+        return accepted(imageGenerationJobService.submit(
             request.getPrompt(),
             request.getStyle(),
             request.getSize(),
             request.getN()
-        );
-        
-        return ResponseEntity.ok(response);
+        ));
     }
 
     @PostMapping("/generate-profile")
-    public ResponseEntity<ImageGenerationDto.GenerateResponse> generateProfileImage(
+    public ResponseEntity<ImageGenerationDto.JobStatus> generateProfileImage(
             @Valid @RequestBody GenerateProfileImageRequest request) {
         
         // 프로필 이미지 전용 프롬프트 생성
         String enhancedPrompt = createProfilePrompt(request.getDescription(), request.getStyle());
         
-        ImageGenerationDto.GenerateResponse response = aiServiceClient.generateImage(
+        return accepted(imageGenerationJobService.submit(
             enhancedPrompt,
             request.getStyle(),
             request.getSize() != null ? request.getSize() : "512x512",
             1
-        );
-        
-        return ResponseEntity.ok(response);
+        ));
     }
 
     @PostMapping("/generate-with-sentiment")
-    public ResponseEntity<ImageGenerationDto.GenerateResponse> generateImageWithSentiment(
+    public ResponseEntity<ImageGenerationDto.JobStatus> generateImageWithSentiment(
             @Valid @RequestBody GenerateWithSentimentRequest request) {
         
         // FastAPI의 감정 분석 기반 이미지 생성 호출
         // 현재는 간단히 텍스트를 프롬프트로 변환
         String prompt = createSentimentBasedPrompt(request.getText());
         
-        ImageGenerationDto.GenerateResponse response = aiServiceClient.generateImage(
+        return accepted(imageGenerationJobService.submit(
             prompt,
             request.getStyle(),
             request.getSize() != null ? request.getSize() : "512x512",
             1
-        );
-        
-        return ResponseEntity.ok(response);
+        ));
+    }
+
+    /**
+     * 이미지 생성 작업 상태 조회
+     *
+     * @apiNote GET /ai/image/jobs/{jobId}
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ImageGenerationDto.JobStatus> getJobStatus(@PathVariable String jobId) {
+        return ResponseEntity.ok(imageGenerationJobService.getStatus(jobId));
+    }
+
+    /**
+     * 이미지 생성 작업 상태 이벤트 스트림 (SSE)
+     *
+     * 현재 상태를 먼저 보내고, 상태가 바뀔 때마다 pending/running/succeeded/failed 이벤트를 보냅니다.
+     * 작업이 끝나면 스트림이 닫힙니다.
+     *
+     * @apiNote GET /ai/image/jobs/{jobId}/events (Accept: text/event-stream)
+     */
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ImageGenerationDto.JobStatus>> streamJobStatus(@PathVariable String jobId) {
+        return imageGenerationJobService.streamStatus(jobId);
     }
 
     @GetMapping("/styles")
@@ -76,6 +103,15 @@ public class AIImageController {
         return ResponseEntity.ok(response);
     }
 
+    private static ResponseEntity<ImageGenerationDto.JobStatus> accepted(ImageGenerationDto.JobStatus job) {
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/ai/image/jobs/{jobId}")
+                        .buildAndExpand(job.getJobId())
+                        .toUri())
+                .body(job);
+    }
+
     /**
      * 프로필 이미지용 프롬프트 생성
      */
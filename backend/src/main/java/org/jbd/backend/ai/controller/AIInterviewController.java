@@ -6,14 +6,13 @@ import org.jbd.backend.ai.domain.Interview;
 import org.jbd.backend.ai.dto.InterviewDto;
 import org.jbd.backend.ai.dto.InterviewDto.GenerateQuestionsRequest;
 import org.jbd.backend.ai.service.AIInterviewService;
-import org.jbd.backend.auth.service.JwtService;
-import org.jbd.backend.user.domain.User;
-import org.jbd.backend.user.service.UserService;
+import org.jbd.backend.auth.service.CurrentUser;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/ai/interview")
@@ -22,49 +21,41 @@ import org.springframework.web.bind.annotation.*;
 public class AIInterviewController {
 
     private final AIInterviewService aiInterviewService;
-    private final UserService userService;
-    private final JwtService jwtService;
+    private final CurrentUser currentUser;
 
     @PostMapping("/questions")
-    public ResponseEntity<InterviewDto.GenerateQuestionsResponse> generateQuestions(
+    public Mono<ResponseEntity<InterviewDto.GenerateQuestionsResponse>> generateQuestions(
             @Valid @RequestBody GenerateQuestionsRequest request) {
         
-        InterviewDto.GenerateQuestionsResponse response = aiInterviewService.generateInterviewQuestions(
+        return aiInterviewService.generateInterviewQuestionsAsync(
             request.getPosition(),
             request.getInterviewType(),
             request.getCount()
-        );
-        
-        return ResponseEntity.ok(response);
+        ).map(ResponseEntity::ok);
     }
 
     @PostMapping("/evaluate")
-    public ResponseEntity<InterviewDto.EvaluateAnswerResponse> evaluateAnswer(
+    public Mono<ResponseEntity<InterviewDto.EvaluateAnswerResponse>> evaluateAnswer(
             @Valid @RequestBody EvaluateAnswerRequest request) {
         
-        InterviewDto.EvaluateAnswerResponse response = aiInterviewService.evaluateInterviewAnswer(
+        return aiInterviewService.evaluateInterviewAnswerAsync(
             request.getQuestion(),
             request.getAnswer(),
             request.getPosition()
-        );
-        
-        return ResponseEntity.ok(response);
+        ).map(ResponseEntity::ok);
     }
 
     @PostMapping("/complete")
     public ResponseEntity<InterviewDto.CompleteInterviewResponse> completeInterview(
-            @Valid @RequestBody InterviewDto.CompleteInterviewRequest request,
-            @RequestHeader("Authorization") String authorization) {
+            @Valid @RequestBody InterviewDto.CompleteInterviewRequest request) {
 
         try {
-            // JWT 토큰에서 사용자 정보 추출
-            String token = authorization.replace("Bearer ", "");
-            String userEmail = jwtService.extractUsername(token);
-            User user = userService.findUserByEmail(userEmail);
+            // 인증 필터가 채운 요청 컨텍스트의 사용자 ID
+            Long userId = currentUser.getId();
 
             // 면접 완료 처리
             InterviewDto.CompleteInterviewResponse response = aiInterviewService.completeInterview(
-                user.getId(), request);
+                userId, request);
 
             return ResponseEntity.ok(response);
 
@@ -93,18 +84,15 @@ public class AIInterviewController {
     @GetMapping("/history")
     public ResponseEntity<Page<AIInterviewService.InterviewHistoryDto>> getInterviewHistory(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size,
-            @RequestHeader("Authorization") String authorization) {
+            @RequestParam(defaultValue = "10") int size) {
 
         try {
-            // JWT 토큰에서 사용자 정보 추출
-            String token = authorization.replace("Bearer ", "");
-            String userEmail = jwtService.extractUsername(token);
-            User user = userService.findUserByEmail(userEmail);
+            // 인증 필터가 채운 요청 컨텍스트의 사용자 ID
+            Long userId = currentUser.getId();
 
             Pageable pageable = PageRequest.of(page, size);
             Page<AIInterviewService.InterviewHistoryDto> interviewHistory = aiInterviewService.getUserInterviewHistory(
-                user.getId(), pageable);
+                userId, pageable);
 
             return ResponseEntity.ok(interviewHistory);
 
@@ -114,16 +102,13 @@ public class AIInterviewController {
     }
     
     @GetMapping("/stats")
-    public ResponseEntity<AIInterviewService.InterviewStats> getInterviewStats(
-            @RequestHeader("Authorization") String authorization) {
+    public ResponseEntity<AIInterviewService.InterviewStats> getInterviewStats() {
         
         try {
-            // JWT 토큰에서 사용자 정보 추출
-            String token = authorization.replace("Bearer ", "");
-            String userEmail = jwtService.extractUsername(token);
-            User user = userService.findUserByEmail(userEmail);
+            // 인증 필터가 채운 요청 컨텍스트의 사용자 ID
+            Long userId = currentUser.getId();
             
-            AIInterviewService.InterviewStats stats = aiInterviewService.getUserInterviewStats(user.getId());
+            AIInterviewService.InterviewStats stats = aiInterviewService.getUserInterviewStats(userId);
             
             return ResponseEntity.ok(stats);
             
@@ -6,6 +6,7 @@ import org.jbd.backend.ai.dto.TranslationDto;
 import org.jbd.backend.ai.service.AITranslationService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.Set;
 
@@ -18,40 +19,34 @@ public class AITranslationController {
     private final AITranslationService aiTranslationService;
 
     @PostMapping("/translate")
-    public ResponseEntity<TranslationDto.TranslateResponse> translateText(
+    public Mono<ResponseEntity<TranslationDto.TranslateResponse>> translateText(
             @Valid @RequestBody TranslateRequest request) {
         
-        TranslationDto.TranslateResponse response = aiTranslationService.translateText(
+        return aiTranslationService.translateTextAsync(
             request.getText(),
             request.getTargetLanguage(),
             request.getSourceLanguage()
-        );
-        
-        return ResponseEntity.ok(response);
+        ).map(ResponseEntity::ok);
     }
 
     @PostMapping("/translate/resume")
-    public ResponseEntity<TranslationDto.TranslateResponse> translateResumeContent(
+    public Mono<ResponseEntity<TranslationDto.TranslateResponse>> translateResumeContent(
             @Valid @RequestBody ResumeTranslateRequest request) {
         
-        TranslationDto.TranslateResponse response = aiTranslationService.translateResumeContent(
+        return aiTranslationService.translateResumeContentAsync(
             request.getContent(),
             request.getTargetLanguage()
-        );
-        
-        return ResponseEntity.ok(response);
+        ).map(ResponseEntity::ok);
     }
 
     @PostMapping("/translate/interview")
-    public ResponseEntity<TranslationDto.TranslateResponse> translateInterviewContent(
+    public Mono<ResponseEntity<TranslationDto.TranslateResponse>> translateInterviewContent(
             @Valid @RequestBody InterviewTranslateRequest request) {
         
-        TranslationDto.TranslateResponse response = aiTranslationService.translateInterviewContent(
+        return aiTranslationService.translateInterviewContentAsync(
             request.getContent(),
             request.getTargetLanguage()
-        );
-        
-        return ResponseEntity.ok(response);
+        ).map(ResponseEntity::ok);
     }
 
     @GetMapping("/languages")
@@ -3,14 +3,32 @@ package org.jbd.backend.ai.controller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jbd.backend.ai.dto.PdfGenerationDto;
+import org.jbd.backend.ai.service.PdfFileStore;
 import org.jbd.backend.ai.service.PdfGenerationService;
 import org.jbd.backend.common.dto.ApiResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/pdf")
 @RequiredArgsConstructor
@@ -18,102 +36,189 @@ import jakarta.validation.Valid;
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
 public class PdfGenerationController {
 
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final Duration DOWNLOAD_MAX_AGE = Duration.ofDays(7);
+
     private final PdfGenerationService pdfGenerationService;
+    private final PdfFileStore pdfFileStore;
 
     /**
      * 자기소개서 PDF 생성
+     * 사용자 조회 실패와 AI 서비스 오류는 모두 500 응답으로 변환합니다.
      */
     @PostMapping("/cover-letter")
-    public ResponseEntity<ApiResponse<PdfGenerationDto.PdfData>> generateCoverLetterPdf(
+    public Mono<ResponseEntity<ApiResponse<PdfGenerationDto.PdfFileHandle>>> generateCoverLetterPdf(
             @Valid @RequestBody CoverLetterPdfRequest request,
             Authentication authentication) {
         
-        log.info("Cover letter PDF generation requested by: {}", authentication.getName());
+        String userEmail = authentication.getName();
+        log.info("Cover letter PDF generation requested by: {}", userEmail);
         
-        try {
-            PdfGenerationDto.GeneratePdfResponse response = pdfGenerationService.generateCoverLetterPdf(
-                    authentication.getName(),
-                    request.position(),
-                    request.company(),
-                    request.coverLetterContent(),
-                    request.style()
-            );
-            
-            if (response.success()) {
-                return ResponseEntity.ok(
-                        ApiResponse.success("자기소개서 PDF가 성공적으로 생성되었습니다.", response.data())
-                );
-            } else {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.error(response.message()));
-            }
-            
-        } catch (Exception e) {
-            log.error("Cover letter PDF generation failed for user: {}, error: {}", 
-                    authentication.getName(), e.getMessage());
-            return ResponseEntity.internalServerError()
-                    .body(ApiResponse.error("자기소개서 PDF 생성 중 오류가 발생했습니다."));
-        }
+        return Mono.defer(() -> pdfGenerationService.generateCoverLetterPdfAsync(
+                        userEmail,
+                        request.position(),
+                        request.company(),
+                        request.coverLetterContent(),
+                        request.style()
+                ))
+                .map(response -> toResponseEntity(response, "자기소개서 PDF가 성공적으로 생성되었습니다."))
+                .onErrorResume(e -> {
+                    log.error("Cover letter PDF generation failed for user: {}, error: {}", 
+                            userEmail, e.getMessage());
+                    return Mono.just(ResponseEntity.internalServerError()
+                            .body(ApiResponse.error("자기소개서 PDF 생성 중 오류가 발생했습니다.")));
+                });
     }
     
     /**
      * 이력서 PDF 생성
      */
     @PostMapping("/resume")
-    public ResponseEntity<ApiResponse<PdfGenerationDto.PdfData>> generateResumePdf(
+    public Mono<ResponseEntity<ApiResponse<PdfGenerationDto.PdfFileHandle>>> generateResumePdf(
             @Valid @RequestBody ResumePdfRequest request,
             Authentication authentication) {
         
-        log.info("Resume PDF generation requested by: {}", authentication.getName());
+        String userEmail = authentication.getName();
+        log.info("Resume PDF generation requested by: {}", userEmail);
         
-        try {
-            PdfGenerationDto.GeneratePdfResponse response = pdfGenerationService.generateResumePdf(
-                    authentication.getName(),
-                    request.style()
-            );
-            
-            if (response.success()) {
-                return ResponseEntity.ok(
-                        ApiResponse.success("이력서 PDF가 성공적으로 생성되었습니다.", response.data())
-                );
-            } else {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.error(response.message()));
+        return Mono.defer(() -> pdfGenerationService.generateResumePdfAsync(userEmail, request.style()))
+                .map(response -> toResponseEntity(response, "이력서 PDF가 성공적으로 생성되었습니다."))
+                .onErrorResume(e -> {
+                    log.error("Resume PDF generation failed for user: {}, error: {}", 
+                            userEmail, e.getMessage());
+                    return Mono.just(ResponseEntity.internalServerError()
+                            .body(ApiResponse.error("이력서 PDF 생성 중 오류가 발생했습니다.")));
+                });
+    }
+    
+    /**
+     * 생성된 PDF 다운로드
+     *
+     * 파일 ID가 내용의 해시이므로 ETag로 그대로 쓰고(If-None-Match → 304), 단일 구간 Range 요청(If-Range 포함)은 206으로 응답합니다.
+     * 여러 구간을 요청하면 전체 파일을 보냅니다. Tomcat에서는 sendfile로 파일 내용을 커널이 소켓에 바로 쓰게 해
+     * 힙과 사용자 공간 버퍼를 거치지 않고, 그 밖의 환경에서는 스트림 복사로 보냅니다.
+     */
+    @GetMapping("/files/{fileId}")
+    public ResponseEntity<?> downloadPdf(
+            @PathVariable String fileId,
+            @RequestParam(required = false) String name,
+            HttpServletRequest request) {
+
+        Optional<PdfFileStore.StoredPdf> found = pdfFileStore.find(fileId);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        PdfFileStore.StoredPdf pdf = found.get();
+        String etag = "\"" + pdf.fileId() + "\"";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setCacheControl(CacheControl.maxAge(DOWNLOAD_MAX_AGE).cachePrivate().immutable());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(downloadFileName(name, pdf.fileId()), StandardCharsets.UTF_8)
+                .build());
+
+        long size = pdf.size();
+        long start = 0;
+        long end = size - 1;
+        HttpRange range = requestedRange(request, etag);
+        if (range != null) {
+            start = range.getRangeStart(size);
+            end = range.getRangeEnd(size);
+            if (start >= size) {
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+            }
+        }
+        HttpStatus status = range != null ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK;
+        long length = end - start + 1;
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 헤더만 쓰고 응답을 마치면 Tomcat이 지정한 파일 구간을 sendfile로 전송
+            request.setAttribute(SENDFILE_FILENAME, pdf.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            if (range != null) {
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
             }
-            
-        } catch (Exception e) {
-            log.error("Resume PDF generation failed for user: {}, error: {}", 
-                    authentication.getName(), e.getMessage());
-            return ResponseEntity.internalServerError()
-                    .body(ApiResponse.error("이력서 PDF 생성 중 오류가 발생했습니다."));
+            headers.setContentLength(length);
+            return ResponseEntity.status(status).headers(headers).build();
+        }
+
+        if (range != null) {
+            // 위에서 검증한 단일 구간이므로 스프링의 Resource Range 처리(206, Content-Range)에 맡김
+            return ResponseEntity.ok().headers(headers).body(new FileSystemResource(pdf.path()));
+        }
+        try {
+            headers.setContentLength(length);
+            // InputStreamResource는 스프링의 자동 Range 처리를 거치지 않으므로 위에서 정한 응답 그대로 나감
+            return ResponseEntity.ok().headers(headers)
+                    .body(new InputStreamResource(Files.newInputStream(pdf.path())));
+        } catch (IOException e) {
+            log.warn("PDF file disappeared before download: {}", pdf.fileId());
+            return ResponseEntity.notFound().build();
         }
     }
-    
+
     /**
-     * PDF 다운로드 (URL 기반)
+     * 적용할 Range. Range가 없거나, If-Range가 현재 ETag와 다르거나, 여러 구간·잘못된 형식이면 null(전체 파일).
      */
-    @GetMapping("/download/{fileName}")
-    public ResponseEntity<ApiResponse<String>> getDownloadUrl(
-            @PathVariable String fileName,
-            Authentication authentication) {
-        
-        log.info("PDF download requested by: {} for file: {}", authentication.getName(), fileName);
-        
+    private static HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.trim().equals(etag)) {
+            return null;
+        }
         try {
-            // 실제로는 파일 저장소에서 다운로드 URL을 생성해야 함
-            // 현재는 임시로 간단한 URL 반환
-            String downloadUrl = "/api/pdf/files/" + fileName;
-            
-            return ResponseEntity.ok(
-                    ApiResponse.success("다운로드 URL이 생성되었습니다.", downloadUrl)
-            );
-            
-        } catch (Exception e) {
-            log.error("PDF download URL generation failed for user: {}, file: {}, error: {}", 
-                    authentication.getName(), fileName, e.getMessage());
-            return ResponseEntity.internalServerError()
-                    .body(ApiResponse.error("다운로드 URL 생성 중 오류가 발생했습니다."));
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String downloadFileName(String name, String fileId) {
+        if (name == null || name.isBlank()) {
+            return fileId.substring(0, 16) + ".pdf";
+        }
+        // 경로 구분자와 제어 문자는 제거
+        String cleaned = name.replaceAll("[\\\\/\\p{Cntrl}]", "_").trim();
+        return cleaned.toLowerCase().endsWith(".pdf") ? cleaned : cleaned + ".pdf";
+    }
+
+    private ResponseEntity<ApiResponse<PdfGenerationDto.PdfFileHandle>> toResponseEntity(
+            PdfGenerationDto.PdfFileResponse response, String successMessage) {
+        if (response.success()) {
+            return ResponseEntity.ok(ApiResponse.success(successMessage, response.data()));
         }
+        return ResponseEntity.badRequest().body(ApiResponse.error(response.message()));
     }
 
     // DTO Records for Requests
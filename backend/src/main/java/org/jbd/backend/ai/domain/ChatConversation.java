@@ -0,0 +1,68 @@
+package org.jbd.backend.ai.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 챗봇 대화 스냅샷
+ *
+ * 메모리의 대화 기록(ChatHistoryStore)을 비동기로 저장한 것으로, 오래된 대화의 요약과 최근 턴(JSON)만 담기 때문에
+ * 대화가 길어져도 행 크기가 일정 범위를 넘지 않습니다. 서버 재시작이나 유휴 세션 정리 후 다시 불러올 때 사용합니다.
+ */
+@Entity
+@Table(name = "chat_conversations")
+public class ChatConversation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "conversation_id")
+    private Long id;
+
+    @Column(name = "user_email", nullable = false, unique = true)
+    private String userEmail;
+
+    /** 최근 턴에서 밀려난 대화의 요약 (줄 단위) */
+    @Column(name = "summary", columnDefinition = "TEXT")
+    private String summary;
+
+    /** 최근 대화 턴 목록 (JSON) */
+    @Column(name = "recent_turns", columnDefinition = "TEXT")
+    private String recentTurns;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected ChatConversation() {}
+
+    public ChatConversation(String userEmail) {
+        this.userEmail = userEmail;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void update(String summary, String recentTurns) {
+        this.summary = summary;
+        this.recentTurns = recentTurns;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+
+    public String getRecentTurns() {
+        return recentTurns;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -1,19 +1,39 @@
 package org.jbd.backend.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 public class ChatbotDto {
 
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class ChatRequest {
         @JsonProperty("user_id")
         private String userId;
         private String message;
+        /** 최근 턴에서 밀려난 이전 대화의 요약 */
+        private String summary;
+        /** 최근 대화 턴 (오래된 것부터, 토큰 예산 이내) */
+        private List<ChatTurn> history;
+
+        public ChatRequest(String userId, String message) {
+            this(userId, message, null, null);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChatTurn {
+        private String user;
+        private String assistant;
     }
 
     @Data
@@ -36,6 +56,18 @@ public class ChatbotDto {
         private double responseTime;
     }
 
+    /**
+     * 스트리밍 응답 조각. 마지막 조각은 done=true이며, 실패로 끝나면 error에 사유가 담깁니다.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChatChunk {
+        private String delta;
+        private boolean done;
+        private String error;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -41,6 +41,27 @@ public class ImageGenerationDto {
         private double responseTime;
     }
 
+    public enum JobState {
+        PENDING, RUNNING, SUCCEEDED, FAILED;
+
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED;
+        }
+    }
+
+    /**
+     * 이미지 생성 작업 상태. 완료(SUCCEEDED)되면 image에 결과가, 실패(FAILED)하면 message에 원인이 담깁니다.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JobStatus {
+        private String jobId;
+        private JobState state;
+        private String message;
+        private ImageData image;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -27,6 +27,25 @@ public class PdfGenerationDto {
             String mimeType
     ) {}
     
+    /**
+     * 저장된 PDF 파일 정보. PDF 내용은 downloadUrl로 따로 내려받습니다.
+     *
+     * @param fileId 내용의 SHA-256 (16진수), 다운로드 시 ETag로도 사용
+     */
+    public record PdfFileHandle(
+            String fileId,
+            String fileName,
+            String downloadUrl,
+            long fileSize,
+            String mimeType
+    ) {}
+
+    public record PdfFileResponse(
+            boolean success,
+            String message,
+            PdfFileHandle data
+    ) {}
+
     public record CoverLetterSection(
             String title,
             String content
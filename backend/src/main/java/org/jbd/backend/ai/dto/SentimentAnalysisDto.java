@@ -1,5 +1,7 @@
 package org.jbd.backend.ai.dto;
 
+import java.util.List;
+
 public class SentimentAnalysisDto {
     
     public record AnalyzeRequest(
@@ -19,4 +21,14 @@ public class SentimentAnalysisDto {
             double confidence,   // 0.0 to 1.0
             String explanation
     ) {}
+    
+    public record BatchAnalyzeRequest(
+            List<AnalyzeRequest> items
+    ) {}
+    
+    public record BatchAnalyzeResponse(
+            boolean success,
+            String message,
+            List<AnalyzeResponse> data   // 요청 items와 같은 순서의 항목별 결과
+    ) {}
 }
\ No newline at end of file
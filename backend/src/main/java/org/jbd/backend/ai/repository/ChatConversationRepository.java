@@ -0,0 +1,25 @@
+package org.jbd.backend.ai.repository;
+
+import org.jbd.backend.ai.domain.ChatConversation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChatConversationRepository extends JpaRepository<ChatConversation, Long> {
+
+    Optional<ChatConversation> findByUserEmail(String userEmail);
+
+    // 저장 대기 중인 대화를 한 번에 조회
+    List<ChatConversation> findByUserEmailIn(Collection<String> userEmails);
+
+    @Modifying
+    @Query("DELETE FROM ChatConversation c WHERE c.userEmail = :userEmail")
+    int deleteByUserEmail(@Param("userEmail") String userEmail);
+}
@@ -3,15 +3,37 @@ package org.jbd.backend.ai.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.client.ReactiveAIServiceClient;
 import org.jbd.backend.ai.dto.ChatbotDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AIChatbotService {
 
+    private static final ServerSentEvent<ChatbotDto.ChatChunk> HEARTBEAT =
+            ServerSentEvent.<ChatbotDto.ChatChunk>builder().comment("heartbeat").build();
+
+    private static final String STREAM_TIMEOUT_MESSAGE = "응답 시간이 초과되어 답변을 중단했습니다. 잠시 후 다시 시도해주세요.";
+
     private final AIServiceClient aiServiceClient;
+    private final ReactiveAIServiceClient reactiveAIServiceClient;
+    private final ChatHistoryStore historyStore;
+
+    @Value("${ai.chatbot.stream.heartbeat-interval:15000}")
+    private long streamHeartbeatMillis = 15_000;
+
+    @Value("${ai.chatbot.stream.max-duration:120000}")
+    private long streamMaxDurationMillis = 120_000;
 
     /**
      * 사용자와 AI 챗봇 간의 대화 처리
@@ -19,16 +41,95 @@ public class AIChatbotService {
     public ChatbotDto.ChatResponse processChat(String userId, String message) {
         log.info("Processing chat for user: {} with message: {}", userId, message.substring(0, Math.min(50, message.length())));
         
-        // 메시지 유효성 검증
-        if (message == null || message.trim().isEmpty()) {
-            return createValidationErrorResponse("메시지를 입력해주세요.");
+        ChatbotDto.ChatResponse validationError = validateMessage(message);
+        if (validationError != null) {
+            return validationError;
         }
 
-        if (message.length() > 1000) {
-            return createValidationErrorResponse("메시지는 1000자 이하로 입력해주세요.");
+        String trimmed = message.trim();
+        ChatbotDto.ChatResponse response = aiServiceClient.chatWithBot(newChatRequest(userId, trimmed, historyStore.context(userId)));
+        recordTurn(userId, trimmed, response);
+        return response;
+    }
+
+    /**
+     * 사용자와 AI 챗봇 간의 대화 처리 (비동기)
+     * 유효성 검증은 호출 스레드에서 수행하고, AI 응답은 요청 스레드를 점유하지 않고 기다립니다.
+     */
+    public Mono<ChatbotDto.ChatResponse> processChatAsync(String userId, String message) {
+        log.info("Processing async chat for user: {}", userId);
+
+        ChatbotDto.ChatResponse validationError = validateMessage(message);
+        if (validationError != null) {
+            return Mono.just(validationError);
         }
 
-        return aiServiceClient.chatWithBot(userId, message.trim());
+        String trimmed = message.trim();
+        // 처음 대화하는 사용자는 기록을 DB에서 불러오므로 요청 스레드가 아닌 곳에서 조회
+        return Mono.fromCallable(() -> historyStore.context(userId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(context -> reactiveAIServiceClient.chatWithBot(newChatRequest(userId, trimmed, context)))
+                .doOnNext(response -> recordTurn(userId, trimmed, response));
+    }
+
+    /**
+     * 사용자와 AI 챗봇 간의 대화 처리 (스트리밍)
+     *
+     * AI 서비스가 생성하는 응답 조각을 SSE 이벤트로 그대로 중계합니다. 조각 사이가 길어져도 연결이 유휴 상태로 끊기지 않도록
+     * heartbeat 주석을 주기적으로 보내며, 이 쓰기가 실패하면 클라이언트 연결 종료를 감지해 구독을 취소하고 AI 서비스 호출도 중단합니다.
+     * 클라이언트가 읽지 않는 동안에는 heartbeat를 쌓지 않고 버립니다.
+     * 최대 스트리밍 시간을 넘기면 AI 서비스 호출을 중단하고, 클라이언트가 끝을 알 수 있도록 오류가 담긴 마지막 조각을 보냅니다.
+     */
+    public Flux<ServerSentEvent<ChatbotDto.ChatChunk>> streamChat(String userId, String message) {
+        log.info("Processing streaming chat for user: {}", userId);
+
+        ChatbotDto.ChatResponse validationError = validateMessage(message);
+        if (validationError != null) {
+            return Flux.just(ServerSentEvent.builder(
+                    new ChatbotDto.ChatChunk("", true, validationError.getMessage())).build());
+        }
+
+        String trimmed = message.trim();
+        Duration heartbeat = Duration.ofMillis(streamHeartbeatMillis);
+        Flux<ServerSentEvent<ChatbotDto.ChatChunk>> events = Mono.fromCallable(() -> historyStore.context(userId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(context -> {
+                    // 끝까지 받은 응답만 대화 기록에 남김 (오류·취소 시 기록하지 않음)
+                    StringBuilder reply = new StringBuilder();
+                    return reactiveAIServiceClient.streamChat(newChatRequest(userId, trimmed, context))
+                            .doOnNext(chunk -> {
+                                if (chunk.getDelta() != null) {
+                                    reply.append(chunk.getDelta());
+                                }
+                                if (chunk.isDone() && chunk.getError() == null) {
+                                    historyStore.record(userId, trimmed, reply.toString());
+                                }
+                            });
+                })
+                .map(chunk -> ServerSentEvent.builder(chunk).build())
+                .publish(chunks -> Flux.merge(chunks, Flux.interval(heartbeat, heartbeat)
+                        .onBackpressureDrop()
+                        .map(tick -> HEARTBEAT)
+                        .takeUntilOther(chunks.ignoreElements())));
+
+        return Flux.defer(() -> {
+            // spring.mvc.async.request-timeout보다 먼저 끝내 응답이 비정상 종료되지 않게 함
+            AtomicBoolean expired = new AtomicBoolean();
+            return events
+                    .takeUntilOther(Mono.delay(Duration.ofMillis(streamMaxDurationMillis))
+                            .doOnNext(tick -> expired.set(true)))
+                    .concatWith(Flux.defer(() -> expired.get()
+                            ? Flux.just(streamTimeoutEvent(userId))
+                            : Flux.empty()));
+        }).doOnCancel(() -> log.info("Streaming chat cancelled by client: {}", userId));
+    }
+
+    /**
+     * 최대 스트리밍 시간을 넘겨 중단했음을 알리는 마지막 조각
+     */
+    private ServerSentEvent<ChatbotDto.ChatChunk> streamTimeoutEvent(String userId) {
+        log.warn("Streaming chat exceeded max duration: {}", userId);
+        return ServerSentEvent.builder(new ChatbotDto.ChatChunk("", true, STREAM_TIMEOUT_MESSAGE)).build();
     }
 
     /**
@@ -45,13 +146,25 @@ public class AIChatbotService {
         return aiServiceClient.getQuickResponse(userId, category);
     }
 
+    /**
+     * 카테고리별 빠른 응답 제공 (비동기)
+     */
+    public Mono<ChatbotDto.ChatResponse> getQuickResponseAsync(String userId, String category) {
+        log.info("Getting async quick response for user: {} in category: {}", userId, category);
+
+        if (!isValidCategory(category)) {
+            return Mono.just(createValidationErrorResponse("지원하지 않는 카테고리입니다."));
+        }
+
+        return reactiveAIServiceClient.getQuickResponse(userId, category);
+    }
+
     /**
      * 사용자별 채팅 히스토리 초기화 (로그아웃 시 등)
      */
     public void clearChatHistory(String userId) {
+        historyStore.clear(userId);
         log.info("Chat history cleared for user: {}", userId);
-        // 실제로는 AI 서비스의 히스토리 삭제 API를 호출해야 함
-        // 현재는 로깅만 수행
     }
 
     /**
@@ -61,6 +174,41 @@ public class AIChatbotService {
         return aiServiceClient.checkAIServiceHealth();
     }
 
+    /**
+     * 대화 맥락(이전 대화 요약 + 최근 턴)을 포함한 챗봇 요청
+     */
+    private ChatbotDto.ChatRequest newChatRequest(String userId, String message, ChatHistoryStore.Context context) {
+        if (context == null) {
+            return new ChatbotDto.ChatRequest(userId, message);
+        }
+        return new ChatbotDto.ChatRequest(userId, message, context.summary(), context.turns());
+    }
+
+    /**
+     * 성공한 응답만 대화 기록에 남깁니다.
+     */
+    private void recordTurn(String userId, String message, ChatbotDto.ChatResponse response) {
+        if (response != null && response.isSuccess() && response.getData() != null
+                && response.getData().getResponse() != null) {
+            historyStore.record(userId, message, response.getData().getResponse());
+        }
+    }
+
+    /**
+     * 메시지 유효성 검증. 문제가 없으면 null을 반환합니다.
+     */
+    private ChatbotDto.ChatResponse validateMessage(String message) {
+        if (message == null || message.trim().isEmpty()) {
+            return createValidationErrorResponse("메시지를 입력해주세요.");
+        }
+
+        if (message.length() > 1000) {
+            return createValidationErrorResponse("메시지는 1000자 이하로 입력해주세요.");
+        }
+
+        return null;
+    }
+
     /**
      * 유효한 카테고리인지 확인
      */
@@ -3,8 +3,10 @@ package org.jbd.backend.ai.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.client.ReactiveAIServiceClient;
 import org.jbd.backend.ai.dto.CoverLetterDto;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Service;
 public class AICoverLetterService {
 
     private final AIServiceClient aiServiceClient;
+    private final ReactiveAIServiceClient reactiveAIServiceClient;
 
     /**
      * 완전한 자기소개서 생성
@@ -21,7 +24,87 @@ public class AICoverLetterService {
         
         log.info("Generating complete cover letter for company: {}, position: {}", company, position);
         
-        // 입력값 유효성 검증
+        CoverLetterDto.GenerateCompleteResponse validationError =
+            validateGenerateRequest(company, position, userExperience);
+        if (validationError != null) {
+            return validationError;
+        }
+
+        return aiServiceClient.generateCompleteCoverLetter(
+            company.trim(), 
+            position.trim(), 
+            userExperience.trim(), 
+            additionalInfo != null ? additionalInfo.trim() : ""
+        );
+    }
+
+    /**
+     * 완전한 자기소개서 생성 (비동기)
+     */
+    public Mono<CoverLetterDto.GenerateCompleteResponse> generateCompleteCoverLetterAsync(
+            String company, String position, String userExperience, String additionalInfo) {
+
+        log.info("Generating complete cover letter asynchronously for company: {}, position: {}", company, position);
+
+        CoverLetterDto.GenerateCompleteResponse validationError =
+            validateGenerateRequest(company, position, userExperience);
+        if (validationError != null) {
+            return Mono.just(validationError);
+        }
+
+        return reactiveAIServiceClient.generateCompleteCoverLetter(
+            company.trim(),
+            position.trim(),
+            userExperience.trim(),
+            additionalInfo != null ? additionalInfo.trim() : ""
+        );
+    }
+
+    /**
+     * 자기소개서 피드백 제공
+     */
+    public CoverLetterDto.FeedbackResponse getCoverLetterFeedback(
+            String coverLetterText, String position, String company) {
+        
+        log.info("Providing feedback for cover letter - company: {}, position: {}", company, position);
+        
+        CoverLetterDto.FeedbackResponse validationError = validateFeedbackRequest(coverLetterText, position, company);
+        if (validationError != null) {
+            return validationError;
+        }
+
+        return aiServiceClient.getCoverLetterFeedback(
+            coverLetterText.trim(), 
+            position.trim(), 
+            company.trim()
+        );
+    }
+
+    /**
+     * 자기소개서 피드백 제공 (비동기)
+     */
+    public Mono<CoverLetterDto.FeedbackResponse> getCoverLetterFeedbackAsync(
+            String coverLetterText, String position, String company) {
+
+        log.info("Providing feedback asynchronously for cover letter - company: {}, position: {}", company, position);
+
+        CoverLetterDto.FeedbackResponse validationError = validateFeedbackRequest(coverLetterText, position, company);
+        if (validationError != null) {
+            return Mono.just(validationError);
+        }
+
+        return reactiveAIServiceClient.getCoverLetterFeedback(
+            coverLetterText.trim(),
+            position.trim(),
+            company.trim()
+        );
+    }
+
+    /**
+     * 자기소개서 생성 요청 유효성 검증. 문제가 없으면 null을 반환합니다.
+     */
+    private CoverLetterDto.GenerateCompleteResponse validateGenerateRequest(
+            String company, String position, String userExperience) {
         if (company == null || company.trim().isEmpty()) {
             return createValidationErrorResponse("회사명을 입력해주세요.");
         }
@@ -42,23 +125,14 @@ public class AICoverLetterService {
             return createValidationErrorResponse("경험/역량 정보가 너무 깁니다. (최대 1000자)");
         }
 
-        return aiServiceClient.generateCompleteCoverLetter(
-            company.trim(), 
-            position.trim(), 
-            userExperience.trim(), 
-            additionalInfo != null ? additionalInfo.trim() : ""
-        );
+        return null;
     }
 
     /**
-     * 자기소개서 피드백 제공
+     * 자기소개서 피드백 요청 유효성 검증. 문제가 없으면 null을 반환합니다.
      */
-    public CoverLetterDto.FeedbackResponse getCoverLetterFeedback(
+    private CoverLetterDto.FeedbackResponse validateFeedbackRequest(
             String coverLetterText, String position, String company) {
-        
-        log.info("Providing feedback for cover letter - company: {}, position: {}", company, position);
-        
-        // 입력값 유효성 검증
         if (coverLetterText == null || coverLetterText.trim().isEmpty()) {
             return createFeedbackValidationErrorResponse("피드백을 받을 자기소개서 내용을 입력해주세요.");
         }
@@ -79,11 +153,7 @@ public class AICoverLetterService {
             return createFeedbackValidationErrorResponse("지원 회사명을 입력해주세요.");
         }
 
-        return aiServiceClient.getCoverLetterFeedback(
-            coverLetterText.trim(), 
-            position.trim(), 
-            company.trim()
-        );
+        return null;
     }
 
     /**
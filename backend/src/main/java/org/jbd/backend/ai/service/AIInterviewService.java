@@ -3,6 +3,7 @@ package org.jbd.backend.ai.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.client.ReactiveAIServiceClient;
 import org.jbd.backend.ai.domain.Interview;
 import org.jbd.backend.ai.domain.InterviewQuestion;
 import org.jbd.backend.ai.domain.InterviewStatus;
@@ -14,6 +15,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.format.DateTimeFormatter;
@@ -25,6 +27,7 @@ import java.util.Set;
 public class AIInterviewService {
 
     private final AIServiceClient aiServiceClient;
+    private final ReactiveAIServiceClient reactiveAIServiceClient;
     private final InterviewRepository interviewRepository;
     private final UserRepository userRepository;
 
@@ -36,7 +39,67 @@ public class AIInterviewService {
         
         log.info("Generating {} interview questions for position: {}, type: {}", count, position, interviewType);
         
-        // 입력값 유효성 검증
+        InterviewDto.GenerateQuestionsResponse validationError = validateQuestionsRequest(position, interviewType, count);
+        if (validationError != null) {
+            return validationError;
+        }
+
+        return aiServiceClient.generateInterviewQuestions(position.trim(), interviewType, count);
+    }
+
+    /**
+     * 직무별 면접 질문 생성 (비동기)
+     */
+    public Mono<InterviewDto.GenerateQuestionsResponse> generateInterviewQuestionsAsync(
+            String position, String interviewType, int count) {
+
+        log.info("Generating {} interview questions asynchronously for position: {}, type: {}", count, position, interviewType);
+
+        InterviewDto.GenerateQuestionsResponse validationError = validateQuestionsRequest(position, interviewType, count);
+        if (validationError != null) {
+            return Mono.just(validationError);
+        }
+
+        return reactiveAIServiceClient.generateInterviewQuestions(position.trim(), interviewType, count);
+    }
+
+    /**
+     * 면접 답변 평가
+     */
+    public InterviewDto.EvaluateAnswerResponse evaluateInterviewAnswer(
+            String question, String answer, String position) {
+        
+        log.info("Evaluating interview answer for position: {}", position);
+        
+        InterviewDto.EvaluateAnswerResponse validationError = validateEvaluationRequest(question, answer, position);
+        if (validationError != null) {
+            return validationError;
+        }
+
+        return aiServiceClient.evaluateAnswer(question.trim(), answer.trim(), position.trim());
+    }
+
+    /**
+     * 면접 답변 평가 (비동기)
+     */
+    public Mono<InterviewDto.EvaluateAnswerResponse> evaluateInterviewAnswerAsync(
+            String question, String answer, String position) {
+
+        log.info("Evaluating interview answer asynchronously for position: {}", position);
+
+        InterviewDto.EvaluateAnswerResponse validationError = validateEvaluationRequest(question, answer, position);
+        if (validationError != null) {
+            return Mono.just(validationError);
+        }
+
+        return reactiveAIServiceClient.evaluateAnswer(question.trim(), answer.trim(), position.trim());
+    }
+
+    /**
+     * 면접 질문 생성 요청 유효성 검증. 문제가 없으면 null을 반환합니다.
+     */
+    private InterviewDto.GenerateQuestionsResponse validateQuestionsRequest(
+            String position, String interviewType, int count) {
         if (position == null || position.trim().isEmpty()) {
             return createValidationErrorResponse("직무를 입력해주세요.");
         }
@@ -49,18 +112,14 @@ public class AIInterviewService {
             return createValidationErrorResponse("질문 개수는 1개에서 20개 사이로 설정해주세요.");
         }
 
-        return aiServiceClient.generateInterviewQuestions(position.trim(), interviewType, count);
+        return null;
     }
 
     /**
-     * 면접 답변 평가
+     * 답변 평가 요청 유효성 검증. 문제가 없으면 null을 반환합니다.
      */
-    public InterviewDto.EvaluateAnswerResponse evaluateInterviewAnswer(
+    private InterviewDto.EvaluateAnswerResponse validateEvaluationRequest(
             String question, String answer, String position) {
-        
-        log.info("Evaluating interview answer for position: {}", position);
-        
-        // 입력값 유효성 검증
         if (question == null || question.trim().isEmpty()) {
             return createEvaluationValidationErrorResponse("면접 질문이 필요합니다.");
         }
@@ -81,7 +140,7 @@ public class AIInterviewService {
             return createEvaluationValidationErrorResponse("직무 정보가 필요합니다.");
         }
 
-        return aiServiceClient.evaluateAnswer(question.trim(), answer.trim(), position.trim());
+        return null;
     }
 
     /**
@@ -3,8 +3,10 @@ package org.jbd.backend.ai.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.client.ReactiveAIServiceClient;
 import org.jbd.backend.ai.dto.TranslationDto;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.Set;
 
@@ -14,6 +16,7 @@ import java.util.Set;
 public class AITranslationService {
 
     private final AIServiceClient aiServiceClient;
+    private final ReactiveAIServiceClient reactiveAIServiceClient;
     
     private static final Set<String> SUPPORTED_LANGUAGES = Set.of(
         "ko", "en", "ja", "zh", "es", "fr", "de", "ru", "pt", "it"
@@ -36,26 +39,9 @@ public class AITranslationService {
         log.info("Translating text from {} to {} (document type: {})", 
                 sourceLanguage != null ? sourceLanguage : "auto-detect", targetLanguage, documentType);
         
-        // 입력값 유효성 검증
-        if (text == null || text.trim().isEmpty()) {
-            return createValidationErrorResponse("번역할 텍스트를 입력해주세요.");
-        }
-
-        if (text.length() > 5000) {
-            return createValidationErrorResponse("번역할 텍스트는 5000자 이하로 입력해주세요.");
-        }
-
-        if (targetLanguage == null || targetLanguage.trim().isEmpty()) {
-            return createValidationErrorResponse("번역할 언어를 선택해주세요.");
-        }
-
-        if (!SUPPORTED_LANGUAGES.contains(targetLanguage.toLowerCase())) {
-            return createValidationErrorResponse("지원하지 않는 번역 언어입니다. 지원 언어: " + String.join(", ", SUPPORTED_LANGUAGES));
-        }
-
-        // 소스 언어와 타겟 언어가 같은 경우 체크
-        if (sourceLanguage != null && sourceLanguage.equalsIgnoreCase(targetLanguage)) {
-            return createSameLanguageResponse(text.trim(), targetLanguage);
+        TranslationDto.TranslateResponse immediate = precheck(text, targetLanguage, sourceLanguage);
+        if (immediate != null) {
+            return immediate;
         }
 
         return aiServiceClient.translateText(
@@ -102,6 +88,91 @@ public class AITranslationService {
         return translateText(enhancedContent, targetLanguage, null);
     }
 
+    /**
+     * 텍스트 번역 서비스 (비동기)
+     */
+    public Mono<TranslationDto.TranslateResponse> translateTextAsync(
+            String text, String targetLanguage, String sourceLanguage) {
+        return translateTextAsync(text, targetLanguage, sourceLanguage, "general");
+    }
+
+    /**
+     * 텍스트 번역 서비스 (비동기, 문서 타입 지정)
+     */
+    public Mono<TranslationDto.TranslateResponse> translateTextAsync(
+            String text, String targetLanguage, String sourceLanguage, String documentType) {
+
+        log.info("Translating text asynchronously from {} to {} (document type: {})",
+                sourceLanguage != null ? sourceLanguage : "auto-detect", targetLanguage, documentType);
+
+        TranslationDto.TranslateResponse immediate = precheck(text, targetLanguage, sourceLanguage);
+        if (immediate != null) {
+            return Mono.just(immediate);
+        }
+
+        return reactiveAIServiceClient.translateText(
+            text.trim(),
+            targetLanguage.toLowerCase(),
+            sourceLanguage != null ? sourceLanguage.toLowerCase() : null,
+            documentType
+        );
+    }
+
+    /**
+     * 이력서/자소서 전용 번역 서비스 (비동기)
+     */
+    public Mono<TranslationDto.TranslateResponse> translateResumeContentAsync(
+            String content, String targetLanguage) {
+
+        if (content == null || content.trim().isEmpty()) {
+            return Mono.just(createValidationErrorResponse("번역할 내용을 입력해주세요."));
+        }
+
+        return translateTextAsync(preprocessResumeContent(content), targetLanguage, null);
+    }
+
+    /**
+     * 면접 질문/답변 번역 서비스 (비동기)
+     */
+    public Mono<TranslationDto.TranslateResponse> translateInterviewContentAsync(
+            String content, String targetLanguage) {
+
+        if (content == null || content.trim().isEmpty()) {
+            return Mono.just(createValidationErrorResponse("번역할 면접 내용을 입력해주세요."));
+        }
+
+        return translateTextAsync(preprocessInterviewContent(content), targetLanguage, null);
+    }
+
+    /**
+     * 번역 요청 사전 검증
+     * 유효성 오류나 같은 언어 요청처럼 AI 호출 없이 바로 돌려줄 응답이 있으면 반환하고, 없으면 null을 반환합니다.
+     */
+    private TranslationDto.TranslateResponse precheck(String text, String targetLanguage, String sourceLanguage) {
+        if (text == null || text.trim().isEmpty()) {
+            return createValidationErrorResponse("번역할 텍스트를 입력해주세요.");
+        }
+
+        if (text.length() > 5000) {
+            return createValidationErrorResponse("번역할 텍스트는 5000자 이하로 입력해주세요.");
+        }
+
+        if (targetLanguage == null || targetLanguage.trim().isEmpty()) {
+            return createValidationErrorResponse("번역할 언어를 선택해주세요.");
+        }
+
+        if (!SUPPORTED_LANGUAGES.contains(targetLanguage.toLowerCase())) {
+            return createValidationErrorResponse("지원하지 않는 번역 언어입니다. 지원 언어: " + String.join(", ", SUPPORTED_LANGUAGES));
+        }
+
+        // 소스 언어와 타겟 언어가 같은 경우 체크
+        if (sourceLanguage != null && sourceLanguage.equalsIgnoreCase(targetLanguage)) {
+            return createSameLanguageResponse(text.trim(), targetLanguage);
+        }
+
+        return null;
+    }
+
     /**
      * 지원되는 언어 목록 조회
      */
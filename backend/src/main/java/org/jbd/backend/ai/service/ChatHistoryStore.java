@@ -0,0 +1,425 @@
+package org.jbd.backend.ai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.ai.domain.ChatConversation;
+import org.jbd.backend.ai.dto.ChatbotDto;
+import org.jbd.backend.ai.repository.ChatConversationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 챗봇 대화 기록 저장소
+ *
+ * 사용자마다 최근 턴을 고정 크기 링 버퍼(max-turns)에 보관하고, 턴 수나 토큰 예산(token-budget)을 넘으면
+ * 가장 오래된 턴부터 한 줄 요약으로 옮깁니다. 요약도 예산(summary-token-budget)을 넘으면 가장 오래된 줄부터 버리므로
+ * AI 서비스로 보내는 대화 맥락은 대화 길이와 관계없이 두 예산의 합을 넘지 않습니다.
+ *
+ * 변경된 대화는 요청 스레드가 아닌 단일 쓰기 스레드에서 주기적으로 모아 저장하며(write-behind),
+ * 일정 시간 사용하지 않은 세션은 저장이 끝난 뒤 메모리에서 내리고 다음 요청 때 DB에서 다시 불러옵니다.
+ * 토큰 수는 한글 1자≈1토큰, 그 외 ASCII 4자≈1토큰으로 대략 추정합니다.
+ *
+ * 메트릭: ai.chatbot.history.sessions (메모리에 있는 세션 수)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatHistoryStore {
+
+    private static final TypeReference<List<ChatbotDto.ChatTurn>> TURN_LIST = new TypeReference<>() {
+    };
+
+    /** 삭제 직후 빈 세션의 버전. 삭제가 커밋되면 저장된 버전이 됩니다. */
+    private static final long CLEARED_VERSION = 1;
+
+    private final ChatConversationRepository conversationRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.chatbot.history.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${ai.chatbot.history.max-turns:20}")
+    private int maxTurns = 20;
+
+    @Value("${ai.chatbot.history.token-budget:1500}")
+    private int tokenBudget = 1500;
+
+    @Value("${ai.chatbot.history.turn-max-tokens:500}")
+    private int turnMaxTokens = 500;
+
+    @Value("${ai.chatbot.history.summary-token-budget:300}")
+    private int summaryTokenBudget = 300;
+
+    @Value("${ai.chatbot.history.idle-ttl-ms:1800000}")
+    private long idleTtlMillis = 1_800_000;
+
+    @Value("${ai.chatbot.history.max-sessions:10000}")
+    private int maxSessions = 10_000;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Set<String> dirtyUsers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    private ExecutorService writer;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void start() {
+        // 저장과 삭제를 한 스레드에서 순서대로 실행해 삭제 후 이전 저장이 뒤늦게 반영되는 일이 없게 함
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-history-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        Gauge.builder("ai.chatbot.history.sessions", sessions, Map::size).register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        writer.execute(this::flushDirty);
+        writer.shutdown();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * AI 서비스로 보낼 대화 맥락 (이전 대화 요약 + 최근 턴)
+     */
+    public Context context(String userId) {
+        if (!enabled) {
+            return Context.EMPTY;
+        }
+        Session session = sessionFor(userId);
+        synchronized (session) {
+            session.touch();
+            return new Context(session.summary(), List.copyOf(session.turns));
+        }
+    }
+
+    /**
+     * 완료된 턴을 기록합니다. 저장은 비동기로 이루어집니다.
+     */
+    public void record(String userId, String userMessage, String assistantReply) {
+        if (!enabled) {
+            return;
+        }
+        ChatbotDto.ChatTurn turn = new ChatbotDto.ChatTurn(
+                truncateToTokens(userMessage, turnMaxTokens), truncateToTokens(assistantReply, turnMaxTokens));
+        while (true) {
+            Session session = sessionFor(userId);
+            synchronized (session) {
+                if (session.evicted) {
+                    // 기록하는 사이 메모리에서 내려간 세션이면 다시 불러와서 기록
+                    continue;
+                }
+                session.append(turn);
+                session.touch();
+                session.version++;
+            }
+            dirtyUsers.add(userId);
+            return;
+        }
+    }
+
+    /**
+     * 대화 기록을 삭제합니다. 메모리에는 빈 세션을 두어 삭제가 끝나기 전에 이전 기록을 다시 불러오지 않게 합니다.
+     * 빈 세션은 저장되지 않은 변경으로 표시해 두므로 삭제가 커밋되기 전에는 유휴 정리로 내려가지 않습니다.
+     */
+    public void clear(String userId) {
+        Session cleared = new Session();
+        cleared.version = CLEARED_VERSION;
+        sessions.put(userId, cleared);
+        dirtyUsers.remove(userId);
+        writer.execute(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> conversationRepository.deleteByUserEmail(userId));
+            } catch (RuntimeException e) {
+                // 빈 대화를 저장해 이전 기록을 덮어쓰도록 다음 저장 주기에 맡김
+                log.warn("Failed to delete chat history for user {}: {}", userId, e.getMessage());
+                dirtyUsers.add(userId);
+                return;
+            }
+            synchronized (cleared) {
+                // DB는 이제 빈 대화 상태이므로, 삭제 전에 저장된 이후 턴이 있으면 다시 저장
+                cleared.persistedVersion = CLEARED_VERSION;
+                if (cleared.version != CLEARED_VERSION) {
+                    dirtyUsers.add(userId);
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${ai.chatbot.history.flush-interval-ms:2000}")
+    public void scheduledFlush() {
+        // 저장이 밀려도 대기 중인 저장 작업은 하나만 둠
+        if (!dirtyUsers.isEmpty() && flushQueued.compareAndSet(false, true)) {
+            writer.execute(() -> {
+                flushQueued.set(false);
+                flushDirty();
+            });
+        }
+    }
+
+    /**
+     * 유휴 세션과 세션 수 상한을 넘는 오래된 세션을 메모리에서 내립니다. 저장되지 않은 변경이 있는 세션은 다음 주기로 미룹니다.
+     */
+    @Scheduled(fixedDelayString = "${ai.chatbot.history.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(idleTtlMillis);
+        // 정렬 중에 접근 시각이 바뀌지 않도록 먼저 고정
+        List<EvictionCandidate> candidates = new ArrayList<>(sessions.size());
+        sessions.forEach((userId, session) -> candidates.add(new EvictionCandidate(userId, session, session.lastAccessNanos)));
+        candidates.sort(Comparator.comparingLong(EvictionCandidate::lastAccessNanos));
+        int overCapacity = candidates.size() - maxSessions;
+        int evicted = 0;
+        for (EvictionCandidate candidate : candidates) {
+            Session session = candidate.session();
+            boolean idle = now - candidate.lastAccessNanos() >= idleNanos;
+            if (!idle && evicted >= overCapacity) {
+                break;
+            }
+            synchronized (session) {
+                if (session.version != session.persistedVersion) {
+                    continue;
+                }
+                session.evicted = true;
+            }
+            sessions.remove(candidate.userId(), session);
+            evicted++;
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} chat history sessions", evicted);
+        }
+    }
+
+    /**
+     * 변경된 대화를 한 트랜잭션으로 저장합니다. 실패하면 다음 주기에 다시 시도합니다.
+     */
+    void flushDirty() {
+        Map<String, Snapshot> snapshots = new HashMap<>();
+        for (String userId : List.copyOf(dirtyUsers)) {
+            dirtyUsers.remove(userId);
+            Session session = sessions.get(userId);
+            if (session == null) {
+                continue;
+            }
+            synchronized (session) {
+                if (session.version != session.persistedVersion) {
+                    snapshots.put(userId, new Snapshot(session, session.version, session.summary(),
+                            List.copyOf(session.turns)));
+                }
+            }
+        }
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<String, ChatConversation> existing = conversationRepository.findByUserEmailIn(snapshots.keySet())
+                        .stream()
+                        .collect(Collectors.toMap(ChatConversation::getUserEmail, Function.identity()));
+                List<ChatConversation> changed = new ArrayList<>(snapshots.size());
+                snapshots.forEach((userId, snapshot) -> {
+                    ChatConversation conversation = existing.computeIfAbsent(userId, ChatConversation::new);
+                    conversation.update(snapshot.summary(), writeTurns(snapshot.turns()));
+                    changed.add(conversation);
+                });
+                conversationRepository.saveAll(changed);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to persist {} chat histories: {}", snapshots.size(), e.getMessage());
+            dirtyUsers.addAll(snapshots.keySet());
+            return;
+        }
+
+        snapshots.values().forEach(snapshot -> {
+            synchronized (snapshot.session()) {
+                snapshot.session().persistedVersion = Math.max(snapshot.session().persistedVersion, snapshot.version());
+            }
+        });
+    }
+
+    private Session sessionFor(String userId) {
+        Session session = sessions.get(userId);
+        if (session != null) {
+            return session;
+        }
+        // DB 조회는 맵 잠금 밖에서 하고, 동시에 불러온 경우 먼저 등록된 세션을 사용
+        Session loaded = load(userId);
+        Session existing = sessions.putIfAbsent(userId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private Session load(String userId) {
+        Session session = new Session();
+        try {
+            conversationRepository.findByUserEmail(userId).ifPresent(conversation -> {
+                if (conversation.getSummary() != null && !conversation.getSummary().isEmpty()) {
+                    for (String line : conversation.getSummary().split("\n")) {
+                        session.addSummaryLine(line);
+                    }
+                }
+                for (ChatbotDto.ChatTurn turn : readTurns(conversation.getRecentTurns())) {
+                    session.append(turn);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to load chat history for user {}: {}", userId, e.getMessage());
+        }
+        return session;
+    }
+
+    private String writeTurns(List<ChatbotDto.ChatTurn> turns) {
+        try {
+            return objectMapper.writeValueAsString(turns);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("대화 기록을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private List<ChatbotDto.ChatTurn> readTurns(String json) {
+        if (json == null || json.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, TURN_LIST);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable chat history: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 대략적인 토큰 수 (한글 등 비ASCII 1자≈1토큰, ASCII 4자≈1토큰)
+     */
+    static int estimateTokens(String text) {
+        if (text == null) {
+            return 0;
+        }
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return other + (ascii + 3) / 4;
+    }
+
+    static String truncateToTokens(String text, int maxTokens) {
+        if (text == null || estimateTokens(text) <= maxTokens) {
+            return text;
+        }
+        int ascii = 0;
+        int other = 0;
+        int end = 0;
+        while (end < text.length()) {
+            if (text.charAt(end) < 128) {
+                ascii++;
+            } else {
+                other++;
+            }
+            if (other + (ascii + 3) / 4 > maxTokens) {
+                break;
+            }
+            end++;
+        }
+        return text.substring(0, end) + "…";
+    }
+
+    /**
+     * AI 서비스로 보낼 대화 맥락
+     *
+     * @param summary 이전 대화 요약 (없으면 null)
+     * @param turns 최근 턴 (오래된 것부터)
+     */
+    public record Context(String summary, List<ChatbotDto.ChatTurn> turns) {
+        static final Context EMPTY = new Context(null, List.of());
+    }
+
+    private record EvictionCandidate(String userId, Session session, long lastAccessNanos) {
+    }
+
+    private record Snapshot(Session session, long version, String summary, List<ChatbotDto.ChatTurn> turns) {
+    }
+
+    /**
+     * 사용자 한 명의 대화. 모든 접근은 인스턴스 잠금 안에서 합니다.
+     */
+    private final class Session {
+
+        private final Deque<ChatbotDto.ChatTurn> turns = new ArrayDeque<>();
+        private final Deque<String> summaryLines = new ArrayDeque<>();
+        private int turnTokens;
+        private int summaryTokens;
+        private long version;
+        private long persistedVersion;
+        private boolean evicted;
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        private void touch() {
+            lastAccessNanos = System.nanoTime();
+        }
+
+        /**
+         * 턴을 추가하고, 턴 수나 토큰 예산을 넘으면 가장 오래된 턴부터 요약으로 옮깁니다.
+         */
+        private void append(ChatbotDto.ChatTurn turn) {
+            turns.addLast(turn);
+            turnTokens += tokens(turn);
+            while (turns.size() > maxTurns || (turnTokens > tokenBudget && turns.size() > 1)) {
+                ChatbotDto.ChatTurn oldest = turns.removeFirst();
+                turnTokens -= tokens(oldest);
+                addSummaryLine("사용자: " + truncateToTokens(oldest.getUser(), 40)
+                        + " / 답변: " + truncateToTokens(oldest.getAssistant(), 60));
+            }
+        }
+
+        private void addSummaryLine(String line) {
+            summaryLines.addLast(line);
+            summaryTokens += estimateTokens(line);
+            while (summaryTokens > summaryTokenBudget && !summaryLines.isEmpty()) {
+                summaryTokens -= estimateTokens(summaryLines.removeFirst());
+            }
+        }
+
+        private String summary() {
+            return summaryLines.isEmpty() ? null : String.join("\n", summaryLines);
+        }
+
+        private int tokens(ChatbotDto.ChatTurn turn) {
+            return estimateTokens(turn.getUser()) + estimateTokens(turn.getAssistant());
+        }
+    }
+}
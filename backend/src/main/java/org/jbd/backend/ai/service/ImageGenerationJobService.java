@@ -0,0 +1,259 @@
+package org.jbd.backend.ai.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.dto.ImageGenerationDto;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.common.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 생성 작업 서비스
+ *
+ * 이미지 생성 요청은 작업으로 등록하고 작업 ID를 바로 반환하며, 정해진 수의 워커 스레드가 대기열(queue-capacity)의 작업을 실행합니다.
+ * 대기열이 가득 차면 요청을 기다리게 하지 않고 바로 거절합니다.
+ *
+ * 같은 (프롬프트, 스타일, 크기, 개수) 요청은 대기·실행 중인 작업에 합류하고, 완료된 결과는 result-ttl 동안 새로 생성하지 않고
+ * 그대로 반환합니다. 실패한 작업은 상태 조회용으로만 남고 같은 요청이 다시 들어오면 새 작업을 만듭니다.
+ * 클라이언트는 상태를 주기적으로 조회하거나 SSE로 상태 변경 이벤트를 받을 수 있습니다.
+ *
+ * 작업은 이 노드의 메모리에만 있으므로 재시작하면 사라집니다.
+ *
+ * 메트릭: ai.image.jobs.active (대기·실행 중인 작업 수)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageGenerationJobService {
+
+    private static final String STREAM_TIMEOUT_EVENT = "timeout";
+
+    private final AIServiceClient aiServiceClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.image-jobs.workers:4}")
+    private int workers = 4;
+
+    @Value("${ai.image-jobs.queue-capacity:100}")
+    private int queueCapacity = 100;
+
+    @Value("${ai.image-jobs.result-ttl-ms:3600000}")
+    private long resultTtlMillis = 3_600_000;
+
+    @Value("${ai.image-jobs.heartbeat-interval:15000}")
+    private long heartbeatMillis = 15_000;
+
+    @Value("${ai.image-jobs.max-duration:120000}")
+    private long maxStreamMillis = 120_000;
+
+    private final Map<String, ImageJob> jobsById = new ConcurrentHashMap<>();
+    private final Map<JobKey, ImageJob> jobsByKey = new ConcurrentHashMap<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private ThreadPoolExecutor pool;
+
+    @PostConstruct
+    void start() {
+        workers = Math.max(1, workers);
+        AtomicInteger sequence = new AtomicInteger();
+        pool = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                    Thread thread = new Thread(runnable, "image-job-worker-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        Gauge.builder("ai.image.jobs.active", active, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 이미지 생성 작업을 등록합니다. 같은 요청의 작업이 진행 중이거나 결과가 남아 있으면 그 작업을 반환합니다.
+     *
+     * @throws BusinessException 대기열이 가득 찬 경우 (AI_SERVICE_UNAVAILABLE)
+     */
+    public ImageGenerationDto.JobStatus submit(String prompt, String style, String size, int n) {
+        JobKey key = new JobKey(prompt, style, size, n);
+        ImageJob candidate = new ImageJob(UUID.randomUUID().toString(), key);
+        long now = System.currentTimeMillis();
+        ImageJob job = jobsByKey.compute(key,
+                (k, existing) -> existing != null && existing.isReusable(now, resultTtlMillis) ? existing : candidate);
+        if (job != candidate) {
+            log.debug("Image job {} reused for identical request", job.id);
+            return job.status();
+        }
+
+        jobsById.put(job.id, job);
+        active.incrementAndGet();
+        try {
+            pool.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobsById.remove(job.id);
+            jobsByKey.remove(key, job);
+            active.decrementAndGet();
+            throw new BusinessException(ErrorCode.AI_SERVICE_UNAVAILABLE,
+                    "이미지 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return job.status();
+    }
+
+    /**
+     * 작업 상태를 조회합니다.
+     *
+     * @throws ResourceNotFoundException 없거나 보관 기간이 지난 작업
+     */
+    public ImageGenerationDto.JobStatus getStatus(String jobId) {
+        return findJob(jobId).status();
+    }
+
+    /**
+     * 작업 상태 변경을 SSE로 보냅니다. 구독 시점의 상태를 먼저 보내고, 작업이 끝나면 마지막 상태를 보낸 뒤 스트림을 닫습니다.
+     * 상태 변경이 없는 동안에는 heartbeat 주석을 보내 프록시의 유휴 연결 끊김을 막습니다.
+     * 작업이 끝나기 전에 max-duration이 지나면 현재 상태를 timeout 이벤트로 보내고 스트림을 닫습니다.
+     *
+     * @throws ResourceNotFoundException 없거나 보관 기간이 지난 작업
+     */
+    public Flux<ServerSentEvent<ImageGenerationDto.JobStatus>> streamStatus(String jobId) {
+        ImageJob job = findJob(jobId);
+        Flux<ServerSentEvent<ImageGenerationDto.JobStatus>> updates = job.updates.asFlux()
+                .map(status -> ServerSentEvent.builder(status).event(status.getState().name().toLowerCase()).build());
+        Duration heartbeat = Duration.ofMillis(heartbeatMillis);
+        Flux<ServerSentEvent<ImageGenerationDto.JobStatus>> events = updates.publish(shared -> Flux.merge(shared,
+                Flux.interval(heartbeat, heartbeat)
+                        .onBackpressureDrop()
+                        .map(tick -> ServerSentEvent.<ImageGenerationDto.JobStatus>builder().comment("heartbeat").build())
+                        .takeUntilOther(shared.ignoreElements())));
+        return Flux.defer(() -> {
+            // 최대 시간에 닫을 때는 클라이언트가 완료와 구분할 수 있도록 현재 상태를 timeout 이벤트로 보냄
+            AtomicBoolean expired = new AtomicBoolean();
+            return events
+                    .takeUntilOther(Mono.delay(Duration.ofMillis(maxStreamMillis))
+                            .doOnNext(tick -> expired.set(true)))
+                    .concatWith(Flux.defer(() -> expired.get()
+                            ? Flux.just(ServerSentEvent.builder(job.status()).event(STREAM_TIMEOUT_EVENT).build())
+                            : Flux.empty()));
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 완료·실패 작업을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${ai.image-jobs.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        jobsById.values().removeIf(job -> {
+            if (!job.isExpired(now, resultTtlMillis)) {
+                return false;
+            }
+            jobsByKey.remove(job.key, job);
+            return true;
+        });
+    }
+
+    void run(ImageJob job) {
+        job.update(ImageGenerationDto.JobState.RUNNING, null, null);
+        try {
+            JobKey key = job.key;
+            ImageGenerationDto.GenerateResponse response =
+                    aiServiceClient.generateImage(key.prompt(), key.style(), key.size(), key.n());
+            if (response != null && response.isSuccess() && response.getData() != null) {
+                job.update(ImageGenerationDto.JobState.SUCCEEDED, response.getMessage(), response.getData());
+            } else {
+                fail(job, response != null ? response.getMessage() : "이미지 생성 결과가 없습니다.");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Image job {} failed: {}", job.id, e.getMessage());
+            fail(job, "이미지 생성 중 오류가 발생했습니다.");
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    private void fail(ImageJob job, String message) {
+        // 실패한 결과는 재사용하지 않도록 같은 요청의 다음 제출이 새 작업을 만들게 함
+        jobsByKey.remove(job.key, job);
+        job.update(ImageGenerationDto.JobState.FAILED, message, null);
+    }
+
+    private ImageJob findJob(String jobId) {
+        ImageJob job = jobId != null ? jobsById.get(jobId) : null;
+        if (job == null) {
+            throw new ResourceNotFoundException("ImageJob", "id", jobId);
+        }
+        return job;
+    }
+
+    private record JobKey(String prompt, String style, String size, int n) {
+    }
+
+    /**
+     * 작업 하나. 상태는 워커 스레드 한 곳에서만 바꿉니다.
+     */
+    static final class ImageJob {
+
+        private final String id;
+        private final JobKey key;
+        /** 새 구독자에게 현재 상태부터 보내도록 마지막 상태만 보관 */
+        private final Sinks.Many<ImageGenerationDto.JobStatus> updates = Sinks.many().replay().latest();
+        private volatile ImageGenerationDto.JobStatus status;
+        private volatile long finishedAtMillis;
+
+        private ImageJob(String id, JobKey key) {
+            this.id = id;
+            this.key = key;
+            this.status = new ImageGenerationDto.JobStatus(id, ImageGenerationDto.JobState.PENDING, null, null);
+            updates.tryEmitNext(status);
+        }
+
+        private ImageGenerationDto.JobStatus status() {
+            return status;
+        }
+
+        private void update(ImageGenerationDto.JobState state, String message, ImageGenerationDto.ImageData image) {
+            // 완료 상태를 본 정리 스레드가 완료 시각도 보도록 volatile status보다 먼저 기록
+            if (state.isFinished()) {
+                finishedAtMillis = System.currentTimeMillis();
+            }
+            status = new ImageGenerationDto.JobStatus(id, state, message, image);
+            updates.tryEmitNext(status);
+            if (state.isFinished()) {
+                updates.tryEmitComplete();
+            }
+        }
+
+        private boolean isReusable(long now, long ttlMillis) {
+            ImageGenerationDto.JobState state = status.getState();
+            return state != ImageGenerationDto.JobState.FAILED
+                    && (!state.isFinished() || now - finishedAtMillis < ttlMillis);
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return status.getState().isFinished() && now - finishedAtMillis >= ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package org.jbd.backend.ai.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.common.util.LruFileSweeper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 생성된 PDF 파일 저장소 (내용 주소 방식)
+ *
+ * 파일 ID는 PDF 내용의 SHA-256(16진수)이며 {디렉터리}/{ID 앞 2자}/{ID}.pdf 경로에 저장합니다.
+ * 같은 내용은 한 번만 저장되고, 내용이 바뀌지 않으므로 ID를 그대로 ETag로 쓸 수 있습니다.
+ * 임시 파일에 쓴 뒤 이동하므로 다운로드하는 쪽이 쓰다 만 파일을 보지 않습니다.
+ *
+ * AI 서비스 응답의 base64 내용은 일정 크기씩 나눠 디코딩하면서 바로 파일에 쓰므로,
+ * 디코딩된 PDF 전체를 한 번 더 힙에 올리지 않습니다.
+ * 조회할 때마다 수정 시각을 갱신하고, 보관 기간 동안 조회되지 않은 파일과 용량 상한을 넘는 오래된 파일은 주기적으로 삭제합니다.
+ */
+@Slf4j
+@Service
+public class PdfFileStore {
+
+    private static final Pattern FILE_ID = Pattern.compile("[0-9a-f]{64}");
+    private static final String EXTENSION = ".pdf";
+    /** 한 번에 디코딩할 base64 문자 수 (4의 배수, 디코딩 후 48KB) */
+    private static final int DECODE_CHUNK_CHARS = 64 * 1024;
+
+    @Value("${ai.pdf.storage.directory:${java.io.tmpdir}/jbd-pdf}")
+    private String directoryPath;
+
+    @Value("${ai.pdf.storage.retention-ms:604800000}")
+    private long retentionMillis = 604_800_000;
+
+    @Value("${ai.pdf.storage.max-bytes:1073741824}")
+    private long maxBytes = 1_073_741_824L;
+
+    private Path directory;
+
+    @PostConstruct
+    void init() {
+        directory = Path.of(directoryPath).toAbsolutePath().normalize();
+    }
+
+    /**
+     * base64로 인코딩된 PDF를 저장하고 저장된 파일 정보를 반환합니다.
+     *
+     * @throws IllegalArgumentException base64 형식이 아닌 경우
+     * @throws UncheckedIOException 파일을 쓸 수 없는 경우
+     */
+    public StoredPdf storeBase64(String base64Content) {
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, "pdf", LruFileSweeper.TEMP_SUFFIX);
+            MessageDigest digest = sha256();
+            long size = 0;
+            Base64.Decoder decoder = Base64.getDecoder();
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                for (int start = 0; start < base64Content.length(); start += DECODE_CHUNK_CHARS) {
+                    int end = Math.min(start + DECODE_CHUNK_CHARS, base64Content.length());
+                    byte[] chunk = decoder.decode(base64Content.substring(start, end).getBytes(StandardCharsets.US_ASCII));
+                    digest.update(chunk);
+                    ByteBuffer buffer = ByteBuffer.wrap(chunk);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    size += chunk.length;
+                }
+            }
+
+            String fileId = HexFormat.of().formatHex(digest.digest());
+            Path file = path(fileId);
+            Files.createDirectories(file.getParent());
+            if (Files.exists(file)) {
+                // 같은 내용이 이미 있으면 새로 쓴 파일은 버리고 보관 기간만 연장
+                delete(temp);
+                LruFileSweeper.touch(file, System.currentTimeMillis());
+            } else {
+                move(temp, file);
+            }
+            return new StoredPdf(fileId, file, size);
+        } catch (IOException e) {
+            if (temp != null) {
+                delete(temp);
+            }
+            throw new UncheckedIOException("PDF 파일을 저장할 수 없습니다.", e);
+        } catch (IllegalArgumentException e) {
+            delete(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * 저장된 PDF를 찾습니다. 형식에 맞지 않는 ID나 없는 파일이면 빈 값을 반환합니다.
+     */
+    public Optional<StoredPdf> find(String fileId) {
+        if (fileId == null || !FILE_ID.matcher(fileId).matches()) {
+            return Optional.empty();
+        }
+        Path file = path(fileId);
+        try {
+            long size = Files.size(file);
+            LruFileSweeper.touch(file, System.currentTimeMillis());
+            return Optional.of(new StoredPdf(fileId, file, size));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Failed to read PDF file {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 보관 기간 동안 조회되지 않은 파일을 삭제하고, 남은 크기가 상한을 넘으면 오래 쓰이지 않은 파일부터 삭제합니다.
+     *
+     * @return 삭제한 파일 수
+     */
+    @Scheduled(fixedDelayString = "${ai.pdf.storage.cleanup-interval-ms:600000}")
+    public int cleanup() {
+        long now = System.currentTimeMillis();
+        int deleted = LruFileSweeper.sweep(directory, 2, maxBytes, now,
+                (file, lastUsedMillis) -> now - lastUsedMillis > retentionMillis);
+        if (deleted > 0) {
+            log.info("Deleted {} stored PDF files", deleted);
+        }
+        return deleted;
+    }
+
+    private Path path(String fileId) {
+        return directory.resolve(fileId.substring(0, 2)).resolve(fileId + EXTENSION);
+    }
+
+    private static void move(Path temp, Path file) throws IOException {
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(temp, file);
+            } catch (FileAlreadyExistsException alreadyStored) {
+                delete(temp);
+            }
+        } catch (FileAlreadyExistsException alreadyStored) {
+            // 같은 내용을 동시에 저장한 경우
+            delete(temp);
+        }
+    }
+
+    private static void delete(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete PDF file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 저장된 PDF 파일
+     *
+     * @param fileId 내용의 SHA-256 (16진수)
+     * @param path 파일 경로
+     * @param size 파일 크기 (바이트)
+     */
+    public record StoredPdf(String fileId, Path path, long size) {
+    }
+}
@@ -1,26 +1,62 @@
 package org.jbd.backend.ai.service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.client.ReactiveAIServiceClient;
 import org.jbd.backend.ai.dto.PdfGenerationDto;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.domain.UserProfile;
 import org.jbd.backend.user.repository.UserRepository;
 import org.jbd.backend.user.repository.UserProfileRepository;
+import org.jbd.backend.user.service.ProfileVersionService;
 import org.jbd.backend.common.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PdfGenerationService {
 
+    private static final String DEFAULT_RESUME_STYLE = "modern";
+
     private final AIServiceClient aiServiceClient;
+    private final ReactiveAIServiceClient reactiveAIServiceClient;
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
+    private final PdfFileStore pdfFileStore;
+    private final ProfileVersionService profileVersionService;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath = "";
+
+    @Value("${ai.pdf.resume-cache.max-entries:10000}")
+    private int maxCachedResumes = 10_000;
+
+    private final Map<RenderKey, Mono<PdfGenerationDto.PdfFileResponse>> renderingResumes = new ConcurrentHashMap<>();
+    private Map<ResumeKey, VersionedResume> resumeCache;
+
+    @PostConstruct
+    void init() {
+        resumeCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ResumeKey, VersionedResume> eldest) {
+                return size() > maxCachedResumes;
+            }
+        });
+    }
 
     /**
      * 자기소개서 PDF 생성
@@ -32,8 +68,7 @@ public class PdfGenerationService {
         log.info("Generating cover letter PDF for user: {}, position: {}, company: {}", 
                 userEmail, position, company);
         
-        User user = userRepository.findByEmailAndIsDeletedFalse(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
+        User user = findUser(userEmail);
 
         UserProfile userProfile = userProfileRepository.findByUser(user).orElse(null);
         String contactInfo = buildContactInfo(user, userProfile);
@@ -53,14 +88,117 @@ public class PdfGenerationService {
         
         log.info("Generating resume PDF for user: {}", userEmail);
         
-        User user = userRepository.findByEmailAndIsDeletedFalse(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
+        User user = findUser(userEmail);
 
         UserProfile userProfile = userProfileRepository.findByUser(user).orElse(null);
         PdfGenerationDto.GenerateResumePdfRequest request = buildResumeRequest(user, userProfile, style);
 
         return aiServiceClient.generateResumePdf(request);
     }
+
+    /**
+     * 자기소개서 PDF 생성 (비동기)
+     * 사용자·프로필 조회는 호출 스레드에서 끝내고, PDF 생성 응답은 요청 스레드를 점유하지 않고 기다립니다.
+     * 생성된 PDF는 파일 저장소에 저장하고 다운로드 정보만 반환합니다.
+     */
+    public Mono<PdfGenerationDto.PdfFileResponse> generateCoverLetterPdfAsync(
+            String userEmail, String position, String company,
+            String coverLetterContent, String style) {
+
+        log.info("Generating cover letter PDF asynchronously for user: {}, position: {}, company: {}",
+                userEmail, position, company);
+
+        User user = findUser(userEmail);
+        UserProfile userProfile = userProfileRepository.findByUser(user).orElse(null);
+        String contactInfo = buildContactInfo(user, userProfile);
+        String userName = userProfile != null && userProfile.getFullName() != null ?
+                         userProfile.getFullName() : "Unknown User";
+
+        return storeGenerated(reactiveAIServiceClient.generateCoverLetterPdf(
+                userName, position, company, coverLetterContent, contactInfo, style
+        ), "cover_letter.pdf");
+    }
+
+    /**
+     * 이력서 PDF 생성 (비동기)
+     *
+     * 결과는 (사용자, 프로필 버전, 스타일) 단위로 캐시해 프로필이 바뀌지 않았으면 AI 서비스를 호출하지 않고
+     * 저장소의 기존 파일을 반환합니다. 같은 버전을 동시에 요청하면 한 번만 생성합니다.
+     */
+    public Mono<PdfGenerationDto.PdfFileResponse> generateResumePdfAsync(String userEmail, String style) {
+
+        log.info("Generating resume PDF asynchronously for user: {}", userEmail);
+
+        User user = findUser(userEmail);
+        String resolvedStyle = style != null ? style : DEFAULT_RESUME_STYLE;
+        // 버전을 프로필보다 먼저 읽어야 생성 도중 변경된 프로필이 새 버전으로 캐시되지 않음
+        long profileVersion = profileVersionService.getVersion(user.getId());
+        ResumeKey key = new ResumeKey(user.getId(), resolvedStyle);
+
+        VersionedResume cached = resumeCache.get(key);
+        if (cached != null && cached.profileVersion() == profileVersion) {
+            if (pdfFileStore.find(cached.handle().fileId()).isPresent()) {
+                log.debug("Resume PDF cache hit for user: {}, style: {}", userEmail, resolvedStyle);
+                return Mono.just(new PdfGenerationDto.PdfFileResponse(true, "프로필 변경이 없어 기존 PDF를 반환합니다.",
+                        cached.handle()));
+            }
+            // 저장소 정리로 파일이 삭제된 경우 다시 생성
+            resumeCache.remove(key, cached);
+        }
+
+        UserProfile userProfile = userProfileRepository.findByUser(user).orElse(null);
+        PdfGenerationDto.GenerateResumePdfRequest request = buildResumeRequest(user, userProfile, resolvedStyle);
+        RenderKey renderKey = new RenderKey(key, profileVersion);
+        return renderingResumes.computeIfAbsent(renderKey, k ->
+                storeGenerated(reactiveAIServiceClient.generateResumePdf(request), "resume.pdf")
+                        .doOnNext(response -> {
+                            if (response.success()) {
+                                resumeCache.merge(key, new VersionedResume(profileVersion, response.data()),
+                                        (existing, rendered) -> existing.profileVersion() > profileVersion ? existing : rendered);
+                            }
+                        })
+                        // 결과를 전달하기 전에 제거해야 완료 직후의 요청이 끝난 생성에 합류하지 않음
+                        .doOnTerminate(() -> renderingResumes.remove(k))
+                        .cache());
+    }
+
+    /**
+     * 생성된 PDF를 파일 저장소에 저장합니다. 디코딩과 파일 쓰기는 응답을 받은 I/O 스레드가 아닌 곳에서 실행합니다.
+     */
+    private Mono<PdfGenerationDto.PdfFileResponse> storeGenerated(
+            Mono<PdfGenerationDto.GeneratePdfResponse> generated, String defaultFileName) {
+        return generated.flatMap(response -> {
+            PdfGenerationDto.PdfData data = response.data();
+            if (!response.success() || data == null || data.base64Content() == null || data.base64Content().isEmpty()) {
+                String message = response.success() ? "생성된 PDF 내용이 없습니다." : response.message();
+                return Mono.just(new PdfGenerationDto.PdfFileResponse(false, message, null));
+            }
+            String fileName = data.fileName() != null && !data.fileName().isBlank() ? data.fileName() : defaultFileName;
+            return Mono.fromCallable(() -> pdfFileStore.storeBase64(data.base64Content()))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .map(stored -> new PdfGenerationDto.PdfFileResponse(true, response.message(),
+                            new PdfGenerationDto.PdfFileHandle(
+                                    stored.fileId(),
+                                    fileName,
+                                    downloadUrl(stored.fileId(), fileName),
+                                    stored.size(),
+                                    MediaType.APPLICATION_PDF_VALUE)));
+        });
+    }
+
+    private String downloadUrl(String fileId, String fileName) {
+        return UriComponentsBuilder.fromPath(contextPath)
+                .path("/pdf/files/{fileId}")
+                .queryParam("name", fileName)
+                .encode()
+                .buildAndExpand(fileId)
+                .toUriString();
+    }
+
+    private User findUser(String userEmail) {
+        return userRepository.findByEmailAndIsDeletedFalse(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
+    }
     
     /**
      * 연락처 정보 구성
@@ -104,8 +242,16 @@ public class PdfGenerationService {
                 List.of(), // 현재는 빈 리스트로 처리
                 List.of(), // 현재는 빈 리스트로 처리
                 List.of(), // 현재는 빈 리스트로 처리
-                style != null ? style : "modern"
+                style != null ? style : DEFAULT_RESUME_STYLE
         );
     }
-    
-}
\ No newline at end of file
+
+    private record ResumeKey(Long userId, String style) {
+    }
+
+    private record RenderKey(ResumeKey resume, long profileVersion) {
+    }
+
+    private record VersionedResume(long profileVersion, PdfGenerationDto.PdfFileHandle handle) {
+    }
+}
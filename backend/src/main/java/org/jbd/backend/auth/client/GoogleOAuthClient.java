@@ -0,0 +1,110 @@
+package org.jbd.backend.auth.client;
+
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Google OAuth2 엔드포인트 HTTP 클라이언트
+ *
+ * 인가 코드 교환, 사용자 정보 조회, 서명 키(JWKS) 조회를 하나의 HttpClient로 처리합니다.
+ * JDK HttpClient는 호스트별 연결을 재사용하므로 로그인마다 TCP·TLS 연결을 새로 맺지 않으며,
+ * 연결·응답 제한 시간을 두어 Google 응답 지연이 요청 스레드를 무기한 붙잡지 않게 합니다.
+ */
+@Component
+public class GoogleOAuthClient {
+
+    private final RestTemplate restTemplate;
+    private final String clientId;
+    private final String clientSecret;
+    private final String tokenUri;
+    private final String userInfoUri;
+    private final String jwkSetUri;
+
+    public GoogleOAuthClient(
+            @Value("${spring.security.oauth2.client.registration.google.client-id}") String clientId,
+            @Value("${spring.security.oauth2.client.registration.google.client-secret}") String clientSecret,
+            @Value("${spring.security.oauth2.client.provider.google.token-uri:https://oauth2.googleapis.com/token}") String tokenUri,
+            @Value("${spring.security.oauth2.client.provider.google.user-info-uri:https://www.googleapis.com/oauth2/v3/userinfo}") String userInfoUri,
+            @Value("${spring.security.oauth2.client.provider.google.jwk-set-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwkSetUri,
+            @Value("${app.oauth2.google.connect-timeout-ms:3000}") long connectTimeoutMillis,
+            @Value("${app.oauth2.google.read-timeout-ms:5000}") long readTimeoutMillis
+    ) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.tokenUri = tokenUri;
+        this.userInfoUri = userInfoUri;
+        this.jwkSetUri = jwkSetUri;
+    }
+
+    /**
+     * 인가 코드를 토큰으로 교환합니다. openid 범위로 요청한 경우 응답에 id_token이 포함됩니다.
+     *
+     * @return 토큰 응답 (access_token, id_token 등)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> exchangeCode(String code, String redirectUri) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("client_id", clientId);
+        form.add("client_secret", clientSecret);
+        form.add("code", code);
+        form.add("grant_type", "authorization_code");
+        form.add("redirect_uri", redirectUri);
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+                tokenUri, HttpMethod.POST, new HttpEntity<>(form, headers), Map.class);
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new BusinessException(ErrorCode.OAUTH2_AUTHENTICATION_FAILED);
+        }
+        return response.getBody();
+    }
+
+    /**
+     * 액세스 토큰으로 사용자 정보를 조회합니다. 토큰 응답에 id_token이 없을 때만 사용합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> fetchUserInfo(String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+                userInfoUri, HttpMethod.GET, new HttpEntity<>(headers), Map.class);
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new BusinessException(ErrorCode.OAUTH2_AUTHENTICATION_FAILED);
+        }
+        return response.getBody();
+    }
+
+    /**
+     * ID 토큰 서명 검증용 공개 키 집합(JWKS)을 조회합니다.
+     *
+     * @return JWKS JSON 본문과 Cache-Control 헤더를 담은 응답
+     */
+    public ResponseEntity<String> fetchJwks() {
+        return restTemplate.getForEntity(jwkSetUri, String.class);
+    }
+}
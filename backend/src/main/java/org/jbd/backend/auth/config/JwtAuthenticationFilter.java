@@ -4,17 +4,20 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.jbd.backend.auth.service.AuthenticatedPrincipal;
+import org.jbd.backend.auth.service.CurrentUser;
 import org.jbd.backend.auth.service.JwtService;
-import org.jbd.backend.user.domain.User;
-import org.jbd.backend.user.repository.UserRepository;
+import org.jbd.backend.auth.service.PrincipalCache;
+import org.jbd.backend.auth.service.TokenRevocationService;
+import org.jbd.backend.auth.service.VerifiedToken;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -25,17 +28,22 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final CurrentUser currentUser;
+    private final TokenRevocationService tokenRevocationService;
+    // 비동기(Mono) 응답의 ASYNC 디스패치에는 이 필터가 다시 실행되지 않으므로 인증 정보를 요청 속성에 보관해 복원되게 함
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
     
     public JwtAuthenticationFilter(
             JwtService jwtService,
-            UserDetailsService userDetailsService,
-            UserRepository userRepository
+            PrincipalCache principalCache,
+            CurrentUser currentUser,
+            TokenRevocationService tokenRevocationService
     ) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.currentUser = currentUser;
+        this.tokenRevocationService = tokenRevocationService;
     }
     
     @Override
@@ -55,6 +63,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
+        final VerifiedToken verified;
         final String userEmail;
         
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -64,24 +73,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         jwt = authHeader.substring(7);
         try {
-            userEmail = jwtService.extractUsername(jwt);
+            // 서명·만료 검증은 요청당 한 번만 수행하고 이후에는 검증 결과를 재사용
+            verified = jwtService.verifyToken(jwt);
+            userEmail = verified.getSubject();
         } catch (Exception e) {
             // JWT 파싱 실패 시 필터 체인 계속 진행
             filterChain.doFilter(request, response);
             return;
         }
+
+        if (tokenRevocationService.isRevoked(verified)) {
+            // 로그아웃 등으로 폐기된 토큰은 인증하지 않음 (대부분 Bloom filter에서 I/O 없이 판정)
+            filterChain.doFilter(request, response);
+            return;
+        }
         
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
             // Check if this is an admin token
-            Boolean isAdmin = null;
-            try {
-                isAdmin = jwtService.extractClaim(jwt, claims -> claims.get("isAdmin", Boolean.class));
-            } catch (Exception e) {
-                // Not an admin token, continue with regular user authentication
-            }
-
-            if (Boolean.TRUE.equals(isAdmin) && jwtService.isTokenValid(jwt, null)) {
+            if (verified.isAdmin() && jwtService.isTokenValid(verified, null)) {
                 // Handle admin authentication
                 List<SimpleGrantedAuthority> authorities = List.of(
                         new SimpleGrantedAuthority("ROLE_ADMIN")
@@ -95,26 +105,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                securityContextRepository.saveContext(SecurityContextHolder.getContext(), request, response);
+                currentUser.authenticate(verified);
             } else {
                 // Handle regular user authentication
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-
-                User user = userRepository.findByEmailAndIsDeletedFalse(userEmail).orElse(null);
-                if (user != null && jwtService.isTokenValid(jwt, user)) {
-
-                    // 사용자 권한 설정
-                    List<SimpleGrantedAuthority> authorities = List.of(
-                            new SimpleGrantedAuthority("ROLE_" + user.getUserType().name())
-                    );
+                // 캐시된 사용자 스냅샷을 사용해 정상 상태에서는 요청마다 DB를 조회하지 않음
+                AuthenticatedPrincipal principal = principalCache.get(userEmail);
+                if (principal != null && jwtService.isTokenValidFor(verified, principal)) {
 
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
+                            principal.toUserDetails(),
                             null,
-                            authorities
+                            principal.getAuthorities()
                     );
 
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    securityContextRepository.saveContext(SecurityContextHolder.getContext(), request, response);
+                    // 이후 컨트롤러·서비스가 토큰을 다시 파싱하지 않도록 요청 컨텍스트에 보관
+                    currentUser.authenticate(principal);
                 }
             }
         }
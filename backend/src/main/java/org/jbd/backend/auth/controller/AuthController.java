@@ -1,9 +1,12 @@
 package org.jbd.backend.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.jbd.backend.auth.dto.AuthenticationRequest;
 import org.jbd.backend.auth.dto.AuthenticationResponse;
+import org.jbd.backend.auth.dto.LogoutRequest;
 import org.jbd.backend.auth.service.AuthenticationService;
+import org.jbd.backend.auth.service.LoginProtectionService;
 import org.jbd.backend.common.dto.ApiResponse;
 import org.jbd.backend.user.dto.UserRegistrationDto;
 import org.springframework.http.ResponseEntity;
@@ -27,14 +30,18 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthenticationService authenticationService;
+    private final LoginProtectionService loginProtectionService;
 
     /**
      * AuthController 생성자
      *
      * @param authenticationService 인증 서비스
+     * @param loginProtectionService 로그인 시도 제한 서비스
      */
-    public AuthController(AuthenticationService authenticationService) {
+    public AuthController(AuthenticationService authenticationService,
+                          LoginProtectionService loginProtectionService) {
         this.authenticationService = authenticationService;
+        this.loginProtectionService = loginProtectionService;
     }
     
     /**
@@ -66,6 +73,7 @@ public class AuthController {
      * @param request 로그인 요청 데이터
      *                - email: 이메일 주소 (필수)
      *                - password: 비밀번호 (필수)
+     * @param httpRequest IP별 시도 제한에 사용할 요청 정보
      * @return ResponseEntity<ApiResponse<AuthenticationResponse>> 로그인 결과 및 토큰
      * @apiNote POST /api/auth/login
      * @see AuthenticationRequest
@@ -73,8 +81,10 @@ public class AuthController {
      */
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<AuthenticationResponse>> authenticate(
-            @Valid @RequestBody AuthenticationRequest request
+            @Valid @RequestBody AuthenticationRequest request,
+            HttpServletRequest httpRequest
     ) {
+        loginProtectionService.checkRateLimit(httpRequest.getRemoteAddr(), request.getEmail());
         AuthenticationResponse response = authenticationService.authenticate(request);
         return ResponseEntity.ok(ApiResponse.success("로그인이 완료되었습니다.", response));
     }
@@ -107,17 +117,22 @@ public class AuthController {
      * 토큰을 무효화하여 추가 사용을 방지합니다.
      *
      * @param authHeader Authorization 헤더 (선택사항, "Bearer {token}" 형식)
+     * @param request 함께 폐기할 리프레시 토큰 (선택사항)
      * @return ResponseEntity<ApiResponse<Void>> 로그아웃 완료 응답
      * @apiNote POST /api/auth/logout
      */
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<Void>> logout(
-            @RequestHeader(value = "Authorization", required = false) String authHeader
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestBody(required = false) LogoutRequest request
     ) {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
             authenticationService.logout(token);
         }
+        if (request != null && request.getRefreshToken() != null) {
+            authenticationService.revokeRefreshToken(request.getRefreshToken());
+        }
 
         return ResponseEntity.ok(ApiResponse.success("로그아웃이 완료되었습니다."));
     }
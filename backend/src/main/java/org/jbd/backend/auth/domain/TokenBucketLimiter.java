@@ -0,0 +1,126 @@
+package org.jbd.backend.auth.domain;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(IP, 계정 등)별 토큰 버킷 요청 제한기
+ *
+ * 버킷마다 잔여 토큰과 마지막 갱신 시각 두 값만 보관하고, 토큰은 요청 시점에 경과 시간만큼 한 번에 채웁니다.
+ * 가득 찬 버킷은 새로 만든 버킷과 상태가 같으므로 {@link #evictIdle()}로 제거해도 제한 결과가 달라지지 않습니다.
+ *
+ * 버킷 갱신과 제거는 모두 ConcurrentHashMap의 compute 계열 연산 안에서 수행되어
+ * 같은 키에 대한 동시 요청이 토큰을 중복 소비하거나 제거 중인 버킷에 기록하는 일이 없습니다.
+ */
+public final class TokenBucketLimiter {
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final double capacity;
+    private final double tokensPerNano;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+
+    /**
+     * @param capacity 버킷 최대 토큰 수 (연속 허용 요청 수)
+     * @param refillPeriodNanos 토큰 하나가 채워지는 데 걸리는 시간
+     * @param maxKeys 추적할 최대 키 수
+     * @param nanoClock 단조 증가 시계 (System::nanoTime)
+     */
+    public TokenBucketLimiter(int capacity, long refillPeriodNanos, int maxKeys, LongSupplier nanoClock) {
+        if (capacity <= 0 || refillPeriodNanos <= 0 || maxKeys <= 0) {
+            throw new IllegalArgumentException("capacity, refillPeriodNanos, maxKeys는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = 1.0 / refillPeriodNanos;
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 토큰 하나를 소비합니다.
+     *
+     * 추적 중인 키가 maxKeys에 도달하면 유휴 버킷을 먼저 정리하고, 그래도 공간이 없으면
+     * 새 키는 제한하지 않고 허용합니다 (메모리 상한 우선, 다른 기준의 제한기로 보완).
+     *
+     * @param key 제한 기준 키
+     * @return 허용되면 true, 토큰이 없으면 false
+     */
+    public boolean tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        Bucket existing = buckets.get(key);
+        if (existing == null && buckets.size() >= maxKeys) {
+            evictIdle(now);
+            if (buckets.size() >= maxKeys) {
+                return true;
+            }
+        }
+        boolean[] acquired = new boolean[1];
+        buckets.compute(key, (k, bucket) -> {
+            Bucket current = bucket != null ? bucket : new Bucket(capacity, now);
+            acquired[0] = current.tryConsume(now, capacity, tokensPerNano);
+            return current;
+        });
+        return acquired[0];
+    }
+
+    /**
+     * 가득 찬(오래 사용되지 않은) 버킷을 제거합니다.
+     *
+     * @return 제거된 버킷 수
+     */
+    public int evictIdle() {
+        return evictIdle(nanoClock.getAsLong());
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private int evictIdle(long now) {
+        int[] removed = new int[1];
+        for (String key : buckets.keySet()) {
+            buckets.computeIfPresent(key, (k, bucket) -> {
+                if (bucket.isFullAt(now, capacity, tokensPerNano)) {
+                    removed[0]++;
+                    return null;
+                }
+                return bucket;
+            });
+        }
+        return removed[0];
+    }
+
+    /**
+     * 잔여 토큰과 마지막 갱신 시각. 맵의 compute 연산 안에서만 접근합니다.
+     */
+    private static final class Bucket {
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+
+        private boolean tryConsume(long now, double capacity, double tokensPerNano) {
+            refill(now, capacity, tokensPerNano);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        private boolean isFullAt(long now, double capacity, double tokensPerNano) {
+            return tokens + Math.max(0, now - updatedAt) * tokensPerNano >= capacity;
+        }
+
+        private void refill(long now, double capacity, double tokensPerNano) {
+            long elapsed = now - updatedAt;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+                updatedAt = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.jbd.backend.auth.dto;
+
+public class LogoutRequest {
+    
+    /** 함께 폐기할 리프레시 토큰 (선택) */
+    private String refreshToken;
+    
+    public LogoutRequest() {}
+    
+    public LogoutRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+    
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+    
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,103 @@
+package org.jbd.backend.auth.service;
+
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 인증 필터가 사용하는 사용자 정보의 불변 스냅샷
+ *
+ * 요청마다 User 엔티티를 조회하지 않도록 인증 판단에 필요한 값만 복사해 둡니다.
+ * 비밀번호 해시는 인증 필터에서 쓰이지 않으므로 보관하지 않습니다.
+ */
+public final class AuthenticatedPrincipal {
+
+    private final Long id;
+    private final String email;
+    private final UserType userType;
+    private final boolean active;
+    private final boolean locked;
+    private final boolean deleted;
+    /** 이 시각(epoch 밀리초)보다 먼저 발급된 토큰은 무효, 0이면 제한 없음 */
+    private final long tokensInvalidBeforeMillis;
+
+    public AuthenticatedPrincipal(Long id, String email, UserType userType, boolean active,
+                                  boolean locked, boolean deleted, long tokensInvalidBeforeMillis) {
+        this.id = id;
+        this.email = email;
+        this.userType = userType;
+        this.active = active;
+        this.locked = locked;
+        this.deleted = deleted;
+        this.tokensInvalidBeforeMillis = tokensInvalidBeforeMillis;
+    }
+
+    public static AuthenticatedPrincipal from(User user) {
+        long invalidBefore = user.getTokensInvalidBefore() != null
+                ? user.getTokensInvalidBefore().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+        return new AuthenticatedPrincipal(user.getId(), user.getEmail(), user.getUserType(),
+                user.isActive(), user.isAccountLocked(), user.isDeleted(), invalidBefore);
+    }
+
+    /**
+     * 토큰 발급 시각이 무효화 시점 이후인지 확인합니다.
+     * JWT의 iat는 초 단위이므로 무효화와 같은 초에 발급된 토큰은 유효로 봅니다.
+     */
+    public boolean isIssuedAfterInvalidation(Instant issuedAt) {
+        if (tokensInvalidBeforeMillis == 0L) {
+            return true;
+        }
+        return issuedAt != null && issuedAt.toEpochMilli() >= tokensInvalidBeforeMillis;
+    }
+
+    /**
+     * SecurityContext에 담을 UserDetails를 생성합니다.
+     */
+    public UserDetails toUserDetails() {
+        return org.springframework.security.core.userdetails.User.builder()
+                .username(email)
+                .password("")
+                .disabled(deleted)
+                .accountLocked(locked)
+                .authorities(getAuthorities())
+                .build();
+    }
+
+    public List<SimpleGrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + userType.name()));
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public UserType getUserType() {
+        return userType;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public boolean isLocked() {
+        return locked;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public long getTokensInvalidBeforeMillis() {
+        return tokensInvalidBeforeMillis;
+    }
+}
@@ -1,5 +1,6 @@
 package org.jbd.backend.auth.service;
 
+import io.jsonwebtoken.JwtException;
 import org.jbd.backend.auth.dto.AuthenticationRequest;
 import org.jbd.backend.auth.dto.AuthenticationResponse;
 import org.jbd.backend.common.exception.BusinessException;
@@ -29,17 +30,23 @@ public class AuthenticationService {
     private final UserService userService;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final TokenRevocationService tokenRevocationService;
+    private final LoginProtectionService loginProtectionService;
     
     public AuthenticationService(
             UserRepository userRepository,
             UserService userService,
             JwtService jwtService,
-            AuthenticationManager authenticationManager
+            AuthenticationManager authenticationManager,
+            TokenRevocationService tokenRevocationService,
+            LoginProtectionService loginProtectionService
     ) {
         this.userRepository = userRepository;
         this.userService = userService;
         this.jwtService = jwtService;
         this.authenticationManager = authenticationManager;
+        this.tokenRevocationService = tokenRevocationService;
+        this.loginProtectionService = loginProtectionService;
     }
     
     public AuthenticationResponse register(UserRegistrationDto request) {
@@ -68,12 +75,13 @@ public class AuthenticationService {
         }
 
         try {
-            Authentication authentication = authenticationManager.authenticate(
+            // 비밀번호 해시 검증은 로그인 전용 실행기에서 수행
+            Authentication authentication = loginProtectionService.execute(() -> authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             request.getEmail(),
                             request.getPassword()
                     )
-            );
+            ));
 
             userRepository.save(user);
 
@@ -102,11 +110,15 @@ public class AuthenticationService {
     
     public AuthenticationResponse refreshToken(String refreshToken) {
         try {
-            String userEmail = jwtService.extractUsername(refreshToken);
-            User user = userRepository.findByEmailAndIsDeletedFalse(userEmail)
+            VerifiedToken verified = jwtService.verifyToken(refreshToken);
+            User user = userRepository.findByEmailAndIsDeletedFalse(verified.getSubject())
                     .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
             
-            if (jwtService.isTokenValid(refreshToken, user)) {
+            // 폐기된 토큰, 비활성 계정, 비밀번호 변경·계정 잠금 이전에 발급된 토큰은 갱신 불가
+            if (jwtService.isTokenValid(verified, user)
+                    && user.isActive()
+                    && !tokenRevocationService.isRevoked(verified)
+                    && AuthenticatedPrincipal.from(user).isIssuedAfterInvalidation(verified.getIssuedAt())) {
                 String accessToken = jwtService.generateToken(user);
                 
                 return AuthenticationResponse.builder()
@@ -122,8 +134,33 @@ public class AuthenticationService {
         }
     }
     
+    /**
+     * 액세스 토큰을 만료 시각까지 폐기합니다. 이미 만료되었거나 유효하지 않은 토큰은 무시합니다.
+     *
+     * @param token 로그아웃할 액세스 토큰
+     */
     public void logout(String token) {
-        // JWT는 stateless하므로 별도의 로그아웃 처리가 필요하지 않음
-        // 필요시 블랙리스트 구현 가능
+        revokeQuietly(token);
+    }
+
+    /**
+     * 리프레시 토큰을 폐기해 더 이상 액세스 토큰을 갱신할 수 없게 합니다.
+     *
+     * @param refreshToken 폐기할 리프레시 토큰
+     */
+    public void revokeRefreshToken(String refreshToken) {
+        revokeQuietly(refreshToken);
+    }
+
+    private void revokeQuietly(String token) {
+        VerifiedToken verified;
+        try {
+            verified = jwtService.verifyToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            // 만료되었거나 위조된 토큰은 이미 사용할 수 없으므로 폐기할 필요 없음
+            return;
+        }
+        tokenRevocationService.revoke(verified);
+        jwtService.evictVerifiedToken(token);
     }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package org.jbd.backend.auth.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 최대 개수가 정해진 만료 캐시 맵의 정리 로직
+ *
+ * {@link VerifiedClaimsCache}와 {@link PrincipalCache}처럼 삽입 시점에 맵 크기를 확인하는
+ * 락 없는 캐시에서 사용합니다.
+ */
+final class BoundedExpiringMaps {
+
+    private BoundedExpiringMaps() {
+    }
+
+    /**
+     * 만료된 항목을 먼저 제거하고, 그래도 최대 개수 이상이면 임의의 항목을 일부 제거합니다.
+     *
+     * @param entries 정리할 맵 (동시 수정을 허용하는 구현이어야 함)
+     * @param maxEntries 최대 개수
+     * @param expired 만료 여부
+     */
+    static <V> void evict(Map<?, V> entries, int maxEntries, Predicate<? super V> expired) {
+        entries.values().removeIf(expired);
+        int excess = entries.size() - maxEntries;
+        if (excess < 0) {
+            return;
+        }
+        // 매 삽입마다 정리하지 않도록 최대 개수의 10%만큼 여유를 둠
+        excess += Math.max(1, maxEntries / 10);
+        Iterator<?> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.jbd.backend.auth.service;
+
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * 현재 요청의 인증 사용자 컨텍스트
+ *
+ * {@link org.jbd.backend.auth.config.JwtAuthenticationFilter}가 토큰을 검증하면서 한 번 채우므로,
+ * 컨트롤러와 서비스는 Authorization 헤더를 다시 파싱하지 않고 사용자 ID를 얻을 수 있습니다.
+ * 엔티티는 보관하지 않으므로, User가 필요한 서비스는 자신의 트랜잭션 안에서 ID로 조회해야 합니다.
+ *
+ * 요청 스코프 빈이므로 HTTP 요청 스레드에서만 사용할 수 있습니다.
+ */
+@Component
+@RequestScope
+public class CurrentUser {
+
+    private Long userId;
+    private String email;
+    private UserType userType;
+    private boolean admin;
+    private AuthenticatedPrincipal principal;
+
+    /**
+     * 일반 사용자 토큰 인증 결과로 컨텍스트를 채웁니다.
+     */
+    public void authenticate(AuthenticatedPrincipal principal) {
+        this.principal = principal;
+        this.userId = principal.getId();
+        this.email = principal.getEmail();
+        this.userType = principal.getUserType();
+    }
+
+    /**
+     * 관리자 토큰처럼 사용자 스냅샷 없이 인증된 경우 토큰 검증 결과로 컨텍스트를 채웁니다.
+     */
+    public void authenticate(VerifiedToken verified) {
+        this.userId = verified.getUserId();
+        this.email = verified.getSubject();
+        String type = verified.getUserType();
+        this.userType = type != null ? UserType.valueOf(type) : UserType.ADMIN;
+        this.admin = verified.isAdmin();
+    }
+
+    public boolean isAuthenticated() {
+        return userId != null;
+    }
+
+    /**
+     * @return 현재 사용자 ID
+     * @throws BusinessException 인증되지 않은 요청인 경우 ErrorCode.UNAUTHORIZED
+     */
+    public Long getId() {
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        return userId;
+    }
+
+    public String getEmail() {
+        getId();
+        return email;
+    }
+
+    public UserType getUserType() {
+        getId();
+        return userType;
+    }
+
+    /**
+     * 필터가 사용한 사용자 스냅샷, 관리자 토큰이면 null
+     */
+    public AuthenticatedPrincipal getPrincipal() {
+        return principal;
+    }
+
+    /**
+     * 관리자 토큰(isAdmin 클레임)으로 인증되었는지 여부
+     */
+    public boolean isAdmin() {
+        return admin;
+    }
+}
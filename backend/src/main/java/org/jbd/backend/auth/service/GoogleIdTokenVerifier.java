@@ -0,0 +1,205 @@
+package org.jbd.backend.auth.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import org.jbd.backend.auth.client.GoogleOAuthClient;
+import org.jbd.backend.auth.dto.OAuth2UserInfo;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Google ID 토큰 로컬 검증기
+ *
+ * tokeninfo 엔드포인트를 로그인마다 호출하지 않고, Google 공개 키 집합(JWKS)을 메모리에 보관해
+ * 서명·발급자·대상(aud)·만료를 직접 검증합니다.
+ *
+ * 키 집합은 응답의 Cache-Control max-age까지 유효하며, 만료되기 전에 백그라운드에서 미리 갱신합니다.
+ * 알 수 없는 kid가 들어오면 키 교체로 보고 즉시 한 번 갱신하되, 잘못된 토큰으로 JWKS 조회가
+ * 반복되지 않도록 최소 갱신 간격을 둡니다. 갱신에 실패하면 기존 키를 계속 사용합니다.
+ */
+@Service
+public class GoogleIdTokenVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(GoogleIdTokenVerifier.class);
+
+    private static final Set<String> GOOGLE_ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final long DEFAULT_MAX_AGE_MILLIS = 60 * 60 * 1000L;
+    private static final long CLOCK_SKEW_SECONDS = 60;
+
+    private final GoogleOAuthClient googleOAuthClient;
+    private final ObjectMapper objectMapper;
+    private final String clientId;
+    private final Set<String> issuers;
+    private final long refreshAheadMillis;
+    private final long minRefreshIntervalMillis;
+    private final LongSupplier clock;
+    private final JwtParser parser;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long keysExpireAt;
+    private volatile long lastRefreshAt = Long.MIN_VALUE / 2;
+
+    public GoogleIdTokenVerifier(
+            GoogleOAuthClient googleOAuthClient,
+            ObjectMapper objectMapper,
+            @Value("${spring.security.oauth2.client.registration.google.client-id}") String clientId,
+            @Value("${app.oauth2.google.jwks-refresh-ahead-ms:300000}") long refreshAheadMillis,
+            @Value("${app.oauth2.google.jwks-min-refresh-interval-ms:30000}") long minRefreshIntervalMillis
+    ) {
+        this(googleOAuthClient, objectMapper, clientId, GOOGLE_ISSUERS,
+                refreshAheadMillis, minRefreshIntervalMillis, System::currentTimeMillis);
+    }
+
+    GoogleIdTokenVerifier(GoogleOAuthClient googleOAuthClient, ObjectMapper objectMapper, String clientId,
+                          Set<String> issuers, long refreshAheadMillis, long minRefreshIntervalMillis,
+                          LongSupplier clock) {
+        this.googleOAuthClient = googleOAuthClient;
+        this.objectMapper = objectMapper;
+        this.clientId = clientId;
+        this.issuers = issuers;
+        this.refreshAheadMillis = refreshAheadMillis;
+        this.minRefreshIntervalMillis = minRefreshIntervalMillis;
+        this.clock = clock;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .setAllowedClockSkewSeconds(CLOCK_SKEW_SECONDS)
+                .build();
+    }
+
+    /**
+     * ID 토큰을 검증하고 사용자 정보를 반환합니다.
+     *
+     * @param idToken Google이 발급한 ID 토큰
+     * @return 토큰 클레임 기반 사용자 정보 (sub, email, email_verified, name, picture)
+     * @throws BusinessException 만료된 경우 EXPIRED_OAUTH2_TOKEN, 그 외 검증 실패는 INVALID_OAUTH2_TOKEN
+     */
+    public OAuth2UserInfo verify(String idToken) {
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(idToken).getBody();
+        } catch (ExpiredJwtException e) {
+            throw new BusinessException(ErrorCode.EXPIRED_OAUTH2_TOKEN);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_OAUTH2_TOKEN);
+        }
+
+        if (!issuers.contains(claims.getIssuer()) || !clientId.equals(claims.getAudience())) {
+            throw new BusinessException(ErrorCode.INVALID_OAUTH2_TOKEN);
+        }
+        return new OAuth2UserInfo(new HashMap<>(claims));
+    }
+
+    /**
+     * 키 집합이 만료되기 전에 미리 갱신합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.oauth2.google.jwks-refresh-check-ms:60000}")
+    public void refreshIfStale() {
+        if (clock.getAsLong() >= keysExpireAt - refreshAheadMillis) {
+            refresh();
+        }
+    }
+
+    int keyCount() {
+        return keys.size();
+    }
+
+    private Key resolveKey(String kid) {
+        PublicKey key = kid != null ? keys.get(kid) : null;
+        if (key == null && refreshForUnknownKey()) {
+            key = keys.get(kid);
+        }
+        if (key == null) {
+            throw new JwtException("알 수 없는 서명 키: " + kid);
+        }
+        return key;
+    }
+
+    private synchronized boolean refreshForUnknownKey() {
+        if (clock.getAsLong() - lastRefreshAt < minRefreshIntervalMillis) {
+            return false;
+        }
+        return refresh();
+    }
+
+    private synchronized boolean refresh() {
+        long now = clock.getAsLong();
+        lastRefreshAt = now;
+        try {
+            ResponseEntity<String> response = googleOAuthClient.fetchJwks();
+            Map<String, PublicKey> loaded = parseKeys(response.getBody());
+            if (loaded.isEmpty()) {
+                logger.warn("Google JWKS 응답에 사용할 수 있는 키가 없습니다.");
+                return false;
+            }
+            keys = loaded;
+            keysExpireAt = now + maxAgeMillis(response.getHeaders());
+            logger.debug("Google JWKS 갱신: 키 {}개", loaded.size());
+            return true;
+        } catch (Exception e) {
+            logger.warn("Google JWKS 갱신 실패, 기존 키 {}개를 계속 사용합니다: {}", keys.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private Map<String, PublicKey> parseKeys(String body) throws Exception {
+        Map<String, PublicKey> loaded = new HashMap<>();
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        for (JsonNode jwk : objectMapper.readTree(body).path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText()) || !jwk.hasNonNull("kid")) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+            loaded.put(jwk.path("kid").asText(), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        return loaded;
+    }
+
+    private static long maxAgeMillis(HttpHeaders headers) {
+        List<String> cacheControl = headers.getOrEmpty(HttpHeaders.CACHE_CONTROL);
+        for (String value : cacheControl) {
+            Matcher matcher = MAX_AGE.matcher(value);
+            if (matcher.find()) {
+                return Long.parseLong(matcher.group(1)) * 1000;
+            }
+        }
+        return DEFAULT_MAX_AGE_MILLIS;
+    }
+}
@@ -1,6 +1,7 @@
 package org.jbd.backend.auth.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -13,6 +14,7 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -39,8 +41,17 @@ public class JwtService {
     @Value("${JWT_EXPIRATION:86400}")
     private long jwtExpiration;
 
+    /** 검증된 클레임 캐시의 최대 토큰 수 */
+    @Value("${jwt.claims-cache.max-entries:10000}")
+    private int claimsCacheMaxEntries = 10000;
+
     /** 리프레시 토큰의 만료 시간 (7일, 밀리초 단위) */
     private static final long REFRESH_TOKEN_EXPIRATION = 604800000; // 7 days
+
+    /** 서명 키와 파서는 최초 사용 시 한 번만 생성 (테스트에서 직접 생성한 인스턴스도 지원) */
+    private volatile Key signInKey;
+    private volatile JwtParser parser;
+    private volatile VerifiedClaimsCache claimsCache;
     
     /**
      * 토큰에서 사용자 이름(이메일)을 추출합니다.
@@ -50,12 +61,13 @@ public class JwtService {
      * @return String 사용자 이메일 주소
      */
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verifyToken(token).getSubject();
     }
     
     /**
      * 토큰에서 특정 클레임을 추출합니다.
      * 제네릭 메소드로 다양한 타입의 클레임을 추출할 수 있습니다.
+     * 요청마다 서명을 다시 검증하므로, 인증에 쓰는 값은 {@link #verifyToken(String)}의 스냅샷을 사용하세요.
      *
      * @param <T> 추출할 클래임의 타입
      * @param token JWT 토큰 문자열
@@ -116,6 +128,7 @@ public class JwtService {
      *
      * 포함되는 클레임:
      * - sub (subject): 사용자 이메일
+     * - jti (JWT ID): 토큰 고유 ID (로그아웃 시 폐기 대상 식별)
      * - iat (issued at): 토큰 발급 시간
      * - exp (expiration): 토큰 만료 시간
      * - userId: 사용자 ID (커스텀 클레임)
@@ -145,6 +158,7 @@ public class JwtService {
                 .builder()
                 .setClaims(claims)                                              // 페이로드에 클레임 설정
                 .setSubject(user.getEmail())                                   // subject 클레임 (사용자 식별자)
+                .setId(UUID.randomUUID().toString())                           // jti 클레임 (토큰 폐기용 식별자)
                 .setIssuedAt(new Date(System.currentTimeMillis()))            // 발급 시간
                 .setExpiration(new Date(System.currentTimeMillis() + expiration)) // 만료 시간
                 .signWith(getSignInKey(), SignatureAlgorithm.HS256)           // HMAC SHA-256으로 서명
@@ -177,6 +191,43 @@ public class JwtService {
         return (username.equals(user.getEmail())) && !isTokenExpired(token);
     }
 
+    /**
+     * 이미 검증된 클레임으로 토큰의 유효성을 확인합니다.
+     *
+     * {@link #verifyToken(String)}이 서명과 만료를 확인하므로 여기서는 토큰을 다시 파싱하지 않습니다.
+     *
+     * @param verified verifyToken으로 얻은 검증 결과
+     * @param user 토큰과 매칭할 사용자 (관리자 토큰의 경우 null 가능)
+     * @return boolean 토큰이 유효하면 true, 아니면 false
+     */
+    public boolean isTokenValid(VerifiedToken verified, User user) {
+        if (verified.isExpired(System.currentTimeMillis())) {
+            return false;
+        }
+        return user == null || user.getEmail().equals(verified.getSubject());
+    }
+
+    /**
+     * 이미 검증된 클레임을 캐시된 사용자 스냅샷과 대조합니다.
+     *
+     * 만료·사용자 일치 외에 계정이 활성 상태인지(비활성화·잠금·삭제 아님)와
+     * 토큰 무효화 시점(비밀번호 변경, 계정 잠금 등) 이후 발급인지 확인합니다.
+     *
+     * @param verified verifyToken으로 얻은 검증 결과
+     * @param principal 토큰 subject로 조회한 사용자 스냅샷
+     * @return boolean 토큰이 유효하면 true, 아니면 false
+     */
+    public boolean isTokenValidFor(VerifiedToken verified, AuthenticatedPrincipal principal) {
+        if (verified.isExpired(System.currentTimeMillis())) {
+            return false;
+        }
+        return principal.getEmail().equals(verified.getSubject())
+                && principal.isActive()
+                && !principal.isLocked()
+                && !principal.isDeleted()
+                && principal.isIssuedAfterInvalidation(verified.getIssuedAt());
+    }
+
     /**
      * 관리자용 특별 토큰을 생성합니다.
      *
@@ -196,6 +247,7 @@ public class JwtService {
                 .builder()
                 .setClaims(claims)                                              // 관리자 권한 클레임 설정
                 .setSubject(username)                                          // 관리자 식별자
+                .setId(UUID.randomUUID().toString())                           // jti 클레임 (토큰 폐기용 식별자)
                 .setIssuedAt(new Date(System.currentTimeMillis()))            // 발급 시간
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration * 1000)) // 만료 시간
                 .signWith(getSignInKey(), SignatureAlgorithm.HS256)           // 동일한 서명 키 사용
@@ -225,7 +277,7 @@ public class JwtService {
      * @return Date 토큰 만료 시간
      */
     private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return Date.from(verifyToken(token).getExpiresAt());
     }
     
     /**
@@ -237,18 +289,75 @@ public class JwtService {
      * 3. 검증 성공 시 Payload에서 Claims 추출
      *
      * 서명 검증이 실패하면 예외가 발생합니다.
+     * 반환된 Claims는 호출한 쪽만 사용하도록 매번 새로 파싱하며 캐시하지 않습니다.
      *
      * @param token 파싱할 JWT 토큰
      * @return Claims 토큰의 모든 클레임 정보
      * @throws io.jsonwebtoken.JwtException 토큰이 유효하지 않은 경우
      */
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()                  // JWT 파서 빌더 생성
-                .setSigningKey(getSignInKey())   // 서명 검증용 키 설정
-                .build()                          // 파서 빌드
-                .parseClaimsJws(token)           // JWS (서명된 JWT) 파싱
+        return getParser().parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 토큰의 서명과 만료를 검증하고 검증 결과를 반환합니다.
+     *
+     * 한 요청에서 필요한 값은 이 메서드로 한 번만 얻어 재사용하는 것을 권장합니다.
+     * 검증 결과는 불변 스냅샷으로 토큰 만료 시각까지 캐시되어, 같은 토큰의 다음 요청은 서명 검증 없이 응답합니다.
+     *
+     * @param token 검증할 JWT 토큰
+     * @return VerifiedToken 검증된 토큰의 불변 스냅샷
+     * @throws io.jsonwebtoken.JwtException 서명이 틀리거나 만료된 경우
+     */
+    public VerifiedToken verifyToken(String token) {
+        VerifiedClaimsCache cache = getClaimsCache();
+        VerifiedToken cached = cache.get(token, System.currentTimeMillis());
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = getParser()
+                .parseClaimsJws(token)           // JWS (서명된 JWT) 파싱 및 서명·만료 검증
                 .getBody();                       // 페이로드 (Claims) 추출
+        VerifiedToken verified = VerifiedToken.from(claims);
+        cache.put(token, verified);
+        return verified;
+    }
+
+    /**
+     * 검증된 클레임 캐시에서 토큰을 제거합니다.
+     *
+     * @param token 제거할 JWT 토큰
+     */
+    public void evictVerifiedToken(String token) {
+        getClaimsCache().invalidate(token);
+    }
+
+    private JwtParser getParser() {
+        JwtParser current = parser;
+        if (current == null) {
+            synchronized (this) {
+                if (parser == null) {
+                    // 빌드된 파서는 불변이며 스레드 간 공유 가능
+                    parser = Jwts.parserBuilder().setSigningKey(getSignInKey()).build();
+                }
+                current = parser;
+            }
+        }
+        return current;
+    }
+
+    private VerifiedClaimsCache getClaimsCache() {
+        VerifiedClaimsCache current = claimsCache;
+        if (current == null) {
+            synchronized (this) {
+                if (claimsCache == null) {
+                    claimsCache = new VerifiedClaimsCache(claimsCacheMaxEntries);
+                }
+                current = claimsCache;
+            }
+        }
+        return current;
     }
     
     /**
@@ -262,15 +371,25 @@ public class JwtService {
      *
      * 이 과정은 키의 길이와 형식을 HMAC SHA-256 요구사항에 맞게 조정합니다.
      * HMAC SHA-256은 최소 256비트(32바이트) 키를 필요로 합니다.
+     * 변환 결과는 최초 호출 시 한 번만 계산하여 재사용합니다.
      *
      * @return Key HMAC SHA-256 서명용 키 객체
      */
     private Key getSignInKey() {
-        // 1. 문자열 -> 바이트 배열 -> Base64 인코딩 -> Base64 디코딩
-        byte[] keyBytes = Decoders.BASE64.decode(java.util.Base64.getEncoder().encodeToString(secretKey.getBytes()));
+        Key current = signInKey;
+        if (current == null) {
+            synchronized (this) {
+                if (signInKey == null) {
+                    // 1. 문자열 -> 바이트 배열 -> Base64 인코딩 -> Base64 디코딩
+                    byte[] keyBytes = Decoders.BASE64.decode(java.util.Base64.getEncoder().encodeToString(secretKey.getBytes()));
 
-        // 2. HMAC SHA-256용 키 객체 생성
-        return Keys.hmacShaKeyFor(keyBytes);
+                    // 2. HMAC SHA-256용 키 객체 생성
+                    signInKey = Keys.hmacShaKeyFor(keyBytes);
+                }
+                current = signInKey;
+            }
+        }
+        return current;
     }
     
     /**
@@ -284,12 +403,9 @@ public class JwtService {
      * @throws IllegalArgumentException 토큰에 유효한 userId가 없는 경우
      */
     public Long extractUserId(String token) {
-        Claims claims = extractAllClaims(token);
-        Object userId = claims.get("userId");
-
-        // 안전한 타입 변환: JSON에서 숫자는 다양한 Number 타입으로 올 수 있음
-        if (userId instanceof Number) {
-            return ((Number) userId).longValue();
+        Long userId = verifyToken(token).getUserId();
+        if (userId != null) {
+            return userId;
         }
         throw new IllegalArgumentException("Invalid userId in token");
     }
@@ -304,8 +420,7 @@ public class JwtService {
      * @return String 사용자 타입 (GENERAL, COMPANY, ADMIN)
      */
     public String extractUserType(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get("userType", String.class);
+        return verifyToken(token).getUserType();
     }
     
     /**
@@ -318,8 +433,7 @@ public class JwtService {
      * @return Boolean 이메일 인증 여부 (true: 인증완료, false: 미인증)
      */
     public Boolean extractEmailVerified(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get("emailVerified", Boolean.class);
+        return verifyToken(token).getEmailVerified();
     }
     
     /**
@@ -332,8 +446,7 @@ public class JwtService {
      * @return Boolean 기업 이메일 인증 여부 (true: 인증완료, false: 미인증)
      */
     public Boolean extractCompanyEmailVerified(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get("companyEmailVerified", Boolean.class);
+        return verifyToken(token).getCompanyEmailVerified();
     }
     
     /**
@@ -392,6 +505,7 @@ public class JwtService {
                 .builder()
                 .setClaims(claims)
                 .setSubject(email)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION))
                 .signWith(getSignInKey(), SignatureAlgorithm.HS256)
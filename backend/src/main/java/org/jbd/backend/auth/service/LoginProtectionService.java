@@ -0,0 +1,201 @@
+package org.jbd.backend.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.jbd.backend.auth.domain.TokenBucketLimiter;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 보호 서비스
+ *
+ * 비밀번호 해시 검증(BCrypt)은 의도적으로 느린 CPU 작업이므로 요청 스레드에서 바로 실행하지 않고
+ * 스레드 수와 대기열 크기가 제한된 전용 실행기에서 처리합니다. 대기열이 가득 차거나 대기 시간이
+ * queue-timeout을 넘으면 검증을 시작하지 않고 즉시 거절해, 로그인 폭주가 서블릿 스레드 전체를 점유하지 않게 합니다.
+ *
+ * 해시 검증 전에는 IP별·계정별 토큰 버킷으로 시도 횟수를 제한합니다.
+ *
+ * 메트릭:
+ * - auth.login.hash.time: 해시 검증 소요 시간
+ * - auth.login.rejected{reason=ip|account|queue_full|queue_timeout}: 거절 횟수
+ * - auth.login.queue.size / auth.login.active: 대기 중·실행 중인 검증 수
+ */
+@Service
+public class LoginProtectionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginProtectionService.class);
+
+    private static final int NOT_STARTED = 0;
+    private static final int STARTED = 1;
+    private static final int CANCELLED = 2;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor hashExecutor;
+    private final long queueTimeoutMillis;
+    private final TokenBucketLimiter ipLimiter;
+    private final TokenBucketLimiter accountLimiter;
+    private final MeterRegistry meterRegistry;
+    private final Timer hashTimer;
+
+    public LoginProtectionService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${app.login.hash-threads:0}") int hashThreads,
+            @Value("${app.login.queue-capacity:64}") int queueCapacity,
+            @Value("${app.login.queue-timeout-ms:2000}") long queueTimeoutMillis,
+            @Value("${app.login.ip.capacity:20}") int ipCapacity,
+            @Value("${app.login.ip.refill-seconds:6}") long ipRefillSeconds,
+            @Value("${app.login.account.capacity:5}") int accountCapacity,
+            @Value("${app.login.account.refill-seconds:60}") long accountRefillSeconds,
+            @Value("${app.login.max-tracked-keys:100000}") int maxTrackedKeys
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.ipLimiter = new TokenBucketLimiter(ipCapacity, TimeUnit.SECONDS.toNanos(ipRefillSeconds),
+                maxTrackedKeys, System::nanoTime);
+        this.accountLimiter = new TokenBucketLimiter(accountCapacity, TimeUnit.SECONDS.toNanos(accountRefillSeconds),
+                maxTrackedKeys, System::nanoTime);
+        this.hashTimer = Timer.builder("auth.login.hash.time")
+                .description("비밀번호 해시 검증 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.queue.size", hashExecutor, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("auth.login.active", hashExecutor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 횟수를 IP와 계정 기준으로 제한합니다.
+     *
+     * @param clientIp 요청 IP
+     * @param email 로그인 시도 이메일
+     * @throws BusinessException 허용량을 초과한 경우 (TOO_MANY_LOGIN_ATTEMPTS)
+     */
+    public void checkRateLimit(String clientIp, String email) {
+        if (clientIp != null && !ipLimiter.tryAcquire(clientIp)) {
+            reject("ip", ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        if (email != null && !accountLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT))) {
+            reject("account", ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    /**
+     * 비밀번호 해시를 전용 실행기에서 비교합니다.
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 해시 검증이 포함된 작업을 전용 실행기에서 실행하고 결과를 기다립니다.
+     * 작업에서 발생한 런타임 예외(BadCredentialsException 등)는 그대로 전달됩니다.
+     *
+     * queue-timeout 안에 실행이 시작되지 않은 작업은 취소되어 실행되지 않으며,
+     * 이미 시작된 작업은 완료될 때까지 기다립니다.
+     *
+     * @throws BusinessException 대기열이 가득 찼거나 대기 시간이 초과된 경우 (LOGIN_BUSY)
+     */
+    public <T> T execute(Supplier<T> task) {
+        AtomicInteger state = new AtomicInteger(NOT_STARTED);
+        Future<T> future;
+        try {
+            future = hashExecutor.submit(() -> {
+                if (!state.compareAndSet(NOT_STARTED, STARTED)) {
+                    return null;
+                }
+                return hashTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            return reject("queue_full", ErrorCode.LOGIN_BUSY);
+        }
+
+        try {
+            try {
+                return future.get(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (state.compareAndSet(NOT_STARTED, CANCELLED)) {
+                    future.cancel(false);
+                    // 취소된 작업이 대기열 자리를 차지하지 않도록 즉시 제거
+                    hashExecutor.remove((Runnable) future);
+                    return reject("queue_timeout", ErrorCode.LOGIN_BUSY);
+                }
+                return future.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new BusinessException(ErrorCode.LOGIN_BUSY);
+        }
+    }
+
+    /**
+     * 한동안 시도가 없어 가득 찬 버킷을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.login.idle-eviction-ms:300000}")
+    public void evictIdleBuckets() {
+        int removed = ipLimiter.evictIdle() + accountLimiter.evictIdle();
+        if (removed > 0) {
+            logger.debug("유휴 로그인 제한 버킷 {}개 정리", removed);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    private <T> T reject(String reason, ErrorCode errorCode) {
+        Counter.builder("auth.login.rejected")
+                .description("제한·과부하로 거절된 로그인 시도")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        throw new BusinessException(errorCode);
+    }
+
+    private static final class HashThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "login-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
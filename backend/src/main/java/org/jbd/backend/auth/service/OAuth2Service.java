@@ -1,6 +1,6 @@
 package org.jbd.backend.auth.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jbd.backend.auth.client.GoogleOAuthClient;
 import org.jbd.backend.auth.dto.AuthenticationResponse;
 import org.jbd.backend.auth.dto.OAuth2LoginRequest;
 import org.jbd.backend.auth.dto.OAuth2UserInfo;
@@ -14,15 +14,9 @@ import org.jbd.backend.user.dto.UserResponseDto;
 import org.jbd.backend.user.repository.UserRepository;
 import org.jbd.backend.user.repository.UserProfileRepository;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
-import java.time.LocalDateTime;
 import java.util.Map;
 
 @Service
@@ -32,37 +26,30 @@ public class OAuth2Service {
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
     private final JwtService jwtService;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
+    private final GoogleOAuthClient googleOAuthClient;
     
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String googleClientId;
     
-    @Value("${spring.security.oauth2.client.registration.google.client-secret}")
-    private String googleClientSecret;
-    
-    private static final String GOOGLE_TOKEN_INFO_URL = "https://www.googleapis.com/oauth2/v3/tokeninfo?id_token=";
-    private static final String GOOGLE_USER_INFO_URL = "https://www.googleapis.com/oauth2/v2/userinfo";
-    private static final String GOOGLE_TOKEN_URL = "https://oauth2.googleapis.com/token";
-    
     public OAuth2Service(
             UserRepository userRepository,
             UserProfileRepository userProfileRepository,
             JwtService jwtService,
-            RestTemplate restTemplate,
-            ObjectMapper objectMapper
+            GoogleIdTokenVerifier googleIdTokenVerifier,
+            GoogleOAuthClient googleOAuthClient
     ) {
         this.userRepository = userRepository;
         this.userProfileRepository = userProfileRepository;
         this.jwtService = jwtService;
-        this.restTemplate = restTemplate;
-        this.objectMapper = objectMapper;
+        this.googleIdTokenVerifier = googleIdTokenVerifier;
+        this.googleOAuthClient = googleOAuthClient;
     }
     
     public AuthenticationResponse authenticateWithGoogle(OAuth2LoginRequest request) {
         try {
-            // Google ID 토큰 검증
-            OAuth2UserInfo userInfo = verifyGoogleIdToken(request.getIdToken());
+            // Google ID 토큰 검증 (캐시된 공개 키로 로컬 검증)
+            OAuth2UserInfo userInfo = googleIdTokenVerifier.verify(request.getIdToken());
             
             // 사용자 조회 또는 생성
             User user = findOrCreateUser(userInfo, UserType.GENERAL);
@@ -82,40 +69,6 @@ public class OAuth2Service {
         }
     }
     
-    private OAuth2UserInfo verifyGoogleIdToken(String idToken) {
-        try {
-            // Google의 tokeninfo 엔드포인트를 사용하여 토큰 검증
-            String url = GOOGLE_TOKEN_INFO_URL + idToken;
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-            
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new BusinessException(ErrorCode.INVALID_OAUTH2_TOKEN);
-            }
-            
-            Map<String, Object> tokenInfo = response.getBody();
-            
-            // 토큰의 audience(aud) 확인
-            String audience = (String) tokenInfo.get("aud");
-            if (!googleClientId.equals(audience)) {
-                throw new BusinessException(ErrorCode.INVALID_OAUTH2_TOKEN);
-            }
-            
-            // 토큰 만료 확인
-            String exp = (String) tokenInfo.get("exp");
-            if (exp != null) {
-                long expTime = Long.parseLong(exp);
-                if (System.currentTimeMillis() / 1000 > expTime) {
-                    throw new BusinessException(ErrorCode.EXPIRED_OAUTH2_TOKEN);
-                }
-            }
-            
-            return new OAuth2UserInfo(tokenInfo);
-            
-        } catch (Exception e) {
-            throw new BusinessException(ErrorCode.OAUTH2_AUTHENTICATION_FAILED);
-        }
-    }
-    
     private UserType parseUserTypeFromState(String state) {
         if (state != null && state.contains("|")) {
             String[] parts = state.split("\\|");
@@ -251,11 +204,11 @@ public class OAuth2Service {
             UserType userType = parseUserTypeFromState(state);
             String action = parseActionFromState(state);
             
-            // Step 2: Exchange authorization code for access token
-            Map<String, Object> tokenResponse = exchangeCodeForToken(code, redirectUri);
+            // Step 2: Exchange authorization code for tokens
+            Map<String, Object> tokenResponse = googleOAuthClient.exchangeCode(code, redirectUri);
             
-            // Step 3: Get user info using access token
-            OAuth2UserInfo userInfo = getUserInfoFromGoogle((String) tokenResponse.get("access_token"));
+            // Step 3: Read user info from the ID token (userinfo 호출은 id_token이 없을 때만)
+            OAuth2UserInfo userInfo = resolveUserInfo(tokenResponse);
             
             // Step 4: Handle login vs signup
             User user;
@@ -309,57 +262,11 @@ public class OAuth2Service {
         }
     }
     
-    private Map<String, Object> exchangeCodeForToken(String code, String redirectUri) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(org.springframework.http.MediaType.APPLICATION_FORM_URLENCODED);
-            
-            String requestBody = "client_id=" + googleClientId +
-                    "&client_secret=" + googleClientSecret +
-                    "&code=" + code +
-                    "&grant_type=authorization_code" +
-                    "&redirect_uri=" + redirectUri;
-            
-            HttpEntity<String> request = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    GOOGLE_TOKEN_URL, 
-                    HttpMethod.POST, 
-                    request, 
-                    Map.class
-            );
-            
-            if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
-                throw new BusinessException(ErrorCode.OAUTH2_AUTHENTICATION_FAILED);
-            }
-            
-            return response.getBody();
-            
-        } catch (Exception e) {
-            throw new BusinessException(ErrorCode.OAUTH2_AUTHENTICATION_FAILED);
-        }
-    }
-    
-    private OAuth2UserInfo getUserInfoFromGoogle(String accessToken) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setBearerAuth(accessToken);
-            
-            HttpEntity<String> request = new HttpEntity<>(headers);
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    GOOGLE_USER_INFO_URL, 
-                    HttpMethod.GET, 
-                    request, 
-                    Map.class
-            );
-            
-            if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
-                throw new BusinessException(ErrorCode.OAUTH2_AUTHENTICATION_FAILED);
-            }
-            
-            return new OAuth2UserInfo(response.getBody());
-            
-        } catch (Exception e) {
-            throw new BusinessException(ErrorCode.OAUTH2_AUTHENTICATION_FAILED);
+    private OAuth2UserInfo resolveUserInfo(Map<String, Object> tokenResponse) {
+        Object idToken = tokenResponse.get("id_token");
+        if (idToken instanceof String token) {
+            return googleIdTokenVerifier.verify(token);
         }
+        return new OAuth2UserInfo(googleOAuthClient.fetchUserInfo((String) tokenResponse.get("access_token")));
     }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package org.jbd.backend.auth.service;
+
+import org.jbd.backend.common.util.TransactionUtils;
+import org.jbd.backend.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 인증 필터용 사용자 스냅샷 캐시
+ *
+ * JWT 인증 필터가 요청마다 사용자 테이블을 조회하지 않도록 이메일별 {@link AuthenticatedPrincipal}을
+ * 짧은 TTL 동안 보관합니다. 잠금·해제, 탈퇴, 유형 전환, 비밀번호 변경 시에는
+ * {@link #evictAfterCommit(String)}으로 커밋 직후 제거하므로 TTL은 다른 경로의 변경에 대한 안전망입니다.
+ *
+ * 제거 이전에 시작된 조회가 옛 값을 다시 넣지 않도록, 조회 시작 시점의 제거 세대를 확인한 뒤에만 저장합니다.
+ */
+@Component
+public class PrincipalCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrincipalCache.class);
+
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    /** 제거가 일어날 때마다 증가 */
+    private final AtomicLong evictionGeneration = new AtomicLong();
+
+    @Autowired
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${jwt.principal-cache.ttl-seconds:30}") long ttlSeconds,
+                          @Value("${jwt.principal-cache.max-entries:10000}") int maxEntries) {
+        this(userRepository, ttlSeconds, maxEntries, System::nanoTime);
+    }
+
+    PrincipalCache(UserRepository userRepository, long ttlSeconds, int maxEntries, LongSupplier nanoClock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries는 1 이상이어야 합니다.");
+        }
+        this.userRepository = userRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0, ttlSeconds));
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 이메일로 사용자 스냅샷을 조회합니다. 캐시에 없거나 TTL이 지났으면 DB에서 한 번 읽습니다.
+     *
+     * @param email 사용자 이메일 (JWT subject)
+     * @return 사용자 스냅샷, 탈퇴했거나 존재하지 않으면 null
+     */
+    public AuthenticatedPrincipal get(String email) {
+        long now = nanoClock.getAsLong();
+        Entry entry = entries.get(email);
+        if (entry != null && now - entry.loadedAtNanos < ttlNanos) {
+            return entry.principal;
+        }
+
+        long generation = evictionGeneration.get();
+        AuthenticatedPrincipal principal = userRepository.findByEmailAndIsDeletedFalse(email)
+                .map(AuthenticatedPrincipal::from)
+                .orElse(null);
+        if (principal == null) {
+            entries.remove(email);
+            return null;
+        }
+
+        if (entries.size() >= maxEntries) {
+            BoundedExpiringMaps.evict(entries, maxEntries, stale -> now - stale.loadedAtNanos >= ttlNanos);
+        }
+        Entry loaded = new Entry(principal, now);
+        entries.put(email, loaded);
+        if (evictionGeneration.get() != generation) {
+            // 조회 도중 사용자 변경이 커밋됨: 옛 값일 수 있으므로 캐시하지 않음
+            entries.remove(email, loaded);
+        }
+        return principal;
+    }
+
+    /**
+     * 사용자 스냅샷을 즉시 제거합니다.
+     */
+    public void evict(String email) {
+        evictionGeneration.incrementAndGet();
+        entries.remove(email);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 사용자 스냅샷을 제거합니다.
+     * 커밋 전에 제거하면 동시 요청이 변경 전 값을 다시 캐시할 수 있으므로 커밋 이후에 반영합니다.
+     *
+     * @param email 변경된 사용자의 이메일
+     */
+    public void evictAfterCommit(String email) {
+        TransactionUtils.runAfterCommit(() -> {
+            evict(email);
+            logger.debug("인증 사용자 캐시 제거: {}", email);
+        });
+    }
+
+    public void clear() {
+        evictionGeneration.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final AuthenticatedPrincipal principal;
+        private final long loadedAtNanos;
+
+        private Entry(AuthenticatedPrincipal principal, long loadedAtNanos) {
+            this.principal = principal;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.jbd.backend.auth.service;
+
+import org.jbd.backend.auth.domain.RevocationBloomFilter;
+import org.jbd.backend.auth.domain.RevokedToken;
+import org.jbd.backend.auth.repository.RevokedTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * JWT 토큰 폐기(revocation) 서비스
+ *
+ * 로그아웃된 토큰의 ID(jti)를 만료 시각까지 revoked_tokens 테이블에 보관하고,
+ * 인메모리 Bloom filter로 "폐기되지 않음"을 I/O 없이 판정합니다.
+ * 필터가 양성일 때만 기본키 조회로 실제 폐기 여부를 확인합니다.
+ *
+ * 여러 노드 간에는 필터 비트를 주고받지 않고, 각 노드가 주기적으로 마지막 동기화 이후
+ * 폐기된 jti만 (revoked_at 인덱스 범위 조회) 읽어 자신의 필터에 추가합니다.
+ * 만료된 행은 주기적으로 삭제하고 남은 jti로 필터를 재구축해 오탐률이 누적되지 않게 합니다.
+ *
+ * 사용자 단위 일괄 무효화(비밀번호 변경, 계정 잠금·탈퇴)는 users.tokens_invalid_before로 처리되며
+ * {@link PrincipalCache} 스냅샷을 통해 확인됩니다.
+ *
+ * {@link #isRevoked}는 모든 요청에서 호출되므로 트랜잭션을 열지 않습니다.
+ * 필터가 양성일 때의 기본키 조회만 저장소에 접근합니다.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    /** 노드 간 시계 오차와 커밋 지연을 고려해 동기화 구간을 겹치게 조회 */
+    private static final long SYNC_OVERLAP_SECONDS = 5;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.revocation.expected-insertions:100000}")
+    private long expectedInsertions = 100_000;
+
+    @Value("${jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    private volatile RevocationBloomFilter filter;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository) {
+        this.revokedTokenRepository = revokedTokenRepository;
+    }
+
+    /**
+     * 검증된 토큰을 만료 시각까지 폐기합니다. jti가 없는 이전 형식의 토큰은 폐기할 수 없습니다.
+     *
+     * @param verified verifyToken으로 얻은 검증 결과
+     * @return 폐기되었으면 true
+     */
+    @Transactional
+    public boolean revoke(VerifiedToken verified) {
+        String jti = verified.getId();
+        if (jti == null || verified.getExpiresAt() == null) {
+            return false;
+        }
+        if (!revokedTokenRepository.existsById(jti)) {
+            revokedTokenRepository.save(new RevokedToken(jti, verified.getUserId(),
+                    LocalDateTime.ofInstant(verified.getExpiresAt(), ZoneId.systemDefault())));
+        }
+        getFilter().put(jti);
+        return true;
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다. 대부분의 토큰은 Bloom filter에서 바로 false로 판정됩니다.
+     *
+     * @param verified verifyToken으로 얻은 검증 결과
+     * @return 폐기되었으면 true
+     */
+    public boolean isRevoked(VerifiedToken verified) {
+        String jti = verified.getId();
+        if (jti == null || !getFilter().mightContain(jti)) {
+            return false;
+        }
+        return revokedTokenRepository.existsById(jti);
+    }
+
+    /**
+     * 저장소의 유효한 폐기 토큰으로 필터를 새로 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        RevocationBloomFilter rebuilt = newFilter();
+        List<String> jtis = revokedTokenRepository.findActiveJtis(startedAt);
+        jtis.forEach(rebuilt::put);
+        filter = rebuilt;
+        lastSyncedAt = startedAt;
+        // 재구축 도중 폐기된 토큰 반영
+        sync();
+        logger.info("토큰 폐기 필터 재구축 완료: {}건 (비트 {}개, 해시 {}개)",
+                jtis.size(), rebuilt.getBitSize(), rebuilt.getHashCount());
+    }
+
+    /**
+     * 마지막 동기화 이후 다른 노드에서 폐기된 토큰을 필터에 추가합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public void sync() {
+        LocalDateTime since = lastSyncedAt;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<String> jtis = revokedTokenRepository.findJtisRevokedSince(since.minusSeconds(SYNC_OVERLAP_SECONDS), now);
+        RevocationBloomFilter current = getFilter();
+        jtis.forEach(current::put);
+        lastSyncedAt = now;
+    }
+
+    /**
+     * 만료된 폐기 기록을 삭제하고 필터를 재구축합니다.
+     */
+    @Transactional
+    @Scheduled(cron = "${jwt.revocation.cleanup-cron:0 15 * * * *}")
+    public void cleanup() {
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.info("만료된 폐기 토큰 {}건 삭제", deleted);
+        }
+        rebuild();
+    }
+
+    private RevocationBloomFilter getFilter() {
+        RevocationBloomFilter current = filter;
+        if (current == null) {
+            synchronized (this) {
+                if (filter == null) {
+                    filter = newFilter();
+                }
+                current = filter;
+            }
+        }
+        return current;
+    }
+
+    private RevocationBloomFilter newFilter() {
+        return new RevocationBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+}
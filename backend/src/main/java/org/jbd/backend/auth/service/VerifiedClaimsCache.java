@@ -0,0 +1,92 @@
+package org.jbd.backend.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증을 마친 JWT 클레임 캐시
+ *
+ * 같은 토큰으로 반복되는 요청마다 HMAC 서명 검증과 JSON 파싱을 다시 하지 않도록,
+ * 검증 결과의 불변 스냅샷({@link VerifiedToken})을 토큰의 SHA-256 해시를 키로 만료 시각까지 보관합니다.
+ * 여러 요청이 같은 항목을 공유하므로 변경 가능한 jjwt Claims는 보관하지 않으며, 원본 토큰 문자열도 보관하지 않습니다.
+ *
+ * 조회는 락 없이 동작하며, 최대 개수를 넘으면 만료된 항목을 먼저 정리하고
+ * 그래도 넘치면 임의의 항목을 일부 제거합니다.
+ */
+public class VerifiedClaimsCache {
+
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public VerifiedClaimsCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries는 1 이상이어야 합니다.");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 만료되지 않은 검증 결과를 반환합니다. 없거나 만료되었으면 null.
+     */
+    public VerifiedToken get(String token, long nowMillis) {
+        String key = hash(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis <= nowMillis) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.token;
+    }
+
+    /**
+     * 검증된 클레임을 저장합니다. 만료 시각이 없는 토큰은 저장하지 않습니다.
+     */
+    public void put(String token, VerifiedToken verified) {
+        if (verified.getExpiresAt() == null) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            long nowMillis = System.currentTimeMillis();
+            BoundedExpiringMaps.evict(entries, maxEntries, entry -> entry.expiresAtMillis <= nowMillis);
+        }
+        entries.put(hash(token), new Entry(verified, verified.getExpiresAt().toEpochMilli()));
+    }
+
+    public void invalidate(String token) {
+        entries.remove(hash(token));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static final class Entry {
+        private final VerifiedToken token;
+        private final long expiresAtMillis;
+
+        private Entry(VerifiedToken token, long expiresAtMillis) {
+            this.token = token;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
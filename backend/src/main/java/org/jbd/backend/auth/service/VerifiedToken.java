@@ -0,0 +1,93 @@
+package org.jbd.backend.auth.service;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT의 불변 스냅샷
+ *
+ * 검증 결과는 여러 요청이 공유하는 캐시에 보관되므로, 변경 가능한 jjwt {@link Claims} 대신
+ * 인증 판단에 필요한 값만 복사해 둡니다.
+ */
+public final class VerifiedToken {
+
+    private final String id;
+    private final String subject;
+    private final Long userId;
+    private final String userType;
+    private final boolean admin;
+    private final Boolean emailVerified;
+    private final Boolean companyEmailVerified;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    public VerifiedToken(String id, String subject, Long userId, String userType, boolean admin,
+                         Boolean emailVerified, Boolean companyEmailVerified, Instant issuedAt, Instant expiresAt) {
+        this.id = id;
+        this.subject = subject;
+        this.userId = userId;
+        this.userType = userType;
+        this.admin = admin;
+        this.emailVerified = emailVerified;
+        this.companyEmailVerified = companyEmailVerified;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static VerifiedToken from(Claims claims) {
+        Object userId = claims.get("userId");
+        return new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                // JSON에서 숫자는 다양한 Number 타입으로 올 수 있음
+                userId instanceof Number ? ((Number) userId).longValue() : null,
+                claims.get("userType", String.class),
+                Boolean.TRUE.equals(claims.get("isAdmin", Boolean.class)),
+                claims.get("emailVerified", Boolean.class),
+                claims.get("companyEmailVerified", Boolean.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAt == null || expiresAt.toEpochMilli() <= nowMillis;
+    }
+
+    /** jti, 이전 형식의 토큰이면 null */
+    public String getId() {
+        return id;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUserType() {
+        return userType;
+    }
+
+    public boolean isAdmin() {
+        return admin;
+    }
+
+    public Boolean getEmailVerified() {
+        return emailVerified;
+    }
+
+    public Boolean getCompanyEmailVerified() {
+        return companyEmailVerified;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
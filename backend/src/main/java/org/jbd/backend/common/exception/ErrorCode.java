@@ -21,6 +21,7 @@ public enum ErrorCode {
     EMAIL_ALREADY_VERIFIED("USER_007", "이미 인증된 이메일입니다.", 409),
     EMAIL_VERIFICATION_FAILED("USER_008", "이메일 인증에 실패했습니다.", 400),
     USER_PROFILE_NOT_FOUND("USER_009", "사용자 프로필을 찾을 수 없습니다.", 404),
+    VERIFICATION_CAPACITY_EXCEEDED("USER_010", "인증 요청이 많습니다. 잠시 후 다시 시도해주세요.", 429),
     
     // 인증/인가 관련 에러 (3000번대)
     INVALID_TOKEN("AUTH_001", "유효하지 않은 토큰입니다.", 401),
@@ -32,6 +33,8 @@ public enum ErrorCode {
     INVALID_OAUTH2_TOKEN("AUTH_007", "유효하지 않은 OAuth2 토큰입니다.", 401),
     EXPIRED_OAUTH2_TOKEN("AUTH_008", "만료된 OAuth2 토큰입니다.", 401),
     INVALID_OAUTH2_USER_INFO("AUTH_009", "유효하지 않은 OAuth2 사용자 정보입니다.", 400),
+    TOO_MANY_LOGIN_ATTEMPTS("AUTH_010", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", 429),
+    LOGIN_BUSY("AUTH_011", "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 503),
     
     // 채용공고 관련 에러 (4000번대)
     JOB_POSTING_NOT_FOUND("JOB_001", "채용공고를 찾을 수 없습니다.", 404),
@@ -0,0 +1,130 @@
+package org.jbd.backend.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 파일 저장소 정리 유틸리티 (수정 시각 기준 LRU)
+ *
+ * 조회할 때마다 {@link #touch}로 수정 시각을 갱신하는 파일 저장소에서, 만료된 파일을 삭제하고
+ * 남은 크기가 상한을 넘으면 오래 쓰이지 않은 파일부터 삭제합니다.
+ * 임시 파일({@link #TEMP_SUFFIX})에 쓴 뒤 이동하는 저장소를 전제로 하며, 중단되어 남은 임시 파일도 정리합니다.
+ */
+@Slf4j
+public final class LruFileSweeper {
+
+    /** 쓰는 중인 파일의 접미사 */
+    public static final String TEMP_SUFFIX = ".tmp";
+
+    private static final long STALE_TEMP_MILLIS = 60_000;
+
+    private LruFileSweeper() {
+    }
+
+    /**
+     * 파일의 만료 여부
+     */
+    @FunctionalInterface
+    public interface Expiry {
+
+        /**
+         * @param file 저장된 파일 (임시 파일 제외)
+         * @param lastUsedMillis 마지막 사용 시각 (수정 시각)
+         */
+        boolean isExpired(Path file, long lastUsedMillis);
+    }
+
+    /**
+     * 디렉터리를 depth 단계까지 훑어 만료된 파일과 상한을 넘는 오래된 파일을 삭제합니다.
+     *
+     * @param directory 저장소 디렉터리
+     * @param depth 탐색 깊이
+     * @param maxBytes 남길 전체 크기 상한 (바이트)
+     * @param nowMillis 현재 시각 (epoch ms)
+     * @param expiry 만료 여부
+     * @return 삭제한 파일 수
+     */
+    public static int sweep(Path directory, int depth, long maxBytes, long nowMillis, Expiry expiry) {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        List<LiveFile> live = new ArrayList<>();
+        int deleted = 0;
+        try (Stream<Path> files = Files.walk(directory, depth)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    continue;
+                }
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                long lastUsedMillis = attributes.lastModifiedTime().toMillis();
+                if (file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                    // 쓰는 중인 임시 파일은 건드리지 않고, 중단되어 남은 파일만 삭제
+                    if (nowMillis - lastUsedMillis > STALE_TEMP_MILLIS) {
+                        delete(file);
+                        deleted++;
+                    }
+                    continue;
+                }
+                if (expiry.isExpired(file, lastUsedMillis)) {
+                    delete(file);
+                    deleted++;
+                } else {
+                    live.add(new LiveFile(file, attributes.size(), lastUsedMillis));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to scan directory {}: {}", directory, e.getMessage());
+            return deleted;
+        }
+
+        long totalBytes = live.stream().mapToLong(LiveFile::size).sum();
+        if (totalBytes > maxBytes) {
+            live.sort(Comparator.comparingLong(LiveFile::lastUsedMillis));
+            for (LiveFile file : live) {
+                if (totalBytes <= maxBytes) {
+                    break;
+                }
+                delete(file.path());
+                totalBytes -= file.size();
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 파일의 수정 시각을 갱신해 정리 대상에서 뒤로 미룹니다. 실패해도 정리 순서에만 영향을 주므로 무시합니다.
+     */
+    public static void touch(Path file, long nowMillis) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(nowMillis));
+        } catch (IOException ignored) {
+            // 정리 순서에만 영향을 주므로 무시
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private record LiveFile(Path path, long size, long lastUsedMillis) {
+    }
+}
@@ -0,0 +1,34 @@
+package org.jbd.backend.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 동기화 유틸리티
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 작업을 실행합니다. 롤백되면 실행하지 않습니다.
+     * 활성 트랜잭션이 없으면 즉시 실행합니다.
+     *
+     * 캐시·색인·인메모리 집계처럼 DB 밖의 상태를 바꾸는 작업이 롤백된 변경을 반영하지 않도록 할 때 사용합니다.
+     *
+     * @param action 실행할 작업
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -2,7 +2,7 @@ package org.jbd.backend.community.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.auth.service.CurrentUser;
 import org.jbd.backend.common.dto.ApiResponse;
 import org.jbd.backend.community.dto.CommentDto;
 import org.jbd.backend.community.service.CommentService;
@@ -20,16 +20,13 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
-    private final JwtService jwtService;
+    private final CurrentUser currentUser;
 
     @PostMapping
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<CommentDto.Response>> createComment(
-            @RequestHeader("Authorization") String authHeader,
             @Valid @RequestBody CommentDto.CreateRequest request) {
-        
-        String token = authHeader.substring(7);
-        String authorEmail = jwtService.extractEmail(token);
+        String authorEmail = currentUser.getEmail();
         
         CommentDto.Response response = commentService.createComment(request, authorEmail);
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -50,11 +47,8 @@ public class CommentController {
 
     @GetMapping("/author")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ApiResponse<List<CommentDto.Response>>> getCommentsByAuthor(
-            @RequestHeader("Authorization") String authHeader) {
-        
-        String token = authHeader.substring(7);
-        String authorEmail = jwtService.extractEmail(token);
+    public ResponseEntity<ApiResponse<List<CommentDto.Response>>> getCommentsByAuthor() {
+        String authorEmail = currentUser.getEmail();
         
         List<CommentDto.Response> comments = commentService.getCommentsByAuthor(authorEmail);
         return ResponseEntity.ok(ApiResponse.success("내 댓글 목록 조회 성공", comments));
@@ -63,12 +57,9 @@ public class CommentController {
     @PutMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<CommentDto.Response>> updateComment(
-            @RequestHeader("Authorization") String authHeader,
             @PathVariable Long id,
             @Valid @RequestBody CommentDto.UpdateRequest request) {
-        
-        String token = authHeader.substring(7);
-        String authorEmail = jwtService.extractEmail(token);
+        String authorEmail = currentUser.getEmail();
         
         CommentDto.Response response = commentService.updateComment(id, request, authorEmail);
         return ResponseEntity.ok(ApiResponse.success("댓글이 수정되었습니다.", response));
@@ -77,11 +68,8 @@ public class CommentController {
     @DeleteMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<Void>> deleteComment(
-            @RequestHeader("Authorization") String authHeader,
             @PathVariable Long id) {
-        
-        String token = authHeader.substring(7);
-        String authorEmail = jwtService.extractEmail(token);
+        String authorEmail = currentUser.getEmail();
         
         commentService.deleteComment(id, authorEmail);
         return ResponseEntity.ok(ApiResponse.success("댓글이 삭제되었습니다."));
@@ -2,7 +2,7 @@ package org.jbd.backend.community.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.auth.service.CurrentUser;
 import org.jbd.backend.common.dto.ApiResponse;
 import org.jbd.backend.common.service.PermissionService;
 import org.jbd.backend.community.domain.Post;
@@ -37,8 +37,8 @@ public class PostController {
     /** 게시글 비즈니스 로직을 처리하는 서비스 */
     private final PostService postService;
 
-    /** JWT 토큰 관리 서비스 */
-    private final JwtService jwtService;
+    /** 현재 요청의 인증 사용자 컨텍스트 */
+    private final CurrentUser currentUser;
 
     /** 사용자 권한 검증 서비스 */
     private final PermissionService permissionService;
@@ -67,7 +67,6 @@ public class PostController {
      * 새로운 게시글을 작성합니다.
      * 로그인한 사용자만 게시글을 작성할 수 있습니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @param request 게시글 생성 요청 데이터
      *                - title: 게시글 제목 (필수)
      *                - content: 게시글 내용 (필수)
@@ -81,12 +80,9 @@ public class PostController {
     @PostMapping
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<PostDto.Response>> createPost(
-            @RequestHeader("Authorization") String authHeader,
             @Valid @RequestBody PostDto.CreateRequest request) {
-        
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
-        String authorEmail = jwtService.extractEmail(token);
+        Long userId = currentUser.getId();
+        String authorEmail = currentUser.getEmail();
         
         PostDto.Response response = postService.createPost(request, authorEmail);
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -156,7 +152,6 @@ public class PostController {
      * 게시글을 수정합니다.
      * 게시글 작성자만 수정할 수 있습니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @param id 수정할 게시글 ID
      * @param request 게시글 수정 요청 데이터
      *                - title: 수정할 제목 (선택)
@@ -171,13 +166,10 @@ public class PostController {
     @PutMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<PostDto.Response>> updatePost(
-            @RequestHeader("Authorization") String authHeader,
             @PathVariable Long id,
             @Valid @RequestBody PostDto.UpdateRequest request) {
-
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
-        String authorEmail = jwtService.extractEmail(token);
+        Long userId = currentUser.getId();
+        String authorEmail = currentUser.getEmail();
 
         // 권한 검증은 서비스 레이어에서 처리
 
@@ -189,7 +181,6 @@ public class PostController {
      * 게시글을 삭제합니다.
      * 게시글 작성자만 삭제할 수 있습니다. 삭제된 게시글은 복구할 수 없습니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @param id 삭제할 게시글 ID
      * @return ResponseEntity<ApiResponse<Void>> 삭제 완료 응답
      * @apiNote DELETE /posts/{id}
@@ -197,11 +188,8 @@ public class PostController {
     @DeleteMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<Void>> deletePost(
-            @RequestHeader("Authorization") String authHeader,
             @PathVariable Long id) {
-
-        String token = authHeader.substring(7);
-        String authorEmail = jwtService.extractEmail(token);
+        String authorEmail = currentUser.getEmail();
 
         postService.deletePost(id, authorEmail);
         return ResponseEntity.ok(ApiResponse.success("게시글이 삭제되었습니다."));
@@ -2,6 +2,7 @@ package org.jbd.backend.community.domain;
 
 import jakarta.persistence.*;
 import org.jbd.backend.common.entity.BaseEntity;
+import org.jbd.backend.community.domain.enums.PostAiStatus;
 import org.jbd.backend.user.domain.User;
 
 /**
@@ -28,7 +29,7 @@ import org.jbd.backend.user.domain.User;
  * - 모든 사용자가 게시글을 작성할 수 있음 (인증 필요)
  * - 작성자와 관리자만 게시글을 수정/삭제할 수 있음
  * - 공지사항과 상단 고정은 관리자만 설정 가능
- * - 감정 분석은 게시글 작성/수정 시 자동으로 수행됨
+ * - 감정 분석과 이미지 생성은 게시글 작성 후 AI 작업({@link PostAiJob})으로 수행되며 진행 상태는 aiStatus로 확인
  *
  * @author JBD Backend Team
  * @version 1.0
@@ -82,6 +83,10 @@ public class Post extends BaseEntity {
     @Column(name = "sentiment_label", length = 20)
     private String sentimentLabel;
     
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ai_status", length = 20)
+    private PostAiStatus aiStatus;
+    
     protected Post() {}
     
     public Post(String title, String content, User author, Category category) {
@@ -140,6 +145,10 @@ public class Post extends BaseEntity {
         this.sentimentLabel = label;
     }
     
+    public void updateAiStatus(PostAiStatus aiStatus) {
+        this.aiStatus = aiStatus;
+    }
+    
     public Long getId() {
         return id;
     }
@@ -187,4 +196,8 @@ public class Post extends BaseEntity {
     public String getSentimentLabel() {
         return sentimentLabel;
     }
+    
+    public PostAiStatus getAiStatus() {
+        return aiStatus;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package org.jbd.backend.community.domain;
+
+import jakarta.persistence.*;
+import org.jbd.backend.community.domain.enums.PostAiJobStatus;
+import org.jbd.backend.community.domain.enums.PostAiJobType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 AI 후처리 작업 (outbox)
+ *
+ * 게시글과 같은 트랜잭션에서 저장되므로 게시글이 커밋되면 작업도 반드시 남고, 롤백되면 함께 사라집니다.
+ * 워커는 PENDING이면서 실행 시각이 된 작업, 또는 임대 시간(locked_until)이 지난 RUNNING 작업을
+ * 조건부 UPDATE로 선점하고, 선점할 때마다 새 임대 소유자(lease_owner)를 기록합니다.
+ * 임대 시간 안에 끝나지 않은 작업은 다른 워커가 다시 선점해 실행할 수 있으므로 AI 호출은 최소 한 번(at-least-once) 실행됩니다.
+ * 대신 결과 반영과 상태 변경은 임대 소유자가 그대로인 경우에만 적용되어, 임대를 잃은 워커의 늦은 결과는 버려집니다.
+ */
+@Entity
+@Table(name = "post_ai_jobs",
+        indexes = {
+                @Index(name = "idx_post_ai_jobs_status_next_attempt", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_post_ai_jobs_post_id", columnList = "post_id")
+        })
+public class PostAiJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PostAiJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PostAiJobStatus status;
+
+    /** 이미지 생성 프롬프트 (감정 분석 작업은 null) */
+    @Column(length = 1000)
+    private String prompt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    /** 현재 임대를 가진 선점 토큰 (실행 중이 아니면 null) */
+    @Column(name = "lease_owner", length = 36)
+    private String leaseOwner;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected PostAiJob() {}
+
+    public PostAiJob(Long postId, PostAiJobType type, String prompt) {
+        this.postId = postId;
+        this.type = type;
+        this.prompt = prompt;
+        this.status = PostAiJobStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    /**
+     * 실패 사유를 last_error 컬럼 길이에 맞게 자릅니다.
+     */
+    public static String truncateError(String error) {
+        return error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public PostAiJobType getType() {
+        return type;
+    }
+
+    public PostAiJobStatus getStatus() {
+        return status;
+    }
+
+    public String getPrompt() {
+        return prompt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,18 @@
+package org.jbd.backend.community.domain.enums;
+
+public enum PostAiJobStatus {
+    PENDING("실행 대기"),
+    RUNNING("실행 중"),
+    SUCCEEDED("완료"),
+    FAILED("재시도 소진");
+
+    private final String description;
+
+    PostAiJobStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
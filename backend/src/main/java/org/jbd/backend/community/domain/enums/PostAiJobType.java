@@ -0,0 +1,16 @@
+package org.jbd.backend.community.domain.enums;
+
+public enum PostAiJobType {
+    SENTIMENT("감정 분석"),
+    IMAGE("이미지 생성");
+
+    private final String description;
+
+    PostAiJobType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,20 @@
+package org.jbd.backend.community.domain.enums;
+
+/**
+ * 게시글의 AI 후처리(감정 분석·이미지 생성) 진행 상태
+ */
+public enum PostAiStatus {
+    PENDING("처리 대기"),
+    COMPLETED("처리 완료"),
+    FAILED("처리 실패");
+
+    private final String description;
+
+    PostAiStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -144,6 +144,7 @@ public class PostDto {
         private String imageUrl;
         private Double sentimentScore;
         private String sentimentLabel;
+        private String aiStatus;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
 
@@ -164,6 +165,7 @@ public class PostDto {
             this.imageUrl = post.getImageUrl();
             this.sentimentScore = post.getSentimentScore();
             this.sentimentLabel = post.getSentimentLabel();
+            this.aiStatus = post.getAiStatus() != null ? post.getAiStatus().name() : null;
             this.createdAt = post.getCreatedAt();
             this.updatedAt = post.getUpdatedAt();
         }
@@ -295,6 +297,14 @@ public class PostDto {
         public void setSentimentLabel(String sentimentLabel) {
             this.sentimentLabel = sentimentLabel;
         }
+
+        public String getAiStatus() {
+            return aiStatus;
+        }
+
+        public void setAiStatus(String aiStatus) {
+            this.aiStatus = aiStatus;
+        }
     }
 
     public static class PageResponse {
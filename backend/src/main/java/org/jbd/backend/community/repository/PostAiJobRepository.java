@@ -0,0 +1,105 @@
+package org.jbd.backend.community.repository;
+
+import org.jbd.backend.community.domain.PostAiJob;
+import org.jbd.backend.community.domain.enums.PostAiJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PostAiJobRepository extends JpaRepository<PostAiJob, Long> {
+
+    /**
+     * 실행할 작업: 실행 시각이 된 PENDING 작업과 임대 시간이 지난 RUNNING 작업 (워커가 중단된 경우)
+     */
+    @Query("SELECT j.id FROM PostAiJob j " +
+           "WHERE (j.status = :pending AND j.nextAttemptAt <= :now) " +
+           "OR (j.status = :running AND j.lockedUntil < :now) " +
+           "ORDER BY j.id")
+    List<Long> findDueJobIds(@Param("pending") PostAiJobStatus pending,
+                             @Param("running") PostAiJobStatus running,
+                             @Param("now") LocalDateTime now,
+                             Pageable pageable);
+
+    /**
+     * 작업을 선점합니다. 여러 워커가 같은 작업을 조회해도 1건만 성공합니다.
+     *
+     * @param owner 이번 선점의 임대 소유자 토큰, 결과를 반영할 때 같은 값이어야 함
+     * @return 선점한 작업 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE PostAiJob j SET j.status = :running, j.lockedUntil = :lockedUntil, j.leaseOwner = :owner, " +
+           "j.attempts = j.attempts + 1, j.updatedAt = :now " +
+           "WHERE j.id = :id AND ((j.status = :pending AND j.nextAttemptAt <= :now) " +
+           "OR (j.status = :running AND j.lockedUntil < :now))")
+    int claim(@Param("id") Long id,
+              @Param("pending") PostAiJobStatus pending,
+              @Param("running") PostAiJobStatus running,
+              @Param("now") LocalDateTime now,
+              @Param("lockedUntil") LocalDateTime lockedUntil,
+              @Param("owner") String owner);
+
+    /**
+     * 임대를 가진 워커가 작업을 완료 처리합니다.
+     *
+     * @return 반영된 작업 수, 임대를 잃었으면(다른 워커가 재선점) 0
+     */
+    @Modifying
+    @Query("UPDATE PostAiJob j SET j.status = :succeeded, j.lockedUntil = NULL, j.leaseOwner = NULL, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = :running AND j.leaseOwner = :owner")
+    int markSucceeded(@Param("id") Long id,
+                      @Param("owner") String owner,
+                      @Param("running") PostAiJobStatus running,
+                      @Param("succeeded") PostAiJobStatus succeeded,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 임대를 가진 워커가 실패한 작업을 nextAttemptAt에 다시 실행하도록 대기 상태로 되돌립니다.
+     *
+     * @return 반영된 작업 수, 임대를 잃었으면 0
+     */
+    @Modifying
+    @Query("UPDATE PostAiJob j SET j.status = :pending, j.nextAttemptAt = :nextAttemptAt, j.lockedUntil = NULL, " +
+           "j.leaseOwner = NULL, j.lastError = :error, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = :running AND j.leaseOwner = :owner")
+    int markRetry(@Param("id") Long id,
+                  @Param("owner") String owner,
+                  @Param("running") PostAiJobStatus running,
+                  @Param("pending") PostAiJobStatus pending,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("error") String error,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 임대를 가진 워커가 재시도를 모두 소진한 작업을 실패로 남깁니다.
+     *
+     * @return 반영된 작업 수, 임대를 잃었으면 0
+     */
+    @Modifying
+    @Query("UPDATE PostAiJob j SET j.status = :failed, j.lockedUntil = NULL, j.leaseOwner = NULL, " +
+           "j.lastError = :error, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = :running AND j.leaseOwner = :owner")
+    int markFailed(@Param("id") Long id,
+                   @Param("owner") String owner,
+                   @Param("running") PostAiJobStatus running,
+                   @Param("failed") PostAiJobStatus failed,
+                   @Param("error") String error,
+                   @Param("now") LocalDateTime now);
+
+    long countByPostIdAndStatusIn(Long postId, Collection<PostAiJobStatus> statuses);
+
+    boolean existsByPostIdAndStatus(Long postId, PostAiJobStatus status);
+
+    /**
+     * 보관 기간이 지난 완료 작업 정리 (실패 작업은 원인 확인을 위해 남김)
+     */
+    @Modifying
+    @Query("DELETE FROM PostAiJob j WHERE j.status = :status AND j.updatedAt < :before")
+    int deleteByStatusAndUpdatedAtBefore(@Param("status") PostAiJobStatus status,
+                                         @Param("before") LocalDateTime before);
+}
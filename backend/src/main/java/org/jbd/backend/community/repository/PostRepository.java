@@ -6,6 +6,7 @@ import org.jbd.backend.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -43,6 +44,23 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     Long countByCategoryAndIsDeletedFalse(Category category);
 
+    /**
+     * 감정 분석 백필 대상 (감정 라벨이 없는 게시글을 id 순 커서로 조회)
+     */
+    @Query("SELECT p FROM Post p WHERE p.sentimentLabel IS NULL AND p.isDeleted = false AND p.id > :afterId " +
+           "ORDER BY p.id")
+    List<Post> findSentimentBackfillTargets(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 감정 라벨이 아직 없을 때만 분석 결과 저장 (백필 도중 다른 경로로 분석된 게시글은 덮어쓰지 않음)
+     *
+     * @return 갱신된 게시글 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.sentimentScore = :score, p.sentimentLabel = :label " +
+           "WHERE p.id = :id AND p.sentimentLabel IS NULL")
+    int updateSentimentIfAbsent(@Param("id") Long id, @Param("score") Double score, @Param("label") String label);
+
     // AI Statistics queries
     @Query("SELECT COUNT(p) FROM Post p WHERE p.isDeleted = false AND p.sentimentLabel IS NOT NULL")
     Long countTotalSentimentAnalyses();
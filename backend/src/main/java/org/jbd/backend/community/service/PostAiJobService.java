@@ -0,0 +1,93 @@
+package org.jbd.backend.community.service;
+
+import lombok.RequiredArgsConstructor;
+import org.jbd.backend.community.domain.Post;
+import org.jbd.backend.community.domain.PostAiJob;
+import org.jbd.backend.community.domain.enums.PostAiJobType;
+import org.jbd.backend.community.domain.enums.PostAiStatus;
+import org.jbd.backend.community.repository.PostAiJobRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 AI 후처리 작업 등록 서비스
+ *
+ * 감정 분석과 이미지 생성을 게시글 저장 트랜잭션 안에서 호출하지 않고, 같은 트랜잭션에 작업 행만 기록합니다(outbox).
+ * 실제 AI 호출은 커밋 이후 {@link PostAiJobWorker}가 처리하므로 게시글 작성은 AI 응답 시간과 무관하게 끝납니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostAiJobService {
+
+    private static final int MAX_PROMPT_LENGTH = 1000;
+
+    private final PostAiJobRepository jobRepository;
+    private final PostAiJobWorker worker;
+
+    /**
+     * 새 게시글의 감정 분석과 (필요한 경우) 이미지 생성 작업을 등록합니다.
+     *
+     * @param post 저장된 게시글
+     * @param imagePrompt 사용자 지정 이미지 프롬프트 (없으면 카테고리에 따라 자동 생성)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Post post, String imagePrompt) {
+        jobRepository.save(new PostAiJob(post.getId(), PostAiJobType.SENTIMENT, null));
+
+        String prompt = resolveImagePrompt(post, imagePrompt);
+        if (prompt != null) {
+            jobRepository.save(new PostAiJob(post.getId(), PostAiJobType.IMAGE, prompt));
+        }
+
+        post.updateAiStatus(PostAiStatus.PENDING);
+        worker.wakeUpAfterCommit();
+    }
+
+    /**
+     * 이미지 생성 프롬프트. 이미 이미지가 있거나 이미지 생성 대상 카테고리가 아니면 null
+     */
+    private String resolveImagePrompt(Post post, String imagePrompt) {
+        if (post.getImageUrl() != null && !post.getImageUrl().trim().isEmpty()) {
+            return null;
+        }
+        if (imagePrompt != null && !imagePrompt.trim().isEmpty()) {
+            return imagePrompt.length() > MAX_PROMPT_LENGTH ? imagePrompt.substring(0, MAX_PROMPT_LENGTH) : imagePrompt;
+        }
+        if (shouldGenerateImage(post.getCategory().getName())) {
+            return createImagePrompt(post.getTitle(), post.getContent());
+        }
+        return null;
+    }
+
+    /**
+     * 이미지 생성이 필요한 카테고리인지 확인
+     */
+    private boolean shouldGenerateImage(String categoryName) {
+        return categoryName != null && (
+            categoryName.contains("창작") ||
+            categoryName.contains("디자인") ||
+            categoryName.contains("프로젝트") ||
+            categoryName.contains("포트폴리오") ||
+            categoryName.equalsIgnoreCase("showcase") ||
+            categoryName.equalsIgnoreCase("creative")
+        );
+    }
+
+    /**
+     * 게시글 내용을 바탕으로 이미지 생성 프롬프트 생성
+     */
+    private String createImagePrompt(String title, String content) {
+        // 내용에서 키워드 추출하여 프롬프트 생성
+        String prompt = "A creative illustration representing: " + title;
+
+        // 내용이 너무 긴 경우 요약
+        if (content.length() > 100) {
+            prompt += ". " + content.substring(0, 100) + "...";
+        } else {
+            prompt += ". " + content;
+        }
+
+        return prompt + " in a modern, professional style";
+    }
+}
@@ -0,0 +1,317 @@
+package org.jbd.backend.community.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.ai.client.AISentimentBatcher;
+import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.dto.ImageGenerationDto;
+import org.jbd.backend.ai.dto.SentimentAnalysisDto;
+import org.jbd.backend.common.util.TransactionUtils;
+import org.jbd.backend.community.domain.Post;
+import org.jbd.backend.community.domain.PostAiJob;
+import org.jbd.backend.community.domain.enums.PostAiJobStatus;
+import org.jbd.backend.community.domain.enums.PostAiStatus;
+import org.jbd.backend.community.repository.PostAiJobRepository;
+import org.jbd.backend.community.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 AI 후처리 작업 워커
+ *
+ * 정해진 수의 워커 스레드만큼 실행할 작업을 선점해 감정 분석·이미지 생성을 수행합니다.
+ * 게시글 커밋 직후 깨우기 요청으로 바로 조회하고, 주기적인 조회로 재시도 대기 작업과 재시작·장애로 중단된 작업을 이어받습니다.
+ *
+ * AI 호출은 트랜잭션 밖에서 하고 결과 반영과 작업 상태 변경만 짧은 트랜잭션으로 처리합니다.
+ * 임대 시간이 지난 작업은 다른 워커가 다시 실행할 수 있으므로(at-least-once) 상태 변경은 선점 때 받은 임대 소유자 조건으로만 반영하고,
+ * 임대를 잃은 워커의 결과는 게시글에 쓰지 않습니다.
+ * 실패한 작업은 지수 백오프(무작위 분산 포함)로 max-attempts까지 재시도하며, 재시도를 모두 소진하면 FAILED로 남습니다.
+ * 게시글의 모든 작업이 끝나면 게시글 aiStatus를 COMPLETED(하나라도 실패하면 FAILED)로 바꿉니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostAiJobWorker {
+
+    private static final List<PostAiJobStatus> UNFINISHED = List.of(PostAiJobStatus.PENDING, PostAiJobStatus.RUNNING);
+
+    private final PostAiJobRepository jobRepository;
+    private final PostRepository postRepository;
+    private final AISentimentBatcher sentimentBatcher;
+    private final AIServiceClient aiServiceClient;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${community.post-ai-jobs.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${community.post-ai-jobs.workers:4}")
+    private int workers = 4;
+
+    @Value("${community.post-ai-jobs.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${community.post-ai-jobs.retry-delay-ms:30000}")
+    private long retryDelayMillis = 30_000;
+
+    @Value("${community.post-ai-jobs.max-retry-delay-ms:1800000}")
+    private long maxRetryDelayMillis = 1_800_000;
+
+    @Value("${community.post-ai-jobs.lease-ms:600000}")
+    private long leaseMillis = 600_000;
+
+    @Value("${community.post-ai-jobs.retention-days:7}")
+    private int retentionDays = 7;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private ThreadPoolExecutor pool;
+    private ThreadPoolExecutor poller;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void start() {
+        workers = Math.max(1, workers);
+        pool = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("post-ai-job-worker"));
+        // 깨우기 요청이 몰려도 대기 중인 조회는 하나면 충분하므로 나머지는 버림
+        poller = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), daemonThreads("post-ai-job-poller"),
+                new ThreadPoolExecutor.DiscardPolicy());
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    void stop() {
+        // 실행 중이던 작업은 임대 시간이 지나면 다른 노드나 재시작 후 워커가 이어받음
+        poller.shutdownNow();
+        pool.shutdown();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 워커를 깨웁니다. 롤백되면 작업도 저장되지 않으므로 깨우지 않습니다.
+     */
+    public void wakeUpAfterCommit() {
+        TransactionUtils.runAfterCommit(this::wakeUp);
+    }
+
+    @Scheduled(fixedDelayString = "${community.post-ai-jobs.poll-interval-ms:5000}")
+    public void scheduledPoll() {
+        if (enabled) {
+            poll();
+        }
+    }
+
+    /**
+     * 비어 있는 워커 수만큼 실행할 작업을 선점해 워커 풀에 넘깁니다.
+     *
+     * @return 선점한 작업 수
+     */
+    public synchronized int poll() {
+        int free = workers - running.get();
+        if (free <= 0) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> jobIds = jobRepository.findDueJobIds(
+                PostAiJobStatus.PENDING, PostAiJobStatus.RUNNING, now, PageRequest.of(0, free));
+
+        int claimed = 0;
+        for (Long jobId : jobIds) {
+            String owner = UUID.randomUUID().toString();
+            Integer updated = transactionTemplate.execute(status -> jobRepository.claim(jobId,
+                    PostAiJobStatus.PENDING, PostAiJobStatus.RUNNING, now, now.plus(Duration.ofMillis(leaseMillis)), owner));
+            if (updated == null || updated == 0) {
+                // 다른 노드가 먼저 선점
+                continue;
+            }
+            running.incrementAndGet();
+            claimed++;
+            pool.execute(() -> {
+                try {
+                    process(jobId, owner);
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+        return claimed;
+    }
+
+    /**
+     * 보관 기간이 지난 완료 작업 정리
+     */
+    @Scheduled(cron = "${community.post-ai-jobs.cleanup-cron:0 40 3 * * *}")
+    public void purgeSucceededJobs() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status ->
+                jobRepository.deleteByStatusAndUpdatedAtBefore(PostAiJobStatus.SUCCEEDED, before));
+        log.info("게시글 AI 작업 정리: 완료 작업 {}건 삭제", deleted);
+    }
+
+    void process(Long jobId, String owner) {
+        PostAiJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        Post post = postRepository.findById(job.getPostId()).orElse(null);
+        if (post == null || post.isDeleted()) {
+            complete(job, owner, null);
+            return;
+        }
+
+        try {
+            String error = switch (job.getType()) {
+                case SENTIMENT -> analyzeSentiment(job, owner, post);
+                case IMAGE -> generateImage(job, owner);
+            };
+            if (error != null) {
+                retryOrFail(job, owner, error);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Post AI job {} ({}) failed for post {}: {}", jobId, job.getType(), post.getId(), e.getMessage());
+            retryOrFail(job, owner, e.getMessage());
+        }
+    }
+
+    /**
+     * @return 실패 사유 (성공하면 null)
+     */
+    private String analyzeSentiment(PostAiJob job, String owner, Post post) {
+        // 제목과 내용을 합쳐서 분석, 동시에 처리 중인 다른 게시글의 요청과 묶어서 전송
+        SentimentAnalysisDto.AnalyzeResponse response =
+                sentimentBatcher.analyze(post.getTitle() + " " + post.getContent(), "ko");
+        if (response == null || !response.success() || response.data() == null) {
+            return response != null ? response.message() : "감정 분석 응답이 없습니다.";
+        }
+
+        String sentimentLabel = response.data().label();
+        Double sentimentScore = response.data().score();
+        complete(job, owner, target -> {
+            // AI 서비스 응답 라벨이 null인 경우 기본값 설정
+            if (sentimentLabel == null) {
+                target.updateSentiment(0.0, "neutral");
+            } else {
+                target.updateSentiment(sentimentScore, sentimentLabel.toLowerCase());
+            }
+        });
+        log.info("Sentiment analysis completed for post: {} - Label: {}, Score: {}",
+                post.getId(), sentimentLabel, sentimentScore);
+        return null;
+    }
+
+    /**
+     * @return 실패 사유 (성공하면 null)
+     */
+    private String generateImage(PostAiJob job, String owner) {
+        ImageGenerationDto.GenerateResponse response =
+                aiServiceClient.generateImage(job.getPrompt(), "digital-art", "1024x1024", 1);
+        if (response == null || !response.isSuccess() || response.getData() == null
+                || response.getData().getImageUrl() == null || response.getData().getImageUrl().isEmpty()) {
+            return response != null ? response.getMessage() : "이미지 생성 응답이 없습니다.";
+        }
+
+        String imageUrl = response.getData().getImageUrl();
+        complete(job, owner, target -> {
+            // 작업을 기다리는 동안 작성자가 직접 이미지를 지정했으면 덮어쓰지 않음
+            if (target.getImageUrl() == null || target.getImageUrl().trim().isEmpty()) {
+                target.setImageUrl(imageUrl);
+            }
+        });
+        log.info("Image generated for post job: {} - URL: {}", job.getId(), imageUrl);
+        return null;
+    }
+
+    private void complete(PostAiJob job, String owner, Consumer<Post> result) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 상태 변경을 먼저 해 행 잠금을 잡으므로, 커밋 전까지 다른 워커가 재선점할 수 없음
+            int updated = jobRepository.markSucceeded(job.getId(), owner,
+                    PostAiJobStatus.RUNNING, PostAiJobStatus.SUCCEEDED, LocalDateTime.now());
+            if (updated == 0) {
+                log.info("Post AI job {} lost its lease, discarding result", job.getId());
+                return;
+            }
+            Post post = postRepository.findById(job.getPostId()).orElse(null);
+            if (post != null && result != null) {
+                result.accept(post);
+            }
+            refreshAiStatus(job.getPostId(), post);
+        });
+    }
+
+    private void retryOrFail(PostAiJob job, String owner, String error) {
+        String lastError = PostAiJob.truncateError(error);
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (job.getAttempts() < maxAttempts) {
+                jobRepository.markRetry(job.getId(), owner, PostAiJobStatus.RUNNING, PostAiJobStatus.PENDING,
+                        now.plus(retryDelay(job.getAttempts())), lastError, now);
+                return;
+            }
+            if (jobRepository.markFailed(job.getId(), owner, PostAiJobStatus.RUNNING, PostAiJobStatus.FAILED,
+                    lastError, now) == 0) {
+                log.info("Post AI job {} lost its lease, discarding failure", job.getId());
+                return;
+            }
+            log.warn("Post AI job {} ({}) gave up after {} attempts: {}",
+                    job.getId(), job.getType(), job.getAttempts(), error);
+            refreshAiStatus(job.getPostId(), postRepository.findById(job.getPostId()).orElse(null));
+        });
+    }
+
+    /**
+     * 시도 횟수에 따른 재시도 대기 시간. 장애 후 실패한 작업이 한꺼번에 재시도하지 않도록 절반 범위에서 무작위로 분산합니다.
+     */
+    private Duration retryDelay(int attempts) {
+        long delayMillis = retryDelayMillis << Math.min(attempts - 1, 20);
+        delayMillis = Math.min(delayMillis, maxRetryDelayMillis);
+        return Duration.ofMillis(delayMillis / 2 + ThreadLocalRandom.current().nextLong(delayMillis / 2 + 1));
+    }
+
+    private void refreshAiStatus(Long postId, Post post) {
+        if (post == null || jobRepository.countByPostIdAndStatusIn(postId, UNFINISHED) > 0) {
+            return;
+        }
+        post.updateAiStatus(jobRepository.existsByPostIdAndStatus(postId, PostAiJobStatus.FAILED)
+                ? PostAiStatus.FAILED : PostAiStatus.COMPLETED);
+    }
+
+    private void wakeUp() {
+        if (!enabled) {
+            return;
+        }
+        poller.execute(() -> {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                log.warn("Post AI job poll failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package org.jbd.backend.community.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.ai.client.AISentimentBatcher;
+import org.jbd.backend.ai.dto.SentimentAnalysisDto;
+import org.jbd.backend.community.domain.Post;
+import org.jbd.backend.community.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 감정 분석 결과가 없는 게시글의 일괄 재분석(백필) 서비스
+ *
+ * AI 서비스 장애 등으로 감정 라벨 없이 저장된 게시글을 id 순 청크로 읽어 {@link AISentimentBatcher}로 한꺼번에 분석합니다.
+ * AI 호출은 트랜잭션 밖에서 하고, 결과 저장만 청크마다 별도 트랜잭션으로 처리합니다.
+ * 분석에 실패한 게시글은 라벨 없이 남겨 다음 실행에서 다시 시도합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SentimentBackfillService {
+
+    private final PostRepository postRepository;
+    private final AISentimentBatcher sentimentBatcher;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${community.sentiment-backfill.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${community.sentiment-backfill.chunk-size:64}")
+    private int chunkSize = 64;
+
+    @Scheduled(cron = "${community.sentiment-backfill.cron:0 0 5 * * *}")
+    public void scheduledBackfill() {
+        if (enabled) {
+            backfill();
+        }
+    }
+
+    /**
+     * 감정 라벨이 없는 모든 게시글을 청크 단위로 재분석
+     *
+     * @return 감정 정보가 저장된 게시글 수 (이미 실행 중이면 0)
+     */
+    public int backfill() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("감정 분석 백필이 이미 실행 중입니다.");
+            return 0;
+        }
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            long afterPostId = 0L;
+            int scanned = 0;
+            int updated = 0;
+
+            while (true) {
+                List<Post> posts = postRepository.findSentimentBackfillTargets(
+                        afterPostId, PageRequest.of(0, chunkSize));
+                if (posts.isEmpty()) {
+                    break;
+                }
+
+                List<SentimentAnalysisDto.AnalyzeResponse> responses = sentimentBatcher.analyzeAll(posts.stream()
+                        .map(post -> new SentimentAnalysisDto.AnalyzeRequest(
+                                post.getTitle() + " " + post.getContent(), "ko"))
+                        .toList());
+                Integer saved = transactionTemplate.execute(status -> saveResults(posts, responses));
+                updated += saved != null ? saved : 0;
+                scanned += posts.size();
+                afterPostId = posts.get(posts.size() - 1).getId();
+                log.info("감정 분석 백필 진행: {}건 조회, {}건 저장", scanned, updated);
+            }
+
+            log.info("감정 분석 백필 완료: 총 {}건 조회, {}건 저장", scanned, updated);
+            return updated;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int saveResults(List<Post> posts, List<SentimentAnalysisDto.AnalyzeResponse> responses) {
+        int updated = 0;
+        for (int i = 0; i < posts.size(); i++) {
+            SentimentAnalysisDto.AnalyzeResponse response = responses.get(i);
+            if (response == null || !response.success() || response.data() == null) {
+                continue;
+            }
+            // 게시글 작성 시와 같은 규칙: 라벨이 없으면 중립, 라벨은 소문자로 저장
+            String label = response.data().label();
+            updated += label == null
+                    ? postRepository.updateSentimentIfAbsent(posts.get(i).getId(), 0.0, "neutral")
+                    : postRepository.updateSentimentIfAbsent(posts.get(i).getId(), response.data().score(),
+                            label.toLowerCase());
+        }
+        return updated;
+    }
+}
@@ -1,13 +1,11 @@
 package org.jbd.backend.community.service.impl;
 
-import org.jbd.backend.ai.client.AIServiceClient;
-import org.jbd.backend.ai.dto.ImageGenerationDto;
-import org.jbd.backend.ai.dto.SentimentAnalysisDto;
 import org.jbd.backend.community.domain.Category;
 import org.jbd.backend.community.domain.Post;
 import org.jbd.backend.community.dto.PostDto;
 import org.jbd.backend.community.repository.CategoryRepository;
 import org.jbd.backend.community.repository.PostRepository;
+import org.jbd.backend.community.service.PostAiJobService;
 import org.jbd.backend.community.service.PostService;
 import org.jbd.backend.common.exception.ResourceNotFoundException;
 import org.jbd.backend.user.domain.User;
@@ -29,14 +27,14 @@ public class PostServiceImpl implements PostService {
     private final PostRepository postRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
-    private final AIServiceClient aiServiceClient;
+    private final PostAiJobService postAiJobService;
 
     public PostServiceImpl(PostRepository postRepository, CategoryRepository categoryRepository, 
-                          UserRepository userRepository, AIServiceClient aiServiceClient) {
+                          UserRepository userRepository, PostAiJobService postAiJobService) {
         this.postRepository = postRepository;
         this.categoryRepository = categoryRepository;
         this.userRepository = userRepository;
-        this.aiServiceClient = aiServiceClient;
+        this.postAiJobService = postAiJobService;
     }
 
     @Override
@@ -60,22 +58,10 @@ public class PostServiceImpl implements PostService {
             post.setImageUrl(request.getImageUrl());
         }
         
-        // 게시글 먼저 저장
         Post savedPost = postRepository.save(post);
         
-        // 비동기로 감정 분석 수행 (게시글 저장 후)
-        performSentimentAnalysisAsync(savedPost);
-        
-        // 특정 카테고리인 경우 이미지 생성 (이미 이미지가 있으면 건너뜀)
-        if (savedPost.getImageUrl() == null || savedPost.getImageUrl().trim().isEmpty()) {
-            // imagePrompt가 있으면 사용, 없으면 자동 생성
-            String imagePrompt = request.getImagePrompt();
-            if (imagePrompt != null && !imagePrompt.trim().isEmpty()) {
-                generateImageWithCustomPromptAsync(savedPost, imagePrompt);
-            } else {
-                generateImageIfNeededAsync(savedPost, category);
-            }
-        }
+        // 감정 분석과 이미지 생성은 같은 트랜잭션에 작업으로 기록하고 커밋 후 워커가 처리
+        postAiJobService.enqueue(savedPost, request.getImagePrompt());
         
         return new PostDto.Response(savedPost);
     }
@@ -220,161 +206,6 @@ public class PostServiceImpl implements PostService {
         return convertToPageResponse(posts, pageable);
     }
 
-    /**
-     * 게시글 감정 분석 수행
-     */
-    private void performSentimentAnalysis(Post post) {
-        try {
-            // 제목과 내용을 합쳐서 분석
-            String textToAnalyze = post.getTitle() + " " + post.getContent();
-            
-            SentimentAnalysisDto.AnalyzeResponse response = 
-                aiServiceClient.analyzeSentiment(textToAnalyze, "ko");
-            
-            if (response.success() && response.data() != null) {
-                post.updateSentiment(response.data().score(), response.data().label());
-                log.info("Sentiment analysis completed for post: {} - Label: {}, Score: {}", 
-                        post.getId(), response.data().label(), response.data().score());
-            }
-        } catch (Exception e) {
-            log.warn("Failed to analyze sentiment for post: {}, error: {}", post.getId(), e.getMessage());
-        }
-    }
-    
-    /**
-     * 특정 카테고리의 경우 이미지 생성
-     */
-    private void generateImageIfNeeded(Post post, Category category) {
-        try {
-            // 이미지 생성이 필요한 카테고리들 (예: 창작, 디자인, 프로젝트 등)
-            if (shouldGenerateImage(category.getName())) {
-                String imagePrompt = createImagePrompt(post.getTitle(), post.getContent());
-                
-                ImageGenerationDto.GenerateResponse response = 
-                    aiServiceClient.generateImage(imagePrompt, "digital-art", "1024x1024", 1);
-                
-                if (response.isSuccess() && response.getData() != null && 
-                    response.getData().getImageUrl() != null && !response.getData().getImageUrl().isEmpty()) {
-                    
-                    String imageUrl = response.getData().getImageUrl();
-                    post.setImageUrl(imageUrl);
-                    log.info("Image generated for post: {} - URL: {}", post.getId(), imageUrl);
-                }
-            }
-        } catch (Exception e) {
-            log.warn("Failed to generate image for post: {}, error: {}", post.getId(), e.getMessage());
-        }
-    }
-    
-    /**
-     * 이미지 생성이 필요한 카테고리인지 확인
-     */
-    private boolean shouldGenerateImage(String categoryName) {
-        return categoryName != null && (
-            categoryName.contains("창작") || 
-            categoryName.contains("디자인") || 
-            categoryName.contains("프로젝트") ||
-            categoryName.contains("포트폴리오") ||
-            categoryName.equalsIgnoreCase("showcase") ||
-            categoryName.equalsIgnoreCase("creative")
-        );
-    }
-    
-    /**
-     * 게시글 내용을 바탕으로 이미지 생성 프롬프트 생성
-     */
-    private String createImagePrompt(String title, String content) {
-        // 내용에서 키워드 추출하여 프롬프트 생성
-        String prompt = "A creative illustration representing: " + title;
-        
-        // 내용이 너무 긴 경우 요약
-        if (content.length() > 100) {
-            prompt += ". " + content.substring(0, 100) + "...";
-        } else {
-            prompt += ". " + content;
-        }
-        
-        return prompt + " in a modern, professional style";
-    }
-
-    /**
-     * 게시글 감정 분석 비동기 수행
-     */
-    private void performSentimentAnalysisAsync(Post post) {
-        try {
-            // 제목과 내용을 합쳐서 분석
-            String textToAnalyze = post.getTitle() + " " + post.getContent();
-            
-            SentimentAnalysisDto.AnalyzeResponse response = 
-                aiServiceClient.analyzeSentiment(textToAnalyze, "ko");
-            
-            if (response.success() && response.data() != null) {
-                String sentimentLabel = response.data().label();
-                Double sentimentScore = response.data().score();
-                
-                // AI 서비스 응답이 null인 경우 기본값 설정
-                if (sentimentLabel == null || sentimentScore == null) {
-                    log.warn("Sentiment analysis returned null data for post: {}", post.getId());
-                    post.updateSentiment(0.0, "neutral");
-                } else {
-                    post.updateSentiment(sentimentScore, sentimentLabel.toLowerCase());
-                }
-                postRepository.save(post);
-                log.info("Sentiment analysis completed for post: {} - Label: {}, Score: {}", 
-                        post.getId(), post.getSentimentLabel(), post.getSentimentScore());
-            }
-        } catch (Exception e) {
-            log.warn("Failed to analyze sentiment for post: {}, error: {}", post.getId(), e.getMessage());
-        }
-    }
-    
-    /**
-     * 특정 카테고리의 경우 이미지 생성 비동기 수행
-     */
-    private void generateImageIfNeededAsync(Post post, Category category) {
-        try {
-            // 이미지 생성이 필요한 카테고리들 (예: 창작, 디자인, 프로젝트 등)
-            if (shouldGenerateImage(category.getName())) {
-                String imagePrompt = createImagePrompt(post.getTitle(), post.getContent());
-                
-                ImageGenerationDto.GenerateResponse response = 
-                    aiServiceClient.generateImage(imagePrompt, "digital-art", "1024x1024", 1);
-                
-                if (response.isSuccess() && response.getData() != null && 
-                    response.getData().getImageUrl() != null && !response.getData().getImageUrl().isEmpty()) {
-                    
-                    String imageUrl = response.getData().getImageUrl();
-                    post.setImageUrl(imageUrl);
-                    postRepository.save(post);
-                    log.info("Image generated for post: {} - URL: {}", post.getId(), imageUrl);
-                }
-            }
-        } catch (Exception e) {
-            log.warn("Failed to generate image for post: {}, error: {}", post.getId(), e.getMessage());
-        }
-    }
-    
-    /**
-     * 사용자 지정 프롬프트로 이미지 생성 비동기 수행
-     */
-    private void generateImageWithCustomPromptAsync(Post post, String customPrompt) {
-        try {
-            ImageGenerationDto.GenerateResponse response = 
-                aiServiceClient.generateImage(customPrompt, "digital-art", "1024x1024", 1);
-            
-            if (response.isSuccess() && response.getData() != null && 
-                response.getData().getImageUrl() != null && !response.getData().getImageUrl().isEmpty()) {
-                
-                String imageUrl = response.getData().getImageUrl();
-                post.setImageUrl(imageUrl);
-                postRepository.save(post);
-                log.info("Image generated with custom prompt for post: {} - URL: {}", post.getId(), imageUrl);
-            }
-        } catch (Exception e) {
-            log.warn("Failed to generate image with custom prompt for post: {}, error: {}", post.getId(), e.getMessage());
-        }
-    }
-
     private PostDto.PageResponse convertToPageResponse(List<Post> posts, Pageable pageable) {
         PostDto.PageResponse pageResponse = new PostDto.PageResponse();
         pageResponse.setPosts(posts.stream()
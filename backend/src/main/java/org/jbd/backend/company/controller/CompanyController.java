@@ -1,17 +1,23 @@
 package org.jbd.backend.company.controller;
 
 import jakarta.validation.Valid;
-import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.auth.service.CurrentUser;
 import org.jbd.backend.common.dto.ApiResponse;
 import org.jbd.backend.company.dto.CompanyDashboardDto;
 import org.jbd.backend.company.dto.CompanyProfileDto;
 import org.jbd.backend.company.dto.CompanyUpdateDto;
 import org.jbd.backend.company.service.CompanyDashboardService;
 import org.jbd.backend.company.service.CompanyService;
+import org.jbd.backend.common.dto.PageResponse;
+import org.jbd.backend.user.domain.enums.EducationLevel;
+import org.jbd.backend.user.dto.CandidateSearchResultDto;
+import org.jbd.backend.user.service.CandidateSearchService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 기업 프로필 관리 REST API 컨트롤러
  *
@@ -36,40 +42,42 @@ public class CompanyController {
     /** 기업 대시보드 데이터를 처리하는 서비스 */
     private final CompanyDashboardService companyDashboardService;
 
-    /** JWT 토큰 관리 서비스 */
-    private final JwtService jwtService;
+    /** 인재 검색 서비스 */
+    private final CandidateSearchService candidateSearchService;
+
+    /** 현재 요청의 인증 사용자 컨텍스트 */
+    private final CurrentUser currentUser;
 
     /**
      * CompanyController 생성자
      *
      * @param companyService 기업 서비스
      * @param companyDashboardService 기업 대시보드 서비스
-     * @param jwtService JWT 토큰 서비스
+     * @param candidateSearchService 인재 검색 서비스
+     * @param currentUser 현재 요청의 인증 사용자 컨텍스트
      */
     public CompanyController(CompanyService companyService,
                            CompanyDashboardService companyDashboardService,
-                           JwtService jwtService) {
+                           CandidateSearchService candidateSearchService,
+                           CurrentUser currentUser) {
         this.companyService = companyService;
         this.companyDashboardService = companyDashboardService;
-        this.jwtService = jwtService;
+        this.candidateSearchService = candidateSearchService;
+        this.currentUser = currentUser;
     }
 
     /**
      * 기업 프로필 정보를 조회합니다.
      * 인증된 기업 사용자의 회사 프로필 정보를 반환합니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @return ResponseEntity<ApiResponse<CompanyProfileDto>> 기업 프로필 정보
      * @apiNote GET /company/profile
      * @see CompanyProfileDto
      */
     @GetMapping("/profile")
     @PreAuthorize("isAuthenticated() and hasRole('COMPANY')")
-    public ResponseEntity<ApiResponse<CompanyProfileDto>> getCompanyProfile(
-            @RequestHeader("Authorization") String authHeader
-    ) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+    public ResponseEntity<ApiResponse<CompanyProfileDto>> getCompanyProfile() {
+        Long userId = currentUser.getId();
 
         CompanyProfileDto profile = companyService.getCompanyProfile(userId);
         return ResponseEntity.ok(ApiResponse.success(profile));
@@ -79,7 +87,6 @@ public class CompanyController {
      * 기업 프로필 정보를 수정합니다.
      * 기존 기업 프로필 정보를 업데이트합니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @param updateDto 기업 정보 수정 데이터
      *                  - companyName: 회사명 (선택)
      *                  - industry: 산업군 (선택)
@@ -94,11 +101,9 @@ public class CompanyController {
     @PutMapping("/profile")
     @PreAuthorize("isAuthenticated() and hasRole('COMPANY')")
     public ResponseEntity<ApiResponse<CompanyProfileDto>> updateCompanyProfile(
-            @RequestHeader("Authorization") String authHeader,
             @Valid @RequestBody CompanyUpdateDto updateDto
     ) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+        Long userId = currentUser.getId();
 
         CompanyProfileDto updatedProfile = companyService.updateCompanyProfile(userId, updateDto);
         return ResponseEntity.ok(ApiResponse.success("기업 프로필이 수정되었습니다.", updatedProfile));
@@ -108,7 +113,6 @@ public class CompanyController {
      * 새로운 기업 프로필을 생성합니다.
      * 기업 사용자로 전환 후 최초 회사 프로필을 등록할 때 사용합니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @param updateDto 기업 정보 생성 데이터
      *                  - companyName: 회사명 (필수)
      *                  - industry: 산업군 (선택)
@@ -123,11 +127,9 @@ public class CompanyController {
     @PostMapping("/profile")
     @PreAuthorize("isAuthenticated() and hasRole('COMPANY')")
     public ResponseEntity<ApiResponse<CompanyProfileDto>> createCompanyProfile(
-            @RequestHeader("Authorization") String authHeader,
             @Valid @RequestBody CompanyUpdateDto updateDto
     ) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+        Long userId = currentUser.getId();
 
         CompanyProfileDto profile = companyService.createCompanyProfile(userId, updateDto);
         return ResponseEntity.ok(ApiResponse.success("기업 프로필이 생성되었습니다.", profile));
@@ -137,17 +139,13 @@ public class CompanyController {
      * 기업 프로필 존재 여부를 확인합니다.
      * 현재 사용자가 기업 프로필을 등록했는지 여부를 반환합니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @return ResponseEntity<ApiResponse<Boolean>> 프로필 존재 여부 (true: 존재, false: 미존재)
      * @apiNote GET /company/profile/exists
      */
     @GetMapping("/profile/exists")
     @PreAuthorize("isAuthenticated() and hasRole('COMPANY')")
-    public ResponseEntity<ApiResponse<Boolean>> hasCompanyProfile(
-            @RequestHeader("Authorization") String authHeader
-    ) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+    public ResponseEntity<ApiResponse<Boolean>> hasCompanyProfile() {
+        Long userId = currentUser.getId();
 
         boolean hasProfile = companyService.hasCompanyProfile(userId);
         return ResponseEntity.ok(ApiResponse.success(hasProfile));
@@ -157,17 +155,13 @@ public class CompanyController {
      * 기업 프로필을 삭제합니다.
      * 등록된 기업 프로필을 영구적으로 삭제합니다. 복구할 수 없습니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @return ResponseEntity<ApiResponse<Void>> 삭제 완료 응답
      * @apiNote DELETE /company/profile
      */
     @DeleteMapping("/profile")
     @PreAuthorize("isAuthenticated() and hasRole('COMPANY')")
-    public ResponseEntity<ApiResponse<Void>> deleteCompanyProfile(
-            @RequestHeader("Authorization") String authHeader
-    ) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+    public ResponseEntity<ApiResponse<Void>> deleteCompanyProfile() {
+        Long userId = currentUser.getId();
 
         companyService.deleteCompanyProfile(userId);
         return ResponseEntity.ok(ApiResponse.success("기업 프로필이 삭제되었습니다."));
@@ -177,20 +171,45 @@ public class CompanyController {
      * 기업 대시보드 종합 정보를 조회합니다.
      * 기업의 채용 현황, 통계, 최근 지원자 정보 등을 포함한 대시보드 데이터를 반환합니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @return ResponseEntity<ApiResponse<CompanyDashboardDto>> 대시보드 종합 정보
      * @apiNote GET /company/dashboard
      * @see CompanyDashboardDto
      */
     @GetMapping("/dashboard")
     @PreAuthorize("isAuthenticated() and hasRole('COMPANY')")
-    public ResponseEntity<ApiResponse<CompanyDashboardDto>> getCompanyDashboard(
-            @RequestHeader("Authorization") String authHeader
-    ) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+    public ResponseEntity<ApiResponse<CompanyDashboardDto>> getCompanyDashboard() {
+        Long userId = currentUser.getId();
 
         CompanyDashboardDto dashboard = companyDashboardService.getCompanyDashboard(userId);
         return ResponseEntity.ok(ApiResponse.success(dashboard));
     }
-}
\ No newline at end of file
+
+    /**
+     * 인재 검색 노출에 동의한 구직자를 조건으로 검색합니다.
+     * 기술 조건은 모두 보유한 사용자만 반환하며, 조건 기술 숙련도 합계·경력·학력 순으로 정렬됩니다.
+     *
+     * @param skills 모두 보유해야 하는 기술 목록 (선택, 쉼표 구분)
+     * @param minCareerMonths 최소 총 경력 개월 수 (선택)
+     * @param minEducation 최소 학력 (선택)
+     * @param certification 보유 자격증 이름 (선택)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1~100)
+     * @return ResponseEntity<ApiResponse<PageResponse<CandidateSearchResultDto>>> 인재 검색 결과
+     * @apiNote GET /company/candidates?skills=Java,Spring&minCareerMonths=24
+     * @see CandidateSearchService
+     */
+    @GetMapping("/candidates")
+    @PreAuthorize("isAuthenticated() and hasRole('COMPANY')")
+    public ResponseEntity<ApiResponse<PageResponse<CandidateSearchResultDto>>> searchCandidates(
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(required = false) Integer minCareerMonths,
+            @RequestParam(required = false) EducationLevel minEducation,
+            @RequestParam(required = false) String certification,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PageResponse<CandidateSearchResultDto> result = candidateSearchService.search(
+                skills, minCareerMonths, minEducation, certification, page, size);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+}
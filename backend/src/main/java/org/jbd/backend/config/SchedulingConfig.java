@@ -0,0 +1,34 @@
+package org.jbd.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ *
+ * 주기적으로 실행되어야 하는 백그라운드 작업(@Scheduled)을 활성화합니다.
+ *
+ * 주요 사용처:
+ * - 대시보드 취업 점수 분포 스냅샷의 주기적 저장
+ * - 기술 수요 인덱스의 만료 구간 정리
+ * - 인재 검색 색인의 일일 재구축
+ * - 폐기 토큰 Bloom filter의 노드 간 동기화 및 만료 기록 정리
+ * - 만료된 이메일 인증 토큰 정리
+ * - 유휴 로그인 시도 제한 버킷 정리
+ * - Google ID 토큰 서명 키(JWKS) 사전 갱신
+ * - AI 응답 디스크 캐시 정리
+ * - 감정 라벨이 없는 게시글의 일괄 재분석
+ * - 게시글 AI 후처리 작업 조회 및 완료 작업 정리
+ * - 챗봇 대화 기록 비동기 저장 및 유휴 세션 정리
+ * - 생성된 PDF 파일 저장소 정리
+ * - 만료된 이미지 생성 작업 결과 정리
+ *
+ * @author JBD Backend Team
+ * @version 1.0
+ * @since 2025-09-19
+ * @see EnableScheduling
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
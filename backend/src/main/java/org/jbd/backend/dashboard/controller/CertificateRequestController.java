@@ -2,7 +2,7 @@ package org.jbd.backend.dashboard.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.auth.service.CurrentUser;
 import org.jbd.backend.common.dto.ApiResponse;
 import org.jbd.backend.common.dto.PageResponse;
 import org.jbd.backend.dashboard.dto.CertificateRequestDto;
@@ -24,14 +24,13 @@ import java.util.List;
 public class CertificateRequestController {
 
     private final CertificateRequestService certificateRequestService;
-    private final JwtService jwtService;
+    private final CurrentUser currentUser;
 
     @PostMapping("/request")
     public ResponseEntity<ApiResponse<CertificateRequestDto.ResponseDto>> requestCertificate(
-            @RequestHeader("Authorization") String token,
             @Valid @RequestBody CertificateRequestDto.CreateDto dto) {
         try {
-            Long userId = jwtService.extractUserId(token.substring(7));
+            Long userId = currentUser.getId();
             CertificateRequestDto.ResponseDto response = certificateRequestService.requestCertificate(userId, dto);
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success("증명서 요청이 등록되었습니다", response));
@@ -42,10 +41,9 @@ public class CertificateRequestController {
     }
 
     @GetMapping("/my-requests")
-    public ResponseEntity<ApiResponse<List<CertificateRequestDto.ResponseDto>>> getMyRequests(
-            @RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<List<CertificateRequestDto.ResponseDto>>> getMyRequests() {
         try {
-            Long userId = jwtService.extractUserId(token.substring(7));
+            Long userId = currentUser.getId();
             List<CertificateRequestDto.ResponseDto> requests = certificateRequestService.getUserRequests(userId);
             return ResponseEntity.ok(ApiResponse.success("내 증명서 요청 목록 조회 성공", requests));
         } catch (Exception e) {
@@ -56,14 +54,10 @@ public class CertificateRequestController {
 
     @GetMapping("/admin/all")
     public ResponseEntity<ApiResponse<PageResponse<CertificateRequestDto.ResponseDto>>> getAllRequests(
-            @RequestHeader("Authorization") String token,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
         try {
             // 어드민 권한 검증 (AdminController와 동일한 방식)
-            String jwt = token.replace("Bearer ", "");
-            String userTypeStr = jwtService.extractUserType(jwt);
-
-            if (!"ADMIN".equals(userTypeStr)) {
+            if (currentUser.getUserType() != UserType.ADMIN) {
                 return ResponseEntity.status(403)
                         .body(ApiResponse.error("관리자만 접근할 수 있습니다"));
             }
@@ -78,15 +72,11 @@ public class CertificateRequestController {
 
     @PutMapping("/admin/{requestId}/process")
     public ResponseEntity<ApiResponse<CertificateRequestDto.ResponseDto>> processRequest(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long requestId,
             @Valid @RequestBody CertificateRequestDto.ProcessDto dto) {
         try {
             // 어드민 권한 검증 (AdminController와 동일한 방식)
-            String jwt = token.replace("Bearer ", "");
-            String userTypeStr = jwtService.extractUserType(jwt);
-
-            if (!"ADMIN".equals(userTypeStr)) {
+            if (currentUser.getUserType() != UserType.ADMIN) {
                 return ResponseEntity.status(403)
                         .body(ApiResponse.error("관리자만 접근할 수 있습니다"));
             }
@@ -102,14 +92,10 @@ public class CertificateRequestController {
 
     @PutMapping("/admin/{requestId}/complete")
     public ResponseEntity<ApiResponse<CertificateRequestDto.ResponseDto>> completeRequest(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long requestId) {
         try {
             // 어드민 권한 검증 (AdminController와 동일한 방식)
-            String jwt = token.replace("Bearer ", "");
-            String userTypeStr = jwtService.extractUserType(jwt);
-
-            if (!"ADMIN".equals(userTypeStr)) {
+            if (currentUser.getUserType() != UserType.ADMIN) {
                 return ResponseEntity.status(403)
                         .body(ApiResponse.error("관리자만 접근할 수 있습니다"));
             }
@@ -1,7 +1,7 @@
 package org.jbd.backend.dashboard.controller;
 
 import lombok.RequiredArgsConstructor;
-import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.auth.service.CurrentUser;
 import org.jbd.backend.common.dto.ApiResponse;
 import org.jbd.backend.dashboard.dto.AdminDashboardDto;
 import org.jbd.backend.dashboard.dto.CompanyUserDashboardDto;
@@ -17,14 +17,13 @@ import org.springframework.web.bind.annotation.*;
 public class DashboardController {
 
     private final DashboardService dashboardService;
-    private final JwtService jwtService;
+    private final CurrentUser currentUser;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<?>> getDashboard(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<?>> getDashboard() {
         try {
-            Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
-            String userTypeStr = jwtService.extractUserType(token.replace("Bearer ", ""));
-            UserType userType = UserType.valueOf(userTypeStr);
+            Long userId = currentUser.getId();
+            UserType userType = currentUser.getUserType();
 
             switch (userType) {
                 case GENERAL:
@@ -50,10 +49,9 @@ public class DashboardController {
     }
 
     @GetMapping("/general")
-    public ResponseEntity<ApiResponse<GeneralUserDashboardDto>> getGeneralUserDashboard(
-            @RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<GeneralUserDashboardDto>> getGeneralUserDashboard() {
         try {
-            Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+            Long userId = currentUser.getId();
             GeneralUserDashboardDto dashboard = dashboardService.getGeneralUserDashboard(userId);
             return ResponseEntity.ok(ApiResponse.success("일반 유저 대시보드 조회 성공", dashboard));
         } catch (Exception e) {
@@ -63,10 +61,9 @@ public class DashboardController {
     }
 
     @GetMapping("/company")
-    public ResponseEntity<ApiResponse<CompanyUserDashboardDto>> getCompanyUserDashboard(
-            @RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<CompanyUserDashboardDto>> getCompanyUserDashboard() {
         try {
-            Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+            Long userId = currentUser.getId();
             CompanyUserDashboardDto dashboard = dashboardService.getCompanyUserDashboard(userId);
             return ResponseEntity.ok(ApiResponse.success("기업 유저 대시보드 조회 성공", dashboard));
         } catch (Exception e) {
@@ -76,11 +73,9 @@ public class DashboardController {
     }
 
     @GetMapping("/admin")
-    public ResponseEntity<ApiResponse<AdminDashboardDto>> getAdminDashboard(
-            @RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<AdminDashboardDto>> getAdminDashboard() {
         try {
-            String userTypeStr = jwtService.extractUserType(token.replace("Bearer ", ""));
-            UserType userType = UserType.valueOf(userTypeStr);
+            UserType userType = currentUser.getUserType();
             
             if (userType != UserType.ADMIN) {
                 return ResponseEntity.status(403)
@@ -102,9 +97,9 @@ public class DashboardController {
     }
 
     @GetMapping("/job-score")
-    public ResponseEntity<ApiResponse<Integer>> getMyJobScore(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<Integer>> getMyJobScore() {
         try {
-            Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+            Long userId = currentUser.getId();
             // UserService를 통해 User 엔티티를 가져와야 하므로, 
             // 실제로는 DashboardService에서 userId만으로 계산할 수 있도록 수정 필요
             // 현재는 간단히 응답만 반환
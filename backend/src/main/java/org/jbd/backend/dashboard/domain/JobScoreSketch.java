@@ -0,0 +1,115 @@
+package org.jbd.backend.dashboard.domain;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 전체 사용자 취업 점수 분포 스케치
+ *
+ * 취업 점수는 0~100 사이의 정수이므로 t-digest/KLL 같은 근사 분위수 구조 대신
+ * 점수별 카운터 101개로 구성된 고정 크기 히스토그램을 사용합니다.
+ * 메모리는 사용자 수와 무관하게 일정하고, 오차가 없으며, 점수 변경 시 이전 점수를
+ * 제거할 수 있고, 다른 노드의 스케치와 카운터 합산으로 병합할 수 있습니다.
+ */
+public class JobScoreSketch {
+
+    public static final int MIN_SCORE = 0;
+    public static final int MAX_SCORE = 100;
+
+    private final AtomicLongArray counts = new AtomicLongArray(MAX_SCORE - MIN_SCORE + 1);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong scoreSum = new AtomicLong();
+
+    public void add(int score) {
+        add(score, 1);
+    }
+
+    public void add(int score, long count) {
+        int clamped = clamp(score);
+        counts.addAndGet(clamped, count);
+        total.addAndGet(count);
+        scoreSum.addAndGet(clamped * count);
+    }
+
+    public void remove(int score) {
+        add(score, -1);
+    }
+
+    /**
+     * 사용자의 점수가 바뀐 경우 이전 점수를 빼고 새 점수를 더합니다.
+     */
+    public void replace(Integer previousScore, int newScore) {
+        if (previousScore != null) {
+            remove(previousScore);
+        }
+        add(newScore);
+    }
+
+    public void merge(JobScoreSketch other) {
+        for (int score = MIN_SCORE; score <= MAX_SCORE; score++) {
+            long count = other.counts.get(score);
+            if (count != 0) {
+                add(score, count);
+            }
+        }
+    }
+
+    public long getTotalCount() {
+        return total.get();
+    }
+
+    public boolean isEmpty() {
+        return total.get() <= 0;
+    }
+
+    public double getMean() {
+        long count = total.get();
+        return count > 0 ? (double) scoreSum.get() / count : 0.0;
+    }
+
+    /**
+     * 주어진 점수 이상인 사용자 비율(상위 X%)을 반환합니다.
+     */
+    public double getTopPercent(int score) {
+        long count = total.get();
+        if (count <= 0) {
+            return 100.0;
+        }
+        long atOrAbove = countBetween(clamp(score), MAX_SCORE);
+        return Math.max(atOrAbove, 1) * 100.0 / count;
+    }
+
+    /**
+     * q(0~1) 분위수에 해당하는 점수를 반환합니다.
+     */
+    public int getQuantile(double q) {
+        long count = total.get();
+        if (count <= 0) {
+            return MIN_SCORE;
+        }
+        long rank = (long) Math.ceil(Math.min(Math.max(q, 0.0), 1.0) * count);
+        long seen = 0;
+        for (int score = MIN_SCORE; score <= MAX_SCORE; score++) {
+            seen += counts.get(score);
+            if (seen >= Math.max(rank, 1)) {
+                return score;
+            }
+        }
+        return MAX_SCORE;
+    }
+
+    /**
+     * [from, to] 구간(양 끝 포함)의 사용자 수를 반환합니다.
+     */
+    public long countBetween(int from, int to) {
+        long sum = 0;
+        for (int score = clamp(from); score <= clamp(to); score++) {
+            sum += counts.get(score);
+        }
+        return sum;
+    }
+
+    private int clamp(int score) {
+        return Math.min(Math.max(score, MIN_SCORE), MAX_SCORE);
+    }
+}
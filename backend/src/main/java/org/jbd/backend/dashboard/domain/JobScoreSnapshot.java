@@ -0,0 +1,41 @@
+package org.jbd.backend.dashboard.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 마지막 취업 점수 스냅샷
+ * 재시작 시 점수 분포 스케치를 복원하는 데 사용됩니다.
+ */
+@Entity
+@Table(name = "job_score_snapshots",
+       indexes = @Index(name = "idx_job_score_snapshots_score", columnList = "score"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobScoreSnapshot {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Integer score;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public JobScoreSnapshot(Long userId, Integer score) {
+        this.userId = userId;
+        this.score = score;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void updateScore(Integer score) {
+        this.score = score;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
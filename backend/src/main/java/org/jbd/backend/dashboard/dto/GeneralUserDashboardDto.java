@@ -93,6 +93,22 @@ public class GeneralUserDashboardDto {
         private Integer myScore;
         private Integer averageScore;
         private Integer targetScore;
+        // 상위 X% (전체 사용자 점수 분포 기준)
+        private Double topPercent;
+        // 분포 계산에 포함된 사용자 수
+        private Long rankedUserCount;
+        // 점수 구간별 사용자 분포
+        private List<ScoreBucketDto> scoreDistribution;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScoreBucketDto {
+        private Integer minScore;
+        private Integer maxScore;
+        private Long userCount;
     }
     
     @Data
@@ -0,0 +1,20 @@
+package org.jbd.backend.dashboard.repository;
+
+import org.jbd.backend.dashboard.domain.JobScoreSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobScoreSnapshotRepository extends JpaRepository<JobScoreSnapshot, Long> {
+
+    /**
+     * 스케치 복원용 (userId, score) 목록 조회 (탈퇴·비활성·유형 변경된 사용자의 스냅샷은 제외)
+     */
+    @Query("SELECT s.userId, s.score FROM JobScoreSnapshot s, User u " +
+           "WHERE u.id = s.userId AND u.userType = org.jbd.backend.user.domain.enums.UserType.GENERAL " +
+           "AND u.isDeleted = false AND u.isActive = true")
+    List<Object[]> findAllUserScores();
+}
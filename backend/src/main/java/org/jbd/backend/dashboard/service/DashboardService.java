@@ -16,6 +16,9 @@ import org.jbd.backend.job.dto.JobPostingResponseDto;
 import org.jbd.backend.job.domain.JobPosting;
 import org.jbd.backend.job.repository.JobApplicationRepository;
 import org.jbd.backend.job.repository.JobPostingRepository;
+import org.jbd.backend.job.domain.ApplicationMonthlyProgress;
+import org.jbd.backend.job.service.ApplicationProgressRollupService;
+import org.jbd.backend.job.service.SkillDemandService;
 import org.jbd.backend.user.domain.*;
 import org.jbd.backend.user.domain.enums.*;
 import org.jbd.backend.user.repository.*;
@@ -23,9 +26,17 @@ import org.jbd.backend.user.service.UserService;
 import org.jbd.backend.community.repository.PostRepository;
 import org.jbd.backend.ai.repository.InterviewRepository;
 import org.jbd.backend.ai.domain.InterviewStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -53,23 +64,69 @@ public class DashboardService {
     private final UserProfileRepository userProfileRepository;
     private final PostRepository postRepository;
     private final InterviewRepository interviewRepository;
+    private final JobScoreRankingService jobScoreRankingService;
+    private final ApplicationProgressRollupService applicationProgressRollupService;
+    private final SkillDemandService skillDemandService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${dashboard.job-score.seed-chunk-size:200}")
+    private int jobScoreSeedChunkSize = 200;
 
     public GeneralUserDashboardDto getGeneralUserDashboard(Long userId) {
         User user = userService.findUserById(userId);
+        int jobScore = calculateJobScore(user);
+        jobScoreRankingService.recordScore(user.getId(), jobScore);
         
         return GeneralUserDashboardDto.builder()
                 .totalEmploymentRate(calculateOverallEmploymentRate())
-                .myJobScore(calculateJobScore(user))
+                .myJobScore(jobScore)
                 .myApplicationStatus(getMyApplicationStatus(user))
                 .jobFieldEmployments(getJobFieldEmployments())
                 .personalInsight(generatePersonalInsight(user))
                 .quickActions(getGeneralUserQuickActions())
-                .jobPreparationAnalysis(getJobPreparationAnalysis(user))
+                .jobPreparationAnalysis(getJobPreparationAnalysis(jobScore))
                 .monthlyProgress(getMonthlyProgress(user))
                 .capabilities(getCapabilities(user))
                 .build();
     }
 
+    /**
+     * 스냅샷이 없는 활성 일반 사용자의 점수를 계산해 취업 점수 분포를 채움 (스냅샷 복원 이후 실행)
+     * 청크마다 별도 트랜잭션으로 처리하며, 계산한 점수는 스냅샷으로 저장되어 다음 시작부터는 복원됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int seedJobScoreRanking() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        long afterUserId = 0L;
+        int seededUsers = 0;
+
+        while (true) {
+            List<Long> userIds = userRepository.findGeneralUserIdsAfter(
+                    afterUserId, PageRequest.of(0, jobScoreSeedChunkSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            List<Long> unranked = userIds.stream()
+                    .filter(id -> !jobScoreRankingService.isRanked(id))
+                    .collect(Collectors.toList());
+            if (!unranked.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> userRepository.findAllById(unranked)
+                        .forEach(user -> jobScoreRankingService.recordScore(user.getId(), calculateJobScore(user))));
+                seededUsers += unranked.size();
+            }
+            afterUserId = userIds.get(userIds.size() - 1);
+        }
+
+        if (seededUsers > 0) {
+            logger.info("취업 점수 분포 초기화 완료: 스냅샷이 없던 {}명 계산", seededUsers);
+        }
+        return seededUsers;
+    }
+
     public CompanyUserDashboardDto getCompanyUserDashboard(Long userId) {
         User user = userService.findUserById(userId);
         
@@ -330,15 +387,25 @@ public class DashboardService {
 
         List<UserSkill> userSkills = userSkillRepository.findByUserId(user.getId());
 
-        // 인기 기술 스택 보유 여부 체크
-        Set<String> trendingSkills = Set.of(
-            "React", "Vue.js", "Node.js", "Python", "Java", "Spring Boot",
-            "AWS", "Docker", "Kubernetes", "MongoDB", "PostgreSQL"
-        );
-
-        long trendingSkillCount = userSkills.stream()
-            .filter(skill -> trendingSkills.contains(skill.getSkill().getSkillName()))
-            .count();
+        // 인기 기술 스택 보유 여부 체크 - 최근 채용공고 기술 수요 인덱스 기준 (희망 직무별)
+        long trendingSkillCount;
+        if (skillDemandService.hasData()) {
+            String desiredJob = userProfileRepository.findByUserId(user.getId())
+                .map(UserProfile::getDesiredJob)
+                .orElse(null);
+            trendingSkillCount = userSkills.stream()
+                .filter(skill -> skillDemandService.isInDemand(skill.getSkill().getSkillName(), desiredJob))
+                .count();
+        } else {
+            // 집계된 채용공고가 없을 때의 기본 인기 기술 목록
+            Set<String> trendingSkills = Set.of(
+                "React", "Vue.js", "Node.js", "Python", "Java", "Spring Boot",
+                "AWS", "Docker", "Kubernetes", "MongoDB", "PostgreSQL"
+            );
+            trendingSkillCount = userSkills.stream()
+                .filter(skill -> trendingSkills.contains(skill.getSkill().getSkillName()))
+                .count();
+        }
         readinessScore += Math.min(trendingSkillCount * 5, 30);
 
         // 풀스택 개발자 점수 (프론트엔드 + 백엔드)
@@ -755,8 +822,7 @@ public class DashboardService {
     }
     
     // 새로 추가된 메서드들
-    private GeneralUserDashboardDto.JobPreparationAnalysisDto getJobPreparationAnalysis(User user) {
-        int myScore = calculateJobScore(user);
+    private GeneralUserDashboardDto.JobPreparationAnalysisDto getJobPreparationAnalysis(int myScore) {
         int averageScore = calculateAverageJobScore();
         int targetScore = 80; // 목표 점수 (실제로는 설정값으로 관리)
 
@@ -764,50 +830,44 @@ public class DashboardService {
                 .myScore(myScore)
                 .averageScore(averageScore)
                 .targetScore(targetScore)
+                .topPercent(jobScoreRankingService.getTopPercent(myScore))
+                .rankedUserCount(jobScoreRankingService.getRankedUserCount())
+                .scoreDistribution(jobScoreRankingService.getDistribution())
                 .build();
     }
 
     /**
      * 전체 일반 사용자들의 평균 취업 점수 계산
+     * 모든 사용자를 다시 채점하지 않고 점수 분포 스케치에서 상수 시간에 조회
      */
     private int calculateAverageJobScore() {
-        List<User> generalUsers = userRepository.findAllGeneralUsers();
-        if (generalUsers.isEmpty()) {
+        if (!jobScoreRankingService.hasScores()) {
             return 50; // 기본값
         }
-
-        int totalScore = 0;
-        for (User user : generalUsers) {
-            totalScore += calculateJobScore(user);
-        }
-
-        return totalScore / generalUsers.size();
+        return jobScoreRankingService.getAverageScore();
     }
     
     private List<GeneralUserDashboardDto.MonthlyProgressDto> getMonthlyProgress(User user) {
-        // 최근 6개월 데이터 조회
-        LocalDateTime sixMonthsAgo = LocalDateTime.now().minusMonths(6);
-        List<Object[]> monthlyData = jobApplicationRepository.findMonthlyProgressByUser(user, sixMonthsAgo);
+        // 최근 6개월 데이터 조회 (월별 집계 테이블 기본키 범위 조회)
+        List<ApplicationMonthlyProgress> monthlyData = applicationProgressRollupService.getRecentProgress(user.getId(), 6);
 
         List<GeneralUserDashboardDto.MonthlyProgressDto> progressList = new ArrayList<>();
 
         // 월 이름 배열
         String[] monthNames = {"1월", "2월", "3월", "4월", "5월", "6월", "7월", "8월", "9월", "10월", "11월", "12월"};
 
-        for (Object[] data : monthlyData) {
-            int year = ((Number) data[0]).intValue();
-            int month = ((Number) data[1]).intValue();
-            int applications = ((Number) data[2]).intValue();
-            int interviews = ((Number) data[3]).intValue();
-            int offers = ((Number) data[4]).intValue();
+        for (ApplicationMonthlyProgress data : monthlyData) {
+            if (data.getApplications() <= 0) {
+                continue; // 삭제 등으로 비워진 월은 기존 집계 쿼리처럼 제외
+            }
 
-            String monthLabel = monthNames[month - 1]; // 배열은 0부터 시작
+            String monthLabel = monthNames[data.getMonth() - 1]; // 배열은 0부터 시작
 
             progressList.add(GeneralUserDashboardDto.MonthlyProgressDto.builder()
                     .month(monthLabel)
-                    .applications(applications)
-                    .interviews(interviews)
-                    .offers(offers)
+                    .applications(data.getApplications())
+                    .interviews(data.getInterviews())
+                    .offers(data.getOffers())
                     .build());
         }
 
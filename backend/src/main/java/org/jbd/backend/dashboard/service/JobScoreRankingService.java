@@ -0,0 +1,209 @@
+package org.jbd.backend.dashboard.service;
+
+import lombok.RequiredArgsConstructor;
+import org.jbd.backend.common.util.TransactionUtils;
+import org.jbd.backend.dashboard.domain.JobScoreSketch;
+import org.jbd.backend.dashboard.domain.JobScoreSnapshot;
+import org.jbd.backend.dashboard.dto.GeneralUserDashboardDto;
+import org.jbd.backend.dashboard.repository.JobScoreSnapshotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 취업 점수 순위 서비스
+ *
+ * 전체 일반 사용자의 취업 점수 분포를 메모리 스케치로 유지하여
+ * 평균 점수, 상위 백분위, 구간별 분포를 사용자 수와 무관하게 상수 시간에 제공합니다.
+ * 사용자 점수가 바뀔 때마다 증분 갱신되며, 변경분은 주기적으로 스냅샷 테이블에 저장됩니다.
+ * 탈퇴·비활성화되거나 일반 사용자가 아니게 된 사용자는 분포와 스냅샷에서 제거됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobScoreRankingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobScoreRankingService.class);
+
+    private static final int BUCKET_SIZE = 10;
+
+    private final JobScoreSnapshotRepository jobScoreSnapshotRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final JobScoreSketch sketch = new JobScoreSketch();
+    private final Map<Long, Integer> scoresByUser = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> pendingScores = new ConcurrentHashMap<>();
+    private final Set<Long> pendingRemovals = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 애플리케이션 시작 시 저장된 스냅샷으로 스케치를 복원
+     * 스냅샷이 없는 사용자의 점수 계산({@link DashboardService#seedJobScoreRanking()})보다 먼저 실행됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(readOnly = true)
+    public void loadSnapshots() {
+        List<Object[]> rows = jobScoreSnapshotRepository.findAllUserScores();
+        for (Object[] row : rows) {
+            Long userId = ((Number) row[0]).longValue();
+            int score = ((Number) row[1]).intValue();
+            scoresByUser.compute(userId, (id, previous) -> {
+                sketch.replace(previous, score);
+                return score;
+            });
+        }
+        logger.info("취업 점수 스냅샷 {}건 복원 완료", rows.size());
+    }
+
+    /**
+     * 사용자의 최신 점수를 반영 (이전 점수는 분포에서 제거)
+     */
+    public void recordScore(Long userId, int score) {
+        scoresByUser.compute(userId, (id, previous) -> {
+            if (previous == null || previous != score) {
+                sketch.replace(previous, score);
+                pendingScores.put(id, score);
+            }
+            pendingRemovals.remove(id);
+            return score;
+        });
+    }
+
+    public boolean isRanked(Long userId) {
+        return scoresByUser.containsKey(userId);
+    }
+
+    /**
+     * 사용자를 분포에서 제거하고 스냅샷 삭제를 예약
+     */
+    public void removeUser(Long userId) {
+        scoresByUser.compute(userId, (id, previous) -> {
+            if (previous != null) {
+                sketch.remove(previous);
+            }
+            pendingScores.remove(id);
+            pendingRemovals.add(id);
+            return null;
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 사용자를 분포에서 제거 (롤백되면 그대로 유지)
+     */
+    public void removeUserAfterCommit(Long userId) {
+        TransactionUtils.runAfterCommit(() -> removeUser(userId));
+    }
+
+    public boolean hasScores() {
+        return !sketch.isEmpty();
+    }
+
+    public int getAverageScore() {
+        return (int) Math.round(sketch.getMean());
+    }
+
+    public long getRankedUserCount() {
+        return sketch.getTotalCount();
+    }
+
+    /**
+     * 해당 점수가 전체 사용자 중 상위 몇 %인지 반환 (소수점 첫째자리)
+     */
+    public double getTopPercent(int score) {
+        return Math.round(sketch.getTopPercent(score) * 10) / 10.0;
+    }
+
+    public List<GeneralUserDashboardDto.ScoreBucketDto> getDistribution() {
+        List<GeneralUserDashboardDto.ScoreBucketDto> buckets = new ArrayList<>();
+        for (int from = JobScoreSketch.MIN_SCORE; from <= JobScoreSketch.MAX_SCORE; from += BUCKET_SIZE) {
+            // 마지막 구간은 만점(100)까지 포함
+            int to = from + BUCKET_SIZE - 1 >= JobScoreSketch.MAX_SCORE - 1
+                    ? JobScoreSketch.MAX_SCORE : from + BUCKET_SIZE - 1;
+            buckets.add(GeneralUserDashboardDto.ScoreBucketDto.builder()
+                    .minScore(from)
+                    .maxScore(to)
+                    .userCount(sketch.countBetween(from, to))
+                    .build());
+            if (to == JobScoreSketch.MAX_SCORE) {
+                break;
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * 변경된 점수와 제거된 사용자를 스냅샷 테이블에 주기적으로 반영
+     * 트랜잭션 밖에서 실패를 처리하므로, 커밋이 실패해도 변경분을 다시 대기열에 넣어 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${dashboard.job-score.flush-interval-ms:60000}")
+    public void flushSnapshots() {
+        if (pendingScores.isEmpty() && pendingRemovals.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> batch = new HashMap<>();
+        for (Long userId : new ArrayList<>(pendingScores.keySet())) {
+            Integer score = pendingScores.remove(userId);
+            if (score != null) {
+                batch.put(userId, score);
+            }
+        }
+        List<Long> removals = new ArrayList<>();
+        for (Long userId : new ArrayList<>(pendingRemovals)) {
+            if (pendingRemovals.remove(userId)) {
+                removals.add(userId);
+            }
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> saveSnapshots(batch, removals));
+            logger.debug("취업 점수 스냅샷 {}건 저장, {}건 삭제", batch.size(), removals.size());
+        } catch (RuntimeException e) {
+            // 다음 주기에 재시도 (그 사이 더 최신 점수가 들어왔거나 다시 점수가 기록된 사용자는 최신 상태를 유지)
+            batch.forEach(pendingScores::putIfAbsent);
+            removals.stream()
+                    .filter(userId -> !scoresByUser.containsKey(userId))
+                    .forEach(pendingRemovals::add);
+            logger.warn("취업 점수 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void saveSnapshots(Map<Long, Integer> batch, List<Long> removals) {
+        if (!batch.isEmpty()) {
+            Map<Long, JobScoreSnapshot> existing = jobScoreSnapshotRepository.findAllById(batch.keySet())
+                    .stream()
+                    .collect(Collectors.toMap(JobScoreSnapshot::getUserId, Function.identity()));
+
+            List<JobScoreSnapshot> toSave = new ArrayList<>();
+            batch.forEach((userId, score) -> {
+                JobScoreSnapshot snapshot = existing.get(userId);
+                if (snapshot != null) {
+                    snapshot.updateScore(score);
+                } else {
+                    snapshot = new JobScoreSnapshot(userId, score);
+                }
+                toSave.add(snapshot);
+            });
+            jobScoreSnapshotRepository.saveAll(toSave);
+        }
+        if (!removals.isEmpty()) {
+            jobScoreSnapshotRepository.deleteAllByIdInBatch(removals);
+        }
+    }
+}
@@ -2,13 +2,15 @@ package org.jbd.backend.job.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.auth.service.CurrentUser;
 import org.jbd.backend.common.dto.ApiResponse;
 import org.jbd.backend.common.dto.PageResponse;
+import org.jbd.backend.job.domain.ApplicantMatchScore;
 import org.jbd.backend.job.domain.JobApplication;
 import org.jbd.backend.job.domain.JobPosting;
 import org.jbd.backend.job.dto.*;
 import org.jbd.backend.job.repository.JobPostingRepository;
+import org.jbd.backend.job.service.ApplicantMatchService;
 import org.jbd.backend.job.service.JobApplicationService;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.service.UserService;
@@ -19,6 +21,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/applications")
@@ -26,15 +29,15 @@ import java.util.List;
 public class JobApplicationController {
 
     private final JobApplicationService jobApplicationService;
+    private final ApplicantMatchService applicantMatchService;
     private final JobPostingRepository jobPostingRepository;
     private final UserService userService;
-    private final JwtService jwtService;
+    private final CurrentUser currentUser;
 
     @PostMapping
     public ResponseEntity<ApiResponse<JobApplicationResponseDto>> applyForJob(
-            @RequestHeader("Authorization") String token,
             @Valid @RequestBody JobApplicationCreateDto dto) {
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         JobApplication application = jobApplicationService.applyToJobPosting(userId, dto.getJobPostingId(), dto.getCoverLetter());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("채용 지원이 완료되었습니다", JobApplicationResponseDto.from(application)));
@@ -42,9 +45,8 @@ public class JobApplicationController {
 
     @GetMapping("/my")
     public ResponseEntity<ApiResponse<PageResponse<JobApplicationResponseDto>>> getMyApplications(
-            @RequestHeader("Authorization") String token,
             Pageable pageable) {
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         User user = userService.findUserById(userId);
         Page<JobApplication> applications = jobApplicationService.getJobApplicationsByUser(user, pageable);
         Page<JobApplicationResponseDto> responseDtos = applications.map(JobApplicationResponseDto::from);
@@ -53,9 +55,8 @@ public class JobApplicationController {
 
     @GetMapping("/{applicationId}")
     public ResponseEntity<ApiResponse<JobApplicationResponseDto>> getApplicationDetail(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long applicationId) {
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         JobApplication application = jobApplicationService.getJobApplication(applicationId);
         
         // 권한 확인 - 지원자 본인이거나 채용공고 작성자인지 확인
@@ -70,9 +71,8 @@ public class JobApplicationController {
 
     @PutMapping("/{applicationId}/cancel")
     public ResponseEntity<ApiResponse<JobApplicationResponseDto>> cancelApplication(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long applicationId) {
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         JobApplication application = jobApplicationService.getJobApplication(applicationId);
         
         // 권한 확인 - 지원자 본인인지 확인
@@ -87,10 +87,10 @@ public class JobApplicationController {
 
     @GetMapping("/job/{jobPostingId}")
     public ResponseEntity<ApiResponse<PageResponse<JobApplicationResponseDto>>> getApplicationsByJobPosting(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long jobPostingId,
+            @RequestParam(required = false) String sortBy,
             Pageable pageable) {
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
                 .orElseThrow(() -> new IllegalArgumentException("채용공고를 찾을 수 없습니다"));
         
@@ -100,17 +100,24 @@ public class JobApplicationController {
                     .body(ApiResponse.error("조회 권한이 없습니다"));
         }
         
-        Page<JobApplication> applications = jobApplicationService.getJobApplicationsByJobPosting(jobPosting, pageable);
-        Page<JobApplicationResponseDto> responseDtos = applications.map(JobApplicationResponseDto::from);
+        // sortBy=fit 이면 적합도 내림차순, 그 외에는 지원일 최신순
+        Page<JobApplication> applications = "fit".equalsIgnoreCase(sortBy)
+                ? applicantMatchService.getApplicationsSortedByFit(jobPosting, pageable)
+                : jobApplicationService.getJobApplicationsByJobPosting(jobPosting, pageable);
+        Map<Long, ApplicantMatchScore> scores = applicantMatchService.getScores(jobPosting,
+                applications.getContent().stream().map(application -> application.getUser().getId()).toList());
+        Page<JobApplicationResponseDto> responseDtos = applications.map(application -> {
+            ApplicantMatchScore score = scores.get(application.getUser().getId());
+            return JobApplicationResponseDto.from(application, score != null ? score.getTotal() : null);
+        });
         return ResponseEntity.ok(ApiResponse.success("채용공고별 지원자 목록을 조회했습니다", new PageResponse<>(responseDtos)));
     }
 
     @PutMapping("/{applicationId}/pass-document")
     public ResponseEntity<ApiResponse<JobApplicationResponseDto>> passDocumentReview(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long applicationId) {
         try {
-            Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+            Long userId = currentUser.getId();
             JobApplication updated = jobApplicationService.passDocumentReview(applicationId, userId);
             return ResponseEntity.ok(ApiResponse.success("서류 합격 처리되었습니다", JobApplicationResponseDto.from(updated)));
         } catch (IllegalArgumentException e) {
@@ -121,9 +128,8 @@ public class JobApplicationController {
 
     @PutMapping("/{applicationId}/pass-interview")
     public ResponseEntity<ApiResponse<JobApplicationResponseDto>> passInterview(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long applicationId) {
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         JobApplication application = jobApplicationService.getJobApplication(applicationId);
         
         // 권한 확인 - 채용공고 작성자인지 확인
@@ -138,9 +144,8 @@ public class JobApplicationController {
 
     @PutMapping("/{applicationId}/hire")
     public ResponseEntity<ApiResponse<JobApplicationResponseDto>> hireApplicant(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long applicationId) {
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         JobApplication application = jobApplicationService.getJobApplication(applicationId);
         
         // 권한 확인 - 채용공고 작성자인지 확인
@@ -155,10 +160,9 @@ public class JobApplicationController {
 
     @PutMapping("/{applicationId}/reject")
     public ResponseEntity<ApiResponse<JobApplicationResponseDto>> rejectApplication(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long applicationId,
             @RequestParam(required = false) String reason) {
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         JobApplication application = jobApplicationService.getJobApplication(applicationId);
         
         // 권한 확인 - 채용공고 작성자인지 확인
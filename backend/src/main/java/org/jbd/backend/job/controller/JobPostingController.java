@@ -2,7 +2,7 @@ package org.jbd.backend.job.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.auth.service.CurrentUser;
 import org.jbd.backend.common.dto.ApiResponse;
 import org.jbd.backend.common.dto.PageResponse;
 import org.jbd.backend.common.service.PermissionService;
@@ -15,8 +15,11 @@ import org.jbd.backend.job.dto.JobPostingResponseDto;
 import org.jbd.backend.job.dto.JobPostingSearchDto;
 import org.jbd.backend.job.dto.JobPostingStatsDto;
 import org.jbd.backend.job.dto.JobPostingUpdateDto;
+import org.jbd.backend.job.dto.SkillDemandDto;
 import org.jbd.backend.job.service.JobPostingService;
+import org.jbd.backend.job.service.SkillDemandService;
 import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
 import org.jbd.backend.user.service.UserService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -55,17 +58,19 @@ public class JobPostingController {
     /** 사용자 관리 서비스 */
     private final UserService userService;
 
-    /** JWT 토큰 관리 서비스 */
-    private final JwtService jwtService;
+    /** 현재 요청의 인증 사용자 컨텍스트 */
+    private final CurrentUser currentUser;
 
     /** 사용자 권한 검증 서비스 */
     private final PermissionService permissionService;
 
+    /** 채용공고 기반 기술 수요 인덱스 */
+    private final SkillDemandService skillDemandService;
+
     /**
      * 새로운 채용공고를 등록합니다.
      * 기업 사용자만 채용공고를 등록할 수 있습니다.
      *
-     * @param token Authorization 헤더 ("Bearer {token}" 형식)
      * @param dto 채용공고 생성 데이터
      *            - title: 채용공고 제목 (필수)
      *            - companyName: 회사명 (필수)
@@ -82,10 +87,9 @@ public class JobPostingController {
      */
     @PostMapping
     public ResponseEntity<ApiResponse<JobPostingResponseDto>> createJobPosting(
-            @RequestHeader("Authorization") String token,
             @Valid @RequestBody JobPostingCreateDto dto) {
         
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         
         JobPosting saved = jobPostingService.createJobPosting(
                 userId, dto.getTitle(), dto.getCompanyName(), dto.getLocation(),
@@ -117,7 +121,6 @@ public class JobPostingController {
      * 채용공고를 수정합니다.
      * 작성자 또는 관리자만 수정할 수 있습니다.
      *
-     * @param token Authorization 헤더 ("Bearer {token}" 형식)
      * @param id 수정할 채용공고 ID
      * @param dto 채용공고 수정 데이터
      *            - title: 수정할 제목 (선택)
@@ -133,11 +136,10 @@ public class JobPostingController {
      */
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<JobPostingResponseDto>> updateJobPosting(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long id,
             @Valid @RequestBody JobPostingUpdateDto dto) {
 
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         JobPosting jobPosting = jobPostingService.getJobPosting(id);
 
         // 개선된 권한 확인
@@ -156,7 +158,6 @@ public class JobPostingController {
      * 초기 등록된 채용공고를 공개 상태로 전환하여 사용자들이 볼 수 있도록 합니다.
      * 작성자 또는 관리자만 발행할 수 있습니다.
      *
-     * @param token Authorization 헤더 ("Bearer {token}" 형식)
      * @param id 발행할 채용공고 ID
      * @param deadlineDate 채용 마감 일자 (지정한 날짜까지 지원 가능)
      * @return ResponseEntity<ApiResponse<JobPostingResponseDto>> 발행된 채용공고 정보
@@ -165,11 +166,10 @@ public class JobPostingController {
      */
     @PostMapping("/{id}/publish")
     public ResponseEntity<ApiResponse<JobPostingResponseDto>> publishJobPosting(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long id,
             @RequestParam LocalDate deadlineDate) {
         
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         JobPosting jobPosting = jobPostingService.getJobPosting(id);
 
         // 개선된 권한 확인
@@ -187,7 +187,6 @@ public class JobPostingController {
      * 예정된 마감 일자 이전에 채용을 완료한 경우 수동으로 마감처리합니다.
      * 작성자 또는 관리자만 마감할 수 있습니다.
      *
-     * @param token Authorization 헤더 ("Bearer {token}" 형식)
      * @param id 마감할 채용공고 ID
      * @return ResponseEntity<ApiResponse<JobPostingResponseDto>> 마감된 채용공고 정보
      * @apiNote POST /job-postings/{id}/close
@@ -195,10 +194,9 @@ public class JobPostingController {
      */
     @PostMapping("/{id}/close")
     public ResponseEntity<ApiResponse<JobPostingResponseDto>> closeJobPosting(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long id) {
         
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         JobPosting jobPosting = jobPostingService.getJobPosting(id);
 
         // 개선된 권한 확인
@@ -317,16 +315,14 @@ public class JobPostingController {
      * 내가 등록한 채용공고 목록을 조회합니다.
      * 인증된 기업 사용자의 모든 채용공고(발행/미발행 포함)를 조회합니다.
      *
-     * @param token Authorization 헤더 ("Bearer {token}" 형식)
      * @return ResponseEntity<ApiResponse<List<JobPostingResponseDto>>> 내 채용공고 목록
      * @apiNote GET /job-postings/my-postings
      * @see JobPostingResponseDto
      */
     @GetMapping("/my-postings")
-    public ResponseEntity<ApiResponse<List<JobPostingResponseDto>>> getMyJobPostings(
-            @RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<List<JobPostingResponseDto>>> getMyJobPostings() {
         
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         User user = userService.findUserById(userId);
         
         List<JobPosting> jobPostings = jobPostingService.getJobPostingsByCompanyUser(user);
@@ -341,17 +337,15 @@ public class JobPostingController {
      * 채용공고를 삭제합니다.
      * 작성자 또는 관리자만 삭제할 수 있습니다. 삭제된 채용공고는 복구할 수 없습니다.
      *
-     * @param token Authorization 헤더 ("Bearer {token}" 형식)
      * @param id 삭제할 채용공고 ID
      * @return ResponseEntity<ApiResponse<Void>> 삭제 완료 응답
      * @apiNote DELETE /job-postings/{id}
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteJobPosting(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long id) {
 
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         JobPosting jobPosting = jobPostingService.getJobPosting(id);
 
         // 개선된 권한 확인
@@ -419,12 +413,34 @@ public class JobPostingController {
                 days + "일 이내 마감 임박 채용공고 조회 성공", responseDtos));
     }
 
+    /**
+     * 최근 발행된 채용공고 기준 수요가 많은 기술 조회
+     * 채용공고를 다시 조회하지 않고 기술 수요 인덱스에서 바로 응답합니다.
+     *
+     * @param department 부서 (생략 시 전체 채용공고 기준)
+     * @param limit 조회할 기술 수 (1~50)
+     * @return ResponseEntity<ApiResponse<List<SkillDemandDto>>> 수요 순위별 기술 목록
+     * @apiNote GET /job-postings/in-demand-skills?department=개발&limit=10
+     */
+    @GetMapping("/in-demand-skills")
+    public ResponseEntity<ApiResponse<List<SkillDemandDto>>> getInDemandSkills(
+            @RequestParam(required = false) String department,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        if (limit <= 0 || limit > 50) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("조회 개수는 1개에서 50개 사이여야 합니다."));
+        }
+
+        List<SkillDemandDto> skills = skillDemandService.getInDemandSkills(department, limit);
+        return ResponseEntity.ok(ApiResponse.success("수요 기술 조회 성공", skills));
+    }
+
     /**
      * 내 채용공고 중 마감 임박한 것들 조회
      */
     @GetMapping("/my-postings/deadline-approaching")
     public ResponseEntity<ApiResponse<List<JobPostingResponseDto>>> getMyDeadlineApproachingJobPostings(
-            @RequestHeader("Authorization") String token,
             @RequestParam(defaultValue = "7") int days) {
 
         if (days <= 0 || days > 30) {
@@ -432,7 +448,7 @@ public class JobPostingController {
                     .body(ApiResponse.error("일수는 1일에서 30일 사이여야 합니다."));
         }
 
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         User user = userService.findUserById(userId);
 
         List<JobPosting> jobPostings = jobPostingService.getDeadlineApproachingJobPostingsByCompany(user, days);
@@ -457,10 +473,9 @@ public class JobPostingController {
      * 내 채용공고 통계 목록 조회
      */
     @GetMapping("/my-postings/stats")
-    public ResponseEntity<ApiResponse<List<JobPostingStatsDto>>> getMyJobPostingStats(
-            @RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<List<JobPostingStatsDto>>> getMyJobPostingStats() {
 
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
+        Long userId = currentUser.getId();
         User user = userService.findUserById(userId);
 
         List<JobPostingStatsDto> stats = jobPostingService.getJobPostingStatsByCompany(user);
@@ -471,16 +486,10 @@ public class JobPostingController {
      * 전체 채용공고 통계 (관리자용)
      */
     @GetMapping("/admin/stats")
-    public ResponseEntity<ApiResponse<Object>> getOverallJobPostingStatistics(
-            @RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<Object>> getOverallJobPostingStatistics() {
 
         // 관리자 권한 확인
-        Long userId = jwtService.extractUserId(token.replace("Bearer ", ""));
-        String userTypeFromToken = jwtService.extractUserType(token.replace("Bearer ", ""));
-        Boolean isAdmin = jwtService.extractClaim(token.replace("Bearer ", ""),
-                claims -> claims.get("isAdmin", Boolean.class));
-
-        if (!"ADMIN".equals(userTypeFromToken) || !Boolean.TRUE.equals(isAdmin)) {
+        if (currentUser.getUserType() != UserType.ADMIN || !currentUser.isAdmin()) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(ApiResponse.error("관리자만 접근할 수 있습니다."));
         }
@@ -0,0 +1,152 @@
+package org.jbd.backend.job.domain;
+
+import org.jbd.backend.job.domain.enums.ExperienceLevel;
+import org.jbd.backend.user.domain.CandidateIndex.CandidateDocument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 채용공고 대비 지원자 적합도 점수 (0~100)
+ *
+ * 구성:
+ * - 기술 일치 (50점): 필요 기술 중 보유 기술 비율
+ * - 경력 (25점): 경력 수준별 최소 개월 수 대비 총 경력 개월 수
+ * - 학력 (15점): 학사 서열 이상이면 만점
+ * - 자격증 (10점): 자격 요건에 언급된 자격증 보유 시 만점, 그 외 보유 개수에 비례해 최대 5점
+ */
+public final class ApplicantMatchScore {
+
+    private static final int SKILL_WEIGHT = 50;
+    private static final int EXPERIENCE_WEIGHT = 25;
+    private static final int EDUCATION_WEIGHT = 15;
+    private static final int CERTIFICATION_WEIGHT = 10;
+    private static final int BASELINE_EDUCATION_RANK = 3; // 학사
+
+    private final int total;
+    private final int skillScore;
+    private final int experienceScore;
+    private final int educationScore;
+    private final int certificationScore;
+    private final List<String> matchedSkills;
+
+    private ApplicantMatchScore(int skillScore, int experienceScore, int educationScore,
+                                int certificationScore, List<String> matchedSkills) {
+        this.skillScore = skillScore;
+        this.experienceScore = experienceScore;
+        this.educationScore = educationScore;
+        this.certificationScore = certificationScore;
+        this.total = skillScore + experienceScore + educationScore + certificationScore;
+        this.matchedSkills = List.copyOf(matchedSkills);
+    }
+
+    public static ApplicantMatchScore calculate(Requirements requirements, CandidateDocument candidate) {
+        List<String> matched = new ArrayList<>();
+        for (String skill : requirements.getSkills()) {
+            if (candidate.getSkills().containsKey(skill)) {
+                matched.add(skill);
+            }
+        }
+        matched.sort(null);
+        int skillScore = requirements.getSkills().isEmpty()
+                ? SKILL_WEIGHT
+                : Math.round((float) SKILL_WEIGHT * matched.size() / requirements.getSkills().size());
+
+        int requiredMonths = requirements.getMinimumMonths();
+        int experienceScore = requiredMonths == 0
+                ? EXPERIENCE_WEIGHT
+                : Math.round(EXPERIENCE_WEIGHT * Math.min(1f, (float) candidate.getCareerMonths() / requiredMonths));
+
+        int educationScore = Math.round(EDUCATION_WEIGHT
+                * Math.min(1f, (float) candidate.getEducationRank() / BASELINE_EDUCATION_RANK));
+
+        int certificationScore;
+        if (candidate.getCertifications().stream().anyMatch(requirements::mentions)) {
+            certificationScore = CERTIFICATION_WEIGHT;
+        } else {
+            certificationScore = Math.min(candidate.getCertifications().size(), 2) * CERTIFICATION_WEIGHT / 4;
+        }
+
+        return new ApplicantMatchScore(skillScore, experienceScore, educationScore, certificationScore, matched);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getSkillScore() {
+        return skillScore;
+    }
+
+    public int getExperienceScore() {
+        return experienceScore;
+    }
+
+    public int getEducationScore() {
+        return educationScore;
+    }
+
+    public int getCertificationScore() {
+        return certificationScore;
+    }
+
+    public List<String> getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    /**
+     * 점수 계산에 쓰이는 채용공고 요건
+     *
+     * 요건 문자열을 그대로 비교하므로 {@link #equals(Object)}가 같으면 같은 점수가 나옵니다.
+     * 지원자 수·조회수 변경처럼 점수와 무관한 수정은 요건 버전을 바꾸지 않습니다.
+     */
+    public static final class Requirements {
+        private final Set<String> skills;
+        private final ExperienceLevel experienceLevel;
+        private final String qualifications;
+
+        /**
+         * @param skills 정규화(소문자, trim)된 필요 기술 목록
+         * @param experienceLevel 요구 경력 수준
+         * @param qualifications 자격 요건 본문
+         */
+        public Requirements(Set<String> skills, ExperienceLevel experienceLevel, String qualifications) {
+            this.skills = Set.copyOf(skills);
+            this.experienceLevel = experienceLevel;
+            this.qualifications = qualifications != null ? qualifications.toLowerCase(Locale.ROOT) : "";
+        }
+
+        public Set<String> getSkills() {
+            return skills;
+        }
+
+        public int getMinimumMonths() {
+            return experienceLevel != null ? experienceLevel.getMinimumMonths() : 0;
+        }
+
+        boolean mentions(String certification) {
+            return !certification.isEmpty() && qualifications.contains(certification);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Requirements other)) {
+                return false;
+            }
+            return skills.equals(other.skills)
+                    && experienceLevel == other.experienceLevel
+                    && qualifications.equals(other.qualifications);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(skills, experienceLevel, qualifications);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.jbd.backend.job.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jbd.backend.job.domain.enums.ApplicationStatus;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 사용자별 월간 지원 현황 집계(rollup)
+ *
+ * 지원서 생성 월 기준으로 지원 수, 면접 진행 수, 최종 합격 수를 미리 집계해 두어
+ * 대시보드 월별 차트를 (user_id, month_key) 기본키 범위 조회만으로 제공합니다.
+ */
+@Entity
+@Table(name = "application_monthly_progress")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ApplicationMonthlyProgress {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private Integer applications = 0;
+
+    @Column(nullable = false)
+    private Integer interviews = 0;
+
+    @Column(nullable = false)
+    private Integer offers = 0;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ApplicationMonthlyProgress(Long userId, int monthKey, int applications, int interviews, int offers) {
+        this.id = new Key(userId, monthKey);
+        this.applications = applications;
+        this.interviews = interviews;
+        this.offers = offers;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public int getYear() {
+        return id.getMonthKey() / 100;
+    }
+
+    public int getMonth() {
+        return id.getMonthKey() % 100;
+    }
+
+    /**
+     * yyyyMM 형식의 월 키 (예: 2025년 9월 -> 202509)
+     */
+    public static int monthKeyOf(LocalDateTime dateTime) {
+        return dateTime.getYear() * 100 + dateTime.getMonthValue();
+    }
+
+    public static int monthKeyOf(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+
+    /**
+     * 면접 단계로 집계되는 상태인지 여부
+     */
+    public static boolean isInterviewStatus(ApplicationStatus status) {
+        return status == ApplicationStatus.INTERVIEW_SCHEDULED || status == ApplicationStatus.INTERVIEW_PASSED;
+    }
+
+    public static boolean isOfferStatus(ApplicationStatus status) {
+        return status == ApplicationStatus.HIRED;
+    }
+
+    @Embeddable
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Column(name = "user_id")
+        private Long userId;
+
+        @Column(name = "month_key")
+        private Integer monthKey;
+    }
+}
@@ -0,0 +1,134 @@
+package org.jbd.backend.job.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 빈도 상위 항목(heavy hitters) 스케치
+ *
+ * 최대 capacity개의 카운터만 유지하면서 스트림에서 자주 등장하는 항목을 추적합니다.
+ * 카운터가 가득 찬 상태에서 새 항목이 들어오면 가장 작은 카운터를 교체하고,
+ * 교체된 카운터 값을 오차(error)로 기록합니다. 실제 빈도는 항상 [count - error, count] 범위에 있습니다.
+ * 같은 capacity의 스케치끼리 카운터를 더해 병합할 수 있습니다.
+ * 앞서 반영한 항목을 취소할 때는 {@link #decrement(String)}로 추적 중인 카운터에서만 뺍니다.
+ */
+public class SpaceSavingSketch {
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    public SpaceSavingSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+    }
+
+    public synchronized void offer(String item) {
+        offer(item, 1, 0);
+    }
+
+    private void offer(String item, long count, long error) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            counter.count += count;
+            counter.error += error;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(item, new Counter(item, count, error));
+            return;
+        }
+
+        Counter min = counters.values().stream()
+                .min(Comparator.comparingLong(c -> c.count))
+                .orElseThrow();
+        counters.remove(min.item);
+        counters.put(item, new Counter(item, min.count + count, min.count + error));
+    }
+
+    /**
+     * 앞서 offer한 항목 하나를 취소합니다.
+     * 이미 다른 항목에 밀려난 항목이면 그 빈도는 교체된 카운터의 오차로 남아 있으므로 아무것도 하지 않으며,
+     * 카운터가 0이 되면 제거해 새 항목이 들어올 자리를 비웁니다.
+     */
+    public synchronized void decrement(String item) {
+        Counter counter = counters.get(item);
+        if (counter == null) {
+            return;
+        }
+        counter.count--;
+        if (counter.count <= 0) {
+            counters.remove(item);
+            return;
+        }
+        counter.error = Math.min(counter.error, counter.count);
+    }
+
+    /**
+     * 다른 스케치의 카운터를 현재 스케치에 합산
+     */
+    public synchronized void merge(SpaceSavingSketch other) {
+        for (Counter counter : other.snapshot()) {
+            offer(counter.item, counter.count, counter.error);
+        }
+    }
+
+    public synchronized long estimate(String item) {
+        Counter counter = counters.get(item);
+        return counter != null ? counter.count : 0L;
+    }
+
+    /**
+     * 빈도 내림차순 상위 n개 항목
+     */
+    public synchronized List<Counter> top(int n) {
+        return counters.values().stream()
+                .sorted(Comparator.comparingLong((Counter c) -> c.count).reversed()
+                        .thenComparing(c -> c.item))
+                .limit(n)
+                .map(Counter::copy)
+                .toList();
+    }
+
+    public synchronized int size() {
+        return counters.size();
+    }
+
+    private synchronized List<Counter> snapshot() {
+        List<Counter> copies = new ArrayList<>(counters.size());
+        counters.values().forEach(c -> copies.add(c.copy()));
+        return copies;
+    }
+
+    public static class Counter {
+        private final String item;
+        private long count;
+        private long error;
+
+        Counter(String item, long count, long error) {
+            this.item = item;
+            this.count = count;
+            this.error = error;
+        }
+
+        Counter copy() {
+            return new Counter(item, count, error);
+        }
+
+        public String getItem() {
+            return item;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getError() {
+            return error;
+        }
+    }
+}
@@ -1,22 +1,29 @@
 package org.jbd.backend.job.domain.enums;
 
 public enum ExperienceLevel {
-    ENTRY_LEVEL("신입"),
-    JUNIOR("경력 1-3년"),
-    MID_LEVEL("경력 3-5년"),
-    SENIOR("경력 5-10년"),
-    EXPERT("경력 10년 이상"),
-    MANAGER("관리자"),
-    DIRECTOR("임원"),
-    ANY("경력무관");
+    ENTRY_LEVEL("신입", 0),
+    JUNIOR("경력 1-3년", 12),
+    MID_LEVEL("경력 3-5년", 36),
+    SENIOR("경력 5-10년", 60),
+    EXPERT("경력 10년 이상", 120),
+    MANAGER("관리자", 84),
+    DIRECTOR("임원", 120),
+    ANY("경력무관", 0);
     
     private final String description;
+    // 지원자 적합도 계산 시 요구되는 최소 경력 개월 수
+    private final int minimumMonths;
     
-    ExperienceLevel(String description) {
+    ExperienceLevel(String description, int minimumMonths) {
         this.description = description;
+        this.minimumMonths = minimumMonths;
     }
     
     public String getDescription() {
         return description;
     }
+
+    public int getMinimumMonths() {
+        return minimumMonths;
+    }
 }
\ No newline at end of file
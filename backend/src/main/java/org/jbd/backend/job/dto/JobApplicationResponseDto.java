@@ -32,8 +32,13 @@ public class JobApplicationResponseDto {
     private String rejectionReason;
     private LocalDateTime interviewScheduledAt;
     private LocalDateTime finalDecisionAt;
+    private Integer matchScore;  // 채용공고 대비 적합도 (기업 사용자 조회 시에만 포함)
     
     public static JobApplicationResponseDto from(JobApplication application) {
+        return from(application, null);
+    }
+
+    public static JobApplicationResponseDto from(JobApplication application, Integer matchScore) {
         return JobApplicationResponseDto.builder()
                 .id(application.getId())
                 .userId(application.getUser().getId())
@@ -52,6 +57,7 @@ public class JobApplicationResponseDto {
                 .rejectionReason(application.getRejectionReason())
                 .interviewScheduledAt(application.getInterviewScheduledAt())
                 .finalDecisionAt(application.getFinalDecisionAt())
+                .matchScore(matchScore)
                 .build();
     }
 }
\ No newline at end of file
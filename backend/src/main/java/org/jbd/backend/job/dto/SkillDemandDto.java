@@ -0,0 +1,20 @@
+package org.jbd.backend.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SkillDemandDto {
+
+    private String skill;
+    private String department;
+    private Integer rank;
+    // 최근 windowDays일 동안 해당 기술을 요구한 채용공고 수 (추정치)
+    private Long postingCount;
+    private Integer windowDays;
+}
@@ -0,0 +1,68 @@
+package org.jbd.backend.job.repository;
+
+import org.jbd.backend.job.domain.ApplicationMonthlyProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ApplicationMonthlyProgressRepository
+        extends JpaRepository<ApplicationMonthlyProgress, ApplicationMonthlyProgress.Key> {
+
+    /**
+     * 기본키 범위 조회: 특정 사용자의 [fromMonthKey, toMonthKey] 구간 집계
+     */
+    @Query("SELECT p FROM ApplicationMonthlyProgress p " +
+           "WHERE p.id.userId = :userId AND p.id.monthKey BETWEEN :fromMonthKey AND :toMonthKey " +
+           "ORDER BY p.id.monthKey DESC")
+    List<ApplicationMonthlyProgress> findByUserIdAndMonthKeyRange(@Param("userId") Long userId,
+                                                                  @Param("fromMonthKey") int fromMonthKey,
+                                                                  @Param("toMonthKey") int toMonthKey);
+
+    /**
+     * 집계 행의 카운터를 원자적으로 증감 (동시 상태 변경 시 갱신 손실 방지)
+     */
+    @Modifying
+    @Query("UPDATE ApplicationMonthlyProgress p SET " +
+           "p.applications = p.applications + :applicationsDelta, " +
+           "p.interviews = p.interviews + :interviewsDelta, " +
+           "p.offers = p.offers + :offersDelta, " +
+           "p.updatedAt = :now " +
+           "WHERE p.id.userId = :userId AND p.id.monthKey = :monthKey")
+    int increment(@Param("userId") Long userId,
+                  @Param("monthKey") int monthKey,
+                  @Param("applicationsDelta") int applicationsDelta,
+                  @Param("interviewsDelta") int interviewsDelta,
+                  @Param("offersDelta") int offersDelta,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 집계 행이 없으면 만들고, 있으면 카운터를 증감 (첫 지원이 동시에 들어와도 기본키 충돌 없이 한 문장으로 반영)
+     * 새 행에는 음수 증감분을 0으로 넣습니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO application_monthly_progress " +
+                   "(user_id, month_key, applications, interviews, offers, updated_at) " +
+                   "VALUES (:userId, :monthKey, GREATEST(:applicationsDelta, 0), GREATEST(:interviewsDelta, 0), " +
+                   "GREATEST(:offersDelta, 0), :now) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "applications = applications + :applicationsDelta, " +
+                   "interviews = interviews + :interviewsDelta, " +
+                   "offers = offers + :offersDelta, " +
+                   "updated_at = :now",
+           nativeQuery = true)
+    int upsertIncrement(@Param("userId") Long userId,
+                        @Param("monthKey") int monthKey,
+                        @Param("applicationsDelta") int applicationsDelta,
+                        @Param("interviewsDelta") int interviewsDelta,
+                        @Param("offersDelta") int offersDelta,
+                        @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM ApplicationMonthlyProgress p WHERE p.id.userId IN :userIds")
+    int deleteByUserIds(@Param("userIds") Collection<Long> userIds);
+}
@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -118,19 +119,41 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     Page<JobApplication> findByJobPostingWithDetails(@Param("jobPosting") JobPosting jobPosting, Pageable pageable);
 
     /**
-     * 월별 지원 현황 조회 (특정 사용자)
+     * 지원자 적합도 정렬용: 채용공고의 (지원서 ID, 지원자 ID) 목록
+     */
+    @Query("SELECT ja.id, ja.user.id FROM JobApplication ja WHERE ja.jobPosting = :jobPosting")
+    List<Object[]> findApplicationAndApplicantIds(@Param("jobPosting") JobPosting jobPosting);
+
+    /**
+     * Fetch join을 사용하여 지정한 지원서들을 상세 정보와 함께 조회
+     */
+    @Query("SELECT ja FROM JobApplication ja " +
+           "LEFT JOIN FETCH ja.user " +
+           "LEFT JOIN FETCH ja.jobPosting jp " +
+           "LEFT JOIN FETCH jp.companyUser " +
+           "WHERE ja.id IN :ids")
+    List<JobApplication> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 월별 집계 백필용: 지원 이력이 있는 사용자 ID를 청크 단위로 조회 (키셋 페이징)
+     */
+    @Query("SELECT DISTINCT ja.user.id FROM JobApplication ja WHERE ja.user.id > :afterUserId ORDER BY ja.user.id")
+    List<Long> findDistinctApplicantIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    /**
+     * 월별 집계 백필용: 지정한 사용자들의 전체 기간 월별 지원 현황
      */
     @Query("SELECT " +
+           "ja.user.id as userId, " +
            "YEAR(ja.createdAt) as year, " +
            "MONTH(ja.createdAt) as month, " +
            "COUNT(*) as applications, " +
            "COUNT(CASE WHEN ja.status IN ('INTERVIEW_SCHEDULED', 'INTERVIEW_PASSED') THEN 1 END) as interviews, " +
            "COUNT(CASE WHEN ja.status = 'HIRED' THEN 1 END) as offers " +
            "FROM JobApplication ja " +
-           "WHERE ja.user = :user AND ja.createdAt >= :startDate " +
-           "GROUP BY YEAR(ja.createdAt), MONTH(ja.createdAt) " +
-           "ORDER BY YEAR(ja.createdAt) DESC, MONTH(ja.createdAt) DESC")
-    List<Object[]> findMonthlyProgressByUser(@Param("user") User user, @Param("startDate") LocalDateTime startDate);
+           "WHERE ja.user.id IN :userIds " +
+           "GROUP BY ja.user.id, YEAR(ja.createdAt), MONTH(ja.createdAt)")
+    List<Object[]> aggregateMonthlyProgressByUserIds(@Param("userIds") List<Long> userIds);
 
     /**
      * 직무별 취업 통계 조회
@@ -165,4 +165,12 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long>, J
     List<JobPosting> findDeadlineApproachingJobPostingsByCompany(@Param("companyUser") User companyUser,
                                                                @Param("now") LocalDate now,
                                                                @Param("deadline") LocalDate deadline);
-}
\ No newline at end of file
+
+    /**
+     * 기술 수요 인덱스 초기화용: 기간 내 발행되어 게시 중인 채용공고의 (필요 기술, 부서, 발행일시)
+     */
+    @Query("SELECT j.requiredSkills, j.department, j.publishedAt FROM JobPosting j " +
+           "WHERE j.status = org.jbd.backend.job.domain.enums.JobStatus.PUBLISHED " +
+           "AND j.publishedAt >= :since AND j.requiredSkills IS NOT NULL")
+    List<Object[]> findRequiredSkillsPublishedSince(@Param("since") LocalDateTime since);
+}
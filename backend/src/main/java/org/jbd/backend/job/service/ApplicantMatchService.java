@@ -0,0 +1,195 @@
+package org.jbd.backend.job.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.job.domain.ApplicantMatchScore;
+import org.jbd.backend.job.domain.JobApplication;
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.repository.JobApplicationRepository;
+import org.jbd.backend.user.domain.CandidateIndex.CandidateDocument;
+import org.jbd.backend.user.service.CandidateSearchService;
+import org.jbd.backend.user.service.ProfileVersionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채용공고 대비 지원자 적합도 계산 서비스
+ *
+ * 점수는 (채용공고 요건, 지원자 프로필 버전) 단위로 캐시되며, 요건이 바뀐 공고나
+ * 프로필이 바뀐 지원자만 다시 계산합니다. 캐시에 없는 지원자의 프로필은 테이블별 일괄 조회로 읽고,
+ * 지원자 수가 많으면 전용 ForkJoinPool에서 병렬로 계산해 공용 풀과 요청 스레드를 점유하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ApplicantMatchService {
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final CandidateSearchService candidateSearchService;
+    private final ProfileVersionService profileVersionService;
+
+    @Value("${job.applicant-match.parallelism:4}")
+    private int parallelism;
+
+    @Value("${job.applicant-match.parallel-threshold:64}")
+    private int parallelThreshold;
+
+    @Value("${job.applicant-match.load-chunk-size:500}")
+    private int loadChunkSize;
+
+    @Value("${job.applicant-match.max-cached-postings:200}")
+    private int maxCachedPostings;
+
+    private ForkJoinPool pool;
+    private Map<Long, PostingScores> cache;
+
+    @PostConstruct
+    void init() {
+        pool = new ForkJoinPool(Math.max(1, parallelism));
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, PostingScores> eldest) {
+                return size() > maxCachedPostings;
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * 지원자별 적합도 점수를 조회합니다. 캐시에 없는 지원자만 계산합니다.
+     *
+     * @param jobPosting 채용공고
+     * @param applicantIds 지원자(사용자) ID 목록
+     * @return 사용자 ID -> 적합도 점수
+     */
+    public Map<Long, ApplicantMatchScore> getScores(JobPosting jobPosting, Collection<Long> applicantIds) {
+        ApplicantMatchScore.Requirements requirements = requirementsOf(jobPosting);
+        PostingScores postingScores = cache.compute(jobPosting.getId(),
+                (id, existing) -> existing != null && existing.requirements.equals(requirements)
+                        ? existing : new PostingScores(requirements));
+
+        Map<Long, ApplicantMatchScore> result = new HashMap<>();
+        // 버전을 프로필보다 먼저 읽어야 계산 도중 변경된 프로필이 새 버전으로 캐시되지 않음
+        Map<Long, Long> missingVersions = new LinkedHashMap<>();
+        for (Long userId : new LinkedHashSet<>(applicantIds)) {
+            long version = profileVersionService.getVersion(userId);
+            VersionedScore cached = postingScores.byUser.get(userId);
+            if (cached != null && cached.profileVersion == version) {
+                result.put(userId, cached.score);
+            } else {
+                missingVersions.put(userId, version);
+            }
+        }
+
+        if (!missingVersions.isEmpty()) {
+            List<Long> missing = new ArrayList<>(missingVersions.keySet());
+            for (int from = 0; from < missing.size(); from += loadChunkSize) {
+                List<Long> chunk = missing.subList(from, Math.min(from + loadChunkSize, missing.size()));
+                List<CandidateDocument> documents = candidateSearchService.loadDocuments(chunk);
+                List<ApplicantMatchScore> chunkScores = calculate(requirements, documents);
+                for (int i = 0; i < documents.size(); i++) {
+                    Long userId = documents.get(i).getUserId();
+                    postingScores.byUser.put(userId, new VersionedScore(missingVersions.get(userId), chunkScores.get(i)));
+                    result.put(userId, chunkScores.get(i));
+                }
+            }
+            log.debug("지원자 적합도 계산: 채용공고 {} - 신규 {}명, 캐시 {}명",
+                    jobPosting.getId(), missing.size(), result.size() - missing.size());
+        }
+        return result;
+    }
+
+    /**
+     * 채용공고의 지원서를 적합도 내림차순으로 페이지 조회합니다.
+     * 정렬에는 (지원서 ID, 지원자 ID)만 사용하고, 상세 정보는 현재 페이지의 지원서만 조회합니다.
+     *
+     * @param jobPosting 채용공고
+     * @param pageable 페이지 정보 (정렬 조건은 무시)
+     * @return 적합도 순 지원서 페이지
+     */
+    public Page<JobApplication> getApplicationsSortedByFit(JobPosting jobPosting, Pageable pageable) {
+        List<Object[]> rows = jobApplicationRepository.findApplicationAndApplicantIds(jobPosting);
+        Map<Long, ApplicantMatchScore> scores = getScores(jobPosting,
+                rows.stream().map(row -> (Long) row[1]).toList());
+
+        List<Long> rankedApplicationIds = rows.stream()
+                .sorted(Comparator.comparingInt((Object[] row) -> totalOf(scores.get((Long) row[1]))).reversed()
+                        .thenComparing(row -> (Long) row[0]))
+                .map(row -> (Long) row[0])
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), rankedApplicationIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedApplicationIds.size());
+        List<Long> pageIds = rankedApplicationIds.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, rankedApplicationIds.size());
+        }
+
+        Map<Long, JobApplication> applications = jobApplicationRepository.findAllWithDetailsByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(JobApplication::getId, Function.identity()));
+        List<JobApplication> content = pageIds.stream()
+                .map(applications::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, rankedApplicationIds.size());
+    }
+
+    private List<ApplicantMatchScore> calculate(ApplicantMatchScore.Requirements requirements,
+                                                List<CandidateDocument> documents) {
+        if (documents.size() < parallelThreshold) {
+            return documents.stream().map(document -> ApplicantMatchScore.calculate(requirements, document)).toList();
+        }
+        // 전용 풀에서 실행한 작업 안의 병렬 스트림은 해당 풀의 워커를 사용
+        return pool.submit(() -> documents.parallelStream()
+                        .map(document -> ApplicantMatchScore.calculate(requirements, document))
+                        .toList())
+                .join();
+    }
+
+    private ApplicantMatchScore.Requirements requirementsOf(JobPosting jobPosting) {
+        return new ApplicantMatchScore.Requirements(
+                SkillDemandService.parseSkills(jobPosting.getRequiredSkills()).keySet(),
+                jobPosting.getExperienceLevel(),
+                jobPosting.getQualifications());
+    }
+
+    private static int totalOf(ApplicantMatchScore score) {
+        return score != null ? score.getTotal() : 0;
+    }
+
+    private static final class PostingScores {
+        private final ApplicantMatchScore.Requirements requirements;
+        private final Map<Long, VersionedScore> byUser = new ConcurrentHashMap<>();
+
+        private PostingScores(ApplicantMatchScore.Requirements requirements) {
+            this.requirements = requirements;
+        }
+    }
+
+    private static final class VersionedScore {
+        private final long profileVersion;
+        private final ApplicantMatchScore score;
+
+        private VersionedScore(long profileVersion, ApplicantMatchScore score) {
+            this.profileVersion = profileVersion;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.jbd.backend.job.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.job.domain.ApplicationMonthlyProgress;
+import org.jbd.backend.job.domain.JobApplication;
+import org.jbd.backend.job.domain.enums.ApplicationStatus;
+import org.jbd.backend.job.repository.ApplicationMonthlyProgressRepository;
+import org.jbd.backend.job.repository.JobApplicationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별 월간 지원 현황 집계(rollup) 관리 서비스
+ *
+ * 지원/상태 변경/삭제 시점에 해당 월 집계 행을 증분 갱신하여
+ * 대시보드가 매 요청마다 전체 지원 이력을 그룹핑하지 않도록 합니다.
+ * 행 생성과 증감은 upsert 한 문장으로 처리하므로 같은 달 첫 지원이 동시에 들어와도 기본키 충돌이 나지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ApplicationProgressRollupService {
+
+    private final ApplicationMonthlyProgressRepository progressRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${dashboard.monthly-progress.backfill-chunk-size:200}")
+    private int backfillChunkSize;
+
+    /**
+     * 최근 months개월(이번 달 포함) 집계를 월 키 내림차순으로 조회
+     */
+    public List<ApplicationMonthlyProgress> getRecentProgress(Long userId, int months) {
+        YearMonth current = YearMonth.now();
+        int fromMonthKey = ApplicationMonthlyProgress.monthKeyOf(current.minusMonths(months));
+        int toMonthKey = ApplicationMonthlyProgress.monthKeyOf(current);
+        return progressRepository.findByUserIdAndMonthKeyRange(userId, fromMonthKey, toMonthKey);
+    }
+
+    /**
+     * 신규 지원서 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onApplied(JobApplication application) {
+        ApplicationStatus status = application.getStatus();
+        apply(application, 1,
+                ApplicationMonthlyProgress.isInterviewStatus(status) ? 1 : 0,
+                ApplicationMonthlyProgress.isOfferStatus(status) ? 1 : 0);
+    }
+
+    /**
+     * 지원서 상태 변경 반영 (이전 상태의 집계를 빼고 현재 상태를 더함)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onStatusChanged(JobApplication application, ApplicationStatus previousStatus) {
+        ApplicationStatus currentStatus = application.getStatus();
+        if (previousStatus == currentStatus) {
+            return;
+        }
+        int interviewsDelta = (ApplicationMonthlyProgress.isInterviewStatus(currentStatus) ? 1 : 0)
+                - (ApplicationMonthlyProgress.isInterviewStatus(previousStatus) ? 1 : 0);
+        int offersDelta = (ApplicationMonthlyProgress.isOfferStatus(currentStatus) ? 1 : 0)
+                - (ApplicationMonthlyProgress.isOfferStatus(previousStatus) ? 1 : 0);
+        if (interviewsDelta != 0 || offersDelta != 0) {
+            apply(application, 0, interviewsDelta, offersDelta);
+        }
+    }
+
+    /**
+     * 지원서 삭제 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onRemoved(JobApplication application) {
+        ApplicationStatus status = application.getStatus();
+        apply(application, -1,
+                ApplicationMonthlyProgress.isInterviewStatus(status) ? -1 : 0,
+                ApplicationMonthlyProgress.isOfferStatus(status) ? -1 : 0);
+    }
+
+    private void apply(JobApplication application, int applicationsDelta, int interviewsDelta, int offersDelta) {
+        Long userId = application.getUser().getId();
+        int monthKey = ApplicationMonthlyProgress.monthKeyOf(appliedMonthOf(application));
+
+        if (applicationsDelta < 0) {
+            // 삭제는 집계 행이 있을 때만 빼면 되므로 새 행을 만들지 않음
+            progressRepository.increment(userId, monthKey,
+                    applicationsDelta, interviewsDelta, offersDelta, LocalDateTime.now());
+            return;
+        }
+        progressRepository.upsertIncrement(userId, monthKey,
+                applicationsDelta, interviewsDelta, offersDelta, LocalDateTime.now());
+    }
+
+    private LocalDateTime appliedMonthOf(JobApplication application) {
+        // 집계 기준은 기존 월별 통계 쿼리와 동일하게 생성 시각
+        return application.getCreatedAt() != null ? application.getCreatedAt() : application.getAppliedAt();
+    }
+
+    /**
+     * 기존 지원 이력으로 집계 테이블을 채움 (집계 테이블이 비어 있을 때만 자동 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillIfEmpty() {
+        if (progressRepository.count() > 0 || jobApplicationRepository.count() == 0) {
+            return;
+        }
+        backfill();
+    }
+
+    /**
+     * 지원 이력이 있는 사용자를 청크 단위로 나누어 집계를 재계산
+     * 청크마다 별도 트랜잭션으로 처리하여 긴 트랜잭션과 대량 메모리 사용을 피합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int backfill() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long afterUserId = 0L;
+        int processedUsers = 0;
+
+        while (true) {
+            List<Long> userIds = jobApplicationRepository.findDistinctApplicantIdsAfter(
+                    afterUserId, PageRequest.of(0, backfillChunkSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> rebuildForUsers(userIds));
+            processedUsers += userIds.size();
+            afterUserId = userIds.get(userIds.size() - 1);
+            log.info("월별 지원 현황 백필 진행: {}명 처리", processedUsers);
+        }
+
+        log.info("월별 지원 현황 백필 완료: 총 {}명", processedUsers);
+        return processedUsers;
+    }
+
+    private void rebuildForUsers(List<Long> userIds) {
+        progressRepository.deleteByUserIds(userIds);
+
+        List<ApplicationMonthlyProgress> rows = new ArrayList<>();
+        for (Object[] row : jobApplicationRepository.aggregateMonthlyProgressByUserIds(userIds)) {
+            Long userId = ((Number) row[0]).longValue();
+            int year = ((Number) row[1]).intValue();
+            int month = ((Number) row[2]).intValue();
+            rows.add(new ApplicationMonthlyProgress(userId, year * 100 + month,
+                    ((Number) row[3]).intValue(),
+                    ((Number) row[4]).intValue(),
+                    ((Number) row[5]).intValue()));
+        }
+        progressRepository.saveAll(rows);
+    }
+}
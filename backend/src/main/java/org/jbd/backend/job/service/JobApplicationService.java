@@ -23,6 +23,7 @@
         private final JobApplicationRepository jobApplicationRepository;
         private final JobPostingRepository jobPostingRepository;
         private final UserRepository userRepository;
+        private final ApplicationProgressRollupService applicationProgressRollupService;
     
         @Transactional
         public JobApplication applyToJobPosting(Long userId, Long jobPostingId, String coverLetter) {
@@ -41,7 +42,9 @@
             }
     
             JobApplication jobApplication = new JobApplication(user, jobPosting, coverLetter);
-            return jobApplicationRepository.save(jobApplication);
+            JobApplication saved = jobApplicationRepository.save(jobApplication);
+            applicationProgressRollupService.onApplied(saved);
+            return saved;
         }
     
         public JobApplication getJobApplication(Long jobApplicationId) {
@@ -60,14 +63,18 @@
         @Transactional
         public JobApplication reviewJobApplication(Long jobApplicationId) {
             JobApplication jobApplication = getJobApplication(jobApplicationId);
+            ApplicationStatus previousStatus = jobApplication.getStatus();
             jobApplication.review();
+            applicationProgressRollupService.onStatusChanged(jobApplication, previousStatus);
             return jobApplicationRepository.save(jobApplication);
         }
     
         @Transactional
         public JobApplication passDocumentReview(Long jobApplicationId) {
             JobApplication jobApplication = getJobApplication(jobApplicationId);
+            ApplicationStatus previousStatus = jobApplication.getStatus();
             jobApplication.passDocumentReview();
+            applicationProgressRollupService.onStatusChanged(jobApplication, previousStatus);
             return jobApplicationRepository.save(jobApplication);
         }
     
@@ -80,28 +87,36 @@
                 throw new IllegalArgumentException("처리 권한이 없습니다");
             }
     
+            ApplicationStatus previousStatus = jobApplication.getStatus();
             jobApplication.passDocumentReview();
+            applicationProgressRollupService.onStatusChanged(jobApplication, previousStatus);
             return jobApplicationRepository.save(jobApplication);
         }
     
         @Transactional
         public JobApplication passInterview(Long jobApplicationId) {
             JobApplication jobApplication = getJobApplication(jobApplicationId);
+            ApplicationStatus previousStatus = jobApplication.getStatus();
             jobApplication.passInterview();
+            applicationProgressRollupService.onStatusChanged(jobApplication, previousStatus);
             return jobApplicationRepository.save(jobApplication);
         }
     
         @Transactional
         public JobApplication hireApplicant(Long jobApplicationId) {
             JobApplication jobApplication = getJobApplication(jobApplicationId);
+            ApplicationStatus previousStatus = jobApplication.getStatus();
             jobApplication.hire();
+            applicationProgressRollupService.onStatusChanged(jobApplication, previousStatus);
             return jobApplicationRepository.save(jobApplication);
         }
     
         @Transactional
         public JobApplication rejectJobApplication(Long jobApplicationId, String rejectionReason) {
             JobApplication jobApplication = getJobApplication(jobApplicationId);
+            ApplicationStatus previousStatus = jobApplication.getStatus();
             jobApplication.reject(rejectionReason);
+            applicationProgressRollupService.onStatusChanged(jobApplication, previousStatus);
             return jobApplicationRepository.save(jobApplication);
         }
     
@@ -38,6 +38,8 @@ public class JobPostingService {
     private final JobPostingRepository jobPostingRepository;
     private final JobApplicationRepository jobApplicationRepository;
     private final UserRepository userRepository;
+    private final ApplicationProgressRollupService applicationProgressRollupService;
+    private final SkillDemandService skillDemandService;
 
     @Transactional
     public JobPosting createJobPosting(Long userId, String title, String companyName, String location,
@@ -56,7 +58,11 @@ public class JobPostingService {
     @Transactional
     public JobPosting publishJobPosting(Long jobPostingId, LocalDate deadlineDate) {
         JobPosting jobPosting = getJobPosting(jobPostingId);
+        boolean wasPublished = jobPosting.isPublished();
         jobPosting.publish(deadlineDate);
+        if (!wasPublished) {
+            skillDemandService.recordPublished(jobPosting);
+        }
         return jobPostingRepository.save(jobPosting);
     }
 
@@ -111,6 +117,8 @@ public class JobPostingService {
     @Transactional
     public JobPosting updateJobPosting(Long jobPostingId, org.jbd.backend.job.dto.JobPostingUpdateDto dto) {
         JobPosting jobPosting = getJobPosting(jobPostingId);
+        String previousRequiredSkills = jobPosting.getRequiredSkills();
+        String previousDepartment = jobPosting.getDepartment();
 
         // 기본 정보 업데이트 (null이 아닌 필드만)
         if (dto.getTitle() != null || dto.getCompanyName() != null || dto.getLocation() != null ||
@@ -138,6 +146,11 @@ public class JobPostingService {
             );
         }
 
+        // 발행 중인 공고의 필요 기술·부서 변경은 기술 수요 인덱스에 증감으로 반영
+        if ((dto.getRequiredSkills() != null || dto.getDepartment() != null) && jobPosting.isPublished()) {
+            skillDemandService.recordChanged(jobPosting, previousRequiredSkills, previousDepartment);
+        }
+
         // 급여 정보 업데이트
         if (dto.getMinSalary() != null || dto.getMaxSalary() != null || dto.getSalaryNegotiable() != null) {
             jobPosting.updateSalaryInfo(
@@ -169,6 +182,9 @@ public class JobPostingService {
     @Transactional
     public JobPosting closeJobPosting(Long jobPostingId) {
         JobPosting jobPosting = getJobPosting(jobPostingId);
+        if (jobPosting.isPublished()) {
+            skillDemandService.recordWithdrawn(jobPosting);
+        }
         jobPosting.close();
         return jobPostingRepository.save(jobPosting);
     }
@@ -218,10 +234,14 @@ public class JobPostingService {
         // 먼저 연관된 지원서들을 삭제
         List<JobApplication> applications = jobApplicationRepository.findByJobPosting(jobPosting);
         if (!applications.isEmpty()) {
+            applications.forEach(applicationProgressRollupService::onRemoved);
             jobApplicationRepository.deleteAll(applications);
         }
 
         // 그 다음 채용공고 삭제
+        if (jobPosting.isPublished()) {
+            skillDemandService.recordWithdrawn(jobPosting);
+        }
         jobPostingRepository.delete(jobPosting);
     }
 
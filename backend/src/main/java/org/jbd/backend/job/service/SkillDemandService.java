@@ -0,0 +1,266 @@
+package org.jbd.backend.job.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jbd.backend.common.util.TransactionUtils;
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.domain.SpaceSavingSketch;
+import org.jbd.backend.job.dto.SkillDemandDto;
+import org.jbd.backend.job.repository.JobPostingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 채용공고 기반 기술 수요 인덱스
+ *
+ * 발행 중인 채용공고의 필요 기술(requiredSkills)을 일자별·부서별 Space-Saving 스케치로 집계하고,
+ * 최근 windowDays일 구간을 병합한 순위 스냅샷을 유지합니다.
+ * 공고의 발행·기술 수정·마감·삭제는 트랜잭션 커밋 후 해당 공고의 발행일 스케치에 증감으로 반영하고,
+ * 스냅샷은 스케줄러 스레드가 주기적으로 다시 계산합니다.
+ * 조회(수요 기술 목록, 특정 기술의 수요 여부)는 채용공고를 다시 읽지 않고 마지막 스냅샷에서 바로 응답합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SkillDemandService {
+
+    /** 부서 구분 없이 전체 채용공고를 집계하는 세그먼트 */
+    public static final String ALL_DEPARTMENTS = "ALL";
+
+    private final JobPostingRepository jobPostingRepository;
+
+    @Value("${job.skill-demand.window-days:30}")
+    private int windowDays;
+
+    @Value("${job.skill-demand.capacity:100}")
+    private int capacity;
+
+    @Value("${job.skill-demand.in-demand-top:15}")
+    private int inDemandTop;
+
+    // 일자 -> 세그먼트(부서) -> 스케치
+    private final Map<LocalDate, Map<String, SpaceSavingSketch>> dailySketches = new ConcurrentHashMap<>();
+    // 정규화된 기술 키 -> 화면 표시용 이름
+    private final Map<String, String> displayNames = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+
+    private volatile Map<String, List<SkillDemandDto>> rankingBySegment = Map.of();
+    private volatile Map<String, Set<String>> inDemandBySegment = Map.of();
+
+    /**
+     * 애플리케이션 시작 시 최근 구간에 발행되어 아직 게시 중인 채용공고로 인덱스를 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadRecentPostings() {
+        LocalDateTime since = LocalDate.now().minusDays(windowDays - 1L).atStartOfDay();
+        List<Object[]> rows = jobPostingRepository.findRequiredSkillsPublishedSince(since);
+        for (Object[] row : rows) {
+            adjust(parseSkills((String) row[0]), (String) row[1], (LocalDateTime) row[2], true);
+        }
+        refresh();
+        log.info("기술 수요 인덱스 초기화 완료: 채용공고 {}건", rows.size());
+    }
+
+    /**
+     * 채용공고 발행 시 필요 기술을 집계에 반영
+     */
+    public void recordPublished(JobPosting jobPosting) {
+        Map<String, String> skills = parseSkills(jobPosting.getRequiredSkills());
+        String department = jobPosting.getDepartment();
+        LocalDateTime publishedAt = jobPosting.getPublishedAt();
+        TransactionUtils.runAfterCommit(() -> adjust(skills, department, publishedAt, true));
+    }
+
+    /**
+     * 발행 중인 채용공고의 필요 기술이나 부서가 수정된 경우 이전 값을 빼고 새 값을 반영
+     */
+    public void recordChanged(JobPosting jobPosting, String previousRequiredSkills, String previousDepartment) {
+        Map<String, String> previous = parseSkills(previousRequiredSkills);
+        Map<String, String> current = parseSkills(jobPosting.getRequiredSkills());
+        String department = jobPosting.getDepartment();
+        LocalDateTime publishedAt = jobPosting.getPublishedAt();
+
+        if (segmentOf(previousDepartment).equals(segmentOf(department))) {
+            // 같은 세그먼트면 빠진 기술과 추가된 기술만 증감
+            Map<String, String> removed = new LinkedHashMap<>(previous);
+            removed.keySet().removeAll(current.keySet());
+            Map<String, String> added = new LinkedHashMap<>(current);
+            added.keySet().removeAll(previous.keySet());
+            previous = removed;
+            current = added;
+        }
+        Map<String, String> toRemove = previous;
+        Map<String, String> toAdd = current;
+        if (toRemove.isEmpty() && toAdd.isEmpty()) {
+            return;
+        }
+        TransactionUtils.runAfterCommit(() -> {
+            adjust(toRemove, previousDepartment, publishedAt, false);
+            adjust(toAdd, department, publishedAt, true);
+        });
+    }
+
+    /**
+     * 발행 중이던 채용공고가 마감되거나 삭제된 경우 집계에서 제외
+     */
+    public void recordWithdrawn(JobPosting jobPosting) {
+        Map<String, String> skills = parseSkills(jobPosting.getRequiredSkills());
+        String department = jobPosting.getDepartment();
+        LocalDateTime publishedAt = jobPosting.getPublishedAt();
+        TransactionUtils.runAfterCommit(() -> adjust(skills, department, publishedAt, false));
+    }
+
+    private void adjust(Map<String, String> skills, String department, LocalDateTime publishedAt, boolean add) {
+        if (skills.isEmpty()) {
+            return;
+        }
+        // 발행일 기준 스케치에 반영해야 마감·삭제 시 같은 일자에서 뺄 수 있음
+        LocalDate day = publishedAt != null ? publishedAt.toLocalDate() : LocalDate.now();
+        if (day.isBefore(windowStart())) {
+            return;
+        }
+
+        Map<String, SpaceSavingSketch> segments = dailySketches.computeIfAbsent(day, d -> new ConcurrentHashMap<>());
+        SpaceSavingSketch all = segments.computeIfAbsent(ALL_DEPARTMENTS, s -> new SpaceSavingSketch(capacity));
+        String segment = segmentOf(department);
+        SpaceSavingSketch departmentSketch = ALL_DEPARTMENTS.equals(segment)
+                ? null : segments.computeIfAbsent(segment, s -> new SpaceSavingSketch(capacity));
+
+        skills.forEach((key, displayName) -> {
+            if (add) {
+                displayNames.putIfAbsent(key, displayName);
+                all.offer(key);
+            } else {
+                all.decrement(key);
+            }
+            if (departmentSketch != null) {
+                if (add) {
+                    departmentSketch.offer(key);
+                } else {
+                    departmentSketch.decrement(key);
+                }
+            }
+        });
+        dirty.set(true);
+    }
+
+    /**
+     * 부서별 수요 상위 기술 목록 (부서 데이터가 없으면 전체 기준)
+     */
+    public List<SkillDemandDto> getInDemandSkills(String department, int limit) {
+        Map<String, List<SkillDemandDto>> ranking = rankingBySegment;
+        List<SkillDemandDto> skills = ranking.getOrDefault(segmentOf(department),
+                ranking.getOrDefault(ALL_DEPARTMENTS, List.of()));
+        return skills.subList(0, Math.min(Math.max(limit, 0), skills.size()));
+    }
+
+    /**
+     * 해당 기술이 부서(없으면 전체) 수요 상위 기술에 속하는지 여부
+     */
+    public boolean isInDemand(String skillName, String department) {
+        Map<String, Set<String>> inDemand = inDemandBySegment;
+        Set<String> skills = inDemand.getOrDefault(segmentOf(department),
+                inDemand.getOrDefault(ALL_DEPARTMENTS, Set.of()));
+        return skillName != null && skills.contains(normalize(skillName));
+    }
+
+    public boolean hasData() {
+        return !inDemandBySegment.getOrDefault(ALL_DEPARTMENTS, Set.of()).isEmpty();
+    }
+
+    /**
+     * 변경분이 있으면 순위 스냅샷을 다시 계산 (요청 스레드가 아닌 스케줄러에서 실행)
+     */
+    @Scheduled(fixedDelayString = "${job.skill-demand.refresh-interval-ms:5000}")
+    public void refreshSnapshot() {
+        refresh();
+    }
+
+    /**
+     * 하루가 지나면 구간 밖 일자를 제외하도록 스냅샷을 다시 계산
+     */
+    @Scheduled(cron = "${job.skill-demand.expire-cron:0 5 0 * * *}")
+    public void expireOldDays() {
+        dirty.set(true);
+        refresh();
+    }
+
+    private synchronized void refresh() {
+        if (!dirty.compareAndSet(true, false)) {
+            return;
+        }
+
+        LocalDate windowStart = windowStart();
+        dailySketches.keySet().removeIf(day -> day.isBefore(windowStart));
+
+        Map<String, SpaceSavingSketch> merged = new HashMap<>();
+        dailySketches.values().forEach(segments -> segments.forEach((segment, sketch) ->
+                merged.computeIfAbsent(segment, s -> new SpaceSavingSketch(capacity)).merge(sketch)));
+
+        Map<String, List<SkillDemandDto>> ranking = new HashMap<>();
+        Map<String, Set<String>> inDemand = new HashMap<>();
+        merged.forEach((segment, sketch) -> {
+            List<SkillDemandDto> ranked = new ArrayList<>();
+            Set<String> top = new HashSet<>();
+            int rank = 1;
+            for (SpaceSavingSketch.Counter counter : sketch.top(capacity)) {
+                ranked.add(SkillDemandDto.builder()
+                        .skill(displayNames.getOrDefault(counter.getItem(), counter.getItem()))
+                        .department(segment)
+                        .rank(rank)
+                        .postingCount(counter.getCount())
+                        .windowDays(windowDays)
+                        .build());
+                if (rank <= inDemandTop) {
+                    top.add(counter.getItem());
+                }
+                rank++;
+            }
+            ranking.put(segment, List.copyOf(ranked));
+            inDemand.put(segment, Set.copyOf(top));
+        });
+
+        rankingBySegment = ranking;
+        inDemandBySegment = inDemand;
+    }
+
+    private LocalDate windowStart() {
+        return LocalDate.now().minusDays(windowDays - 1L);
+    }
+
+    private String segmentOf(String department) {
+        return department == null || department.isBlank() ? ALL_DEPARTMENTS : department.trim();
+    }
+
+    /**
+     * 쉼표/세미콜론/줄바꿈 등으로 구분된 필요 기술 문자열을 (정규화 키 -> 표시 이름)으로 변환
+     */
+    static Map<String, String> parseSkills(String requiredSkills) {
+        Map<String, String> skills = new LinkedHashMap<>();
+        if (requiredSkills == null || requiredSkills.isBlank()) {
+            return skills;
+        }
+        for (String token : requiredSkills.split("[,;|\\n]")) {
+            String name = token.trim();
+            if (!name.isEmpty()) {
+                skills.putIfAbsent(normalize(name), name);
+            }
+        }
+        return skills;
+    }
+
+    private static String normalize(String skillName) {
+        return skillName.trim().toLowerCase(Locale.ROOT);
+    }
+}
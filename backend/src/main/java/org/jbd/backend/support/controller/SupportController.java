@@ -35,10 +35,9 @@ public class SupportController {
     @PostMapping("/tickets")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<SupportDto.TicketResponse>> createTicket(
-            @RequestHeader("Authorization") String authHeader,
             @Valid @RequestBody SupportDto.CreateTicketRequest request) {
 
-        SupportDto.TicketResponse response = supportService.createTicket(request, authHeader);
+        SupportDto.TicketResponse response = supportService.createTicket(request);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("티켓이 성공적으로 생성되었습니다", response));
     }
@@ -46,102 +45,92 @@ public class SupportController {
     @GetMapping("/tickets")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<Page<SupportDto.TicketResponse>>> getMyTickets(
-            @RequestHeader("Authorization") String authHeader,
             @RequestParam(required = false) String status,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        Page<SupportDto.TicketResponse> tickets = supportService.getMyTickets(status, pageable, authHeader);
+        Page<SupportDto.TicketResponse> tickets = supportService.getMyTickets(status, pageable);
         return ResponseEntity.ok(ApiResponse.success("티켓 목록을 조회했습니다", tickets));
     }
 
     @GetMapping("/tickets/{ticketId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<SupportDto.TicketResponse>> getTicket(
-            @RequestHeader("Authorization") String authHeader,
             @PathVariable Long ticketId) {
 
-        SupportDto.TicketResponse ticket = supportService.getTicket(ticketId, authHeader);
+        SupportDto.TicketResponse ticket = supportService.getTicket(ticketId);
         return ResponseEntity.ok(ApiResponse.success("티켓 정보를 조회했습니다", ticket));
     }
 
     @PutMapping("/tickets/{ticketId}/status")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<SupportDto.TicketResponse>> updateTicketStatus(
-            @RequestHeader("Authorization") String authHeader,
             @PathVariable Long ticketId,
             @Valid @RequestBody SupportDto.UpdateStatusRequest request) {
 
-        SupportDto.TicketResponse ticket = supportService.updateTicketStatus(ticketId, request.getStatus(), authHeader);
+        SupportDto.TicketResponse ticket = supportService.updateTicketStatus(ticketId, request.getStatus());
         return ResponseEntity.ok(ApiResponse.success("티켓 상태가 변경되었습니다", ticket));
     }
 
     @PutMapping("/tickets/{ticketId}/close")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<SupportDto.TicketResponse>> closeTicket(
-            @RequestHeader("Authorization") String authHeader,
             @PathVariable Long ticketId) {
 
-        SupportDto.TicketResponse ticket = supportService.closeTicket(ticketId, authHeader);
+        SupportDto.TicketResponse ticket = supportService.closeTicket(ticketId);
         return ResponseEntity.ok(ApiResponse.success("티켓이 종료되었습니다", ticket));
     }
 
     @PutMapping("/tickets/{ticketId}/reopen")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<SupportDto.TicketResponse>> reopenTicket(
-            @RequestHeader("Authorization") String authHeader,
             @PathVariable Long ticketId) {
 
-        SupportDto.TicketResponse ticket = supportService.reopenTicket(ticketId, authHeader);
+        SupportDto.TicketResponse ticket = supportService.reopenTicket(ticketId);
         return ResponseEntity.ok(ApiResponse.success("티켓이 재오픈되었습니다", ticket));
     }
 
     @GetMapping("/tickets/{ticketId}/messages")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<List<SupportDto.MessageResponse>>> getMessages(
-            @RequestHeader("Authorization") String authHeader,
             @PathVariable Long ticketId) {
 
-        List<SupportDto.MessageResponse> messages = supportService.getMessages(ticketId, authHeader);
+        List<SupportDto.MessageResponse> messages = supportService.getMessages(ticketId);
         return ResponseEntity.ok(ApiResponse.success("메시지 목록을 조회했습니다", messages));
     }
 
     @PostMapping("/tickets/{ticketId}/messages")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<SupportDto.MessageResponse>> sendMessage(
-            @RequestHeader("Authorization") String authHeader,
             @PathVariable Long ticketId,
             @Valid @RequestBody SupportDto.SendMessageRequest request) {
 
-        SupportDto.MessageResponse message = supportService.sendMessage(ticketId, request, authHeader);
+        SupportDto.MessageResponse message = supportService.sendMessage(ticketId, request);
         return ResponseEntity.ok(ApiResponse.success("메시지가 전송되었습니다", message));
     }
 
     @PostMapping("/tickets/{ticketId}/satisfaction")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<Void>> submitSatisfactionRating(
-            @RequestHeader("Authorization") String authHeader,
             @PathVariable Long ticketId,
             @Valid @RequestBody SupportDto.SatisfactionRequest request) {
 
-        supportService.submitSatisfactionRating(ticketId, request.getRating(), request.getFeedback(), authHeader);
+        supportService.submitSatisfactionRating(ticketId, request.getRating(), request.getFeedback());
         return ResponseEntity.ok(ApiResponse.success("만족도 평가가 제출되었습니다"));
     }
 
     @GetMapping("/stats")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ApiResponse<SupportDto.TicketStats>> getTicketStats(
-            @RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<ApiResponse<SupportDto.TicketStats>> getTicketStats() {
 
-        SupportDto.TicketStats stats = supportService.getTicketStats(authHeader);
+        SupportDto.TicketStats stats = supportService.getTicketStats();
         return ResponseEntity.ok(ApiResponse.success("통계를 조회했습니다", stats));
     }
 
     @GetMapping("/my-stats")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ApiResponse<SupportDto.TicketStats>> getMyTicketStats(
-            @RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<ApiResponse<SupportDto.TicketStats>> getMyTicketStats() {
 
-        SupportDto.TicketStats stats = supportService.getTicketStats(authHeader);
+        SupportDto.TicketStats stats = supportService.getTicketStats();
         return ResponseEntity.ok(ApiResponse.success("내 통계를 조회했습니다", stats));
     }
 
@@ -163,13 +152,12 @@ public class SupportController {
     @GetMapping("/search")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<Page<SupportDto.TicketResponse>>> searchTickets(
-            @RequestHeader("Authorization") String authHeader,
             @RequestParam String q,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String status,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        Page<SupportDto.TicketResponse> tickets = supportService.searchTickets(q, category, status, pageable, authHeader);
+        Page<SupportDto.TicketResponse> tickets = supportService.searchTickets(q, category, status, pageable);
         return ResponseEntity.ok(ApiResponse.success("검색 결과를 조회했습니다", tickets));
     }
 
@@ -2,7 +2,7 @@ package org.jbd.backend.support.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.auth.service.CurrentUser;
 import org.jbd.backend.common.exception.EntityNotFoundException;
 import org.jbd.backend.support.domain.SupportMessage;
 import org.jbd.backend.support.domain.SupportTicket;
@@ -35,20 +35,19 @@ public class SupportService {
     private final SupportTicketRepository ticketRepository;
     private final SupportMessageRepository messageRepository;
     private final UserRepository userRepository;
-    private final JwtService jwtService;
+    private final CurrentUser currentUser;
     private final FAQRepository faqRepository;
 
-    private User getCurrentUser(String authHeader) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
-        return userRepository.findById(userId)
+    // 사용자 ID는 필터가 채운 요청 컨텍스트에서 얻고, 엔티티는 호출한 트랜잭션 안에서 조회
+    private User getCurrentUser() {
+        return userRepository.findById(currentUser.getId())
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
     }
 
     // 티켓 생성
     @Transactional
-    public SupportDto.TicketResponse createTicket(SupportDto.CreateTicketRequest request, String authHeader) {
-        User currentUser = getCurrentUser(authHeader);
+    public SupportDto.TicketResponse createTicket(SupportDto.CreateTicketRequest request) {
+        User currentUser = getCurrentUser();
 
         SupportTicket ticket = new SupportTicket(
                 currentUser,
@@ -63,8 +62,8 @@ public class SupportService {
     }
 
     // 티켓 목록 조회 (사용자)
-    public Page<SupportDto.TicketResponse> getMyTickets(String status, Pageable pageable, String authHeader) {
-        User currentUser = getCurrentUser(authHeader);
+    public Page<SupportDto.TicketResponse> getMyTickets(String status, Pageable pageable) {
+        User currentUser = getCurrentUser();
 
         Page<SupportTicket> tickets;
         if (status != null && !status.isEmpty()) {
@@ -78,11 +77,11 @@ public class SupportService {
     }
 
     // 티켓 상세 조회
-    public SupportDto.TicketResponse getTicket(Long ticketId, String authHeader) {
+    public SupportDto.TicketResponse getTicket(Long ticketId) {
         SupportTicket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
 
-        User currentUser = getCurrentUser(authHeader);
+        User currentUser = getCurrentUser();
 
         // 권한 확인: 본인 티켓 또는 관리자
         if (!ticket.getUser().getId().equals(currentUser.getId()) &&
@@ -95,11 +94,11 @@ public class SupportService {
 
     // 티켓 상태 업데이트
     @Transactional
-    public SupportDto.TicketResponse updateTicketStatus(Long ticketId, String status, String authHeader) {
+    public SupportDto.TicketResponse updateTicketStatus(Long ticketId, String status) {
         SupportTicket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
 
-        User currentUser = getCurrentUser(authHeader);
+        User currentUser = getCurrentUser();
 
         // 권한 확인: 본인 티켓 또는 관리자
         if (!ticket.getUser().getId().equals(currentUser.getId()) &&
@@ -123,11 +122,11 @@ public class SupportService {
 
     // 티켓 종료
     @Transactional
-    public SupportDto.TicketResponse closeTicket(Long ticketId, String authHeader) {
+    public SupportDto.TicketResponse closeTicket(Long ticketId) {
         SupportTicket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
 
-        User currentUser = getCurrentUser(authHeader);
+        User currentUser = getCurrentUser();
 
         // 권한 확인
         if (!ticket.getUser().getId().equals(currentUser.getId()) &&
@@ -142,11 +141,11 @@ public class SupportService {
 
     // 티켓 재오픈
     @Transactional
-    public SupportDto.TicketResponse reopenTicket(Long ticketId, String authHeader) {
+    public SupportDto.TicketResponse reopenTicket(Long ticketId) {
         SupportTicket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
 
-        User currentUser = getCurrentUser(authHeader);
+        User currentUser = getCurrentUser();
 
         // 권한 확인
         if (!ticket.getUser().getId().equals(currentUser.getId())) {
@@ -159,12 +158,12 @@ public class SupportService {
     }
 
     // 메시지 조회
-    public List<SupportDto.MessageResponse> getMessages(Long ticketId, String authHeader) {
+    public List<SupportDto.MessageResponse> getMessages(Long ticketId) {
         // 티켓 존재 및 권한 확인
         SupportTicket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
 
-        User currentUser = getCurrentUser(authHeader);
+        User currentUser = getCurrentUser();
 
         if (!ticket.getUser().getId().equals(currentUser.getId()) &&
             !currentUser.getUserType().equals(UserType.ADMIN)) {
@@ -179,11 +178,11 @@ public class SupportService {
 
     // 메시지 전송
     @Transactional
-    public SupportDto.MessageResponse sendMessage(Long ticketId, SupportDto.SendMessageRequest request, String authHeader) {
+    public SupportDto.MessageResponse sendMessage(Long ticketId, SupportDto.SendMessageRequest request) {
         SupportTicket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
 
-        User currentUser = getCurrentUser(authHeader);
+        User currentUser = getCurrentUser();
 
         // 권한 확인
         if (!ticket.getUser().getId().equals(currentUser.getId()) &&
@@ -213,11 +212,11 @@ public class SupportService {
 
     // 만족도 평가 제출
     @Transactional
-    public void submitSatisfactionRating(Long ticketId, Integer rating, String feedback, String authHeader) {
+    public void submitSatisfactionRating(Long ticketId, Integer rating, String feedback) {
         SupportTicket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
 
-        User currentUser = getCurrentUser(authHeader);
+        User currentUser = getCurrentUser();
 
         // 권한 확인: 본인 티켓만 평가 가능
         if (!ticket.getUser().getId().equals(currentUser.getId())) {
@@ -234,8 +233,8 @@ public class SupportService {
     }
 
     // 통계 조회
-    public SupportDto.TicketStats getTicketStats(String authHeader) {
-        User currentUser = getCurrentUser(authHeader);
+    public SupportDto.TicketStats getTicketStats() {
+        User currentUser = getCurrentUser();
 
         return SupportDto.TicketStats.builder()
                 .totalTickets(ticketRepository.countByUser(currentUser))
@@ -319,8 +318,8 @@ public class SupportService {
     }
 
     // 티켓 검색
-    public Page<SupportDto.TicketResponse> searchTickets(String query, String category, String status, Pageable pageable, String authHeader) {
-        User currentUser = getCurrentUser(authHeader);
+    public Page<SupportDto.TicketResponse> searchTickets(String query, String category, String status, Pageable pageable) {
+        User currentUser = getCurrentUser();
 
         Page<SupportTicket> tickets = ticketRepository.searchByUserAndKeyword(
                 currentUser, query, pageable);
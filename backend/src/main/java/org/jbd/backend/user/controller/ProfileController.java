@@ -6,7 +6,7 @@ import org.jbd.backend.user.domain.enums.*;
 import org.jbd.backend.user.dto.*;
 import org.jbd.backend.user.dto.profile.*;
 import org.jbd.backend.user.service.ProfileService;
-import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.auth.service.CurrentUser;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -34,18 +34,17 @@ import java.util.List;
 public class ProfileController {
     
     private final ProfileService profileService;
-    private final JwtService jwtService;
+    private final CurrentUser currentUser;
     
-    public ProfileController(ProfileService profileService, JwtService jwtService) {
+    public ProfileController(ProfileService profileService, CurrentUser currentUser) {
         this.profileService = profileService;
-        this.jwtService = jwtService;
+        this.currentUser = currentUser;
     }
     
     // 기본 프로필 조회
     @GetMapping
-    public ResponseEntity<ApiResponse<Object>> getProfile(@RequestHeader("Authorization") String authHeader) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+    public ResponseEntity<ApiResponse<Object>> getProfile() {
+        Long userId = currentUser.getId();
 
         try {
             // 일단 기본적인 프로필 정보를 Map으로 반환
@@ -73,11 +72,9 @@ public class ProfileController {
     // Education 관련 API
     @PostMapping("/education")
     public ResponseEntity<ApiResponse<Education>> addEducation(
-            @RequestBody @Validated EducationCreateDto dto,
-            @RequestHeader("Authorization") String authHeader) {
+            @RequestBody @Validated EducationCreateDto dto) {
 
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+        Long userId = currentUser.getId();
         
         Education education = profileService.addEducation(
             userId, dto.getEducationLevel(), dto.getSchoolName(), dto.getMajor(),
@@ -89,9 +86,8 @@ public class ProfileController {
     }
     
     @GetMapping("/education")
-    public ResponseEntity<ApiResponse<List<Education>>> getEducationList(@RequestHeader("Authorization") String authHeader) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+    public ResponseEntity<ApiResponse<List<Education>>> getEducationList() {
+        Long userId = currentUser.getId();
         List<Education> educations = profileService.getEducationList(userId);
 
         return ResponseEntity.ok(ApiResponse.success("교육 이력 목록을 조회했습니다.", educations));
@@ -120,11 +116,9 @@ public class ProfileController {
     // Skill 관련 API
     @PostMapping("/skills")
     public ResponseEntity<ApiResponse<SkillDto>> addSkill(
-            @RequestBody @Validated SkillCreateDto dto,
-            @RequestHeader("Authorization") String authHeader) {
+            @RequestBody @Validated SkillCreateDto dto) {
 
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+        Long userId = currentUser.getId();
 
         UserSkill userSkill = profileService.addSkill(
             userId, dto.getSkillName(), dto.getSkillCategory(), dto.getSkillLevel(),
@@ -137,11 +131,9 @@ public class ProfileController {
 
     @GetMapping("/skills")
     public ResponseEntity<ApiResponse<List<SkillDto>>> getSkillList(
-            @RequestParam(required = false) SkillCategory category,
-            @RequestHeader("Authorization") String authHeader) {
+            @RequestParam(required = false) SkillCategory category) {
 
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+        Long userId = currentUser.getId();
 
         List<UserSkill> userSkills = category != null
             ? profileService.getSkillListByCategory(userId, category)
@@ -177,11 +169,9 @@ public class ProfileController {
     // Certification 관련 API
     @PostMapping("/certifications")
     public ResponseEntity<ApiResponse<Certification>> addCertification(
-            @RequestBody @Validated CertificationCreateDto dto,
-            @RequestHeader("Authorization") String authHeader) {
+            @RequestBody @Validated CertificationCreateDto dto) {
         
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+        Long userId = currentUser.getId();
         
         Certification certification = profileService.addCertification(
             userId, dto.getCertificationName(), dto.getIssuingOrganization(),
@@ -195,11 +185,9 @@ public class ProfileController {
     
     @GetMapping("/certifications")
     public ResponseEntity<ApiResponse<List<Certification>>> getCertificationList(
-            @RequestParam(defaultValue = "false") boolean activeOnly,
-            @RequestHeader("Authorization") String authHeader) {
+            @RequestParam(defaultValue = "false") boolean activeOnly) {
         
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+        Long userId = currentUser.getId();
         
         List<Certification> certifications = activeOnly
             ? profileService.getActiveCertifications(userId)
@@ -232,11 +220,9 @@ public class ProfileController {
     // Portfolio 관련 API
     @PostMapping("/portfolios")
     public ResponseEntity<ApiResponse<Portfolio>> addPortfolio(
-            @RequestBody @Validated PortfolioCreateDto dto,
-            @RequestHeader("Authorization") String authHeader) {
+            @RequestBody @Validated PortfolioCreateDto dto) {
         
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+        Long userId = currentUser.getId();
         
         Portfolio portfolio = profileService.addPortfolio(
             userId, dto.getTitle(), dto.getDescription(), dto.getPortfolioType(),
@@ -251,11 +237,9 @@ public class ProfileController {
     
     @GetMapping("/portfolios")
     public ResponseEntity<ApiResponse<List<Portfolio>>> getPortfolioList(
-            @RequestParam(defaultValue = "false") boolean featuredOnly,
-            @RequestHeader("Authorization") String authHeader) {
+            @RequestParam(defaultValue = "false") boolean featuredOnly) {
         
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+        Long userId = currentUser.getId();
         
         List<Portfolio> portfolios = featuredOnly
             ? profileService.getFeaturedPortfolios(userId)
@@ -306,11 +290,9 @@ public class ProfileController {
      */
     @PostMapping("/experiences")
     public ResponseEntity<ApiResponse<ExperienceDto>> addExperience(
-            @RequestBody @Validated ExperienceCreateDto dto,
-            @RequestHeader("Authorization") String authHeader) {
+            @RequestBody @Validated ExperienceCreateDto dto) {
 
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+        Long userId = currentUser.getId();
 
         CareerHistory careerHistory = profileService.addExperience(
             userId, dto.getCompanyName(), dto.getPosition(), dto.getDepartment(),
@@ -338,9 +320,8 @@ public class ProfileController {
      * @see ExperienceDto
      */
     @GetMapping("/experiences")
-    public ResponseEntity<ApiResponse<List<ExperienceDto>>> getExperienceList(@RequestHeader("Authorization") String authHeader) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+    public ResponseEntity<ApiResponse<List<ExperienceDto>>> getExperienceList() {
+        Long userId = currentUser.getId();
         List<CareerHistory> careerHistories = profileService.getExperienceList(userId);
 
         List<ExperienceDto> experienceDtos = careerHistories.stream()
@@ -394,19 +375,21 @@ public class ProfileController {
 
         return ResponseEntity.ok(ApiResponse.success("경력이 삭제되었습니다."));
     }
-    
+
     /**
-     * Spring Security 인증 정보에서 사용자 ID를 추출합니다.
+     * 기업 사용자의 인재 검색 결과 노출 여부를 설정합니다.
      *
-     * @param authentication Spring Security Authentication 객체
-     * @return 사용자 ID (Long)
-     * @implNote 현재는 테스트용 임시 구현입니다.
-     *           실제 운영 환경에서는 JWT 토큰에서 userId를 추출하는 로직으로 대체되어야 합니다.
-     * @see JwtService
-     * @see Authentication
+     * @param enabled 노출 동의 여부
+     * @return ResponseEntity<ApiResponse<Void>> 설정 완료 응답
+     * @apiNote PUT /api/profile/open-to-offers?enabled=true
      */
-    private Long getUserIdFromToken(String authHeader) {
-        String token = authHeader.substring(7);
-        return jwtService.extractUserId(token);
+    @PutMapping("/open-to-offers")
+    public ResponseEntity<ApiResponse<Void>> updateOpenToOffers(
+            @RequestParam boolean enabled) {
+
+        profileService.updateOpenToOffers(currentUser.getId(), enabled);
+
+        return ResponseEntity.ok(ApiResponse.success(
+                enabled ? "인재 검색 노출이 설정되었습니다." : "인재 검색 노출이 해제되었습니다."));
     }
 }
\ No newline at end of file
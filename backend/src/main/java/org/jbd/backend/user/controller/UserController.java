@@ -1,7 +1,7 @@
 package org.jbd.backend.user.controller;
 
 import jakarta.validation.Valid;
-import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.auth.service.CurrentUser;
 import org.jbd.backend.common.dto.ApiResponse;
 import org.jbd.backend.user.domain.enums.UserType;
 import org.jbd.backend.user.dto.UserResponseDto;
@@ -34,35 +34,31 @@ public class UserController {
     /** 사용자 비즈니스 로직을 처리하는 서비스 */
     private final UserService userService;
 
-    /** JWT 토큰 관련 작업을 처리하는 서비스 */
-    private final JwtService jwtService;
+    /** 현재 요청의 인증 사용자 컨텍스트 */
+    private final CurrentUser currentUser;
 
     /**
      * UserController 생성자
      *
      * @param userService 사용자 서비스
-     * @param jwtService JWT 토큰 서비스
+     * @param currentUser 현재 요청의 인증 사용자 컨텍스트
      */
-    public UserController(UserService userService, JwtService jwtService) {
+    public UserController(UserService userService, CurrentUser currentUser) {
         this.userService = userService;
-        this.jwtService = jwtService;
+        this.currentUser = currentUser;
     }
     
     /**
      * 현재 인증된 사용자의 정보를 조회합니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @return ResponseEntity<ApiResponse<UserResponseDto>> 사용자 정보
      * @apiNote GET /api/users/me
      * @see UserResponseDto
      */
     @GetMapping("/me")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ApiResponse<UserResponseDto>> getCurrentUser(
-            @RequestHeader("Authorization") String authHeader
-    ) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+    public ResponseEntity<ApiResponse<UserResponseDto>> getCurrentUser() {
+        Long userId = currentUser.getId();
         
         UserResponseDto user = userService.getUserById(userId);
         return ResponseEntity.ok(ApiResponse.success(user));
@@ -71,7 +67,6 @@ public class UserController {
     /**
      * 현재 인증된 사용자의 정보를 수정합니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @param updateDto 수정할 사용자 정보
      *                  - name: 사용자 이름 (선택)
      *                  - phone: 전화번호 (선택)
@@ -84,11 +79,9 @@ public class UserController {
     @PutMapping("/me")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<UserResponseDto>> updateCurrentUser(
-            @RequestHeader("Authorization") String authHeader,
             @Valid @RequestBody UserUpdateDto updateDto
     ) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+        Long userId = currentUser.getId();
         
         UserResponseDto updatedUser = userService.updateUser(userId, updateDto);
         return ResponseEntity.ok(ApiResponse.success("사용자 정보가 수정되었습니다.", updatedUser));
@@ -98,17 +91,13 @@ public class UserController {
      * 현재 인증된 사용자의 계정을 삭제합니다.
      * 삭제된 계정은 복구할 수 없습니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @return ResponseEntity<ApiResponse<Void>> 삭제 완료 응답
      * @apiNote DELETE /api/users/me
      */
     @DeleteMapping("/me")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ApiResponse<Void>> deleteCurrentUser(
-            @RequestHeader("Authorization") String authHeader
-    ) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+    public ResponseEntity<ApiResponse<Void>> deleteCurrentUser() {
+        Long userId = currentUser.getId();
         
         userService.deleteUser(userId);
         return ResponseEntity.ok(ApiResponse.success("사용자 계정이 삭제되었습니다."));
@@ -132,7 +121,6 @@ public class UserController {
      * 회사 이메일 인증을 요청합니다.
      * 기업 사용자 전환을 위해 회사 이메일 주소 확인이 필요합니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @param companyEmail 인증할 회사 이메일 주소
      * @return ResponseEntity<ApiResponse<Void>> 인증 요청 완료 응답
      * @apiNote POST /api/users/request-company-email-verification
@@ -140,11 +128,9 @@ public class UserController {
     @PostMapping("/request-company-email-verification")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<Void>> requestCompanyEmailVerification(
-            @RequestHeader("Authorization") String authHeader,
             @RequestParam String companyEmail
     ) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+        Long userId = currentUser.getId();
         
         userService.requestCompanyEmailVerification(userId, companyEmail);
         return ResponseEntity.ok(ApiResponse.success("회사 이메일 인증 요청이 전송되었습니다."));
@@ -169,17 +155,13 @@ public class UserController {
      * 일반 사용자가 기업 사용자로 계정 유형을 변경할 때 사용합니다.
      * 회사 이메일 인증이 선행되어야 합니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @return ResponseEntity<ApiResponse<Void>> 전환 완료 응답
      * @apiNote POST /api/users/request-company-user-conversion
      */
     @PostMapping("/request-company-user-conversion")
     @PreAuthorize("isAuthenticated() and hasRole('GENERAL')")
-    public ResponseEntity<ApiResponse<Void>> requestCompanyUserConversion(
-            @RequestHeader("Authorization") String authHeader
-    ) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+    public ResponseEntity<ApiResponse<Void>> requestCompanyUserConversion() {
+        Long userId = currentUser.getId();
         
         userService.requestCompanyUserConversion(userId);
         return ResponseEntity.ok(ApiResponse.success("기업 유저로 전환되었습니다."));
@@ -189,7 +171,6 @@ public class UserController {
      * 사용자의 비밀번호를 변경합니다.
      * 기존 비밀번호 확인 후 새로운 비밀번호로 변경합니다.
      *
-     * @param authHeader Authorization 헤더 ("Bearer {token}" 형식)
      * @param currentPassword 현재 비밀번호
      * @param newPassword 새로운 비밀번호
      * @return ResponseEntity<ApiResponse<Void>> 변경 완료 응답
@@ -198,12 +179,10 @@ public class UserController {
     @PostMapping("/change-password")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<Void>> changePassword(
-            @RequestHeader("Authorization") String authHeader,
             @RequestParam String currentPassword,
             @RequestParam String newPassword
     ) {
-        String token = authHeader.substring(7);
-        Long userId = jwtService.extractUserId(token);
+        Long userId = currentUser.getId();
         
         userService.changePassword(userId, currentPassword, newPassword);
         return ResponseEntity.ok(ApiResponse.success("비밀번호가 변경되었습니다."));
@@ -0,0 +1,330 @@
+package org.jbd.backend.user.domain;
+
+import org.jbd.backend.user.domain.enums.EducationLevel;
+import org.jbd.backend.user.domain.enums.SkillLevel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인재 검색용 인메모리 역색인
+ *
+ * 스킬명별로 보유 사용자 ID 목록(posting list)을 유지하고, 사용자별로 총 경력 개월 수,
+ * 최고 학력, 자격증 이름을 컬럼처럼 보관합니다. 스킬 조건은 AND로 해석하며,
+ * 가장 짧은 posting list부터 순회하면서 나머지 목록과 교집합을 구합니다.
+ *
+ * 정렬 기준: 조건 스킬 숙련도 합계 → 총 경력 개월 수 → 학력 서열 → 사용자 ID
+ */
+public class CandidateIndex {
+
+    private static final Comparator<Match> RANKING = Comparator
+            .comparingInt(Match::getSkillScore).reversed()
+            .thenComparing(Comparator.comparingInt((Match m) -> m.getDocument().getCareerMonths()).reversed())
+            .thenComparing(Comparator.comparingInt((Match m) -> m.getDocument().getEducationRank()).reversed())
+            .thenComparing(m -> m.getDocument().getUserId());
+
+    private final Map<Long, CandidateDocument> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 사용자 문서를 추가하거나 기존 문서를 교체
+     */
+    public void put(CandidateDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.getUserId());
+            documents.put(document.getUserId(), document);
+            for (String skill : document.getSkills().keySet()) {
+                postings.computeIfAbsent(skill, k -> new HashSet<>()).add(document.getUserId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 문서를 한 번에 교체 (주기적 재구축용)
+     */
+    public void replaceAll(Collection<CandidateDocument> newDocuments) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            for (CandidateDocument document : newDocuments) {
+                documents.put(document.getUserId(), document);
+                for (String skill : document.getSkills().keySet()) {
+                    postings.computeIfAbsent(skill, k -> new HashSet<>()).add(document.getUserId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long userId) {
+        CandidateDocument previous = documents.remove(userId);
+        if (previous == null) {
+            return;
+        }
+        for (String skill : previous.getSkills().keySet()) {
+            Set<Long> userIds = postings.get(skill);
+            if (userIds != null) {
+                userIds.remove(userId);
+                if (userIds.isEmpty()) {
+                    postings.remove(skill);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(Long userId) {
+        lock.readLock().lock();
+        try {
+            return documents.containsKey(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 후보를 정렬해 offset부터 limit개 반환
+     *
+     * 상위 offset + limit개만 힙으로 유지하므로 전체 매칭 결과를 정렬하지 않습니다.
+     */
+    public SearchResult search(Query query, int offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("offset은 0 이상, limit은 1 이상이어야 합니다.");
+        }
+        int keep = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+
+        lock.readLock().lock();
+        try {
+            PriorityQueue<Match> heap = new PriorityQueue<>(RANKING.reversed());
+            long total = 0;
+
+            for (CandidateDocument document : candidates(query.getSkills())) {
+                if (!query.matches(document)) {
+                    continue;
+                }
+                total++;
+                Match match = new Match(document, document.skillScore(query.getSkills()));
+                if (heap.size() < keep) {
+                    heap.offer(match);
+                } else if (RANKING.compare(match, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.offer(match);
+                }
+            }
+
+            List<Match> ranked = new ArrayList<>(heap);
+            ranked.sort(RANKING);
+            List<Match> page = offset >= ranked.size()
+                    ? List.of()
+                    : ranked.subList(offset, ranked.size());
+            return new SearchResult(List.copyOf(page), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스킬 조건 교집합 (가장 짧은 posting list 기준으로 순회)
+     */
+    private Collection<CandidateDocument> candidates(Set<String> skills) {
+        if (skills.isEmpty()) {
+            return documents.values();
+        }
+
+        List<Set<Long>> lists = new ArrayList<>(skills.size());
+        for (String skill : skills) {
+            Set<Long> userIds = postings.get(skill);
+            if (userIds == null) {
+                return List.of();
+            }
+            lists.add(userIds);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<CandidateDocument> result = new ArrayList<>();
+        Set<Long> smallest = lists.get(0);
+        outer:
+        for (Long userId : smallest) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(userId)) {
+                    continue outer;
+                }
+            }
+            result.add(documents.get(userId));
+        }
+        return result;
+    }
+
+    public static String normalize(String term) {
+        return term == null ? "" : term.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인 단위인 사용자 문서 (불변)
+     */
+    public static final class CandidateDocument {
+        private final Long userId;
+        private final Map<String, SkillLevel> skills;
+        private final int careerMonths;
+        private final EducationLevel highestEducation;
+        private final Set<String> certifications;
+
+        public CandidateDocument(Long userId, Map<String, SkillLevel> skills, int careerMonths,
+                                 EducationLevel highestEducation, Set<String> certifications) {
+            this.userId = userId;
+            Map<String, SkillLevel> normalizedSkills = new HashMap<>();
+            skills.forEach((name, level) -> normalizedSkills.merge(normalize(name),
+                    level != null ? level : SkillLevel.BEGINNER,
+                    (a, b) -> a.compareTo(b) >= 0 ? a : b));
+            normalizedSkills.remove("");
+            this.skills = Map.copyOf(normalizedSkills);
+            this.careerMonths = Math.max(0, careerMonths);
+            this.highestEducation = highestEducation;
+            Set<String> normalizedCertifications = new HashSet<>();
+            certifications.forEach(name -> normalizedCertifications.add(normalize(name)));
+            normalizedCertifications.remove("");
+            this.certifications = Set.copyOf(normalizedCertifications);
+        }
+
+        int skillScore(Set<String> querySkills) {
+            int score = 0;
+            for (String skill : querySkills) {
+                SkillLevel level = skills.get(skill);
+                if (level != null) {
+                    score += level.ordinal() + 1;
+                }
+            }
+            return score;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public Map<String, SkillLevel> getSkills() {
+            return skills;
+        }
+
+        public int getCareerMonths() {
+            return careerMonths;
+        }
+
+        public EducationLevel getHighestEducation() {
+            return highestEducation;
+        }
+
+        public int getEducationRank() {
+            return highestEducation != null ? highestEducation.getRank() : 0;
+        }
+
+        public Set<String> getCertifications() {
+            return certifications;
+        }
+    }
+
+    /**
+     * 검색 조건 (스킬은 모두 보유해야 함)
+     */
+    public static final class Query {
+        private final Set<String> skills;
+        private final int minCareerMonths;
+        private final EducationLevel minEducation;
+        private final String certification;
+
+        public Query(Collection<String> skills, Integer minCareerMonths, EducationLevel minEducation,
+                     String certification) {
+            Set<String> normalizedSkills = new HashSet<>();
+            if (skills != null) {
+                skills.forEach(name -> normalizedSkills.add(normalize(name)));
+            }
+            normalizedSkills.remove("");
+            this.skills = Set.copyOf(normalizedSkills);
+            this.minCareerMonths = minCareerMonths != null ? minCareerMonths : 0;
+            this.minEducation = minEducation;
+            this.certification = certification != null && !certification.isBlank()
+                    ? normalize(certification) : null;
+        }
+
+        boolean matches(CandidateDocument document) {
+            if (document.getCareerMonths() < minCareerMonths) {
+                return false;
+            }
+            if (minEducation != null && document.getEducationRank() < minEducation.getRank()) {
+                return false;
+            }
+            return certification == null || document.getCertifications().contains(certification);
+        }
+
+        public Set<String> getSkills() {
+            return skills;
+        }
+    }
+
+    public static final class Match {
+        private final CandidateDocument document;
+        private final int skillScore;
+
+        Match(CandidateDocument document, int skillScore) {
+            this.document = document;
+            this.skillScore = skillScore;
+        }
+
+        public CandidateDocument getDocument() {
+            return document;
+        }
+
+        public int getSkillScore() {
+            return skillScore;
+        }
+    }
+
+    public static final class SearchResult {
+        private final List<Match> matches;
+        private final long totalMatches;
+
+        SearchResult(List<Match> matches, long totalMatches) {
+            this.matches = matches;
+            this.totalMatches = totalMatches;
+        }
+
+        public List<Match> getMatches() {
+            return matches;
+        }
+
+        public long getTotalMatches() {
+            return totalMatches;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.jbd.backend.user.domain.enums.UserType;
 import org.jbd.backend.user.domain.enums.OAuthProvider;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * 사용자 도메인 엔티티
@@ -85,6 +86,10 @@ public class User extends BaseEntity {
     @Column(name = "admin_converted_at")
     private LocalDateTime adminConvertedAt;
 
+    /** 이 시각 이전에 발급된 토큰은 무효 (비밀번호 변경, 계정 잠금·탈퇴 시 갱신) */
+    @Column(name = "tokens_invalid_before")
+    private LocalDateTime tokensInvalidBefore;
+
     public User() {}
 
     public User(String email, String passwordHash, UserType userType) {
@@ -124,6 +129,18 @@ public class User extends BaseEntity {
     }
 
 
+    /**
+     * 지금까지 발급된 토큰을 모두 무효화합니다.
+     * JWT 발급 시각(iat)이 초 단위이므로 초 미만은 버립니다.
+     */
+    public void invalidateIssuedTokens() {
+        this.tokensInvalidBefore = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    public LocalDateTime getTokensInvalidBefore() {
+        return tokensInvalidBefore;
+    }
+
     public void updateLastLogin() {
         this.lastLoginAt = LocalDateTime.now();
     }
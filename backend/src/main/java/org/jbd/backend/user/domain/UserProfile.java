@@ -44,6 +44,10 @@ public class UserProfile extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String bio;
 
+    // 기업 사용자의 인재 검색 노출 동의 여부
+    @Column(name = "open_to_offers")
+    private Boolean openToOffers = false;
+
     public UserProfile() {}
 
     public UserProfile(User user) {
@@ -90,6 +94,14 @@ public class UserProfile extends BaseEntity {
         this.bio = bio;
     }
 
+    public void updateOpenToOffers(boolean openToOffers) {
+        this.openToOffers = openToOffers;
+    }
+
+    public boolean isOpenToOffers() {
+        return Boolean.TRUE.equals(openToOffers);
+    }
+
     public String getFullName() {
         if (firstName == null && lastName == null) {
             return null;
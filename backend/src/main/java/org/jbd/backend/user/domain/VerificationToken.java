@@ -0,0 +1,67 @@
+package org.jbd.backend.user.domain;
+
+import jakarta.persistence.*;
+import org.jbd.backend.user.domain.enums.VerificationPurpose;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이메일 인증·비밀번호 재설정 토큰
+ *
+ * 토큰 원문 대신 SHA-256 해시를 기본키로 저장하며, (이메일, 용도)당 하나의 토큰만 유지합니다.
+ * expires_at 인덱스로 만료된 토큰을 범위 삭제합니다.
+ */
+@Entity
+@Table(name = "verification_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_verification_tokens_email_purpose",
+                columnNames = {"email", "purpose"}),
+        indexes = @Index(name = "idx_verification_tokens_expires_at", columnList = "expires_at"))
+public class VerificationToken {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private VerificationPurpose purpose;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected VerificationToken() {}
+
+    public VerificationToken(String tokenHash, String email, VerificationPurpose purpose, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.email = email;
+        this.purpose = purpose;
+        this.expiresAt = expiresAt;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public VerificationPurpose getPurpose() {
+        return purpose;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -1,22 +1,29 @@
 package org.jbd.backend.user.domain.enums;
 
 public enum EducationLevel {
-    HIGH_SCHOOL("고등학교"),
-    ASSOCIATE("전문대학"),
-    BACHELOR("학사"),
-    MASTER("석사"),
-    DOCTORATE("박사"),
-    BOOTCAMP("부트캠프"),
-    VOCATIONAL("직업훈련원"),
-    OTHER("기타");
+    HIGH_SCHOOL("고등학교", 1),
+    ASSOCIATE("전문대학", 2),
+    BACHELOR("학사", 3),
+    MASTER("석사", 4),
+    DOCTORATE("박사", 5),
+    BOOTCAMP("부트캠프", 1),
+    VOCATIONAL("직업훈련원", 1),
+    OTHER("기타", 0);
     
     private final String description;
+    // 학력 비교용 서열 (선언 순서는 서열과 일치하지 않음)
+    private final int rank;
     
-    EducationLevel(String description) {
+    EducationLevel(String description, int rank) {
         this.description = description;
+        this.rank = rank;
     }
     
     public String getDescription() {
         return description;
     }
+
+    public int getRank() {
+        return rank;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package org.jbd.backend.user.domain.enums;
+
+public enum VerificationPurpose {
+    EMAIL("이메일 인증"),
+    COMPANY_EMAIL("회사 이메일 인증"),
+    PASSWORD_RESET("비밀번호 재설정");
+
+    private final String description;
+
+    VerificationPurpose(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
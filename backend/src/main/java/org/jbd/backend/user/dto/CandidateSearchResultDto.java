@@ -0,0 +1,36 @@
+package org.jbd.backend.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.jbd.backend.user.domain.enums.EducationLevel;
+
+import java.util.List;
+
+/**
+ * 기업 사용자 인재 검색 결과 항목
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateSearchResultDto {
+
+    private Long userId;
+    private String fullName;
+    private String desiredJob;
+    private String location;
+
+    /** 보유 기술 (정규화된 이름) */
+    private List<String> skills;
+
+    /** 검색 조건 기술의 숙련도 합계 (정렬 1순위) */
+    private Integer matchScore;
+
+    /** 중복 기간을 제외한 총 경력 개월 수 */
+    private Integer careerMonths;
+
+    private EducationLevel highestEducation;
+    private Integer certificationCount;
+}
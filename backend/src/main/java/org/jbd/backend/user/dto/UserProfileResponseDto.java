@@ -19,6 +19,7 @@ public class UserProfileResponseDto {
     private String phoneNumber;
     private String profileImageUrl;
     private String bio;
+    private boolean openToOffers;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -38,6 +39,7 @@ public class UserProfileResponseDto {
         dto.phoneNumber = userProfile.getPhoneNumber();
         dto.profileImageUrl = userProfile.getProfileImageUrl();
         dto.bio = userProfile.getBio();
+        dto.openToOffers = userProfile.isOpenToOffers();
         dto.createdAt = userProfile.getCreatedAt();
         dto.updatedAt = userProfile.getUpdatedAt();
         return dto;
@@ -108,6 +110,10 @@ public class UserProfileResponseDto {
         return bio;
     }
 
+    public boolean isOpenToOffers() {
+        return openToOffers;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -30,6 +30,8 @@ public class UserProfileUpdateDto {
     @Size(max = 1000, message = "자기소개는 1000자 이하여야 합니다.")
     private String bio;
 
+    private Boolean openToOffers;
+
     public UserProfileUpdateDto() {}
 
     public String getFirstName() {
@@ -103,4 +105,12 @@ public class UserProfileUpdateDto {
     public void setBio(String bio) {
         this.bio = bio;
     }
+
+    public Boolean getOpenToOffers() {
+        return openToOffers;
+    }
+
+    public void setOpenToOffers(Boolean openToOffers) {
+        this.openToOffers = openToOffers;
+    }
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package org.jbd.backend.user.repository;
 
 import org.jbd.backend.user.domain.CareerHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,6 +18,10 @@ public interface CareerHistoryRepository extends JpaRepository<CareerHistory, Lo
 
     List<CareerHistory> findByUserIdOrderByStartDateDesc(Long userId);
 
+    // 인재 검색 색인용: (userId, startDate, endDate, isCurrent)
+    @Query("SELECT c.user.id, c.startDate, c.endDate, c.isCurrent FROM CareerHistory c WHERE c.user.id IN :userIds")
+    List<Object[]> findPeriodsByUserIds(@Param("userIds") Collection<Long> userIds);
+
     long countByUserId(Long userId);
 
     void deleteByUserId(Long userId);
@@ -2,9 +2,12 @@ package org.jbd.backend.user.repository;
 
 import org.jbd.backend.user.domain.Certification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,6 +23,10 @@ public interface CertificationRepository extends JpaRepository<Certification, Lo
     
     long countByUserIdAndIsActiveTrue(Long userId);
     
+    // 인재 검색 색인용: (userId, certificationName) - 유효한 자격증만
+    @Query("SELECT c.user.id, c.certificationName FROM Certification c WHERE c.user.id IN :userIds AND c.isActive = true")
+    List<Object[]> findActiveNamesByUserIds(@Param("userIds") Collection<Long> userIds);
+
     long countByUserId(Long userId);
     
     void deleteByUserId(Long userId);
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +41,19 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, Long>
     @Query("SELECT up FROM UserProfile up WHERE up.age BETWEEN :minAge AND :maxAge AND up.user.isDeleted = false AND up.user.isActive = true")
     List<UserProfile> findByAgeBetween(@Param("minAge") Integer minAge, @Param("maxAge") Integer maxAge);
 
+    @Query("SELECT up.user.id FROM UserProfile up WHERE up.openToOffers = true " +
+           "AND up.user.userType = org.jbd.backend.user.domain.enums.UserType.GENERAL " +
+           "AND up.user.isDeleted = false AND up.user.isActive = true")
+    List<Long> findOpenToOffersUserIds();
+
+    @Query("SELECT COUNT(up) > 0 FROM UserProfile up WHERE up.user.id = :userId AND up.openToOffers = true " +
+           "AND up.user.userType = org.jbd.backend.user.domain.enums.UserType.GENERAL " +
+           "AND up.user.isDeleted = false AND up.user.isActive = true")
+    boolean isOpenToOffers(@Param("userId") Long userId);
+
+    @Query("SELECT up FROM UserProfile up WHERE up.user.id IN :userIds")
+    List<UserProfile> findByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
     @Query("SELECT " +
            "COUNT(CASE WHEN up.gender = 'MALE' THEN 1 END) as maleCount, " +
            "COUNT(CASE WHEN up.gender = 'FEMALE' THEN 1 END) as femaleCount, " +
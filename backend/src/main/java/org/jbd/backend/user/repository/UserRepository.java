@@ -4,6 +4,7 @@ import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.domain.enums.UserType;
 import org.jbd.backend.user.domain.enums.OAuthProvider;
 import org.jbd.backend.user.domain.enums.EmploymentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -89,6 +90,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.userType = org.jbd.backend.user.domain.enums.UserType.GENERAL AND u.isDeleted = false AND u.isActive = true")
     List<User> findAllGeneralUsers();
 
+    /**
+     * 취업 점수 분포 초기화용: 활성 일반 사용자 ID를 청크 단위로 조회 (키셋 페이징)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.userType = org.jbd.backend.user.domain.enums.UserType.GENERAL AND u.isDeleted = false AND u.isActive = true AND u.id > :afterUserId ORDER BY u.id")
+    List<Long> findGeneralUserIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
     /**
      * OAuth 제공자별 통계
      */
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,11 @@ public interface UserSkillRepository extends JpaRepository<UserSkill, Long> {
     @Query("SELECT us FROM UserSkill us JOIN us.skill s WHERE us.user.id = :userId AND s.skillName = :skillName")
     Optional<UserSkill> findByUserIdAndSkillName(@Param("userId") Long userId, @Param("skillName") String skillName);
 
+    // 인재 검색 색인용: (userId, skillName, proficiencyLevel)
+    @Query("SELECT us.user.id, s.skillName, us.proficiencyLevel FROM UserSkill us JOIN us.skill s " +
+           "WHERE us.user.id IN :userIds")
+    List<Object[]> findSkillLevelsByUserIds(@Param("userIds") Collection<Long> userIds);
+
     long countByUserId(Long userId);
 
     void deleteByUserId(Long userId);
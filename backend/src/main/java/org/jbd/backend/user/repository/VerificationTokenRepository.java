@@ -0,0 +1,40 @@
+package org.jbd.backend.user.repository;
+
+import org.jbd.backend.user.domain.VerificationToken;
+import org.jbd.backend.user.domain.enums.VerificationPurpose;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface VerificationTokenRepository extends JpaRepository<VerificationToken, String> {
+
+    /**
+     * 같은 이메일·용도의 기존 토큰 제거 (재발송 시 이전 링크 무효화)
+     */
+    @Modifying
+    @Query("DELETE FROM VerificationToken t WHERE t.email = :email AND t.purpose = :purpose")
+    int deleteByEmailAndPurpose(@Param("email") String email, @Param("purpose") VerificationPurpose purpose);
+
+    /**
+     * 유효한 토큰을 삭제하며 사용 처리합니다. 여러 노드에서 동시에 사용해도 1건만 성공합니다.
+     *
+     * @return 사용된 토큰 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("DELETE FROM VerificationToken t WHERE t.tokenHash = :tokenHash AND t.expiresAt > :now")
+    int consume(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    /**
+     * expires_at 인덱스 범위 삭제로 만료 토큰 정리
+     */
+    @Modifying
+    @Query("DELETE FROM VerificationToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    long countByExpiresAtAfter(LocalDateTime now);
+}
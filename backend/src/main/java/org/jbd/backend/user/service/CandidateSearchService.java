@@ -0,0 +1,253 @@
+package org.jbd.backend.user.service;
+
+import org.jbd.backend.common.dto.PageResponse;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.common.util.TransactionUtils;
+import org.jbd.backend.user.domain.CandidateIndex;
+import org.jbd.backend.user.domain.CandidateIndex.CandidateDocument;
+import org.jbd.backend.user.domain.UserProfile;
+import org.jbd.backend.user.domain.enums.EducationLevel;
+import org.jbd.backend.user.domain.enums.SkillLevel;
+import org.jbd.backend.user.dto.CandidateSearchResultDto;
+import org.jbd.backend.user.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기업 사용자용 인재 검색 서비스
+ *
+ * 인재 검색 노출에 동의한(openToOffers) 일반 사용자만 색인하며, 검색 시에는 스킬·경력·학력·자격증
+ * 테이블을 조인하지 않고 인메모리 {@link CandidateIndex}에서 후보를 고릅니다.
+ * 프로필 데이터는 결과 페이지에 포함된 사용자만 일괄 조회합니다.
+ *
+ * 색인 갱신:
+ * - 시작 시 및 매일 새벽 전체 재구축 (현재 재직 중인 경력의 개월 수 반영, 탈퇴·비활성 사용자 정리)
+ * - ProfileService / UserProfileService 쓰기 작업 커밋 후 해당 사용자만 재색인
+ *
+ * @author JBD Backend Team
+ * @version 1.0
+ * @since 2025-09-19
+ */
+@Service
+@Transactional(readOnly = true)
+public class CandidateSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateSearchService.class);
+
+    /** 페이지 크기 상한 */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final UserProfileRepository userProfileRepository;
+    private final UserSkillRepository userSkillRepository;
+    private final EducationRepository educationRepository;
+    private final CareerHistoryRepository careerHistoryRepository;
+    private final CertificationRepository certificationRepository;
+
+    private final CandidateIndex index = new CandidateIndex();
+
+    @Value("${user.candidate-search.rebuild-chunk-size:500}")
+    private int rebuildChunkSize = 500;
+
+    public CandidateSearchService(UserProfileRepository userProfileRepository,
+                                  UserSkillRepository userSkillRepository,
+                                  EducationRepository educationRepository,
+                                  CareerHistoryRepository careerHistoryRepository,
+                                  CertificationRepository certificationRepository) {
+        this.userProfileRepository = userProfileRepository;
+        this.userSkillRepository = userSkillRepository;
+        this.educationRepository = educationRepository;
+        this.careerHistoryRepository = careerHistoryRepository;
+        this.certificationRepository = certificationRepository;
+    }
+
+    /**
+     * 인재 검색 노출 동의 사용자 전체로 색인을 재구축합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${user.candidate-search.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        List<Long> userIds = userProfileRepository.findOpenToOffersUserIds();
+        List<CandidateDocument> documents = new ArrayList<>(userIds.size());
+        for (int from = 0; from < userIds.size(); from += rebuildChunkSize) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + rebuildChunkSize, userIds.size()));
+            documents.addAll(loadDocuments(chunk));
+        }
+        index.replaceAll(documents);
+        logger.info("인재 검색 색인 재구축 완료: {}명", documents.size());
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 해당 사용자를 재색인합니다.
+     * 롤백된 변경이 색인에 남지 않도록 커밋 이후에만 반영합니다.
+     *
+     * @param userId 프로필이 변경된 사용자 ID
+     */
+    public void reindexAfterCommit(Long userId) {
+        TransactionUtils.runAfterCommit(() -> {
+            try {
+                reindex(userId);
+            } catch (RuntimeException e) {
+                // 다음 전체 재구축 시 복구되므로 요청은 실패시키지 않음
+                logger.warn("인재 검색 재색인 실패 (사용자: {}): {}", userId, e.getMessage());
+            }
+        });
+    }
+
+    public void reindex(Long userId) {
+        if (!userProfileRepository.isOpenToOffers(userId)) {
+            index.remove(userId);
+            return;
+        }
+        loadDocuments(List.of(userId)).forEach(index::put);
+    }
+
+    /**
+     * 조건에 맞는 인재를 정렬된 페이지로 조회합니다.
+     *
+     * @param skills 모두 보유해야 하는 기술 이름 (대소문자 무시)
+     * @param minCareerMonths 최소 총 경력 개월 수
+     * @param minEducation 최소 학력
+     * @param certification 보유해야 하는 자격증 이름
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기 (1~{@value #MAX_PAGE_SIZE})
+     * @return 인재 검색 결과 페이지
+     * @throws BusinessException page가 음수이거나 size가 범위를 벗어난 경우 (INVALID_REQUEST)
+     */
+    public PageResponse<CandidateSearchResultDto> search(List<String> skills, Integer minCareerMonths,
+                                                         EducationLevel minEducation, String certification,
+                                                         int page, int size) {
+        CandidateIndex.Query query = new CandidateIndex.Query(skills, minCareerMonths, minEducation, certification);
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    "page는 0 이상, size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        // page * size가 int 범위를 넘으면 결과가 없는 위치로 맞춤 (전체 건수는 그대로 계산)
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE - size);
+        CandidateIndex.SearchResult result = index.search(query, offset, size);
+
+        List<Long> userIds = result.getMatches().stream()
+                .map(match -> match.getDocument().getUserId())
+                .toList();
+        Map<Long, UserProfile> profiles = userIds.isEmpty()
+                ? Map.of()
+                : userProfileRepository.findByUserIdIn(userIds).stream()
+                        .collect(Collectors.toMap(profile -> profile.getUser().getId(), Function.identity()));
+
+        List<CandidateSearchResultDto> content = result.getMatches().stream()
+                .map(match -> toDto(match, profiles.get(match.getDocument().getUserId())))
+                .toList();
+
+        long total = result.getTotalMatches();
+        int totalPages = (int) ((total + size - 1) / size);
+        return new PageResponse<>(content, total, totalPages, size, page,
+                page == 0, page >= totalPages - 1);
+    }
+
+    public int getIndexedCandidateCount() {
+        return index.size();
+    }
+
+    private CandidateSearchResultDto toDto(CandidateIndex.Match match, UserProfile profile) {
+        CandidateDocument document = match.getDocument();
+        return CandidateSearchResultDto.builder()
+                .userId(document.getUserId())
+                .fullName(profile != null ? profile.getFullName() : null)
+                .desiredJob(profile != null ? profile.getDesiredJob() : null)
+                .location(profile != null ? profile.getLocation() : null)
+                .skills(document.getSkills().keySet().stream().sorted().toList())
+                .matchScore(match.getSkillScore())
+                .careerMonths(document.getCareerMonths())
+                .highestEducation(document.getHighestEducation())
+                .certificationCount(document.getCertifications().size())
+                .build();
+    }
+
+    /**
+     * 사용자 묶음의 색인 문서를 테이블별 1회 조회로 구성
+     *
+     * 색인 여부와 관계없이 사용할 수 있어, 지원자 적합도 계산에서도 프로필 일괄 조회에 사용합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자별 스킬·경력·학력·자격증 요약 (입력 순서 유지)
+     */
+    public List<CandidateDocument> loadDocuments(Collection<Long> userIds) {
+        Map<Long, Map<String, SkillLevel>> skills = new HashMap<>();
+        for (Object[] row : userSkillRepository.findSkillLevelsByUserIds(userIds)) {
+            skills.computeIfAbsent((Long) row[0], k -> new HashMap<>()).put((String) row[1], (SkillLevel) row[2]);
+        }
+
+        Map<Long, EducationLevel> educations = new HashMap<>();
+        for (Object[] row : educationRepository.findLevelsByUserIds(userIds)) {
+            educations.merge((Long) row[0], (EducationLevel) row[1],
+                    (a, b) -> a.getRank() >= b.getRank() ? a : b);
+        }
+
+        Map<Long, List<LocalDate[]>> periods = new HashMap<>();
+        LocalDate today = LocalDate.now();
+        for (Object[] row : careerHistoryRepository.findPeriodsByUserIds(userIds)) {
+            LocalDate start = (LocalDate) row[1];
+            LocalDate end = Boolean.TRUE.equals(row[3]) || row[2] == null ? today : (LocalDate) row[2];
+            periods.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add(new LocalDate[]{start, end});
+        }
+
+        Map<Long, Set<String>> certifications = new HashMap<>();
+        for (Object[] row : certificationRepository.findActiveNamesByUserIds(userIds)) {
+            certifications.computeIfAbsent((Long) row[0], k -> new HashSet<>()).add((String) row[1]);
+        }
+
+        List<CandidateDocument> documents = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            documents.add(new CandidateDocument(
+                    userId,
+                    skills.getOrDefault(userId, Map.of()),
+                    totalCareerMonths(periods.getOrDefault(userId, List.of())),
+                    educations.get(userId),
+                    certifications.getOrDefault(userId, Set.of())));
+        }
+        return documents;
+    }
+
+    /**
+     * 겹치는 경력 기간을 병합한 뒤 개월 수 합계를 계산
+     */
+    static int totalCareerMonths(List<LocalDate[]> periods) {
+        List<LocalDate[]> sorted = periods.stream()
+                .filter(p -> p[0] != null && p[1] != null && !p[1].isBefore(p[0]))
+                .sorted(Comparator.comparing((LocalDate[] p) -> p[0]))
+                .toList();
+
+        long months = 0;
+        LocalDate currentStart = null;
+        LocalDate currentEnd = null;
+        for (LocalDate[] period : sorted) {
+            if (currentEnd != null && !period[0].isAfter(currentEnd)) {
+                if (period[1].isAfter(currentEnd)) {
+                    currentEnd = period[1];
+                }
+                continue;
+            }
+            if (currentStart != null) {
+                months += ChronoUnit.MONTHS.between(currentStart, currentEnd);
+            }
+            currentStart = period[0];
+            currentEnd = period[1];
+        }
+        if (currentStart != null) {
+            months += ChronoUnit.MONTHS.between(currentStart, currentEnd);
+        }
+        return (int) months;
+    }
+}
@@ -1,24 +1,66 @@
 package org.jbd.backend.user.service;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.common.util.TransactionUtils;
+import org.jbd.backend.user.domain.VerificationToken;
+import org.jbd.backend.user.domain.enums.VerificationPurpose;
+import org.jbd.backend.user.repository.VerificationTokenRepository;
 import org.jbd.backend.webmail.service.WebMailService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.HexFormat;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이메일 인증·비밀번호 재설정 메일 발송 및 토큰 관리 서비스
+ *
+ * 토큰은 verification_tokens 테이블에 해시로 저장되어 재시작 후에도, 다른 노드에서도 검증할 수 있습니다.
+ * 메모리에는 토큰을 보관하지 않으며 저장소 크기는 다음으로 제한됩니다.
+ * - (이메일, 용도)당 토큰 1개: 재발송 시 이전 토큰 교체
+ * - 만료 토큰은 expires_at 인덱스 범위 삭제로 주기적으로 정리
+ * - 대기 중인 토큰 수 상한 (가득 차 있으면 발급 거부)
+ *
+ * 대기 토큰 수는 발급 시마다 테이블을 세지 않도록 메모리 카운터로 관리합니다. 발급·교체·사용 시 증감하고,
+ * 만료 토큰 정리 주기마다 DB 건수로 다시 맞추므로 다른 노드에서 발급·사용한 토큰도 그때 반영됩니다.
+ *
+ * 토큰 발급(이전 토큰 삭제 후 저장)은 별도 트랜잭션에서 실행하고 카운터는 커밋된 뒤에 올립니다.
+ * 같은 이메일·용도로 동시에 재발송되어 (email, purpose) 유니크 제약에 걸리면 먼저 커밋된 요청의 토큰을 유효한 것으로 두고,
+ * 나중 요청은 메일을 보내지 않고 재발송과 같은 정상 응답으로 끝냅니다.
+ *
+ * 메트릭: auth.verification.pending (이 노드가 아는 대기 토큰 수)
+ */
 @Service
+@Transactional
 public class EmailVerificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmailVerificationService.class);
 
     private final WebMailService webMailService;
-    private final Map<String, VerificationToken> tokenStore = new ConcurrentHashMap<>();
+    private final VerificationTokenRepository verificationTokenRepository;
+    private final TransactionTemplate issueTransaction;
+    private final AtomicLong pendingTokens = new AtomicLong();
+
+    @Value("${app.email.verification.max-pending:100000}")
+    private long maxPendingTokens = 100_000;
 
     @Value("${app.frontend.url:http://localhost:3000}")
     private String frontendUrl;
@@ -26,13 +68,27 @@ public class EmailVerificationService {
     @Value("${app.email.from:noreply@jbd.com}")
     private String fromEmail;
 
-    public EmailVerificationService(WebMailService webMailService) {
+    public EmailVerificationService(WebMailService webMailService,
+                                    VerificationTokenRepository verificationTokenRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry) {
         this.webMailService = webMailService;
+        this.verificationTokenRepository = verificationTokenRepository;
+        this.issueTransaction = new TransactionTemplate(transactionManager);
+        this.issueTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Gauge.builder("auth.verification.pending", pendingTokens, AtomicLong::get).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        pendingTokens.set(verificationTokenRepository.countByExpiresAtAfter(LocalDateTime.now()));
     }
 
     public void sendVerificationEmail(String email, String token) {
-        // 토큰 저장
-        tokenStore.put(token, new VerificationToken(email, token, LocalDateTime.now().plusHours(24)));
+        // 토큰 저장 (동시 재발송에 밀린 요청은 메일을 보내지 않음)
+        if (!storeToken(token, email, VerificationPurpose.EMAIL, LocalDateTime.now().plusHours(24))) {
+            return;
+        }
 
         // 이메일 내용 생성
         String subject = "[JBD] 이메일 인증을 완료해주세요";
@@ -54,8 +110,10 @@ public class EmailVerificationService {
     }
 
     public void sendCompanyVerificationEmail(String companyEmail, String token) {
-        // 토큰 저장
-        tokenStore.put(token, new VerificationToken(companyEmail, token, LocalDateTime.now().plusHours(24)));
+        // 토큰 저장 (동시 재발송에 밀린 요청은 메일을 보내지 않음)
+        if (!storeToken(token, companyEmail, VerificationPurpose.COMPANY_EMAIL, LocalDateTime.now().plusHours(24))) {
+            return;
+        }
 
         // 이메일 내용 생성
         String subject = "[JBD] 회사 이메일 인증을 완료해주세요";
@@ -77,8 +135,10 @@ public class EmailVerificationService {
     }
 
     public void sendPasswordResetEmail(String email, String token) {
-        // 토큰 저장
-        tokenStore.put(token, new VerificationToken(email, token, LocalDateTime.now().plusHours(1)));
+        // 토큰 저장 (동시 재발송에 밀린 요청은 메일을 보내지 않음)
+        if (!storeToken(token, email, VerificationPurpose.PASSWORD_RESET, LocalDateTime.now().plusHours(1))) {
+            return;
+        }
 
         // 이메일 내용 생성
         String subject = "[JBD] 비밀번호 재설정";
@@ -100,19 +160,20 @@ public class EmailVerificationService {
         logger.info("비밀번호 재설정 메일 발송 완료: {}", email);
     }
 
+    /**
+     * 토큰을 검증하고 사용 처리합니다. 토큰은 한 번만 사용할 수 있습니다.
+     *
+     * @param token 메일 링크의 토큰
+     * @return 유효한 토큰이었으면 true
+     */
     public boolean verifyToken(String token) {
-        VerificationToken verificationToken = tokenStore.get(token);
-        if (verificationToken == null) {
+        if (token == null || token.isBlank()) {
             return false;
         }
-
-        if (verificationToken.isExpired()) {
-            tokenStore.remove(token);
+        if (verificationTokenRepository.consume(hash(token), LocalDateTime.now()) != 1) {
             return false;
         }
-
-        // 토큰 사용 후 제거
-        tokenStore.remove(token);
+        decrementPending(1);
         return true;
     }
 
@@ -120,20 +181,59 @@ public class EmailVerificationService {
         return UUID.randomUUID().toString();
     }
 
-    // 내부 클래스: 인증 토큰 정보
-    private static class VerificationToken {
-        private final String email;
-        private final String token;
-        private final LocalDateTime expiryTime;
+    /**
+     * 만료된 토큰을 정리하고 대기 토큰 수를 DB 건수로 다시 맞춥니다.
+     */
+    @Scheduled(fixedDelayString = "${app.email.verification.sweep-interval-ms:600000}")
+    public void sweepExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = verificationTokenRepository.deleteExpired(now);
+        if (deleted > 0) {
+            logger.info("만료된 인증 토큰 {}건 정리", deleted);
+        }
+        pendingTokens.set(verificationTokenRepository.countByExpiresAtAfter(now));
+    }
 
-        public VerificationToken(String email, String token, LocalDateTime expiryTime) {
-            this.email = email;
-            this.token = token;
-            this.expiryTime = expiryTime;
+    /**
+     * 같은 이메일·용도의 이전 토큰을 지우고 새 토큰을 저장합니다.
+     *
+     * @return 저장했으면 true, 같은 이메일·용도의 동시 발급에 밀렸으면 false
+     */
+    private boolean storeToken(String token, String email, VerificationPurpose purpose, LocalDateTime expiresAt) {
+        if (pendingTokens.get() >= maxPendingTokens) {
+            logger.warn("대기 중인 인증 토큰이 상한({})에 도달해 발급을 거부합니다: {}", maxPendingTokens, purpose);
+            throw new BusinessException(ErrorCode.VERIFICATION_CAPACITY_EXCEEDED);
+        }
+        try {
+            issueTransaction.executeWithoutResult(status -> {
+                int replaced = verificationTokenRepository.deleteByEmailAndPurpose(email, purpose);
+                // 유니크 제약 위반이 이 트랜잭션 안에서 드러나도록 바로 반영
+                verificationTokenRepository.saveAndFlush(new VerificationToken(hash(token), email, purpose, expiresAt));
+                TransactionUtils.runAfterCommit(() -> {
+                    pendingTokens.incrementAndGet();
+                    decrementPending(replaced);
+                });
+            });
+            return true;
+        } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+            // 유니크 제약 위반 또는 (MySQL) 같은 키의 삭제·삽입 교착: 먼저 커밋된 토큰이 유효함
+            logger.info("같은 이메일·용도의 인증 토큰이 동시에 발급되어 먼저 발급된 토큰을 사용합니다: {}", purpose);
+            return false;
         }
+    }
+
+    private void decrementPending(int count) {
+        if (count > 0) {
+            pendingTokens.updateAndGet(pending -> Math.max(0, pending - count));
+        }
+    }
 
-        public boolean isExpired() {
-            return LocalDateTime.now().isAfter(expiryTime);
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -38,6 +38,9 @@ public class ProfileService {
     private final CertificationRepository certificationRepository;
     private final PortfolioRepository portfolioRepository;
     private final CareerHistoryRepository careerHistoryRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final CandidateSearchService candidateSearchService;
+    private final ProfileVersionService profileVersionService;
     
     public ProfileService(UserRepository userRepository,
                          EducationRepository educationRepository,
@@ -45,7 +48,10 @@ public class ProfileService {
                          SkillMasterRepository skillMasterRepository,
                          CertificationRepository certificationRepository,
                          PortfolioRepository portfolioRepository,
-                         CareerHistoryRepository careerHistoryRepository) {
+                         CareerHistoryRepository careerHistoryRepository,
+                         UserProfileRepository userProfileRepository,
+                         CandidateSearchService candidateSearchService,
+                         ProfileVersionService profileVersionService) {
         this.userRepository = userRepository;
         this.educationRepository = educationRepository;
         this.userSkillRepository = userSkillRepository;
@@ -53,6 +59,9 @@ public class ProfileService {
         this.certificationRepository = certificationRepository;
         this.portfolioRepository = portfolioRepository;
         this.careerHistoryRepository = careerHistoryRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.candidateSearchService = candidateSearchService;
+        this.profileVersionService = profileVersionService;
     }
     
     // Education 관련 메서드
@@ -64,6 +73,7 @@ public class ProfileService {
         Education education = new Education(user, educationLevel, schoolName, major, graduationYear);
         education.updateEducationInfo(educationLevel, schoolName, major, graduationYear, graduationDate, gpa, maxGpa);
         
+        onProfileChanged(userId);
         return educationRepository.save(education);
     }
     
@@ -78,6 +88,7 @@ public class ProfileService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.EDUCATION_NOT_FOUND));
         
         education.updateEducationInfo(educationLevel, schoolName, major, graduationYear, graduationDate, gpa, maxGpa);
+        onProfileChanged(education.getUser().getId());
         
         return educationRepository.save(education);
     }
@@ -88,6 +99,7 @@ public class ProfileService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.EDUCATION_NOT_FOUND));
         
         educationRepository.delete(education);
+        onProfileChanged(education.getUser().getId());
     }
     
     // Skill 관련 메서드
@@ -116,6 +128,7 @@ public class ProfileService {
         }
 
         logger.info("스킬 추가 완료: {} - {} (사용자: {})", skillName, skillLevel, userId);
+        onProfileChanged(userId);
         return userSkillRepository.save(userSkill);
     }
 
@@ -144,6 +157,7 @@ public class ProfileService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.SKILL_NOT_FOUND));
 
         userSkillRepository.delete(userSkill);
+        onProfileChanged(userSkill.getUser().getId());
     }
     
     // Certification 관련 메서드
@@ -156,6 +170,7 @@ public class ProfileService {
         Certification certification = new Certification(user, certificationName, issuingOrganization, issueDate);
         certification.updateCertification(certificationName, issuingOrganization, issueDate, expiryDate,
                                         credentialId, credentialUrl, description);
+        onProfileChanged(userId);
         
         return certificationRepository.save(certification);
     }
@@ -177,6 +192,7 @@ public class ProfileService {
         
         certification.updateCertification(certificationName, issuingOrganization, issueDate, expiryDate,
                                         credentialId, credentialUrl, description);
+        onProfileChanged(certification.getUser().getId());
         
         return certificationRepository.save(certification);
     }
@@ -187,6 +203,7 @@ public class ProfileService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.CERTIFICATION_NOT_FOUND));
         
         certificationRepository.delete(certification);
+        onProfileChanged(certification.getUser().getId());
     }
     
     // Portfolio 관련 메서드
@@ -200,7 +217,9 @@ public class ProfileService {
         Portfolio portfolio = new Portfolio(user, title, description);
         portfolio.updatePortfolio(title, description, projectUrl, githubUrl, startDate, endDate, technologiesUsed);
         
-        return portfolioRepository.save(portfolio);
+        Portfolio savedPortfolio = portfolioRepository.save(portfolio);
+        profileVersionService.incrementAfterCommit(userId);
+        return savedPortfolio;
     }
     
     public List<Portfolio> getPortfolioList(Long userId) {
@@ -221,7 +240,9 @@ public class ProfileService {
         
         portfolio.updatePortfolio(title, description, projectUrl, githubUrl, startDate, endDate, technologiesUsed);
         
-        return portfolioRepository.save(portfolio);
+        Portfolio savedPortfolio = portfolioRepository.save(portfolio);
+        profileVersionService.incrementAfterCommit(portfolio.getUser().getId());
+        return savedPortfolio;
     }
     
     @Transactional
@@ -230,6 +251,7 @@ public class ProfileService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.PORTFOLIO_NOT_FOUND));
         
         portfolioRepository.delete(portfolio);
+        profileVersionService.incrementAfterCommit(portfolio.getUser().getId());
     }
     
     // Experience 관련 메서드 (CareerHistory 사용)
@@ -263,6 +285,7 @@ public class ProfileService {
         careerHistory.updateCareerInfo(companyName, position, department, startDate, endDate,
                                       description, achievements);
         careerHistory.setEmploymentType(employmentType);
+        onProfileChanged(userId);
 
         return careerHistoryRepository.save(careerHistory);
     }
@@ -307,6 +330,7 @@ public class ProfileService {
 
         careerHistory.updateCareerInfo(companyName, position, department, startDate, endDate,
                                       description, achievements);
+        onProfileChanged(careerHistory.getUser().getId());
 
         return careerHistoryRepository.save(careerHistory);
     }
@@ -323,9 +347,34 @@ public class ProfileService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.EXPERIENCE_NOT_FOUND));
 
         careerHistoryRepository.delete(careerHistory);
+        onProfileChanged(careerHistory.getUser().getId());
     }
     
+    // 인재 검색 노출 설정
+    /**
+     * 기업 사용자의 인재 검색 결과에 노출될지 여부를 변경합니다.
+     * 기본 프로필이 없으면 새로 생성합니다.
+     *
+     * @param userId 사용자 ID
+     * @param openToOffers 노출 동의 여부
+     * @throws BusinessException 사용자를 찾을 수 없는 경우 (USER_NOT_FOUND)
+     */
+    @Transactional
+    public void updateOpenToOffers(Long userId, boolean openToOffers) {
+        UserProfile userProfile = userProfileRepository.findByUserId(userId)
+                .orElseGet(() -> new UserProfile(getUserById(userId)));
+
+        userProfile.updateOpenToOffers(openToOffers);
+        userProfileRepository.save(userProfile);
+        onProfileChanged(userId);
+    }
+
     // 유틸리티 메서드
+    private void onProfileChanged(Long userId) {
+        profileVersionService.incrementAfterCommit(userId);
+        candidateSearchService.reindexAfterCommit(userId);
+    }
+
     private User getUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -0,0 +1,48 @@
+package org.jbd.backend.user.service;
+
+import org.jbd.backend.common.util.TransactionUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 프로필 버전 스탬프
+ *
+ * 학력·스킬·자격증·경력·기본 프로필이 변경될 때마다 사용자별 버전을 1씩 올립니다.
+ * 프로필로부터 계산한 결과(지원자 적합도 등)를 캐시할 때 키에 버전을 포함하면,
+ * 프로필이 바뀐 사용자만 다시 계산하게 됩니다.
+ *
+ * 버전은 캐시와 같은 인메모리 수명을 가지며, 변경 트랜잭션이 커밋된 뒤에 올라갑니다.
+ * 커밋 전에 올리면 다른 요청이 새 버전으로 이전 데이터를 캐시할 수 있기 때문입니다.
+ *
+ * @author JBD Backend Team
+ * @version 1.0
+ * @since 2025-09-19
+ */
+@Service
+public class ProfileVersionService {
+
+    private final ConcurrentHashMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 프로필 버전 (변경 이력이 없으면 0)
+     *
+     * 캐시 키로 사용할 때는 프로필 데이터를 읽기 전에 먼저 조회해야 합니다.
+     */
+    public long getVersion(Long userId) {
+        AtomicLong version = versions.get(userId);
+        return version != null ? version.get() : 0L;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 버전을 올립니다. 트랜잭션 밖에서는 즉시 올립니다.
+     */
+    public void incrementAfterCommit(Long userId) {
+        TransactionUtils.runAfterCommit(() -> increment(userId));
+    }
+
+    private void increment(Long userId) {
+        versions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+    }
+}
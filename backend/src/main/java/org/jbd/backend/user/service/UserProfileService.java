@@ -22,11 +22,17 @@ public class UserProfileService {
 
     private final UserProfileRepository userProfileRepository;
     private final UserRepository userRepository;
+    private final CandidateSearchService candidateSearchService;
+    private final ProfileVersionService profileVersionService;
 
     public UserProfileService(UserProfileRepository userProfileRepository,
-                             UserRepository userRepository) {
+                             UserRepository userRepository,
+                             CandidateSearchService candidateSearchService,
+                             ProfileVersionService profileVersionService) {
         this.userProfileRepository = userProfileRepository;
         this.userRepository = userRepository;
+        this.candidateSearchService = candidateSearchService;
+        this.profileVersionService = profileVersionService;
     }
 
     public UserProfileResponseDto createUserProfile(Long userId, UserProfileCreateDto createDto) {
@@ -51,6 +57,7 @@ public class UserProfileService {
         userProfile.setBio(createDto.getBio());
 
         UserProfile savedProfile = userProfileRepository.save(userProfile);
+        profileVersionService.incrementAfterCommit(userId);
         return UserProfileResponseDto.from(savedProfile);
     }
 
@@ -103,7 +110,13 @@ public class UserProfileService {
             userProfile.updateBio(updateDto.getBio());
         }
 
+        if (updateDto.getOpenToOffers() != null) {
+            userProfile.updateOpenToOffers(updateDto.getOpenToOffers());
+            candidateSearchService.reindexAfterCommit(userId);
+        }
+
         UserProfile savedProfile = userProfileRepository.save(userProfile);
+        profileVersionService.incrementAfterCommit(userId);
         return UserProfileResponseDto.from(savedProfile);
     }
 
@@ -112,6 +125,8 @@ public class UserProfileService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_PROFILE_NOT_FOUND));
 
         userProfileRepository.delete(userProfile);
+        profileVersionService.incrementAfterCommit(userId);
+        candidateSearchService.reindexAfterCommit(userId);
     }
 
     @Transactional(readOnly = true)
@@ -1,7 +1,9 @@
 package org.jbd.backend.user.service;
 
+import org.jbd.backend.auth.service.PrincipalCache;
 import org.jbd.backend.common.exception.BusinessException;
 import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.dashboard.service.JobScoreRankingService;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.domain.UserProfile;
 import org.jbd.backend.user.domain.enums.UserType;
@@ -56,6 +58,18 @@ public class UserService {
     /** 이메일 인증 관리 서비스 */
     private final EmailVerificationService emailVerificationService;
 
+    /** 인증 필터용 사용자 스냅샷 캐시 */
+    private final PrincipalCache principalCache;
+
+    /** 프로필 변경 버전 스탬프 (프로필 기반 캐시 무효화용) */
+    private final ProfileVersionService profileVersionService;
+
+    /** 취업 점수 분포 (탈퇴·유형 변경 시 제거) */
+    private final JobScoreRankingService jobScoreRankingService;
+
+    /** 인재 검색 색인 (탈퇴·잠금·유형 변경 시 재색인) */
+    private final CandidateSearchService candidateSearchService;
+
     /**
      * UserService 생성자
      *
@@ -63,15 +77,27 @@ public class UserService {
      * @param userProfileRepository 사용자 프로필 리포지토리
      * @param passwordEncoder 비밀번호 암호화 서비스
      * @param emailVerificationService 이메일 인증 서비스
+     * @param principalCache 인증 사용자 캐시
+     * @param profileVersionService 프로필 버전 서비스
+     * @param jobScoreRankingService 취업 점수 순위 서비스
+     * @param candidateSearchService 인재 검색 서비스
      */
     public UserService(UserRepository userRepository,
                       UserProfileRepository userProfileRepository,
                       PasswordEncoder passwordEncoder,
-                      EmailVerificationService emailVerificationService) {
+                      EmailVerificationService emailVerificationService,
+                      PrincipalCache principalCache,
+                      ProfileVersionService profileVersionService,
+                      JobScoreRankingService jobScoreRankingService,
+                      CandidateSearchService candidateSearchService) {
         this.userRepository = userRepository;
         this.userProfileRepository = userProfileRepository;
         this.passwordEncoder = passwordEncoder;
         this.emailVerificationService = emailVerificationService;
+        this.principalCache = principalCache;
+        this.profileVersionService = profileVersionService;
+        this.jobScoreRankingService = jobScoreRankingService;
+        this.candidateSearchService = candidateSearchService;
     }
 
     /**
@@ -216,7 +242,11 @@ public class UserService {
         }
 
         user.deactivate();
+        user.invalidateIssuedTokens();
         userRepository.save(user);
+        principalCache.evictAfterCommit(user.getEmail());
+        jobScoreRankingService.removeUserAfterCommit(user.getId());
+        candidateSearchService.reindexAfterCommit(user.getId());
     }
 
     public void verifyEmail(Long userId) {
@@ -257,6 +287,9 @@ public class UserService {
 
         user.convertToCompanyUser();
         userRepository.save(user);
+        principalCache.evictAfterCommit(user.getEmail());
+        jobScoreRankingService.removeUserAfterCommit(user.getId());
+        candidateSearchService.reindexAfterCommit(user.getId());
     }
 
 
@@ -307,8 +340,11 @@ public class UserService {
 
         String encodedNewPassword = passwordEncoder.encode(newPassword);
         user.setPasswordHash(encodedNewPassword);
+        // 변경 전 비밀번호로 발급된 토큰은 더 이상 인정하지 않음
+        user.invalidateIssuedTokens();
 
         userRepository.save(user);
+        principalCache.evictAfterCommit(user.getEmail());
     }
 
     public UserResponseDto updateUser(Long userId, org.jbd.backend.user.dto.UserUpdateDto updateDto) {
@@ -334,10 +370,12 @@ public class UserService {
                 updateDto.getName() != null ? updateDto.getName() : "", "");
             updateProfileFromDto(profile, updateDto);
             userProfileRepository.save(profile);
+            profileVersionService.incrementAfterCommit(userId);
         } else if (profile != null) {
             // 기존 프로필 업데이트
             updateProfileFromDto(profile, updateDto);
             userProfileRepository.save(profile);
+            profileVersionService.incrementAfterCommit(userId);
         }
 
         return UserResponseDto.from(user, profile);
@@ -439,7 +477,11 @@ public class UserService {
         }
 
         user.deactivate();
+        user.invalidateIssuedTokens();
         userRepository.save(user);
+        principalCache.evictAfterCommit(user.getEmail());
+        jobScoreRankingService.removeUserAfterCommit(user.getId());
+        candidateSearchService.reindexAfterCommit(user.getId());
 
         // 실제 계정 잠금 기능을 위해서는 스키마에 lock_until 필드 추가 또는 별도 테이블 사용 가능
         logger.info("계정 잠금이 완료되었습니다. userId: {}, lockUntil: {}", userId, lockUntil);
@@ -456,6 +498,8 @@ public class UserService {
 
         user.activate();
         userRepository.save(user);
+        principalCache.evictAfterCommit(user.getEmail());
+        candidateSearchService.reindexAfterCommit(user.getId());
 
         // 실제 계정 잠금 기능을 위해서는 스키마에 lock_until 필드 추가 또는 별도 테이블 사용 가능
         logger.info("계정 잠금이 해제되었습니다. userId: {}", userId);
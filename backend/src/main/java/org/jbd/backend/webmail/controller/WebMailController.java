@@ -3,7 +3,7 @@ package org.jbd.backend.webmail.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.auth.service.CurrentUser;
 import org.jbd.backend.common.dto.ApiResponse;
 import org.jbd.backend.common.dto.PageResponse;
 import org.jbd.backend.user.domain.User;
@@ -28,17 +28,15 @@ import java.util.List;
 public class WebMailController {
     
     private final WebMailService webMailService;
-    private final JwtService jwtService;
+    private final CurrentUser currentUser;
     
     @PostMapping("/send")
     public ResponseEntity<ApiResponse<SendEmailResponse>> sendEmail(
             @Valid @RequestBody SendEmailRequest request,
-            @RequestHeader("Authorization") String authHeader,
             @AuthenticationPrincipal UserDetails userDetails) {
         
         try {
-            String token = authHeader.substring(7);
-            Long userId = jwtService.extractUserId(token);
+            Long userId = currentUser.getId();
             
             // 현재 로그인한 사용자 정보 설정
             String currentUserEmail = userDetails.getUsername();
@@ -74,12 +72,10 @@ public class WebMailController {
     public ResponseEntity<ApiResponse<PageResponse<EmailHistory>>> getSentEmails(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestHeader("Authorization") String authHeader,
             @AuthenticationPrincipal UserDetails userDetails) {
         
         try {
-            String token = authHeader.substring(7);
-            Long userId = jwtService.extractUserId(token);
+            Long userId = currentUser.getId();
             
             Pageable pageable = PageRequest.of(page, size);
             Page<EmailHistory> sentEmails = webMailService.getSentEmails(userId, pageable);
@@ -98,12 +94,10 @@ public class WebMailController {
     
     @GetMapping("/translated")
     public ResponseEntity<ApiResponse<List<EmailHistory>>> getTranslatedEmails(
-            @RequestHeader("Authorization") String authHeader,
             @AuthenticationPrincipal UserDetails userDetails) {
         
         try {
-            String token = authHeader.substring(7);
-            Long userId = jwtService.extractUserId(token);
+            Long userId = currentUser.getId();
             
             List<EmailHistory> translatedEmails = webMailService.getTranslatedEmails(userId);
             
@@ -121,12 +115,10 @@ public class WebMailController {
     
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<EmailStatsResponse>> getEmailStats(
-            @RequestHeader("Authorization") String authHeader,
             @AuthenticationPrincipal UserDetails userDetails) {
         
         try {
-            String token = authHeader.substring(7);
-            Long userId = jwtService.extractUserId(token);
+            Long userId = currentUser.getId();
             
             long totalSentCount = webMailService.getSentEmailCount(userId);
             long translatedCount = webMailService.getTranslatedEmails(userId).size();
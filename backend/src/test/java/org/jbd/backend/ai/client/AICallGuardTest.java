@@ -0,0 +1,156 @@
+package org.jbd.backend.ai.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.jbd.backend.ai.dto.ImageGenerationDto;
+import org.jbd.backend.ai.dto.SentimentAnalysisDto;
+import org.jbd.backend.util.StubAIServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AI 호출 bulkhead·서킷 브레이커 테스트")
+class AICallGuardTest {
+
+    private static final String SENTIMENT_PATH = "/api/v1/sentiment/analyze";
+    private static final String SENTIMENT_JSON =
+            "{\"success\":true,\"message\":\"ok\",\"data\":{\"label\":\"POSITIVE\",\"score\":0.8,\"confidence\":0.9,\"explanation\":\"\"}}";
+    private static final String IMAGE_PATH = "/api/v1/image/generate";
+
+    private final AtomicLong clock = new AtomicLong();
+    private StubAIServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private AICallGuard callGuard;
+    private AIServiceTransport transport;
+    private AIServiceClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubAIServer(8);
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("ai.service.resilience.max-concurrent.image", "1");
+        AIServiceConfig config = new AIServiceConfig(environment);
+        ReflectionTestUtils.setField(config, "aiServiceBaseUrl", server.getBaseUrl());
+        ReflectionTestUtils.setField(config, "minimumCalls", 4);
+        ReflectionTestUtils.setField(config, "halfOpenProbes", 1);
+        // 재시도·응답 캐시 없이 bulkhead·서킷 브레이커 동작만 확인
+        ReflectionTestUtils.setField(config, "retryMaxAttempts", 1);
+        ReflectionTestUtils.setField(config, "cacheEnabled", false);
+        meterRegistry = new SimpleMeterRegistry();
+        callGuard = new AICallGuard(config, meterRegistry, clock::get);
+        transport = new AIServiceTransport(config, meterRegistry);
+        client = new AIServiceClient(transport, config, callGuard,
+                new AIRetryExecutor(config, callGuard, transport, meterRegistry),
+                new AIResponseCache(config, new ObjectMapper(), meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.shutdown();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("동시 호출 상한을 넘은 호출은 AI 서비스를 기다리지 않고 오류 응답을 반환한다")
+    void 동시_호출_상한을_넘으면_즉시_오류_응답을_반환한다() throws Exception {
+        // given
+        server.respond(IMAGE_PATH, 200, "{\"success\":true,\"message\":\"ok\",\"data\":null}", 500);
+        CompletableFuture<ImageGenerationDto.GenerateResponse> slowCall =
+                CompletableFuture.supplyAsync(() -> client.generateImage("a", "professional", "512x512", 1));
+        waitUntil(() -> server.getRequestCount(IMAGE_PATH) == 1);
+
+        // when
+        long startedAt = System.nanoTime();
+        ImageGenerationDto.GenerateResponse rejected = client.generateImage("b", "professional", "512x512", 1);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertThat(rejected.isSuccess()).isFalse();
+        assertThat(elapsedMillis).isLessThan(200);
+        assertThat(slowCall.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(server.getRequestCount(IMAGE_PATH)).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.call.rejected").tag("endpoint", "image").tag("reason", "bulkhead_full")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("연속 실패로 서킷이 열리면 AI 서비스를 호출하지 않고 시험 호출 성공 후 다시 닫힌다")
+    void 서킷이_열리면_호출하지_않고_시험_호출_성공_후_닫힌다() {
+        // given
+        server.respond(SENTIMENT_PATH, 503, "{\"success\":false}", 0);
+        for (int i = 0; i < 4; i++) {
+            client.analyzeSentiment("좋아요", "ko");
+        }
+
+        // when
+        SentimentAnalysisDto.AnalyzeResponse whileOpen = client.analyzeSentiment("좋아요", "ko");
+
+        // then
+        assertThat(whileOpen.success()).isFalse();
+        assertThat(server.getRequestCount(SENTIMENT_PATH)).isEqualTo(4);
+        assertThat(callGuard.getState(AIEndpoint.SENTIMENT)).isEqualTo(AICircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get("ai.circuit.state").tag("endpoint", "sentiment").gauge().value()).isEqualTo(1.0);
+
+        // when - OPEN 유지 시간이 지나고 AI 서비스가 회복됨
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        server.respond(SENTIMENT_PATH, 200, SENTIMENT_JSON, 0);
+        SentimentAnalysisDto.AnalyzeResponse probe = client.analyzeSentiment("좋아요", "ko");
+
+        // then
+        assertThat(probe.success()).isTrue();
+        assertThat(callGuard.getState(AIEndpoint.SENTIMENT)).isEqualTo(AICircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.get("ai.circuit.transitions").tag("endpoint", "sentiment").tag("state", "closed")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 서킷 실패로 세지 않는다")
+    void 클라이언트_오류는_서킷_실패로_세지_않는다() {
+        // given
+        server.respond(SENTIMENT_PATH, 422, "{\"success\":false}", 0);
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            client.analyzeSentiment("", "ko");
+        }
+
+        // then
+        assertThat(callGuard.getState(AIEndpoint.SENTIMENT)).isEqualTo(AICircuitBreaker.State.CLOSED);
+        assertThat(server.getRequestCount(SENTIMENT_PATH)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("한 엔드포인트의 서킷이 열려도 다른 엔드포인트 호출은 영향을 받지 않는다")
+    void 서킷은_엔드포인트별로_분리된다() {
+        // given
+        server.respond(SENTIMENT_PATH, 503, "{\"success\":false}", 0);
+        for (int i = 0; i < 4; i++) {
+            client.analyzeSentiment("좋아요", "ko");
+        }
+        server.respond(IMAGE_PATH, 200, "{\"success\":true,\"message\":\"ok\",\"data\":null}", 0);
+
+        // when
+        ImageGenerationDto.GenerateResponse response = client.generateImage("a", "professional", "512x512", 1);
+
+        // then
+        assertThat(callGuard.getState(AIEndpoint.SENTIMENT)).isEqualTo(AICircuitBreaker.State.OPEN);
+        assertThat(response.isSuccess()).isTrue();
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
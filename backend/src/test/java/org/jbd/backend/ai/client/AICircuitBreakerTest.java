@@ -0,0 +1,141 @@
+package org.jbd.backend.ai.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AI 서킷 브레이커 테스트")
+class AICircuitBreakerTest {
+
+    private static final long OPEN_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<AICircuitBreaker.State> transitions = new ArrayList<>();
+    private AICircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        // 실패율 50%, 최근 10건 기준, 최소 4건, 시험 호출 2건
+        breaker = new AICircuitBreaker(50, 10, 4, OPEN_NANOS, 2, clock::get, transitions::add);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 실패만 있어도 열리지 않는다")
+    void 최소_호출_수_전에는_열리지_않는다() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure(breaker.tryAcquire());
+        }
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계값에 도달하면 OPEN으로 전환하고 호출을 거절한다")
+    void 실패율이_임계값에_도달하면_OPEN으로_전환한다() {
+        // given
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+
+        // when
+        breaker.onFailure(breaker.tryAcquire());
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isEqualTo(AICircuitBreaker.REJECTED);
+        assertThat(transitions).containsExactly(AICircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간이 지나면 정해진 수의 시험 호출만 허용하고 모두 성공하면 CLOSED로 돌아간다")
+    void 시험_호출이_모두_성공하면_CLOSED로_돌아간다() {
+        // given
+        open();
+        clock.addAndGet(OPEN_NANOS);
+
+        // when
+        long first = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+        long third = breaker.tryAcquire();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.HALF_OPEN);
+        assertThat(first).isNotEqualTo(AICircuitBreaker.REJECTED);
+        assertThat(second).isNotEqualTo(AICircuitBreaker.REJECTED);
+        assertThat(third).isEqualTo(AICircuitBreaker.REJECTED);
+
+        breaker.onSuccess(first);
+        breaker.onSuccess(second);
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.CLOSED);
+        assertThat(transitions).containsExactly(
+                AICircuitBreaker.State.OPEN, AICircuitBreaker.State.HALF_OPEN, AICircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 OPEN으로 돌아간다")
+    void 시험_호출이_실패하면_다시_OPEN으로_돌아간다() {
+        // given
+        open();
+        clock.addAndGet(OPEN_NANOS);
+        long probe = breaker.tryAcquire();
+
+        // when
+        breaker.onFailure(probe);
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isEqualTo(AICircuitBreaker.REJECTED);
+    }
+
+    @Test
+    @DisplayName("OPEN 전에 시작된 호출의 결과는 시험 호출 결과로 집계하지 않는다")
+    void 이전_세대_호출_결과는_무시한다() {
+        // given
+        long slowCall = breaker.tryAcquire();
+        open();
+        clock.addAndGet(OPEN_NANOS);
+        long probe = breaker.tryAcquire();
+
+        // when
+        breaker.onFailure(slowCall);
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess(probe);
+        breaker.onSuccess(breaker.tryAcquire());
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("취소된 시험 호출은 슬롯을 돌려준다")
+    void 취소된_시험_호출은_슬롯을_돌려준다() {
+        // given
+        open();
+        clock.addAndGet(OPEN_NANOS);
+        long first = breaker.tryAcquire();
+        breaker.tryAcquire();
+        assertThat(breaker.tryAcquire()).isEqualTo(AICircuitBreaker.REJECTED);
+
+        // when
+        breaker.onIgnored(first);
+
+        // then
+        assertThat(breaker.tryAcquire()).isNotEqualTo(AICircuitBreaker.REJECTED);
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(breaker.tryAcquire());
+        }
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.OPEN);
+    }
+}
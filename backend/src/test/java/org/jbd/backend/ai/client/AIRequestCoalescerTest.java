@@ -0,0 +1,242 @@
+package org.jbd.backend.ai.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.jbd.backend.ai.dto.InterviewDto;
+import org.jbd.backend.util.StubAIServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("동일 AI 요청 병합 테스트")
+class AIRequestCoalescerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final String KEY = "interview:backend";
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private AIRequestCoalescer coalescer;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new AIRequestCoalescer(meterRegistry, System::nanoTime);
+        callers = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 요청은 한 번만 호출하고 결과를 함께 받는다")
+    void 동시_요청은_한_번만_호출한다() throws Exception {
+        // given
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(CompletableFuture.supplyAsync(
+                    () -> coalescer.execute(AICacheableOperation.INTERVIEW_QUESTIONS, KEY, TIMEOUT, this::blockingLoad),
+                    callers));
+        }
+        waitUntil(() -> joinedCount() == 4);
+
+        // when
+        release.countDown();
+
+        // then
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("questions");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(coalescer.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("진행 중 호출이 실패하면 합류한 호출도 같은 예외를 받는다")
+    void 실패는_합류한_호출에도_전파된다() throws Exception {
+        // given
+        ResourceAccessException failure = new ResourceAccessException("connection refused");
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+                () -> coalescer.execute(AICacheableOperation.INTERVIEW_QUESTIONS, KEY, TIMEOUT, () -> {
+                    blockingLoad();
+                    throw failure;
+                }), callers);
+        waitUntil(() -> coalescer.inFlight() == 1);
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(
+                () -> coalescer.execute(AICacheableOperation.INTERVIEW_QUESTIONS, KEY, TIMEOUT, this::blockingLoad),
+                callers);
+        waitUntil(() -> joinedCount() == 1);
+
+        // when
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("합류한 호출은 키의 마감 시각까지만 기다린다")
+    void 합류한_호출은_마감_시각까지만_기다린다() {
+        // given
+        CompletableFuture.runAsync(() -> coalescer.execute(
+                AICacheableOperation.INTERVIEW_QUESTIONS, KEY, Duration.ofMillis(300), this::blockingLoad), callers);
+        waitUntil(() -> coalescer.inFlight() == 1);
+
+        // when
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> coalescer.execute(
+                AICacheableOperation.INTERVIEW_QUESTIONS, KEY, TIMEOUT, this::blockingLoad))
+                .isInstanceOf(ResourceAccessException.class);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then - 합류한 호출의 제한 시간(5초)이 아니라 진행 중 호출의 마감 시각(300ms)을 따름
+        assertThat(elapsedMillis).isLessThan(1000);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동기 호출과 비동기 호출이 같은 진행 중 호출을 공유한다")
+    void 동기_비동기_호출이_진행_중_호출을_공유한다() throws Exception {
+        // given
+        CompletableFuture<String> blocking = CompletableFuture.supplyAsync(
+                () -> coalescer.execute(AICacheableOperation.INTERVIEW_QUESTIONS, KEY, TIMEOUT, this::blockingLoad),
+                callers);
+        waitUntil(() -> coalescer.inFlight() == 1);
+        CompletableFuture<String> async = coalescer.executeAsync(AICacheableOperation.INTERVIEW_QUESTIONS, KEY,
+                TIMEOUT, Mono.fromSupplier(this::blockingLoad)).toFuture();
+
+        // when
+        release.countDown();
+
+        // then
+        assertThat(blocking.get(5, TimeUnit.SECONDS)).isEqualTo("questions");
+        assertThat(async.get(5, TimeUnit.SECONDS)).isEqualTo("questions");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 구독자가 취소해도 진행 중 호출은 계속되어 다른 호출자가 결과를 받는다")
+    void 구독_취소는_다른_호출자에_영향을_주지_않는다() throws Exception {
+        // given
+        Mono<String> load = Mono.fromSupplier(this::blockingLoad)
+                .subscribeOn(Schedulers.boundedElastic());
+        Disposable cancelled = coalescer.executeAsync(AICacheableOperation.INTERVIEW_QUESTIONS, KEY, TIMEOUT, load)
+                .subscribe();
+        CompletableFuture<String> remaining = coalescer.executeAsync(
+                AICacheableOperation.INTERVIEW_QUESTIONS, KEY, TIMEOUT, load).toFuture();
+
+        // when
+        cancelled.dispose();
+        release.countDown();
+
+        // then
+        assertThat(remaining.get(5, TimeUnit.SECONDS)).isEqualTo("questions");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진행 중 호출이 끝난 뒤의 요청은 새로 호출한다")
+    void 끝난_호출의_결과는_보관하지_않는다() {
+        // given
+        release.countDown();
+        coalescer.execute(AICacheableOperation.INTERVIEW_QUESTIONS, KEY, TIMEOUT, this::blockingLoad);
+
+        // when
+        coalescer.execute(AICacheableOperation.INTERVIEW_QUESTIONS, KEY, TIMEOUT, this::blockingLoad);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시에 같은 면접 질문을 요청하면 AI 서비스는 한 번만 호출된다")
+    void 동시_면접_질문_요청은_AI_서비스를_한_번만_호출한다() throws Exception {
+        // given - 캐시 없이 병합만 사용
+        String path = "/api/v1/interview/generate-questions";
+        try (StubAIServer server = new StubAIServer(8)) {
+            server.respond(path, 200, "{\"success\":true,\"message\":\"ok\",\"data\":null}", 1000);
+            AIServiceConfig config = new AIServiceConfig(new MockEnvironment());
+            ReflectionTestUtils.setField(config, "aiServiceBaseUrl", server.getBaseUrl());
+            ReflectionTestUtils.setField(config, "cacheEnabled", false);
+            AICallGuard callGuard = new AICallGuard(config, meterRegistry);
+            AIServiceTransport transport = new AIServiceTransport(config, meterRegistry);
+            AIServiceClient client = new AIServiceClient(transport, config, callGuard,
+                    new AIRetryExecutor(config, callGuard, transport, meterRegistry),
+                    new AIResponseCache(config, new ObjectMapper(), meterRegistry));
+            try {
+                // when
+                List<CompletableFuture<InterviewDto.GenerateQuestionsResponse>> responses = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    responses.add(CompletableFuture.supplyAsync(
+                            () -> client.generateInterviewQuestions("백엔드 개발자", "technical", 5), callers));
+                }
+
+                // then
+                for (CompletableFuture<InterviewDto.GenerateQuestionsResponse> response : responses) {
+                    assertThat(response.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+                }
+                assertThat(server.getRequestCount(path)).isEqualTo(1);
+            } finally {
+                transport.shutdown();
+            }
+        }
+    }
+
+    private String blockingLoad() {
+        loads.incrementAndGet();
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "questions";
+    }
+
+    private double joinedCount() {
+        return meterRegistry.get("ai.coalescing.joined").tag("operation", "interview-questions").counter().count();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
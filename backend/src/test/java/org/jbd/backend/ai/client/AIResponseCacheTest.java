@@ -0,0 +1,239 @@
+package org.jbd.backend.ai.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.jbd.backend.ai.dto.SentimentAnalysisDto;
+import org.jbd.backend.ai.dto.TranslationDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AI 응답 캐시 테스트")
+class AIResponseCacheTest {
+
+    private static final SentimentAnalysisDto.AnalyzeResponse POSITIVE = new SentimentAnalysisDto.AnalyzeResponse(
+            true, "ok", new SentimentAnalysisDto.SentimentData("POSITIVE", 0.8, 0.9, ""));
+    private static final SentimentAnalysisDto.AnalyzeResponse FAILED =
+            new SentimentAnalysisDto.AnalyzeResponse(false, "error", null);
+
+    @TempDir
+    Path cacheDirectory;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final AtomicInteger loads = new AtomicInteger();
+    private MockEnvironment environment;
+    private AIServiceConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private AIResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment()
+                .withProperty("ai.service.cache.operations.sentiment.ttl", "60000");
+        config = new AIServiceConfig(environment);
+        ReflectionTestUtils.setField(config, "cacheDiskDirectory", cacheDirectory.toString());
+        meterRegistry = new SimpleMeterRegistry();
+        cache = newCache();
+    }
+
+    @Test
+    @DisplayName("같은 요청은 두 번째부터 AI 서비스를 호출하지 않고 메모리에서 반환한다")
+    void 같은_요청은_메모리에서_반환한다() {
+        // when
+        SentimentAnalysisDto.AnalyzeResponse first = analyze("좋아요", "ko", POSITIVE);
+        SentimentAnalysisDto.AnalyzeResponse second = analyze("좋아요", "ko", POSITIVE);
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(meterRegistry.get("ai.cache.requests").tag("operation", "sentiment").tag("result", "memory")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("앞뒤 공백·줄바꿈·유니코드 정규화 차이는 같은 키로 취급하고 다른 필드 값은 구분한다")
+    void 정규화된_요청으로_키를_만든다() {
+        // given - "é"를 결합 문자(e + U+0301)와 완성형으로 각각 표현
+        TranslationDto.TranslateRequest combining =
+                new TranslationDto.TranslateRequest("Cafe\u0301\r\n메일 본문 ", "en", "ko", "email");
+        TranslationDto.TranslateRequest precomposed =
+                new TranslationDto.TranslateRequest("  Café\n메일 본문", "en", "ko", "email");
+        TranslationDto.TranslateRequest otherLanguage =
+                new TranslationDto.TranslateRequest("Café\n메일 본문", "ja", "ko", "email");
+
+        // when & then
+        String key = cache.keyFor(AICacheableOperation.TRANSLATION, combining);
+        assertThat(cache.keyFor(AICacheableOperation.TRANSLATION, precomposed)).isEqualTo(key);
+        assertThat(cache.keyFor(AICacheableOperation.TRANSLATION, otherLanguage)).isNotEqualTo(key);
+        assertThat(cache.keyFor(AICacheableOperation.SENTIMENT, combining)).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("모델 버전이 바뀌면 이전 응답을 사용하지 않는다")
+    void 모델_버전이_바뀌면_캐시를_사용하지_않는다() {
+        // given
+        analyze("좋아요", "ko", POSITIVE);
+
+        // when
+        ReflectionTestUtils.setField(config, "cacheModelVersion", "2");
+        analyze("좋아요", "ko", POSITIVE);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 응답은 디스크에서 찾아 반환한다")
+    void 메모리에_없으면_디스크에서_반환한다() {
+        // given
+        analyze("좋아요", "ko", POSITIVE);
+
+        // when - 재시작으로 메모리 캐시가 비워진 상황
+        AIResponseCache restarted = newCache();
+        SentimentAnalysisDto.AnalyzeResponse response = restarted.getOrLoad(AICacheableOperation.SENTIMENT,
+                new SentimentAnalysisDto.AnalyzeRequest("좋아요", "ko"), SentimentAnalysisDto.AnalyzeResponse.class,
+                SentimentAnalysisDto.AnalyzeResponse::success, this::load);
+
+        // then
+        assertThat(response).isEqualTo(POSITIVE);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.cache.requests").tag("operation", "sentiment").tag("result", "disk")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지나면 메모리와 디스크 모두 다시 호출한다")
+    void 보관_시간이_지나면_다시_호출한다() {
+        // given
+        analyze("좋아요", "ko", POSITIVE);
+
+        // when
+        clock.addAndGet(60_000);
+        analyze("좋아요", "ko", POSITIVE);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실패 응답은 캐시하지 않는다")
+    void 실패_응답은_캐시하지_않는다() {
+        // when
+        analyze("좋아요", "ko", FAILED);
+        SentimentAnalysisDto.AnalyzeResponse response = analyze("좋아요", "ko", POSITIVE);
+
+        // then
+        assertThat(response.success()).isTrue();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시를 끈 작업은 매번 AI 서비스를 호출한다")
+    void 캐시를_끈_작업은_매번_호출한다() {
+        // given
+        environment.setProperty("ai.service.cache.operations.sentiment.enabled", "false");
+
+        // when
+        analyze("좋아요", "ko", POSITIVE);
+        analyze("좋아요", "ko", POSITIVE);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cacheDirectory.toFile().list()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("메모리 크기 상한을 넘으면 가장 오래 쓰이지 않은 응답부터 제거한다")
+    void 메모리_상한을_넘으면_LRU_순서로_제거한다() {
+        // given - 응답 2건만 들어가는 크기, 디스크 캐시 없음
+        ReflectionTestUtils.setField(config, "cacheDiskEnabled", false);
+        ReflectionTestUtils.setField(config, "cacheMemoryMaxBytes", 600L);
+        cache = newCache();
+        analyze("a", "ko", POSITIVE);
+        analyze("b", "ko", POSITIVE);
+        analyze("a", "ko", POSITIVE);
+
+        // when
+        analyze("c", "ko", POSITIVE);
+        loads.set(0);
+        analyze("a", "ko", POSITIVE);
+        analyze("b", "ko", POSITIVE);
+
+        // then - 최근에 쓴 a는 남고 b는 제거됨
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.memoryBytes()).isLessThanOrEqualTo(600L);
+    }
+
+    @Test
+    @DisplayName("비동기 조회도 같은 캐시를 사용한다")
+    void 비동기_조회도_같은_캐시를_사용한다() {
+        // given
+        analyze("좋아요", "ko", POSITIVE);
+
+        // when
+        SentimentAnalysisDto.AnalyzeResponse response = cache.getOrLoadAsync(AICacheableOperation.SENTIMENT,
+                        new SentimentAnalysisDto.AnalyzeRequest("좋아요", "ko"),
+                        SentimentAnalysisDto.AnalyzeResponse.class, SentimentAnalysisDto.AnalyzeResponse::success,
+                        Mono.fromSupplier(this::load))
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(response).isEqualTo(POSITIVE);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("디스크 정리는 만료된 파일을 삭제한다")
+    void 디스크_정리는_만료된_파일을_삭제한다() throws Exception {
+        // given
+        analyze("좋아요", "ko", POSITIVE);
+        assertThat(countFiles()).isEqualTo(1);
+
+        // when
+        clock.addAndGet(TimeUnit.MINUTES.toMillis(2));
+        cache.cleanupDisk();
+
+        // then
+        assertThat(countFiles()).isZero();
+    }
+
+    private SentimentAnalysisDto.AnalyzeResponse analyze(String text, String language,
+                                                         SentimentAnalysisDto.AnalyzeResponse loaded) {
+        return cache.getOrLoad(AICacheableOperation.SENTIMENT, new SentimentAnalysisDto.AnalyzeRequest(text, language),
+                SentimentAnalysisDto.AnalyzeResponse.class, SentimentAnalysisDto.AnalyzeResponse::success, () -> {
+                    loads.incrementAndGet();
+                    return loaded;
+                });
+    }
+
+    private SentimentAnalysisDto.AnalyzeResponse load() {
+        loads.incrementAndGet();
+        return POSITIVE;
+    }
+
+    private AIResponseCache newCache() {
+        // 디스크 쓰기를 호출 스레드에서 바로 실행
+        return new AIResponseCache(config, new ObjectMapper(), meterRegistry, clock::get, Runnable::run);
+    }
+
+    private long countFiles() throws Exception {
+        try (Stream<Path> files = Files.walk(cacheDirectory)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
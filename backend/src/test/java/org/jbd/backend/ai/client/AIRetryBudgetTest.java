@@ -0,0 +1,65 @@
+package org.jbd.backend.ai.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AI 재시도 예산 테스트")
+class AIRetryBudgetTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("최근 요청 수에 비례한 재시도만 허용한다")
+    void 최근_요청_수에_비례한_재시도만_허용한다() {
+        // given - 요청의 20%, 최소 재시도 없음
+        AIRetryBudget budget = new AIRetryBudget(0.2, 0, 10, clock::get);
+        for (int i = 0; i < 10; i++) {
+            budget.onRequest();
+        }
+
+        // when & then
+        assertThat(budget.tryRetry()).isTrue();
+        assertThat(budget.tryRetry()).isTrue();
+        assertThat(budget.tryRetry()).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청이 없어도 초당 최소 재시도는 허용한다")
+    void 요청이_없어도_최소_재시도는_허용한다() {
+        // given - 초당 1건, 10초 구간
+        AIRetryBudget budget = new AIRetryBudget(0.2, 1, 10, clock::get);
+
+        // when
+        int allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            if (budget.tryRetry()) {
+                allowed++;
+            }
+        }
+
+        // then
+        assertThat(allowed).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("집계 구간이 지나면 이전 재시도는 예산에서 빠진다")
+    void 집계_구간이_지나면_예산이_회복된다() {
+        // given
+        AIRetryBudget budget = new AIRetryBudget(0.0, 1, 3, clock::get);
+        for (int i = 0; i < 3; i++) {
+            assertThat(budget.tryRetry()).isTrue();
+        }
+        assertThat(budget.tryRetry()).isFalse();
+
+        // when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(3));
+
+        // then
+        assertThat(budget.tryRetry()).isTrue();
+    }
+}
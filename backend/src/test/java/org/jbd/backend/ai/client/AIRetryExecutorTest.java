@@ -0,0 +1,209 @@
+package org.jbd.backend.ai.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.jbd.backend.ai.dto.ChatbotDto;
+import org.jbd.backend.ai.dto.SentimentAnalysisDto;
+import org.jbd.backend.util.StubAIServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AI 호출 재시도 테스트")
+class AIRetryExecutorTest {
+
+    private static final String SENTIMENT_PATH = "/api/v1/sentiment/analyze";
+    private static final String SENTIMENT_JSON =
+            "{\"success\":true,\"message\":\"ok\",\"data\":{\"label\":\"POSITIVE\",\"score\":0.8,\"confidence\":0.9,\"explanation\":\"\"}}";
+    private static final String CHAT_PATH = "/api/v1/chatbot/chat";
+    private static final String UNAVAILABLE_JSON = "{\"success\":false}";
+
+    private StubAIServer server;
+    private MockEnvironment environment;
+    private AIServiceConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private AIServiceTransport transport;
+    private AIServiceClient client;
+    private ReactiveAIServiceClient reactiveClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubAIServer(8);
+        environment = new MockEnvironment();
+        config = new AIServiceConfig(environment);
+        ReflectionTestUtils.setField(config, "aiServiceBaseUrl", server.getBaseUrl());
+        ReflectionTestUtils.setField(config, "retryBaseDelayMillis", 10L);
+        ReflectionTestUtils.setField(config, "retryMaxDelayMillis", 20L);
+        ReflectionTestUtils.setField(config, "cacheEnabled", false);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (reactiveClient != null) {
+            reactiveClient.shutdown();
+        }
+        transport.shutdown();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("멱등 호출은 일시적인 503 응답 후 재시도해 성공한다")
+    void 멱등_호출은_일시적_오류_후_재시도한다() {
+        // given
+        createClients();
+        server.respondOnce(SENTIMENT_PATH, 503, UNAVAILABLE_JSON, 0)
+                .respond(SENTIMENT_PATH, 200, SENTIMENT_JSON, 0);
+
+        // when
+        SentimentAnalysisDto.AnalyzeResponse response = client.analyzeSentiment("좋아요", "ko");
+
+        // then
+        assertThat(response.success()).isTrue();
+        assertThat(server.getRequestCount(SENTIMENT_PATH)).isEqualTo(2);
+        assertThat(meterRegistry.get("ai.retry.attempts").tag("endpoint", "sentiment").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비동기 클라이언트도 같은 정책으로 재시도한다")
+    void 비동기_클라이언트도_재시도한다() {
+        // given
+        createClients();
+        server.respondOnce(SENTIMENT_PATH, 502, UNAVAILABLE_JSON, 0)
+                .respond(SENTIMENT_PATH, 200, SENTIMENT_JSON, 0);
+
+        // when
+        SentimentAnalysisDto.AnalyzeResponse response = reactiveClient.analyzeSentiment("좋아요", "ko")
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(response.success()).isTrue();
+        assertThat(server.getRequestCount(SENTIMENT_PATH)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("생성형 호출은 재시도하지 않는다")
+    void 생성형_호출은_재시도하지_않는다() {
+        // given
+        createClients();
+        server.respondOnce(CHAT_PATH, 503, UNAVAILABLE_JSON, 0)
+                .respond(CHAT_PATH, 200, "{\"success\":true,\"message\":\"ok\",\"data\":null}", 0);
+
+        // when
+        ChatbotDto.ChatResponse response = client.chatWithBot("user@example.com", "안녕하세요");
+
+        // then
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(server.getRequestCount(CHAT_PATH)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않는다")
+    void 클라이언트_오류는_재시도하지_않는다() {
+        // given
+        createClients();
+        server.respond(SENTIMENT_PATH, 422, UNAVAILABLE_JSON, 0);
+
+        // when
+        client.analyzeSentiment("", "ko");
+
+        // then
+        assertThat(server.getRequestCount(SENTIMENT_PATH)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 마지막 오류를 반환한다")
+    void 최대_시도_횟수에_도달하면_중단한다() {
+        // given
+        createClients();
+        server.respond(SENTIMENT_PATH, 503, UNAVAILABLE_JSON, 0);
+
+        // when
+        SentimentAnalysisDto.AnalyzeResponse response = client.analyzeSentiment("좋아요", "ko");
+
+        // then
+        assertThat(response.success()).isFalse();
+        assertThat(server.getRequestCount(SENTIMENT_PATH)).isEqualTo(3);
+        assertThat(meterRegistry.get("ai.retry.skipped").tag("endpoint", "sentiment").tag("reason", "max_attempts")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도 예산을 모두 쓰면 재시도하지 않는다")
+    void 재시도_예산을_모두_쓰면_재시도하지_않는다() {
+        // given - 최소 재시도 없이 요청의 50%만 허용
+        ReflectionTestUtils.setField(config, "retryBudgetRatio", 0.5);
+        ReflectionTestUtils.setField(config, "minRetriesPerSecond", 0);
+        ReflectionTestUtils.setField(config, "retryMaxAttempts", 2);
+        createClients();
+        server.respond(SENTIMENT_PATH, 503, UNAVAILABLE_JSON, 0);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            client.analyzeSentiment("좋아요", "ko");
+        }
+
+        // then - 4건 중 2건만 재시도
+        assertThat(server.getRequestCount(SENTIMENT_PATH)).isEqualTo(6);
+        assertThat(meterRegistry.get("ai.retry.skipped").tag("endpoint", "sentiment").tag("reason", "budget")
+                .counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("응답 제한 시간을 모두 쓴 호출은 재시도하지 않는다")
+    void 응답_제한_시간을_모두_쓰면_재시도하지_않는다() {
+        // given
+        environment.setProperty("ai.service.timeouts.sentiment", "200");
+        createClients();
+        server.respond(SENTIMENT_PATH, 200, SENTIMENT_JSON, 500);
+
+        // when
+        SentimentAnalysisDto.AnalyzeResponse response = client.analyzeSentiment("좋아요", "ko");
+
+        // then
+        assertThat(response.success()).isFalse();
+        assertThat(server.getRequestCount(SENTIMENT_PATH)).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.retry.skipped").tag("endpoint", "sentiment").tag("reason", "deadline")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도 호출의 응답 제한 시간은 남은 시간으로 줄어든다")
+    void 재시도_호출은_남은_시간만_기다린다() {
+        // given
+        environment.setProperty("ai.service.timeouts.sentiment", "600");
+        createClients();
+        server.respondOnce(SENTIMENT_PATH, 503, UNAVAILABLE_JSON, 400)
+                .respond(SENTIMENT_PATH, 200, SENTIMENT_JSON, 2000);
+
+        // when
+        long startedAt = System.nanoTime();
+        SentimentAnalysisDto.AnalyzeResponse response = client.analyzeSentiment("좋아요", "ko");
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then - 재시도에 응답 제한 시간 전체(600ms)를 주었다면 1000ms 이상 걸림
+        assertThat(response.success()).isFalse();
+        assertThat(server.getRequestCount(SENTIMENT_PATH)).isEqualTo(2);
+        assertThat(elapsedMillis).isLessThan(900);
+    }
+
+    private void createClients() {
+        AICallGuard callGuard = new AICallGuard(config, meterRegistry);
+        transport = new AIServiceTransport(config, meterRegistry);
+        AIRetryExecutor retryExecutor = new AIRetryExecutor(config, callGuard, transport, meterRegistry);
+        AIResponseCache responseCache = new AIResponseCache(config, new ObjectMapper(), meterRegistry);
+        client = new AIServiceClient(transport, config, callGuard, retryExecutor, responseCache);
+        reactiveClient = new ReactiveAIServiceClient(WebClient.builder(), config, callGuard, retryExecutor,
+                responseCache);
+    }
+}
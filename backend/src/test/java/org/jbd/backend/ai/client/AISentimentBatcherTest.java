@@ -0,0 +1,255 @@
+package org.jbd.backend.ai.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.jbd.backend.ai.dto.SentimentAnalysisDto;
+import org.jbd.backend.util.StubAIServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("감정 분석 배치 처리 테스트")
+class AISentimentBatcherTest {
+
+    private static final String SINGLE_PATH = "/api/v1/sentiment/analyze";
+    private static final String BATCH_PATH = "/api/v1/sentiment/analyze-batch";
+    private static final String SINGLE_RESPONSE =
+            "{\"success\":true,\"message\":\"ok\",\"data\":{\"label\":\"neutral\",\"score\":0.0,\"confidence\":0.7,\"explanation\":\"\"}}";
+
+    private StubAIServer server;
+    private MockEnvironment environment;
+    private AIServiceConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private AIServiceTransport transport;
+    private AIServiceClient client;
+    private AISentimentBatcher batcher;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubAIServer(4);
+        server.respond(SINGLE_PATH, 200, SINGLE_RESPONSE, 0);
+        environment = new MockEnvironment();
+        config = new AIServiceConfig(environment);
+        ReflectionTestUtils.setField(config, "aiServiceBaseUrl", server.getBaseUrl());
+        ReflectionTestUtils.setField(config, "cacheEnabled", false);
+        ReflectionTestUtils.setField(config, "retryMaxAttempts", 1);
+        ReflectionTestUtils.setField(config, "sentimentBatchMaxSize", 4);
+        ReflectionTestUtils.setField(config, "sentimentBatchMaxWaitMillis", 200L);
+        meterRegistry = new SimpleMeterRegistry();
+        transport = new AIServiceTransport(config, meterRegistry);
+        AICallGuard callGuard = new AICallGuard(config, meterRegistry);
+        client = new AIServiceClient(transport, config, callGuard,
+                new AIRetryExecutor(config, callGuard, transport, meterRegistry),
+                new AIResponseCache(config, new ObjectMapper(), meterRegistry));
+        batcher = new AISentimentBatcher(client, config, meterRegistry);
+        callers = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        batcher.shutdown();
+        transport.shutdown();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 요청은 한 번의 배치 호출로 보내고 각 호출자에게 결과를 돌려준다")
+    void 동시_요청은_한_번의_배치로_보낸다() throws Exception {
+        // given
+        server.respond(BATCH_PATH, 200, batchResponse("positive", "positive", "positive", "positive"), 0);
+
+        // when
+        List<CompletableFuture<SentimentAnalysisDto.AnalyzeResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String text = "합격했어요 " + i;
+            responses.add(CompletableFuture.supplyAsync(() -> batcher.analyze(text, "ko"), callers));
+        }
+
+        // then
+        for (CompletableFuture<SentimentAnalysisDto.AnalyzeResponse> response : responses) {
+            assertThat(response.get(5, TimeUnit.SECONDS).data().label()).isEqualTo("positive");
+        }
+        assertThat(server.getRequestCount(BATCH_PATH)).isEqualTo(1);
+        assertThat(server.getRequestCount(SINGLE_PATH)).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 결과는 요청 순서대로 돌려주고 최대 건수마다 나누어 보낸다")
+    void 최대_건수마다_나누어_보낸다() {
+        // given
+        server.respond(BATCH_PATH, 200, batchResponse("positive", "negative", "neutral", "positive"), 0);
+        List<SentimentAnalysisDto.AnalyzeRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            requests.add(new SentimentAnalysisDto.AnalyzeRequest("게시글 " + i, "ko"));
+        }
+
+        // when
+        List<SentimentAnalysisDto.AnalyzeResponse> responses = batcher.analyzeAll(requests);
+
+        // then
+        assertThat(responses).extracting(response -> response.data().label())
+                .containsExactly("positive", "negative", "neutral", "positive",
+                        "positive", "negative", "neutral", "positive");
+        assertThat(server.getRequestCount(BATCH_PATH)).isEqualTo(2);
+        assertThat(meterRegistry.get("ai.sentiment.batch.size").summary().max()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("기다리는 동안 다른 요청이 없으면 단건 엔드포인트로 보낸다")
+    void 한_건이면_단건_엔드포인트로_보낸다() {
+        // when
+        long startedAt = System.nanoTime();
+        SentimentAnalysisDto.AnalyzeResponse response = batcher.analyze("오늘 면접을 봤습니다", "ko");
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertThat(response.success()).isTrue();
+        assertThat(server.getRequestCount(SINGLE_PATH)).isEqualTo(1);
+        assertThat(server.getRequestCount(BATCH_PATH)).isZero();
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("배치 엔드포인트가 없으면 단건 호출로 나누어 처리한다")
+    void 배치가_실패하면_단건_호출로_처리한다() {
+        // given - 배치 경로 응답을 지정하지 않아 404
+        List<SentimentAnalysisDto.AnalyzeRequest> requests = List.of(
+                new SentimentAnalysisDto.AnalyzeRequest("첫 번째", "ko"),
+                new SentimentAnalysisDto.AnalyzeRequest("두 번째", "ko"),
+                new SentimentAnalysisDto.AnalyzeRequest("세 번째", "ko"));
+
+        // when
+        List<SentimentAnalysisDto.AnalyzeResponse> responses = batcher.analyzeAll(requests);
+
+        // then
+        assertThat(responses).allMatch(SentimentAnalysisDto.AnalyzeResponse::success);
+        assertThat(server.getRequestCount(BATCH_PATH)).isEqualTo(1);
+        assertThat(server.getRequestCount(SINGLE_PATH)).isEqualTo(3);
+        assertThat(meterRegistry.get("ai.sentiment.batch.fallbacks").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("배치 결과 건수가 요청과 다르면 단건 호출로 처리한다")
+    void 결과_건수가_다르면_단건_호출로_처리한다() {
+        // given
+        server.respond(BATCH_PATH, 200, batchResponse("positive"), 0);
+
+        // when
+        List<SentimentAnalysisDto.AnalyzeResponse> responses = batcher.analyzeAll(List.of(
+                new SentimentAnalysisDto.AnalyzeRequest("첫 번째", "ko"),
+                new SentimentAnalysisDto.AnalyzeRequest("두 번째", "ko")));
+
+        // then
+        assertThat(responses).extracting(response -> response.data().label())
+                .containsExactly("neutral", "neutral");
+        assertThat(server.getRequestCount(SINGLE_PATH)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("단건 호출로 나누어 처리하다 호출자의 대기 기한이 지나면 남은 항목은 호출하지 않는다")
+    void 대기_기한이_지난_항목은_단건_호출하지_않는다() throws InterruptedException {
+        // given - 배치 경로는 404, 단건 호출은 700ms
+        environment.setProperty("ai.service.timeouts.sentiment", "1000");
+        ReflectionTestUtils.setField(config, "sentimentBatchMaxWaitMillis", 20L);
+        rebuildBatcher();
+        server.respond(SINGLE_PATH, 200, SINGLE_RESPONSE, 700);
+
+        // when - 대기 기한 1020ms 안에 시작할 수 있는 단건 호출은 두 건뿐
+        List<SentimentAnalysisDto.AnalyzeResponse> responses = batcher.analyzeAll(List.of(
+                new SentimentAnalysisDto.AnalyzeRequest("첫 번째", "ko"),
+                new SentimentAnalysisDto.AnalyzeRequest("두 번째", "ko"),
+                new SentimentAnalysisDto.AnalyzeRequest("세 번째", "ko"),
+                new SentimentAnalysisDto.AnalyzeRequest("네 번째", "ko")));
+        Thread.sleep(1000);
+
+        // then
+        assertThat(responses.get(0).success()).isTrue();
+        assertThat(responses.subList(1, 4)).noneMatch(SentimentAnalysisDto.AnalyzeResponse::success);
+        assertThat(server.getRequestCount(SINGLE_PATH)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전송 대기 배치가 상한을 넘으면 넘친 배치의 요청은 바로 오류 응답을 받는다")
+    void 전송_대기열이_가득_차면_바로_거절한다() {
+        // given - 동시 전송 1건, 대기 1건
+        environment.setProperty("ai.service.resilience.max-concurrent.sentiment", "1");
+        ReflectionTestUtils.setField(config, "sentimentBatchQueueCapacity", 1);
+        rebuildBatcher();
+        server.respond(BATCH_PATH, 200, batchResponse("positive", "positive", "positive", "positive"), 300);
+        List<SentimentAnalysisDto.AnalyzeRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            requests.add(new SentimentAnalysisDto.AnalyzeRequest("요청 " + i, "ko"));
+        }
+
+        // when
+        List<SentimentAnalysisDto.AnalyzeResponse> responses = batcher.analyzeAll(requests);
+
+        // then
+        assertThat(responses.subList(0, 8)).allMatch(SentimentAnalysisDto.AnalyzeResponse::success);
+        assertThat(responses.subList(8, 12)).extracting(SentimentAnalysisDto.AnalyzeResponse::message)
+                .allMatch(message -> message.contains("요청이 많아"));
+        assertThat(server.getRequestCount(BATCH_PATH)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배치로 받은 결과는 응답 캐시에 저장하고 캐시에 있는 항목은 다시 보내지 않는다")
+    void 캐시에_있는_항목은_배치로_보내지_않는다() {
+        // given - 배치 응답은 항상 두 건
+        ReflectionTestUtils.setField(config, "cacheEnabled", true);
+        ReflectionTestUtils.setField(config, "cacheDiskEnabled", false);
+        AICallGuard callGuard = new AICallGuard(config, meterRegistry);
+        client = new AIServiceClient(transport, config, callGuard,
+                new AIRetryExecutor(config, callGuard, transport, meterRegistry),
+                new AIResponseCache(config, new ObjectMapper(), meterRegistry));
+        rebuildBatcher();
+        server.respond(BATCH_PATH, 200, batchResponse("positive", "negative"), 0);
+        SentimentAnalysisDto.AnalyzeRequest first = new SentimentAnalysisDto.AnalyzeRequest("첫 번째", "ko");
+        SentimentAnalysisDto.AnalyzeRequest second = new SentimentAnalysisDto.AnalyzeRequest("두 번째", "ko");
+        batcher.analyzeAll(List.of(first, second));
+
+        // when
+        List<SentimentAnalysisDto.AnalyzeResponse> mixed = batcher.analyzeAll(List.of(first, second,
+                new SentimentAnalysisDto.AnalyzeRequest("세 번째", "ko"),
+                new SentimentAnalysisDto.AnalyzeRequest("네 번째", "ko")));
+        List<SentimentAnalysisDto.AnalyzeResponse> cached = batcher.analyzeAll(List.of(second, first));
+        SentimentAnalysisDto.AnalyzeResponse single = client.analyzeSentiment("첫 번째", "ko");
+
+        // then
+        assertThat(mixed).extracting(response -> response.data().label())
+                .containsExactly("positive", "negative", "positive", "negative");
+        assertThat(cached).extracting(response -> response.data().label())
+                .containsExactly("negative", "positive");
+        assertThat(single.data().label()).isEqualTo("positive");
+        assertThat(server.getRequestCount(BATCH_PATH)).isEqualTo(2);
+        assertThat(server.getRequestCount(SINGLE_PATH)).isZero();
+    }
+
+    private void rebuildBatcher() {
+        batcher.shutdown();
+        batcher = new AISentimentBatcher(client, config, meterRegistry);
+    }
+
+    private static String batchResponse(String... labels) {
+        List<String> items = new ArrayList<>();
+        for (String label : labels) {
+            items.add("{\"success\":true,\"message\":\"ok\",\"data\":{\"label\":\"" + label
+                    + "\",\"score\":0.5,\"confidence\":0.9,\"explanation\":\"\"}}");
+        }
+        return "{\"success\":true,\"message\":\"ok\",\"data\":[" + String.join(",", items) + "]}";
+    }
+}
@@ -0,0 +1,131 @@
+package org.jbd.backend.ai.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.jbd.backend.ai.dto.SentimentAnalysisDto;
+import org.jbd.backend.util.StubAIServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AI 서비스 호출 처리량 측정
+ *
+ * 로컬 스텁 AI 서버(응답 지연 20ms)에 동시 호출을 보내 기존 전송 방식(new RestTemplate(),
+ * 호출마다 HttpURLConnection)과 공유 연결 풀 방식의 초당 처리량과 서버가 받은 연결 수를 비교합니다.
+ * 기본 빌드에서는 실행되지 않습니다.
+ *
+ * 실행: gradle test --tests "*AIServiceTransportBenchmarkTest" -Dbenchmark=true
+ */
+@DisplayName("AI 서비스 전송 계층 벤치마크")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AIServiceTransportBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(AIServiceTransportBenchmarkTest.class);
+
+    private static final String PATH = "/api/v1/sentiment/analyze";
+    private static final String JSON =
+            "{\"success\":true,\"message\":\"ok\",\"data\":{\"label\":\"NEUTRAL\",\"score\":0.0,\"confidence\":0.9,\"explanation\":\"\"}}";
+    private static final int CONCURRENCY = 32;
+    private static final int REQUESTS_PER_WORKER = 100;
+    private static final long SERVER_DELAY_MILLIS = 20;
+
+    @Test
+    @DisplayName("공유 연결 풀은 동시 호출에서 연결을 재사용하며 처리량이 줄지 않는다")
+    void 공유_연결_풀은_동시_호출에서_연결을_재사용한다() throws Exception {
+        Result legacy;
+        try (StubAIServer server = new StubAIServer(CONCURRENCY * 2)) {
+            server.respond(PATH, 200, JSON, SERVER_DELAY_MILLIS);
+            RestTemplate restTemplate = new RestTemplate();
+            legacy = measure("legacy RestTemplate", server, () -> restTemplate.postForEntity(
+                    server.getBaseUrl() + PATH, jsonEntity(), SentimentAnalysisDto.AnalyzeResponse.class).getBody());
+        }
+
+        Result pooled;
+        try (StubAIServer server = new StubAIServer(CONCURRENCY * 2)) {
+            server.respond(PATH, 200, JSON, SERVER_DELAY_MILLIS);
+            // 동시 호출 상한(bulkhead)이 측정을 제한하지 않도록 워커 수보다 크게 설정
+            AIServiceConfig config = new AIServiceConfig(new MockEnvironment()
+                    .withProperty("ai.service.resilience.max-concurrent.sentiment", String.valueOf(CONCURRENCY)));
+            ReflectionTestUtils.setField(config, "aiServiceBaseUrl", server.getBaseUrl());
+            ReflectionTestUtils.setField(config, "cacheEnabled", false);
+            AIServiceTransport transport = new AIServiceTransport(config, new SimpleMeterRegistry());
+            AICallGuard callGuard = new AICallGuard(config, new SimpleMeterRegistry());
+            AIServiceClient client = new AIServiceClient(transport, config, callGuard,
+                    new AIRetryExecutor(config, callGuard, transport, new SimpleMeterRegistry()),
+                    new AIResponseCache(config, new ObjectMapper(), new SimpleMeterRegistry()));
+            try {
+                pooled = measure("pooled transport", server, () -> client.analyzeSentiment("벤치마크", "ko"));
+            } finally {
+                transport.shutdown();
+            }
+        }
+
+        assertThat(pooled.errors()).isZero();
+        assertThat(pooled.connections()).isLessThanOrEqualTo(legacy.connections());
+        assertThat(pooled.throughput()).isGreaterThan(legacy.throughput() * 0.9);
+    }
+
+    private Result measure(String name, StubAIServer server, Supplier<SentimentAnalysisDto.AnalyzeResponse> call)
+            throws Exception {
+        // 워밍업
+        for (int i = 0; i < 500; i++) {
+            call.get();
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        AtomicInteger errors = new AtomicInteger();
+        long startedAt = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < CONCURRENCY; w++) {
+            futures.add(workers.submit(() -> {
+                for (int i = 0; i < REQUESTS_PER_WORKER; i++) {
+                    SentimentAnalysisDto.AnalyzeResponse response = call.get();
+                    if (response == null || !response.success()) {
+                        errors.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+
+        double throughput = CONCURRENCY * REQUESTS_PER_WORKER / seconds;
+        logger.info("[benchmark] {} {} req/s, connections={}, errors={}",
+                name, String.format("%.1f", throughput), server.getConnectionCount(), errors.get());
+        return new Result(throughput, server.getConnectionCount(), errors.get());
+    }
+
+    private static HttpEntity<SentimentAnalysisDto.AnalyzeRequest> jsonEntity() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(new SentimentAnalysisDto.AnalyzeRequest("벤치마크", "ko"), headers);
+    }
+
+    private record Result(double throughput, int connections, int errors) {
+    }
+}
@@ -0,0 +1,82 @@
+package org.jbd.backend.ai.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.jbd.backend.ai.dto.SentimentAnalysisDto;
+import org.jbd.backend.util.StubAIServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AI 서비스 전송 계층 테스트")
+class AIServiceTransportTest {
+
+    private static final String SENTIMENT_PATH = "/api/v1/sentiment/analyze";
+    private static final String SENTIMENT_JSON =
+            "{\"success\":true,\"message\":\"ok\",\"data\":{\"label\":\"POSITIVE\",\"score\":0.8,\"confidence\":0.9,\"explanation\":\"\"}}";
+
+    private StubAIServer server;
+    private AIServiceTransport transport;
+    private AIServiceClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubAIServer(8);
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("ai.service.timeouts.sentiment", "200");
+        AIServiceConfig config = new AIServiceConfig(environment);
+        ReflectionTestUtils.setField(config, "aiServiceBaseUrl", server.getBaseUrl());
+        // 같은 요청을 반복해 연결 재사용을 확인하므로 응답 캐시를 끔
+        ReflectionTestUtils.setField(config, "cacheEnabled", false);
+        transport = new AIServiceTransport(config, new SimpleMeterRegistry());
+        AICallGuard callGuard = new AICallGuard(config, new SimpleMeterRegistry());
+        client = new AIServiceClient(transport, config, callGuard,
+                new AIRetryExecutor(config, callGuard, transport, new SimpleMeterRegistry()),
+                new AIResponseCache(config, new ObjectMapper(), new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.shutdown();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("연속 호출은 같은 keep-alive 연결을 재사용한다")
+    void 연속_호출은_연결을_재사용한다() {
+        // given
+        server.respond(SENTIMENT_PATH, 200, SENTIMENT_JSON, 0);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            SentimentAnalysisDto.AnalyzeResponse response = client.analyzeSentiment("좋아요", "ko");
+            assertThat(response.success()).isTrue();
+        }
+
+        // then
+        assertThat(server.getRequestCount(SENTIMENT_PATH)).isEqualTo(20);
+        assertThat(server.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 응답 제한 시간을 넘으면 오류 응답을 반환한다")
+    void 엔드포인트별_응답_제한_시간을_넘으면_오류_응답을_반환한다() {
+        // given
+        server.respond(SENTIMENT_PATH, 200, SENTIMENT_JSON, 1000);
+
+        // when
+        long startedAt = System.nanoTime();
+        SentimentAnalysisDto.AnalyzeResponse response = client.analyzeSentiment("좋아요", "ko");
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertThat(response.success()).isFalse();
+        assertThat(elapsedMillis).isLessThan(1000);
+    }
+}
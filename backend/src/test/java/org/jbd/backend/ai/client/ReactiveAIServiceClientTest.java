@@ -0,0 +1,196 @@
+package org.jbd.backend.ai.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.ai.config.AIServiceConfig;
+import org.jbd.backend.ai.dto.ChatbotDto;
+import org.jbd.backend.ai.dto.SentimentAnalysisDto;
+import org.jbd.backend.util.StubAIServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AI 서비스 비동기 클라이언트 테스트")
+class ReactiveAIServiceClientTest {
+
+    private static final String SENTIMENT_PATH = "/api/v1/sentiment/analyze";
+    private static final String SENTIMENT_JSON =
+            "{\"success\":true,\"message\":\"ok\",\"data\":{\"label\":\"POSITIVE\",\"score\":0.8,\"confidence\":0.9,\"explanation\":\"\"}}";
+    private static final String CHAT_PATH = "/api/v1/chatbot/chat";
+    private static final String CHAT_STREAM_PATH = "/api/v1/chatbot/chat/stream";
+
+    private StubAIServer server;
+    private MockEnvironment environment;
+    private AIServiceTransport transport;
+    private ReactiveAIServiceClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubAIServer(16);
+        environment = new MockEnvironment();
+        AIServiceConfig config = new AIServiceConfig(environment);
+        ReflectionTestUtils.setField(config, "aiServiceBaseUrl", server.getBaseUrl());
+        ReflectionTestUtils.setField(config, "cacheEnabled", false);
+        AICallGuard callGuard = new AICallGuard(config, new SimpleMeterRegistry());
+        transport = new AIServiceTransport(config, new SimpleMeterRegistry());
+        client = new ReactiveAIServiceClient(WebClient.builder(), config, callGuard,
+                new AIRetryExecutor(config, callGuard, transport, new SimpleMeterRegistry()),
+                new AIResponseCache(config, new ObjectMapper(), new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        transport.shutdown();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("AI 서비스 응답을 Mono로 반환한다")
+    void AI_서비스_응답을_Mono로_반환한다() {
+        // given
+        server.respond(SENTIMENT_PATH, 200, SENTIMENT_JSON, 0);
+
+        // when
+        SentimentAnalysisDto.AnalyzeResponse response = client.analyzeSentiment("좋아요", "ko")
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(response.success()).isTrue();
+        assertThat(response.data().label()).isEqualTo("POSITIVE");
+    }
+
+    @Test
+    @DisplayName("응답 제한 시간을 넘으면 오류 응답으로 대체한다")
+    void 응답_제한_시간을_넘으면_오류_응답으로_대체한다() {
+        // given - 첫 호출의 클래스 로딩·키 계산 준비 시간이 측정에 섞이지 않도록 미리 한 번 호출
+        server.respondOnce(SENTIMENT_PATH, 200, SENTIMENT_JSON, 0);
+        client.analyzeSentiment("준비", "ko").block(Duration.ofSeconds(5));
+        environment.setProperty("ai.service.timeouts.sentiment", "200");
+        server.respond(SENTIMENT_PATH, 200, SENTIMENT_JSON, 1000);
+
+        // when
+        long startedAt = System.nanoTime();
+        SentimentAnalysisDto.AnalyzeResponse response = client.analyzeSentiment("좋아요", "ko")
+                .block(Duration.ofSeconds(5));
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertThat(response.success()).isFalse();
+        assertThat(response.message()).isEqualTo("감정 분석 중 오류가 발생했습니다.");
+        assertThat(elapsedMillis).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("AI 서비스가 5xx를 반환하면 동기 클라이언트와 같은 오류 응답을 반환한다")
+    void AI_서비스가_5xx를_반환하면_오류_응답을_반환한다() {
+        // given
+        server.respond(CHAT_PATH, 503, "{\"success\":false}", 0);
+
+        // when
+        ChatbotDto.ChatResponse response = client.chatWithBot("user@example.com", "안녕하세요")
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getMessage()).isEqualTo("챗봇 서비스와 통신 중 오류가 발생했습니다.");
+        assertThat(response.getData().getCategory()).isEqualTo("error");
+    }
+
+    @Test
+    @DisplayName("동시 호출은 호출 스레드를 점유하지 않고 함께 대기한다")
+    void 동시_호출은_호출_스레드를_점유하지_않는다() {
+        // given
+        server.respond(CHAT_PATH, 200,
+                "{\"success\":true,\"message\":\"ok\",\"data\":{\"response\":\"안녕하세요\",\"category\":\"greeting\",\"confidence\":0.9,\"response_time\":0.5}}",
+                300);
+
+        // when - 10건을 하나의 스레드에서 동시에 시작
+        long startedAt = System.nanoTime();
+        List<ChatbotDto.ChatResponse> responses = Flux.range(0, 10)
+                .flatMap(i -> client.chatWithBot("user" + i, "안녕하세요"))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then - 순차 대기였다면 3초 이상 걸림
+        assertThat(responses).hasSize(10).allMatch(ChatbotDto.ChatResponse::isSuccess);
+        assertThat(elapsedMillis).isLessThan(2000);
+    }
+
+    @Test
+    @DisplayName("스트리밍 응답 조각을 도착하는 대로 전달하고 마지막 조각에서 끝낸다")
+    void 스트리밍_응답_조각을_도착하는_대로_전달한다() {
+        // given
+        server.respondStream(CHAT_STREAM_PATH, List.of(
+                "{\"delta\":\"안녕\",\"done\":false}",
+                "{\"delta\":\"하세요\",\"done\":false}",
+                "{\"delta\":\"\",\"done\":true}"), 50);
+
+        // when
+        List<ChatbotDto.ChatChunk> chunks = client.streamChat("user@example.com", "안녕하세요")
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(chunks).extracting(ChatbotDto.ChatChunk::getDelta).containsExactly("안녕", "하세요", "");
+        assertThat(chunks.get(2).isDone()).isTrue();
+        assertThat(chunks.get(2).getError()).isNull();
+    }
+
+    @Test
+    @DisplayName("구독을 취소하면 AI 서비스 연결을 끊어 응답 생성을 중단시킨다")
+    void 구독을_취소하면_AI_서비스_연결을_끊는다() throws Exception {
+        // given
+        List<String> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            events.add("{\"delta\":\"토큰" + i + "\",\"done\":false}");
+        }
+        server.respondStream(CHAT_STREAM_PATH, events, 20);
+
+        // when - 두 조각만 받고 취소
+        List<ChatbotDto.ChatChunk> chunks = client.streamChat("user@example.com", "안녕하세요")
+                .take(2)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(chunks).hasSize(2);
+        long deadline = System.nanoTime() + Duration.ofSeconds(3).toNanos();
+        while (server.getAbortedStreamCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(server.getAbortedStreamCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조각 사이 간격이 제한 시간을 넘으면 오류 조각으로 끝낸다")
+    void 조각_사이_간격이_제한_시간을_넘으면_오류_조각으로_끝낸다() {
+        // given
+        environment.setProperty("ai.service.timeouts.chatbot-stream", "200");
+        server.respondStream(CHAT_STREAM_PATH, List.of(
+                "{\"delta\":\"안녕\",\"done\":false}",
+                "{\"delta\":\"\",\"done\":true}"), 500);
+
+        // when
+        List<ChatbotDto.ChatChunk> chunks = client.streamChat("user@example.com", "안녕하세요")
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0).isDone()).isTrue();
+        assertThat(chunks.get(0).getError()).isEqualTo("챗봇 서비스와 통신 중 오류가 발생했습니다.");
+    }
+}
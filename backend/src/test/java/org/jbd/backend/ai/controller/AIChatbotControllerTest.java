@@ -3,20 +3,29 @@ package org.jbd.backend.ai.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jbd.backend.ai.dto.ChatbotDto;
 import org.jbd.backend.ai.service.AIChatbotService;
+import org.jbd.backend.auth.service.CurrentUser;
+import org.jbd.backend.auth.service.VerifiedToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -25,19 +34,22 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DisplayName("AI 챗봇 컨트롤러 테스트")
 class AIChatbotControllerTest {
 
+    private static final String USER_EMAIL = "test@example.com";
+    private static final String OTHER_EMAIL = "victim@example.com";
+
     @Mock
     private AIChatbotService aiChatbotService;
 
-    @InjectMocks
-    private AIChatbotController aiChatbotController;
-
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
+        CurrentUser currentUser = new CurrentUser();
+        currentUser.authenticate(new VerifiedToken("jti", USER_EMAIL, 1L, "GENERAL", false,
+                true, false, Instant.now(), Instant.now().plusSeconds(3600)));
         mockMvc = MockMvcBuilders
-                .standaloneSetup(aiChatbotController)
+                .standaloneSetup(new AIChatbotController(aiChatbotService, currentUser))
                 .defaultResponseCharacterEncoding(java.nio.charset.StandardCharsets.UTF_8)
                 .build();
         objectMapper = new ObjectMapper();
@@ -47,7 +59,7 @@ class AIChatbotControllerTest {
     @DisplayName("챗봇과 대화하기")
     void 챗봇과_대화하기() throws Exception {
         // given
-        String userEmail = "test@example.com";
+        String userEmail = USER_EMAIL;
         String message = "안녕하세요";
         
         AIChatbotController.ChatRequest request = new AIChatbotController.ChatRequest();
@@ -60,26 +72,61 @@ class AIChatbotControllerTest {
             true, "응답 성공", chatData
         );
 
-        given(aiChatbotService.processChat(userEmail, message)).willReturn(expectedResponse);
+        given(aiChatbotService.processChatAsync(userEmail, message)).willReturn(Mono.just(expectedResponse));
 
         // when & then
-        mockMvc.perform(post("/api/ai/chatbot/chat")
-                        .header("X-User-Email", userEmail)
+        MvcResult asyncResult = mockMvc.perform(post("/ai/chatbot/chat")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.response").value("안녕하세요! 어떻게 도와드릴까요?"))
                 .andExpect(jsonPath("$.data.category").value("greeting"));
 
-        verify(aiChatbotService).processChat(userEmail, message);
+        verify(aiChatbotService).processChatAsync(userEmail, message);
+    }
+
+    @Test
+    @DisplayName("챗봇 응답을 SSE 스트림으로 받기")
+    void 챗봇_응답을_SSE_스트림으로_받기() throws Exception {
+        // given
+        String userEmail = USER_EMAIL;
+        String message = "안녕하세요";
+
+        AIChatbotController.ChatRequest request = new AIChatbotController.ChatRequest();
+        request.setMessage(message);
+
+        given(aiChatbotService.streamChat(userEmail, message)).willReturn(Flux.just(
+                ServerSentEvent.builder(new ChatbotDto.ChatChunk("안녕하세요!", false, null)).build(),
+                ServerSentEvent.builder(new ChatbotDto.ChatChunk("", true, null)).build()));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/ai/chatbot/chat/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // 스트림은 비동기로 쓰이므로 완료될 때까지 기다림
+        result.getAsyncResult(5000);
+
+        // then
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(result.getResponse().getContentAsString())
+                .contains("data:{\"delta\":\"안녕하세요!\",\"done\":false,\"error\":null}")
+                .contains("data:{\"delta\":\"\",\"done\":true,\"error\":null}");
+        verify(aiChatbotService).streamChat(userEmail, message);
     }
 
     @Test
     @DisplayName("빠른 응답 조회")
     void 빠른_응답_조회() throws Exception {
         // given
-        String userEmail = "test@example.com";
+        String userEmail = USER_EMAIL;
         String category = "회원가입";
         
         AIChatbotController.QuickResponseRequest request = new AIChatbotController.QuickResponseRequest();
@@ -92,36 +139,67 @@ class AIChatbotControllerTest {
             true, "빠른 응답", chatData
         );
 
-        given(aiChatbotService.getQuickResponse(userEmail, category)).willReturn(expectedResponse);
+        given(aiChatbotService.getQuickResponseAsync(userEmail, category)).willReturn(Mono.just(expectedResponse));
 
         // when & then
-        mockMvc.perform(post("/api/ai/chatbot/quick-response")
-                        .header("X-User-Email", userEmail)
+        MvcResult asyncResult = mockMvc.perform(post("/ai/chatbot/quick-response")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.response").value("회원가입은 이메일로 가능합니다."))
                 .andExpect(jsonPath("$.data.category").value("account"));
 
-        verify(aiChatbotService).getQuickResponse(userEmail, category);
+        verify(aiChatbotService).getQuickResponseAsync(userEmail, category);
     }
 
     @Test
     @DisplayName("채팅 히스토리 삭제")
     void 채팅_히스토리_삭제() throws Exception {
         // given
-        String userEmail = "test@example.com";
+        String userEmail = USER_EMAIL;
 
         // when & then
-        mockMvc.perform(delete("/api/ai/chatbot/history")
-                        .header("X-User-Email", userEmail))
+        mockMvc.perform(delete("/ai/chatbot/history"))
                 .andExpect(status().isOk());
                 // Note: 인코딩 이슈로 인해 content 검증은 스킵
 
         verify(aiChatbotService).clearChatHistory(userEmail);
     }
 
+    @Test
+    @DisplayName("다른 사용자의 이메일을 헤더로 보내도 인증된 사용자의 대화만 조회하고 삭제한다")
+    void 헤더로_다른_사용자를_지정할_수_없다() throws Exception {
+        // given
+        AIChatbotController.ChatRequest request = new AIChatbotController.ChatRequest();
+        request.setMessage("이전 대화 알려줘");
+        given(aiChatbotService.processChatAsync(USER_EMAIL, "이전 대화 알려줘")).willReturn(Mono.just(
+                new ChatbotDto.ChatResponse(true, "응답 성공", new ChatbotDto.ChatData("대화 기록이 없습니다.", "general", 0.9, 0.1))));
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(post("/ai/chatbot/chat")
+                        .header("X-User-Email", OTHER_EMAIL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/ai/chatbot/history")
+                        .header("X-User-Email", OTHER_EMAIL))
+                .andExpect(status().isOk());
+
+        // then
+        verify(aiChatbotService).processChatAsync(USER_EMAIL, "이전 대화 알려줘");
+        verify(aiChatbotService).clearChatHistory(USER_EMAIL);
+        verify(aiChatbotService, never()).processChatAsync(eq(OTHER_EMAIL), anyString());
+        verify(aiChatbotService, never()).clearChatHistory(OTHER_EMAIL);
+    }
+
     @Test
     @DisplayName("AI 서비스 상태 확인 - 정상")
     void AI_서비스_상태_확인_정상() throws Exception {
@@ -129,7 +207,7 @@ class AIChatbotControllerTest {
         given(aiChatbotService.isAIServiceAvailable()).willReturn(true);
 
         // when & then
-        mockMvc.perform(get("/api/ai/chatbot/health"))
+        mockMvc.perform(get("/ai/chatbot/health"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.healthy").value(true))
                 .andExpect(jsonPath("$.message").value("AI 챗봇 서비스가 정상 작동 중입니다."));
@@ -144,7 +222,7 @@ class AIChatbotControllerTest {
         given(aiChatbotService.isAIServiceAvailable()).willReturn(false);
 
         // when & then
-        mockMvc.perform(get("/api/ai/chatbot/health"))
+        mockMvc.perform(get("/ai/chatbot/health"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.healthy").value(false))
                 .andExpect(jsonPath("$.message").value("AI 챗봇 서비스에 문제가 있습니다."));
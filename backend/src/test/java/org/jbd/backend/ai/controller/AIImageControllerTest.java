@@ -0,0 +1,74 @@
+package org.jbd.backend.ai.controller;
+
+import org.jbd.backend.ai.dto.ImageGenerationDto;
+import org.jbd.backend.ai.service.ImageGenerationJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AI 이미지 컨트롤러 테스트")
+class AIImageControllerTest {
+
+    private static final String JOB_ID = "7f3c2a90-1d4e-4b8a-9c61-2f5e8d7a0b13";
+
+    @Mock
+    private ImageGenerationJobService imageGenerationJobService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new AIImageController(imageGenerationJobService))
+                .defaultResponseCharacterEncoding(StandardCharsets.UTF_8)
+                .build();
+    }
+
+    @Test
+    @DisplayName("이미지 생성 요청은 기다리지 않고 202와 작업 상태 조회 위치를 반환한다")
+    void 생성_요청은_202와_작업_위치를_반환한다() throws Exception {
+        // given
+        given(imageGenerationJobService.submit("a cat", "professional", "512x512", 1))
+                .willReturn(new ImageGenerationDto.JobStatus(JOB_ID, ImageGenerationDto.JobState.PENDING, null, null));
+
+        // when & then
+        mockMvc.perform(post("/ai/image/generate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"prompt\":\"a cat\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/ai/image/jobs/" + JOB_ID))
+                .andExpect(jsonPath("$.jobId").value(JOB_ID))
+                .andExpect(jsonPath("$.state").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("작업 상태 조회는 완료된 이미지를 함께 반환한다")
+    void 작업_상태_조회() throws Exception {
+        // given
+        ImageGenerationDto.ImageData image = new ImageGenerationDto.ImageData();
+        image.setImageUrl("https://images.example.com/1.png");
+        given(imageGenerationJobService.getStatus(JOB_ID))
+                .willReturn(new ImageGenerationDto.JobStatus(JOB_ID, ImageGenerationDto.JobState.SUCCEEDED, "ok", image));
+
+        // when & then
+        mockMvc.perform(get("/ai/image/jobs/{jobId}", JOB_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.image.image_url").value("https://images.example.com/1.png"));
+    }
+}
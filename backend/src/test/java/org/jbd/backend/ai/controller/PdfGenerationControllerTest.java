@@ -0,0 +1,176 @@
+package org.jbd.backend.ai.controller;
+
+import org.jbd.backend.ai.dto.PdfGenerationDto;
+import org.jbd.backend.ai.service.PdfFileStore;
+import org.jbd.backend.ai.service.PdfGenerationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PDF 생성 컨트롤러 테스트")
+class PdfGenerationControllerTest {
+
+    private static final byte[] CONTENT = "%PDF-1.7\n0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private PdfGenerationService pdfGenerationService;
+
+    @Mock
+    private PdfFileStore pdfFileStore;
+
+    private MockMvc mockMvc;
+    private final String fileId = "a".repeat(64);
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = Files.write(directory.resolve(fileId + ".pdf"), CONTENT);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new PdfGenerationController(pdfGenerationService, pdfFileStore))
+                .defaultResponseCharacterEncoding(StandardCharsets.UTF_8)
+                .build();
+    }
+
+    @Test
+    @DisplayName("PDF 생성 요청은 PDF 내용 없이 다운로드 정보만 반환한다")
+    void 생성_요청은_다운로드_정보만_반환한다() throws Exception {
+        // given
+        PdfGenerationDto.PdfFileHandle handle = new PdfGenerationDto.PdfFileHandle(
+                fileId, "resume.pdf", "/api/pdf/files/" + fileId + "?name=resume.pdf", CONTENT.length, "application/pdf");
+        given(pdfGenerationService.generateResumePdfAsync(eq("test@example.com"), eq("modern")))
+                .willReturn(Mono.just(new PdfGenerationDto.PdfFileResponse(true, "ok", handle)));
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(post("/pdf/resume")
+                        .principal(new UsernamePasswordAuthenticationToken("test@example.com", null))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"style\":\"modern\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.fileId").value(fileId))
+                .andExpect(jsonPath("$.data.downloadUrl").value("/api/pdf/files/" + fileId + "?name=resume.pdf"))
+                .andExpect(jsonPath("$.data.base64Content").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("PDF 전체를 ETag와 함께 내려준다")
+    void PDF_전체_다운로드() throws Exception {
+        givenStoredPdf();
+
+        mockMvc.perform(get("/pdf/files/{fileId}", fileId).param("name", "이력서.pdf"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + fileId + "\""))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        org.hamcrest.Matchers.containsString("attachment")))
+                .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 ETag와 같으면 304로 응답한다")
+    void ETag가_같으면_304() throws Exception {
+        givenStoredPdf();
+
+        mockMvc.perform(get("/pdf/files/{fileId}", fileId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + fileId + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Range 요청에는 요청한 구간만 206으로 내려준다")
+    void Range_요청은_206() throws Exception {
+        givenStoredPdf();
+
+        mockMvc.perform(get("/pdf/files/{fileId}", fileId).header(HttpHeaders.RANGE, "bytes=9-12"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 9-12/" + CONTENT.length))
+                .andExpect(content().bytes(Arrays.copyOfRange(CONTENT, 9, 13)));
+    }
+
+    @Test
+    @DisplayName("If-Range가 현재 ETag와 다르면 Range를 무시하고 전체 파일을 내려준다")
+    void If_Range가_다르면_전체_파일() throws Exception {
+        givenStoredPdf();
+
+        mockMvc.perform(get("/pdf/files/{fileId}", fileId)
+                        .header(HttpHeaders.RANGE, "bytes=9-12")
+                        .header(HttpHeaders.IF_RANGE, "\"outdated\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("파일 크기를 벗어난 Range는 416으로 응답한다")
+    void 범위를_벗어난_Range는_416() throws Exception {
+        givenStoredPdf();
+
+        mockMvc.perform(get("/pdf/files/{fileId}", fileId).header(HttpHeaders.RANGE, "bytes=1000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + CONTENT.length));
+    }
+
+    @Test
+    @DisplayName("sendfile을 지원하는 컨테이너에서는 본문을 쓰지 않고 파일 구간을 컨테이너에 넘긴다")
+    void sendfile_지원시_컨테이너가_파일을_전송한다() throws Exception {
+        givenStoredPdf();
+
+        MvcResult result = mockMvc.perform(get("/pdf/files/{fileId}", fileId)
+                        .requestAttr("org.apache.tomcat.sendfile.support", Boolean.TRUE)
+                        .header(HttpHeaders.RANGE, "bytes=9-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE,
+                        "bytes 9-" + (CONTENT.length - 1) + "/" + CONTENT.length))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length - 9))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+        assertThat(result.getRequest().getAttribute("org.apache.tomcat.sendfile.filename"))
+                .isEqualTo(file.toString());
+        assertThat(result.getRequest().getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(9L);
+        assertThat(result.getRequest().getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo((long) CONTENT.length);
+    }
+
+    @Test
+    @DisplayName("없는 파일은 404로 응답한다")
+    void 없는_파일은_404() throws Exception {
+        mockMvc.perform(get("/pdf/files/{fileId}", "f".repeat(64)))
+                .andExpect(status().isNotFound());
+    }
+
+    private void givenStoredPdf() {
+        given(pdfFileStore.find(fileId)).willReturn(Optional.of(new PdfFileStore.StoredPdf(fileId, file, CONTENT.length)));
+    }
+}
@@ -1,6 +1,7 @@
 package org.jbd.backend.ai.service;
 
 import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.client.ReactiveAIServiceClient;
 import org.jbd.backend.ai.dto.ChatbotDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,11 +10,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +37,12 @@ class AIChatbotServiceTest {
     @Mock
     private AIServiceClient aiServiceClient;
 
+    @Mock
+    private ReactiveAIServiceClient reactiveAIServiceClient;
+
+    @Mock
+    private ChatHistoryStore historyStore;
+
     @InjectMocks
     private AIChatbotService aiChatbotService;
 
@@ -48,7 +68,8 @@ class AIChatbotServiceTest {
         String userId = "test@example.com";
         String message = "안녕하세요";
         
-        given(aiServiceClient.chatWithBot(userId, message)).willReturn(successResponse);
+        given(historyStore.context(userId)).willReturn(ChatHistoryStore.Context.EMPTY);
+        given(aiServiceClient.chatWithBot(any(ChatbotDto.ChatRequest.class))).willReturn(successResponse);
 
         // when
         ChatbotDto.ChatResponse result = aiChatbotService.processChat(userId, message);
@@ -57,7 +78,42 @@ class AIChatbotServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.isSuccess()).isTrue();
         assertThat(result.getData().getResponse()).contains("안녕하세요");
-        verify(aiServiceClient).chatWithBot(userId, message);
+        verify(aiServiceClient).chatWithBot(argThat((ChatbotDto.ChatRequest request) ->
+                userId.equals(request.getUserId()) && message.equals(request.getMessage())));
+        verify(historyStore).record(userId, message, "안녕하세요! 어떻게 도와드릴까요?");
+    }
+
+    @Test
+    @DisplayName("이전 대화 요약과 최근 대화를 요청에 함께 보낸다")
+    void 이전_대화_맥락을_요청에_포함한다() {
+        // given
+        String userId = "test@example.com";
+        List<ChatbotDto.ChatTurn> turns = List.of(new ChatbotDto.ChatTurn("자소서 첨삭해줘", "어떤 문항인가요?"));
+        given(historyStore.context(userId)).willReturn(new ChatHistoryStore.Context("사용자: 면접 준비", turns));
+        given(aiServiceClient.chatWithBot(any(ChatbotDto.ChatRequest.class))).willReturn(successResponse);
+
+        // when
+        aiChatbotService.processChat(userId, "지원동기 문항이에요");
+
+        // then
+        verify(aiServiceClient).chatWithBot(argThat((ChatbotDto.ChatRequest request) ->
+                "사용자: 면접 준비".equals(request.getSummary()) && turns.equals(request.getHistory())));
+    }
+
+    @Test
+    @DisplayName("실패한 응답은 대화 기록에 남기지 않는다")
+    void 실패한_응답은_기록하지_않는다() {
+        // given
+        String userId = "test@example.com";
+        given(historyStore.context(userId)).willReturn(ChatHistoryStore.Context.EMPTY);
+        given(aiServiceClient.chatWithBot(any(ChatbotDto.ChatRequest.class)))
+                .willReturn(new ChatbotDto.ChatResponse(false, "AI 서비스 오류", null));
+
+        // when
+        aiChatbotService.processChat(userId, "안녕하세요");
+
+        // then
+        verify(historyStore, never()).record(anyString(), anyString(), anyString());
     }
 
     @Test
@@ -149,9 +205,103 @@ class AIChatbotServiceTest {
         // given
         String userId = "test@example.com";
 
-        // when & then (예외 발생하지 않음을 확인)
+        // when
         aiChatbotService.clearChatHistory(userId);
-        
-        // 현재는 로깅만 수행하므로 예외가 발생하지 않으면 성공
+
+        // then
+        verify(historyStore).clear(userId);
+    }
+
+    @Test
+    @DisplayName("스트리밍 중 응답 조각이 없는 동안 heartbeat를 보내고 마지막 조각 후 함께 끝낸다")
+    void 스트리밍_중_heartbeat를_보낸다() {
+        // given
+        ReflectionTestUtils.setField(aiChatbotService, "streamHeartbeatMillis", 50L);
+        given(historyStore.context("test@example.com")).willReturn(ChatHistoryStore.Context.EMPTY);
+        given(reactiveAIServiceClient.streamChat(any(ChatbotDto.ChatRequest.class)))
+                .willReturn(Flux.just(
+                                new ChatbotDto.ChatChunk("안녕하세요!", false, null),
+                                new ChatbotDto.ChatChunk("", true, null))
+                        .delayElements(Duration.ofMillis(300)));
+
+        // when
+        List<ServerSentEvent<ChatbotDto.ChatChunk>> events = aiChatbotService
+                .streamChat("test@example.com", "안녕하세요")
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(events).anyMatch(event -> "heartbeat".equals(event.comment()));
+        assertThat(events).filteredOn(event -> event.data() != null)
+                .extracting(event -> event.data().getDelta())
+                .containsExactly("안녕하세요!", "");
+        assertThat(events.get(events.size() - 1).data().isDone()).isTrue();
+        verify(historyStore).record("test@example.com", "안녕하세요", "안녕하세요!");
+    }
+
+    @Test
+    @DisplayName("최대 스트리밍 시간을 넘기면 AI 서비스 호출을 중단하고 시간 초과 조각으로 끝낸다")
+    void 최대_스트리밍_시간을_넘기면_시간_초과_조각으로_끝낸다() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(aiChatbotService, "streamMaxDurationMillis", 200L);
+        CountDownLatch upstreamCancelled = new CountDownLatch(1);
+        given(historyStore.context("test@example.com")).willReturn(ChatHistoryStore.Context.EMPTY);
+        given(reactiveAIServiceClient.streamChat(any(ChatbotDto.ChatRequest.class)))
+                .willReturn(Flux.concat(
+                                Flux.just(new ChatbotDto.ChatChunk("안녕", false, null)),
+                                Flux.<ChatbotDto.ChatChunk>never())
+                        .doOnCancel(upstreamCancelled::countDown));
+
+        // when
+        List<ServerSentEvent<ChatbotDto.ChatChunk>> events = aiChatbotService
+                .streamChat("test@example.com", "안녕하세요")
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        ChatbotDto.ChatChunk last = events.get(events.size() - 1).data();
+        assertThat(last.isDone()).isTrue();
+        assertThat(last.getError()).contains("응답 시간이 초과");
+        assertThat(upstreamCancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(historyStore, never()).record(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("클라이언트가 스트림 구독을 취소하면 AI 서비스 호출도 취소한다")
+    void 스트림_구독_취소가_AI_서비스로_전파된다() throws InterruptedException {
+        // given
+        CountDownLatch upstreamCancelled = new CountDownLatch(1);
+        CountDownLatch upstreamSubscribed = new CountDownLatch(1);
+        given(historyStore.context("test@example.com")).willReturn(ChatHistoryStore.Context.EMPTY);
+        given(reactiveAIServiceClient.streamChat(any(ChatbotDto.ChatRequest.class)))
+                .willReturn(Flux.<ChatbotDto.ChatChunk>never()
+                        .doOnSubscribe(s -> upstreamSubscribed.countDown())
+                        .doOnCancel(upstreamCancelled::countDown));
+
+        // when
+        Disposable subscription = aiChatbotService.streamChat("test@example.com", "안녕하세요").subscribe();
+        assertThat(upstreamSubscribed.await(5, TimeUnit.SECONDS)).isTrue();
+        subscription.dispose();
+
+        // then
+        // 구독은 boundedElastic 스레드에서 이어지므로 취소 전파를 기다림
+        assertThat(upstreamCancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(historyStore, never()).record(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("스트리밍 요청의 메시지가 비어 있으면 AI 서비스를 호출하지 않고 오류 조각으로 끝낸다")
+    void 스트리밍_빈_메시지는_오류_조각으로_끝낸다() {
+        // when
+        List<ServerSentEvent<ChatbotDto.ChatChunk>> events = aiChatbotService
+                .streamChat("test@example.com", " ")
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).data().isDone()).isTrue();
+        assertThat(events.get(0).data().getError()).contains("메시지를 입력해주세요");
+        verifyNoInteractions(reactiveAIServiceClient);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,239 @@
+package org.jbd.backend.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.ai.domain.ChatConversation;
+import org.jbd.backend.ai.dto.ChatbotDto;
+import org.jbd.backend.ai.repository.ChatConversationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("챗봇 대화 기록 저장소 테스트")
+class ChatHistoryStoreTest {
+
+    private static final String USER = "test@example.com";
+
+    @Mock
+    private ChatConversationRepository conversationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatHistoryStore historyStore;
+
+    @BeforeEach
+    void setUp() {
+        historyStore = new ChatHistoryStore(conversationRepository, new ObjectMapper(), transactionManager,
+                new SimpleMeterRegistry());
+        historyStore.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        historyStore.stop();
+    }
+
+    @Test
+    @DisplayName("최근 턴 수를 넘으면 가장 오래된 턴을 요약으로 옮긴다")
+    void 턴_수_초과시_오래된_턴은_요약된다() {
+        // given
+        ReflectionTestUtils.setField(historyStore, "maxTurns", 2);
+
+        // when
+        historyStore.record(USER, "첫 질문", "첫 답변");
+        historyStore.record(USER, "두번째 질문", "두번째 답변");
+        historyStore.record(USER, "세번째 질문", "세번째 답변");
+        ChatHistoryStore.Context context = historyStore.context(USER);
+
+        // then
+        assertThat(context.turns()).extracting(ChatbotDto.ChatTurn::getUser)
+                .containsExactly("두번째 질문", "세번째 질문");
+        assertThat(context.summary()).isEqualTo("사용자: 첫 질문 / 답변: 첫 답변");
+    }
+
+    @Test
+    @DisplayName("최근 턴이 토큰 예산을 넘으면 가장 최근 턴만 남기고 요약으로 옮긴다")
+    void 토큰_예산_초과시_오래된_턴은_요약된다() {
+        // given
+        ReflectionTestUtils.setField(historyStore, "tokenBudget", 30);
+
+        // when
+        historyStore.record(USER, "자기소개서 첨삭 부탁드려요", "어떤 문항인지 알려주세요");
+        historyStore.record(USER, "지원 동기 문항입니다", "지원 동기는 회사와 직무를 연결해 쓰세요");
+        ChatHistoryStore.Context context = historyStore.context(USER);
+
+        // then
+        assertThat(context.turns()).extracting(ChatbotDto.ChatTurn::getUser).containsExactly("지원 동기 문항입니다");
+        assertThat(context.summary()).startsWith("사용자: 자기소개서 첨삭 부탁드려요");
+    }
+
+    @Test
+    @DisplayName("요약이 예산을 넘으면 가장 오래된 요약부터 버린다")
+    void 요약_예산_초과시_오래된_요약을_버린다() {
+        // given
+        ReflectionTestUtils.setField(historyStore, "maxTurns", 1);
+        ReflectionTestUtils.setField(historyStore, "summaryTokenBudget", 20);
+
+        // when
+        historyStore.record(USER, "질문하나", "답변하나");
+        historyStore.record(USER, "질문둘", "답변둘");
+        historyStore.record(USER, "질문셋", "답변셋");
+        ChatHistoryStore.Context context = historyStore.context(USER);
+
+        // then
+        assertThat(context.summary()).isEqualTo("사용자: 질문둘 / 답변: 답변둘");
+        assertThat(ChatHistoryStore.estimateTokens(context.summary())).isLessThanOrEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("한 턴이 너무 길면 잘라서 기록한다")
+    void 긴_턴은_잘라서_기록한다() {
+        // given
+        ReflectionTestUtils.setField(historyStore, "turnMaxTokens", 5);
+
+        // when
+        historyStore.record(USER, "가나다라마바사아자차", "짧은 답");
+        ChatHistoryStore.Context context = historyStore.context(USER);
+
+        // then
+        assertThat(context.turns().get(0).getUser()).isEqualTo("가나다라마…");
+        assertThat(context.turns().get(0).getAssistant()).isEqualTo("짧은 답");
+    }
+
+    @Test
+    @DisplayName("변경된 대화는 한 번만 저장하고 이후 변경이 없으면 다시 저장하지 않는다")
+    @SuppressWarnings("unchecked")
+    void 변경된_대화만_저장한다() {
+        // given
+        given(conversationRepository.findByUserEmail(USER)).willReturn(Optional.empty());
+        given(conversationRepository.findByUserEmailIn(anyCollection())).willReturn(List.of());
+        historyStore.record(USER, "면접 예상 질문 알려줘", "지원 동기를 물어볼 가능성이 높아요");
+
+        // when
+        historyStore.flushDirty();
+        historyStore.flushDirty();
+
+        // then
+        ArgumentCaptor<List<ChatConversation>> saved = ArgumentCaptor.forClass(List.class);
+        verify(conversationRepository, times(1)).saveAll(saved.capture());
+        ChatConversation conversation = saved.getValue().get(0);
+        assertThat(conversation.getUserEmail()).isEqualTo(USER);
+        assertThat(conversation.getRecentTurns()).contains("면접 예상 질문 알려줘");
+    }
+
+    @Test
+    @DisplayName("저장되지 않은 세션은 메모리에서 내리지 않고, 저장된 세션은 내린 뒤 DB에서 다시 불러온다")
+    void 저장된_세션만_메모리에서_내린다() {
+        // given
+        ReflectionTestUtils.setField(historyStore, "idleTtlMillis", 0L);
+        given(conversationRepository.findByUserEmail(USER)).willReturn(Optional.empty());
+        historyStore.record(USER, "첫 질문", "첫 답변");
+
+        // when
+        historyStore.evictIdle();
+
+        // then
+        assertThat(historyStore.context(USER).turns()).hasSize(1);
+
+        // given
+        ChatConversation stored = new ChatConversation(USER);
+        stored.update("사용자: 예전 질문 / 답변: 예전 답변", "[{\"user\":\"첫 질문\",\"assistant\":\"첫 답변\"}]");
+        given(conversationRepository.findByUserEmailIn(anyCollection())).willReturn(List.of());
+        given(conversationRepository.findByUserEmail(USER)).willReturn(Optional.of(stored));
+        historyStore.flushDirty();
+
+        // when
+        historyStore.evictIdle();
+        ChatHistoryStore.Context reloaded = historyStore.context(USER);
+
+        // then
+        verify(conversationRepository, times(2)).findByUserEmail(USER);
+        assertThat(reloaded.summary()).isEqualTo("사용자: 예전 질문 / 답변: 예전 답변");
+        assertThat(reloaded.turns()).extracting(ChatbotDto.ChatTurn::getUser).containsExactly("첫 질문");
+    }
+
+    @Test
+    @DisplayName("대화 기록을 삭제하면 메모리 기록을 비우고 저장된 기록도 삭제한다")
+    void 대화_기록_삭제() {
+        // given
+        given(conversationRepository.findByUserEmail(USER)).willReturn(Optional.empty());
+        historyStore.record(USER, "첫 질문", "첫 답변");
+
+        // when
+        historyStore.clear(USER);
+        historyStore.flushDirty();
+
+        // then
+        assertThat(historyStore.context(USER).turns()).isEmpty();
+        verify(conversationRepository, timeout(1000)).deleteByUserEmail(USER);
+        verify(conversationRepository, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("삭제가 커밋되기 전에는 비운 세션을 메모리에서 내리지 않아 이전 기록을 다시 불러오지 않는다")
+    void 삭제_커밋_전에는_비운_세션을_내리지_않는다() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(historyStore, "idleTtlMillis", 0L);
+        ChatConversation stored = new ChatConversation(USER);
+        stored.update(null, "[{\"user\":\"예전 질문\",\"assistant\":\"예전 답변\"}]");
+        given(conversationRepository.findByUserEmail(USER)).willReturn(Optional.of(stored));
+        historyStore.context(USER);
+        CountDownLatch deleting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(conversationRepository.deleteByUserEmail(USER)).willAnswer(invocation -> {
+            deleting.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+
+        // when
+        historyStore.clear(USER);
+        assertThat(deleting.await(5, TimeUnit.SECONDS)).isTrue();
+        historyStore.evictIdle();
+        ChatHistoryStore.Context context = historyStore.context(USER);
+        release.countDown();
+
+        // then
+        assertThat(context.turns()).isEmpty();
+        verify(conversationRepository, times(1)).findByUserEmail(USER);
+    }
+
+    @Test
+    @DisplayName("기록을 끄면 맥락을 비워 보내고 저장소를 조회하지 않는다")
+    void 기록_비활성화() {
+        // given
+        ReflectionTestUtils.setField(historyStore, "enabled", false);
+
+        // when
+        historyStore.record(USER, "첫 질문", "첫 답변");
+        ChatHistoryStore.Context context = historyStore.context(USER);
+
+        // then
+        assertThat(context.turns()).isEmpty();
+        assertThat(context.summary()).isNull();
+        verify(conversationRepository, never()).findByUserEmail(anyString());
+    }
+}
@@ -0,0 +1,225 @@
+package org.jbd.backend.ai.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.dto.ImageGenerationDto;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이미지 생성 작업 서비스 테스트")
+class ImageGenerationJobServiceTest {
+
+    private static final String PROMPT = "professional headshot portrait";
+
+    @Mock
+    private AIServiceClient aiServiceClient;
+
+    private ImageGenerationJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new ImageGenerationJobService(aiServiceClient, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jobService, "workers", 1);
+        ReflectionTestUtils.setField(jobService, "queueCapacity", 1);
+        jobService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.stop();
+    }
+
+    @Test
+    @DisplayName("같은 요청은 진행 중인 작업에 합류해 AI 서비스를 한 번만 호출한다")
+    void 같은_요청은_한_작업으로_합친다() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        given(aiServiceClient.generateImage(PROMPT, "professional", "512x512", 1)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return generated();
+        });
+
+        // when
+        ImageGenerationDto.JobStatus first = jobService.submit(PROMPT, "professional", "512x512", 1);
+        ImageGenerationDto.JobStatus second = jobService.submit(PROMPT, "professional", "512x512", 1);
+        release.countDown();
+
+        // then
+        assertThat(second.getJobId()).isEqualTo(first.getJobId());
+        assertThat(awaitFinished(first.getJobId()).getState()).isEqualTo(ImageGenerationDto.JobState.SUCCEEDED);
+        verify(aiServiceClient, times(1)).generateImage(PROMPT, "professional", "512x512", 1);
+    }
+
+    @Test
+    @DisplayName("완료된 결과는 보관 기간 동안 같은 요청에 그대로 반환한다")
+    void 완료된_결과를_재사용한다() throws InterruptedException {
+        // given
+        given(aiServiceClient.generateImage(PROMPT, "professional", "512x512", 1)).willReturn(generated());
+        ImageGenerationDto.JobStatus first = jobService.submit(PROMPT, "professional", "512x512", 1);
+        awaitFinished(first.getJobId());
+
+        // when
+        ImageGenerationDto.JobStatus second = jobService.submit(PROMPT, "professional", "512x512", 1);
+
+        // then
+        assertThat(second.getJobId()).isEqualTo(first.getJobId());
+        assertThat(second.getState()).isEqualTo(ImageGenerationDto.JobState.SUCCEEDED);
+        assertThat(second.getImage().getImageUrl()).isEqualTo("https://images.example.com/1.png");
+        verify(aiServiceClient, times(1)).generateImage(PROMPT, "professional", "512x512", 1);
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 재사용하지 않고 같은 요청이 다시 들어오면 새로 생성한다")
+    void 실패한_작업은_재사용하지_않는다() throws InterruptedException {
+        // given
+        given(aiServiceClient.generateImage(PROMPT, "professional", "512x512", 1))
+                .willReturn(new ImageGenerationDto.GenerateResponse(false, "이미지 생성 실패", null), generated());
+        ImageGenerationDto.JobStatus failed = jobService.submit(PROMPT, "professional", "512x512", 1);
+        assertThat(awaitFinished(failed.getJobId()).getMessage()).isEqualTo("이미지 생성 실패");
+
+        // when
+        ImageGenerationDto.JobStatus retried = jobService.submit(PROMPT, "professional", "512x512", 1);
+
+        // then
+        assertThat(retried.getJobId()).isNotEqualTo(failed.getJobId());
+        assertThat(awaitFinished(retried.getJobId()).getState()).isEqualTo(ImageGenerationDto.JobState.SUCCEEDED);
+        assertThat(jobService.getStatus(failed.getJobId()).getState()).isEqualTo(ImageGenerationDto.JobState.FAILED);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 작업을 등록하지 않고 바로 거절한다")
+    void 대기열이_가득_차면_거절한다() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(aiServiceClient.generateImage(anyString(), eq("professional"), eq("512x512"), eq(1))).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return generated();
+        });
+        jobService.submit("running", "professional", "512x512", 1);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        jobService.submit("queued", "professional", "512x512", 1);
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> jobService.submit("rejected", "professional", "512x512", 1))
+                    .isInstanceOf(BusinessException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("상태 이벤트 스트림은 현재 상태부터 완료 상태까지 보내고 닫힌다")
+    void 상태_이벤트_스트림() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        given(aiServiceClient.generateImage(PROMPT, "professional", "512x512", 1)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return generated();
+        });
+        ImageGenerationDto.JobStatus job = jobService.submit(PROMPT, "professional", "512x512", 1);
+
+        // when
+        var events = jobService.streamStatus(job.getJobId()).collectList().toFuture();
+        release.countDown();
+        List<ServerSentEvent<ImageGenerationDto.JobStatus>> received = events.join();
+
+        // then
+        ServerSentEvent<ImageGenerationDto.JobStatus> last = received.get(received.size() - 1);
+        assertThat(last.event()).isEqualTo("succeeded");
+        assertThat(last.data().getImage().getImageUrl()).isEqualTo("https://images.example.com/1.png");
+    }
+
+    @Test
+    @DisplayName("최대 시간이 지나도록 작업이 끝나지 않으면 현재 상태를 timeout 이벤트로 보내고 닫힌다")
+    void 최대_시간이_지나면_timeout_이벤트를_보낸다() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        given(aiServiceClient.generateImage(PROMPT, "professional", "512x512", 1)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return generated();
+        });
+        ReflectionTestUtils.setField(jobService, "maxStreamMillis", 200L);
+        ImageGenerationDto.JobStatus job = jobService.submit(PROMPT, "professional", "512x512", 1);
+
+        try {
+            // when
+            List<ServerSentEvent<ImageGenerationDto.JobStatus>> received =
+                    jobService.streamStatus(job.getJobId()).collectList().block(Duration.ofSeconds(5));
+
+            // then
+            ServerSentEvent<ImageGenerationDto.JobStatus> last = received.get(received.size() - 1);
+            assertThat(last.event()).isEqualTo("timeout");
+            assertThat(last.data().getState()).isIn(ImageGenerationDto.JobState.PENDING, ImageGenerationDto.JobState.RUNNING);
+        } finally {
+            release.countDown();
+            awaitFinished(job.getJobId());
+        }
+    }
+
+    @Test
+    @DisplayName("없는 작업을 조회하면 ResourceNotFoundException을 던진다")
+    void 없는_작업_조회() {
+        assertThatThrownBy(() -> jobService.getStatus("unknown"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 완료 작업은 정리되고 같은 요청은 새로 생성한다")
+    void 만료된_작업_정리() throws InterruptedException {
+        // given
+        given(aiServiceClient.generateImage(PROMPT, "professional", "512x512", 1)).willReturn(generated());
+        ImageGenerationDto.JobStatus first = jobService.submit(PROMPT, "professional", "512x512", 1);
+        awaitFinished(first.getJobId());
+        ReflectionTestUtils.setField(jobService, "resultTtlMillis", 0L);
+
+        // when
+        jobService.evictExpired();
+
+        // then
+        assertThatThrownBy(() -> jobService.getStatus(first.getJobId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(jobService.submit(PROMPT, "professional", "512x512", 1).getJobId()).isNotEqualTo(first.getJobId());
+    }
+
+    private ImageGenerationDto.JobStatus awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        ImageGenerationDto.JobStatus status = jobService.getStatus(jobId);
+        while (!status.getState().isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = jobService.getStatus(jobId);
+        }
+        return status;
+    }
+
+    private static ImageGenerationDto.GenerateResponse generated() {
+        ImageGenerationDto.ImageData image = new ImageGenerationDto.ImageData();
+        image.setImageUrl("https://images.example.com/1.png");
+        return new ImageGenerationDto.GenerateResponse(true, "ok", image);
+    }
+}
@@ -0,0 +1,113 @@
+package org.jbd.backend.ai.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PDF 파일 저장소 테스트")
+class PdfFileStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private PdfFileStore pdfFileStore;
+
+    @BeforeEach
+    void setUp() {
+        pdfFileStore = new PdfFileStore();
+        ReflectionTestUtils.setField(pdfFileStore, "directoryPath", directory.toString());
+        pdfFileStore.init();
+    }
+
+    @Test
+    @DisplayName("PDF 내용의 SHA-256을 파일 ID로 저장하고 같은 내용은 한 번만 저장한다")
+    void 내용_해시로_저장하고_중복은_한_번만_저장한다() throws Exception {
+        // given
+        byte[] content = pdfBytes(200_000);
+        String base64 = Base64.getEncoder().encodeToString(content);
+
+        // when
+        PdfFileStore.StoredPdf first = pdfFileStore.storeBase64(base64);
+        PdfFileStore.StoredPdf second = pdfFileStore.storeBase64(base64);
+
+        // then
+        String expectedId = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        assertThat(first.fileId()).isEqualTo(expectedId);
+        assertThat(first.size()).isEqualTo(content.length);
+        assertThat(Files.readAllBytes(first.path())).isEqualTo(content);
+        assertThat(second.path()).isEqualTo(first.path());
+        try (var files = Files.walk(directory)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("저장된 파일은 ID로 찾고, 형식에 맞지 않는 ID는 경로로 해석하지 않는다")
+    void 파일_ID로_조회() {
+        // given
+        PdfFileStore.StoredPdf stored = pdfFileStore.storeBase64(Base64.getEncoder().encodeToString(pdfBytes(100)));
+
+        // when & then
+        assertThat(pdfFileStore.find(stored.fileId())).contains(stored);
+        assertThat(pdfFileStore.find("0".repeat(64))).isEmpty();
+        assertThat(pdfFileStore.find("../" + stored.fileId())).isEmpty();
+        assertThat(pdfFileStore.find(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("base64 형식이 아니면 예외를 던지고 임시 파일을 남기지 않는다")
+    void 잘못된_base64는_거부한다() throws Exception {
+        // when & then
+        assertThatThrownBy(() -> pdfFileStore.storeBase64("%%%not-base64%%%"))
+                .isInstanceOf(IllegalArgumentException.class);
+        try (var files = Files.walk(directory)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("보관 기간 동안 조회되지 않은 파일과 용량 상한을 넘는 오래된 파일을 삭제한다")
+    void 오래된_파일_정리() throws Exception {
+        // given
+        ReflectionTestUtils.setField(pdfFileStore, "retentionMillis", 60_000L);
+        ReflectionTestUtils.setField(pdfFileStore, "maxBytes", 150L);
+        PdfFileStore.StoredPdf expired = pdfFileStore.storeBase64(Base64.getEncoder().encodeToString(pdfBytes(100)));
+        PdfFileStore.StoredPdf older = pdfFileStore.storeBase64(Base64.getEncoder().encodeToString(pdfBytes(101)));
+        PdfFileStore.StoredPdf newer = pdfFileStore.storeBase64(Base64.getEncoder().encodeToString(pdfBytes(102)));
+        long now = System.currentTimeMillis();
+        Files.setLastModifiedTime(expired.path(), FileTime.fromMillis(now - 120_000));
+        Files.setLastModifiedTime(older.path(), FileTime.fromMillis(now - 30_000));
+        Files.setLastModifiedTime(newer.path(), FileTime.fromMillis(now - 10_000));
+
+        // when
+        int deleted = pdfFileStore.cleanup();
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(pdfFileStore.find(expired.fileId())).isEmpty();
+        assertThat(pdfFileStore.find(older.fileId())).isEmpty();
+        assertThat(pdfFileStore.find(newer.fileId())).isPresent();
+    }
+
+    private static byte[] pdfBytes(int length) {
+        byte[] header = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = i < header.length ? header[i] : (byte) (i * 31 + length);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,182 @@
+package org.jbd.backend.ai.service;
+
+import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.client.ReactiveAIServiceClient;
+import org.jbd.backend.ai.dto.PdfGenerationDto;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.jbd.backend.user.repository.UserProfileRepository;
+import org.jbd.backend.user.repository.UserRepository;
+import org.jbd.backend.user.service.ProfileVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PDF 생성 서비스 테스트")
+class PdfGenerationServiceTest {
+
+    private static final String EMAIL = "test@example.com";
+    private static final String FILE_ID = "a".repeat(64);
+
+    @Mock
+    private AIServiceClient aiServiceClient;
+
+    @Mock
+    private ReactiveAIServiceClient reactiveAIServiceClient;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private PdfFileStore pdfFileStore;
+
+    @Mock
+    private ProfileVersionService profileVersionService;
+
+    private PdfGenerationService pdfGenerationService;
+
+    @BeforeEach
+    void setUp() {
+        pdfGenerationService = new PdfGenerationService(aiServiceClient, reactiveAIServiceClient, userRepository,
+                userProfileRepository, pdfFileStore, profileVersionService);
+        ReflectionTestUtils.setField(pdfGenerationService, "contextPath", "/api");
+        pdfGenerationService.init();
+
+        User user = new User(EMAIL, "password", UserType.GENERAL);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userRepository.findByEmailAndIsDeletedFalse(EMAIL)).willReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("프로필 버전과 스타일이 같으면 AI 서비스를 다시 호출하지 않고 저장된 PDF를 반환한다")
+    void 같은_프로필_버전은_저장된_PDF를_반환한다() {
+        // given
+        givenRendered();
+        given(pdfFileStore.find(FILE_ID)).willReturn(Optional.of(stored()));
+
+        // when
+        PdfGenerationDto.PdfFileResponse first = pdfGenerationService.generateResumePdfAsync(EMAIL, "modern").block();
+        PdfGenerationDto.PdfFileResponse second = pdfGenerationService.generateResumePdfAsync(EMAIL, "modern").block();
+
+        // then
+        assertThat(first.data().downloadUrl()).isEqualTo("/api/pdf/files/" + FILE_ID + "?name=resume.pdf");
+        assertThat(second.success()).isTrue();
+        assertThat(second.data()).isEqualTo(first.data());
+        verify(reactiveAIServiceClient, times(1)).generateResumePdf(any());
+    }
+
+    @Test
+    @DisplayName("프로필 버전이 바뀌면 PDF를 다시 생성한다")
+    void 프로필_버전이_바뀌면_다시_생성한다() {
+        // given
+        givenRendered();
+        given(profileVersionService.getVersion(1L)).willReturn(0L, 1L);
+
+        // when
+        pdfGenerationService.generateResumePdfAsync(EMAIL, "modern").block();
+        pdfGenerationService.generateResumePdfAsync(EMAIL, "modern").block();
+
+        // then
+        verify(reactiveAIServiceClient, times(2)).generateResumePdf(any());
+    }
+
+    @Test
+    @DisplayName("스타일이 다르면 따로 생성한다")
+    void 스타일별로_따로_생성한다() {
+        // given
+        givenRendered();
+
+        // when
+        pdfGenerationService.generateResumePdfAsync(EMAIL, "modern").block();
+        pdfGenerationService.generateResumePdfAsync(EMAIL, "classic").block();
+
+        // then
+        verify(reactiveAIServiceClient, times(2)).generateResumePdf(any());
+    }
+
+    @Test
+    @DisplayName("저장소 정리로 파일이 삭제되었으면 다시 생성한다")
+    void 파일이_삭제되었으면_다시_생성한다() {
+        // given
+        givenRendered();
+        given(pdfFileStore.find(FILE_ID)).willReturn(Optional.empty());
+
+        // when
+        pdfGenerationService.generateResumePdfAsync(EMAIL, "modern").block();
+        pdfGenerationService.generateResumePdfAsync(EMAIL, "modern").block();
+
+        // then
+        verify(reactiveAIServiceClient, times(2)).generateResumePdf(any());
+    }
+
+    @Test
+    @DisplayName("생성 중인 같은 요청이 다시 들어오면 진행 중인 생성 결과를 함께 사용한다")
+    void 동시_요청은_한_번만_생성한다() {
+        // given
+        Sinks.One<PdfGenerationDto.GeneratePdfResponse> upstream = Sinks.one();
+        given(reactiveAIServiceClient.generateResumePdf(any())).willReturn(upstream.asMono());
+        given(pdfFileStore.storeBase64(anyString())).willReturn(stored());
+
+        // when
+        Mono<PdfGenerationDto.PdfFileResponse> first = pdfGenerationService.generateResumePdfAsync(EMAIL, "modern");
+        Mono<PdfGenerationDto.PdfFileResponse> second = pdfGenerationService.generateResumePdfAsync(EMAIL, "modern");
+        first.subscribe();
+        upstream.tryEmitValue(rendered());
+
+        // then
+        assertThat(second.block(Duration.ofSeconds(5)).data().fileId()).isEqualTo(FILE_ID);
+        verify(reactiveAIServiceClient, times(1)).generateResumePdf(any());
+    }
+
+    @Test
+    @DisplayName("생성에 실패한 결과는 캐시하지 않는다")
+    void 실패한_결과는_캐시하지_않는다() {
+        // given
+        given(reactiveAIServiceClient.generateResumePdf(any()))
+                .willReturn(Mono.just(new PdfGenerationDto.GeneratePdfResponse(false, "PDF 생성 실패", null)));
+
+        // when
+        PdfGenerationDto.PdfFileResponse result = pdfGenerationService.generateResumePdfAsync(EMAIL, "modern").block();
+        pdfGenerationService.generateResumePdfAsync(EMAIL, "modern").block();
+
+        // then
+        assertThat(result.success()).isFalse();
+        assertThat(result.message()).isEqualTo("PDF 생성 실패");
+        verify(reactiveAIServiceClient, times(2)).generateResumePdf(any());
+    }
+
+    private void givenRendered() {
+        given(reactiveAIServiceClient.generateResumePdf(any())).willAnswer(invocation -> Mono.just(rendered()));
+        given(pdfFileStore.storeBase64(anyString())).willReturn(stored());
+    }
+
+    private static PdfGenerationDto.GeneratePdfResponse rendered() {
+        return new PdfGenerationDto.GeneratePdfResponse(true, "ok",
+                new PdfGenerationDto.PdfData("resume.pdf", null, "JVBERi0xLjcK", 9, "application/pdf"));
+    }
+
+    private static PdfFileStore.StoredPdf stored() {
+        return new PdfFileStore.StoredPdf(FILE_ID, Path.of("/tmp", FILE_ID + ".pdf"), 9);
+    }
+}
@@ -0,0 +1,48 @@
+package org.jbd.backend.auth.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("폐기 토큰 Bloom filter 테스트")
+class RevocationBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판정하고 오탐률은 목표치 근처로 유지한다")
+    void 추가한_값은_항상_포함되고_오탐률은_목표치_근처다() {
+        // given
+        RevocationBloomFilter filter = new RevocationBloomFilter(10_000, 0.01);
+        List<String> revoked = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String jti = UUID.randomUUID().toString();
+            revoked.add(jti);
+            filter.put(jti);
+        }
+
+        // when
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(revoked).allMatch(filter::mightContain);
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("잘못된 크기 설정은 거부한다")
+    void 잘못된_크기_설정은_거부한다() {
+        assertThatThrownBy(() -> new RevocationBloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RevocationBloomFilter(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
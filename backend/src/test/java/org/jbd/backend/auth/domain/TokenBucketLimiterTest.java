@@ -0,0 +1,71 @@
+package org.jbd.backend.auth.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("토큰 버킷 제한기 테스트")
+class TokenBucketLimiterTest {
+
+    private static final long REFILL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("용량만큼 허용한 뒤 거절하고 시간이 지나면 다시 허용한다")
+    void 용량만큼_허용한_뒤_거절하고_시간이_지나면_다시_허용한다() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, REFILL_NANOS, 100, clock::get);
+
+        // when & then
+        assertThat(limiter.tryAcquire("1.2.3.4")).isTrue();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isTrue();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isTrue();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isFalse();
+        assertThat(limiter.tryAcquire("5.6.7.8")).isTrue();
+
+        clock.addAndGet(REFILL_NANOS);
+        assertThat(limiter.tryAcquire("1.2.3.4")).isTrue();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isFalse();
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷만 유휴 정리 대상이다")
+    void 가득_찬_버킷만_유휴_정리_대상이다() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, REFILL_NANOS, 100, clock::get);
+        limiter.tryAcquire("a");
+        clock.addAndGet(REFILL_NANOS);
+        limiter.tryAcquire("b");
+
+        // when
+        int removed = limiter.evictIdle();
+
+        // then
+        assertThat(removed).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("b")).isTrue();
+        assertThat(limiter.tryAcquire("b")).isFalse();
+    }
+
+    @Test
+    @DisplayName("추적 키 상한에 도달하면 유휴 버킷을 정리해 공간을 만든다")
+    void 추적_키_상한에_도달하면_유휴_버킷을_정리한다() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, REFILL_NANOS, 2, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+        clock.addAndGet(REFILL_NANOS);
+
+        // when
+        boolean acquired = limiter.tryAcquire("c");
+
+        // then
+        assertThat(acquired).isTrue();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+}
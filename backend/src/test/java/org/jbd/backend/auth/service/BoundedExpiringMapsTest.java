@@ -0,0 +1,45 @@
+package org.jbd.backend.auth.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("만료 캐시 맵 정리 테스트")
+class BoundedExpiringMapsTest {
+
+    @Test
+    @DisplayName("만료된 항목만으로 최대 개수 아래가 되면 유효한 항목은 남긴다")
+    void 만료된_항목만_제거한다() {
+        // given
+        Map<String, Long> entries = new ConcurrentHashMap<>();
+        for (long i = 0; i < 10; i++) {
+            entries.put("key-" + i, i);
+        }
+
+        // when
+        BoundedExpiringMaps.evict(entries, 10, value -> value < 5);
+
+        // then
+        assertThat(entries).containsOnlyKeys("key-5", "key-6", "key-7", "key-8", "key-9");
+    }
+
+    @Test
+    @DisplayName("만료된 항목이 없으면 최대 개수의 10%만큼 여유가 생기도록 제거한다")
+    void 넘치면_여유분까지_제거한다() {
+        // given
+        Map<String, Long> entries = new ConcurrentHashMap<>();
+        for (long i = 0; i < 100; i++) {
+            entries.put("key-" + i, i);
+        }
+
+        // when
+        BoundedExpiringMaps.evict(entries, 100, value -> false);
+
+        // then
+        assertThat(entries).hasSize(90);
+    }
+}
@@ -0,0 +1,66 @@
+package org.jbd.backend.auth.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("요청 인증 사용자 컨텍스트 테스트")
+class CurrentUserTest {
+
+    @Test
+    @DisplayName("일반 사용자 토큰은 사용자 스냅샷으로 컨텍스트를 채운다")
+    void 일반_사용자_토큰은_스냅샷으로_컨텍스트를_채운다() {
+        // given
+        CurrentUser currentUser = new CurrentUser();
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(7L, "user@example.com", UserType.GENERAL,
+                true, false, false, 0L);
+
+        // when
+        currentUser.authenticate(principal);
+
+        // then
+        assertThat(currentUser.getId()).isEqualTo(7L);
+        assertThat(currentUser.getEmail()).isEqualTo("user@example.com");
+        assertThat(currentUser.getUserType()).isEqualTo(UserType.GENERAL);
+        assertThat(currentUser.getPrincipal()).isSameAs(principal);
+        assertThat(currentUser.isAdmin()).isFalse();
+    }
+
+    @Test
+    @DisplayName("관리자 토큰은 클레임으로 컨텍스트를 채운다")
+    void 관리자_토큰은_클레임으로_컨텍스트를_채운다() {
+        // given
+        CurrentUser currentUser = new CurrentUser();
+        Claims claims = Jwts.claims().setSubject("admin@example.com");
+        claims.put("userId", 3);
+        claims.put("userType", "ADMIN");
+        claims.put("isAdmin", true);
+
+        // when
+        currentUser.authenticate(VerifiedToken.from(claims));
+
+        // then
+        assertThat(currentUser.getId()).isEqualTo(3L);
+        assertThat(currentUser.getUserType()).isEqualTo(UserType.ADMIN);
+        assertThat(currentUser.isAdmin()).isTrue();
+        assertThat(currentUser.getPrincipal()).isNull();
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 요청에서 사용자 ID를 요청하면 예외가 발생한다")
+    void 인증되지_않은_요청은_예외가_발생한다() {
+        // given
+        CurrentUser currentUser = new CurrentUser();
+
+        // when & then
+        assertThat(currentUser.isAuthenticated()).isFalse();
+        assertThatThrownBy(currentUser::getId).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(currentUser::getEmail).isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,131 @@
+package org.jbd.backend.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jbd.backend.auth.client.GoogleOAuthClient;
+import org.jbd.backend.auth.dto.OAuth2UserInfo;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.util.StubGoogleIssuer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Google ID 토큰 로컬 검증 테스트")
+class GoogleIdTokenVerifierTest {
+
+    private static final String CLIENT_ID = "test-client-id";
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private StubGoogleIssuer issuer;
+    private GoogleIdTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        issuer = new StubGoogleIssuer(3600);
+        GoogleOAuthClient client = new GoogleOAuthClient(CLIENT_ID, "secret",
+                "http://127.0.0.1:1/token", "http://127.0.0.1:1/userinfo", issuer.getJwksUri(), 1000, 1000);
+        verifier = new GoogleIdTokenVerifier(client, new ObjectMapper(), CLIENT_ID,
+                Set.of(StubGoogleIssuer.ISSUER), 300_000, 30_000, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        issuer.close();
+    }
+
+    @Test
+    @DisplayName("공개 키를 한 번만 받아 여러 토큰을 로컬에서 검증한다")
+    void 공개_키를_한_번만_받아_로컬에서_검증한다() {
+        // given
+        String first = issuer.idToken(CLIENT_ID, "a@gmail.com", Instant.now().plusSeconds(3600));
+        String second = issuer.idToken(CLIENT_ID, "b@gmail.com", Instant.now().plusSeconds(3600));
+
+        // when
+        OAuth2UserInfo firstInfo = verifier.verify(first);
+        OAuth2UserInfo secondInfo = verifier.verify(second);
+
+        // then
+        assertThat(firstInfo.getEmail()).isEqualTo("a@gmail.com");
+        assertThat(firstInfo.getEmailVerified()).isTrue();
+        assertThat(secondInfo.getId()).isEqualTo("stub-b@gmail.com");
+        assertThat(issuer.getJwksRequests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 클라이언트용 토큰이나 다른 발급자의 토큰은 거부한다")
+    void 다른_클라이언트나_발급자의_토큰은_거부한다() {
+        // given
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        String wrongAudience = issuer.idToken("other-client", "a@gmail.com", expiresAt);
+        String wrongIssuer = issuer.idToken("https://evil.example.com", CLIENT_ID, "sub", expiresAt, Map.of());
+
+        // when & then
+        assertThatThrownBy(() -> verifier.verify(wrongAudience))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_OAUTH2_TOKEN);
+        assertThatThrownBy(() -> verifier.verify(wrongIssuer))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_OAUTH2_TOKEN);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 만료 오류로 거부한다")
+    void 만료된_토큰은_만료_오류로_거부한다() {
+        // given
+        String expired = issuer.idToken(CLIENT_ID, "a@gmail.com", Instant.now().minusSeconds(3600));
+
+        // when & then
+        assertThatThrownBy(() -> verifier.verify(expired))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXPIRED_OAUTH2_TOKEN);
+    }
+
+    @Test
+    @DisplayName("키가 교체되면 알 수 없는 kid에 대해 즉시 한 번 갱신하되 최소 간격을 지킨다")
+    void 키_교체시_즉시_갱신하되_최소_간격을_지킨다() {
+        // given
+        verifier.verify(issuer.idToken(CLIENT_ID, "a@gmail.com", Instant.now().plusSeconds(3600)));
+        issuer.rotateKey();
+        String rotated = issuer.idToken(CLIENT_ID, "a@gmail.com", Instant.now().plusSeconds(3600));
+
+        // when & then - 최소 갱신 간격 안에서는 다시 받지 않는다
+        assertThatThrownBy(() -> verifier.verify(rotated)).isInstanceOf(BusinessException.class);
+        assertThat(issuer.getJwksRequests()).isEqualTo(1);
+
+        clock.addAndGet(30_000);
+        assertThat(verifier.verify(rotated).getEmail()).isEqualTo("a@gmail.com");
+        assertThat(issuer.getJwksRequests()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("max-age 만료 전에 백그라운드 갱신으로 키를 미리 받는다")
+    void max_age_만료_전에_미리_갱신한다() {
+        // given
+        verifier.refreshIfStale();
+        assertThat(issuer.getJwksRequests()).isEqualTo(1);
+
+        // when - 만료 5분 전까지는 갱신하지 않다가 그 이후 갱신
+        clock.addAndGet(3_600_000 - 300_001);
+        verifier.refreshIfStale();
+        int beforeWindow = issuer.getJwksRequests();
+        clock.addAndGet(1);
+        verifier.refreshIfStale();
+
+        // then
+        assertThat(beforeWindow).isEqualTo(1);
+        assertThat(issuer.getJwksRequests()).isEqualTo(2);
+        assertThat(verifier.keyCount()).isEqualTo(1);
+    }
+}
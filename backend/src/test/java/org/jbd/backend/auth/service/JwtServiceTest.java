@@ -21,7 +21,7 @@ class JwtServiceTest {
         ReflectionTestUtils.setField(jwtService, "secretKey", "test-secret-key-for-jwt-should-be-at-least-256-bits-long-for-hs256-algorithm");
         ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400L);
         
-        testUser = new User("test@example.com", "password", "테스트사용자", UserType.GENERAL);
+        testUser = new User("test@example.com", "password", UserType.GENERAL);
         ReflectionTestUtils.setField(testUser, "id", 1L);
     }
     
@@ -93,7 +93,7 @@ class JwtServiceTest {
     void isTokenValid_DifferentUser() {
         // given
         String token = jwtService.generateToken(testUser);
-        User differentUser = new User("different@example.com", "password", "다른사용자", UserType.GENERAL);
+        User differentUser = new User("different@example.com", "password", UserType.GENERAL);
         
         // when
         boolean isValid = jwtService.isTokenValid(token, differentUser);
@@ -129,4 +129,61 @@ class JwtServiceTest {
         // then
         assertThat(isExpired).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("캐시된 사용자 스냅샷 검증 - 활성 계정")
+    void isTokenValidFor_ActiveAccount() {
+        // given
+        String token = jwtService.generateToken(testUser);
+
+        // when
+        boolean isValid = jwtService.isTokenValidFor(jwtService.verifyToken(token), principal(true, false, false));
+
+        // then
+        assertThat(isValid).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시된 사용자 스냅샷 검증 - 비활성화(관리자 잠금)된 계정")
+    void isTokenValidFor_InactiveAccount() {
+        // given
+        String token = jwtService.generateToken(testUser);
+
+        // when
+        boolean isValid = jwtService.isTokenValidFor(jwtService.verifyToken(token), principal(false, false, false));
+
+        // then
+        assertThat(isValid).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시된 사용자 스냅샷 검증 - 잠긴 계정")
+    void isTokenValidFor_LockedAccount() {
+        // given
+        String token = jwtService.generateToken(testUser);
+
+        // when
+        boolean isValid = jwtService.isTokenValidFor(jwtService.verifyToken(token), principal(true, true, false));
+
+        // then
+        assertThat(isValid).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시된 사용자 스냅샷 검증 - 삭제된 계정")
+    void isTokenValidFor_DeletedAccount() {
+        // given
+        String token = jwtService.generateToken(testUser);
+
+        // when
+        boolean isValid = jwtService.isTokenValidFor(jwtService.verifyToken(token), principal(true, false, true));
+
+        // then
+        assertThat(isValid).isFalse();
+    }
+
+    private AuthenticatedPrincipal principal(boolean active, boolean locked, boolean deleted) {
+        return new AuthenticatedPrincipal(testUser.getId(), testUser.getEmail(), testUser.getUserType(),
+                active, locked, deleted, 0L);
+    }
+}
@@ -0,0 +1,114 @@
+package org.jbd.backend.auth.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증 필터의 요청당 JWT 처리 비용 측정
+ *
+ * 기존 필터 경로(요청당 4회 파서·키 생성 + 서명 검증)와 단일 검증 경로(캐시 미스/적중)를 비교합니다.
+ * JMH와 같이 워밍업 후 여러 번 측정해 op당 평균 나노초를 로그로 남기며, 기본 빌드에서는 실행되지 않습니다.
+ *
+ * 실행: gradle test --tests "*JwtVerificationBenchmarkTest" -Dbenchmark=true
+ */
+@DisplayName("JWT 검증 벤치마크")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtVerificationBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtVerificationBenchmarkTest.class);
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-should-be-at-least-256-bits-long-for-hs256";
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURE_ITERATIONS = 5;
+    private static final int OPS_PER_ITERATION = 20_000;
+
+    private static volatile Object sink;
+
+    @Test
+    @DisplayName("단일 검증 경로가 기존 필터 경로보다 요청당 CPU 시간이 적다")
+    void 단일_검증_경로가_기존_필터_경로보다_빠르다() {
+        // given
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400L);
+        User user = new User("bench@example.com", "password", UserType.GENERAL);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        String token = jwtService.generateToken(user);
+
+        // when
+        double legacy = measure("legacy (4x parse, key per call)", () -> legacyFilterPath(token, user));
+        double singleParse = measure("single parse (cache miss)", () -> {
+            jwtService.evictVerifiedToken(token);
+            return singleParsePath(jwtService, token, user);
+        });
+        double cached = measure("single parse (cache hit)", () -> singleParsePath(jwtService, token, user));
+
+        // then
+        assertThat(singleParse).isLessThan(legacy);
+        assertThat(cached).isLessThan(singleParse);
+    }
+
+    /**
+     * 변경 전 필터: extractUsername → extractClaim(isAdmin) → isTokenValid(extractUsername + isTokenExpired)
+     */
+    private Object legacyFilterPath(String token, User user) {
+        String username = legacyParse(token).getSubject();
+        Boolean isAdmin = legacyParse(token).get("isAdmin", Boolean.class);
+        boolean valid = legacyParse(token).getSubject().equals(user.getEmail())
+                && !legacyParse(token).getExpiration().before(new Date());
+        return username.length() + (Boolean.TRUE.equals(isAdmin) ? 1 : 0) + (valid ? 1 : 0);
+    }
+
+    private Claims legacyParse(String token) {
+        byte[] keyBytes = Decoders.BASE64.decode(java.util.Base64.getEncoder().encodeToString(SECRET.getBytes()));
+        Key key = Keys.hmacShaKeyFor(keyBytes);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    private Object singleParsePath(JwtService jwtService, String token, User user) {
+        VerifiedToken verified = jwtService.verifyToken(token);
+        boolean valid = jwtService.isTokenValid(verified, user);
+        return verified.getSubject().length() + (verified.isAdmin() ? 1 : 0) + (valid ? 1 : 0);
+    }
+
+    private double measure(String name, Supplier<Object> operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runIteration(operation);
+        }
+        double best = Double.MAX_VALUE;
+        double total = 0;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            double nsPerOp = runIteration(operation);
+            best = Math.min(best, nsPerOp);
+            total += nsPerOp;
+        }
+        double average = total / MEASURE_ITERATIONS;
+        logger.info("[benchmark] {} avg {} ns/op, best {} ns/op",
+                name, String.format("%,.0f", average), String.format("%,.0f", best));
+        return average;
+    }
+
+    private double runIteration(Supplier<Object> operation) {
+        long start = System.nanoTime();
+        for (int i = 0; i < OPS_PER_ITERATION; i++) {
+            sink = operation.get();
+        }
+        return (double) (System.nanoTime() - start) / OPS_PER_ITERATION;
+    }
+}
@@ -0,0 +1,122 @@
+package org.jbd.backend.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("로그인 보호 서비스 테스트")
+class LoginProtectionServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoginProtectionService service = new LoginProtectionService(
+            mock(PasswordEncoder.class), meterRegistry, 1, 1, 100, 2, 60, 1, 60, 1000);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("계정별 허용량을 넘으면 거절하고 사유별로 집계한다")
+    void 계정별_허용량을_넘으면_거절한다() {
+        // given
+        service.checkRateLimit("1.2.3.4", "User@Example.com");
+
+        // when & then
+        assertThatThrownBy(() -> service.checkRateLimit("5.6.7.8", "user@example.com"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        assertThat(meterRegistry.counter("auth.login.rejected", "reason", "account").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 검증을 시작하지 않고 거절한다")
+    void 대기열이_가득_차면_거절한다() throws Exception {
+        // given - 스레드 1개가 점유되고 대기열 1칸이 찬 상태
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        callers.submit(() -> service.execute(() -> {
+            started.countDown();
+            await(release);
+            return true;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        AtomicBoolean queuedRan = new AtomicBoolean();
+        callers.submit(() -> service.execute(() -> queuedRan.getAndSet(true)));
+        waitUntilQueued();
+
+        // when & then
+        assertThatThrownBy(() -> service.execute(() -> true))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.LOGIN_BUSY);
+        assertThat(meterRegistry.counter("auth.login.rejected", "reason", "queue_full").count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘긴 작업은 취소되어 실행되지 않는다")
+    void 대기_시간을_넘긴_작업은_실행되지_않는다() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        callers.submit(() -> service.execute(() -> {
+            started.countDown();
+            await(release);
+            return true;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // when & then
+        assertThatThrownBy(() -> service.execute(() -> ran.getAndSet(true)))
+                .isInstanceOf(BusinessException.class);
+        release.countDown();
+        // 단일 스레드 FIFO이므로 다음 작업이 끝났다면 취소된 작업도 이미 대기열에서 빠졌다
+        assertThat(service.execute(() -> true)).isTrue();
+        assertThat(ran.get()).isFalse();
+        assertThat(meterRegistry.counter("auth.login.rejected", "reason", "queue_timeout").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작업의 인증 예외는 호출 스레드로 그대로 전달된다")
+    void 작업의_인증_예외는_그대로_전달된다() {
+        assertThatThrownBy(() -> service.execute(() -> {
+            throw new BadCredentialsException("bad");
+        })).isInstanceOf(BadCredentialsException.class);
+        assertThat(meterRegistry.timer("auth.login.hash.time").count()).isEqualTo(1);
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.login.queue.size").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package org.jbd.backend.auth.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jbd.backend.auth.client.GoogleOAuthClient;
 import org.jbd.backend.auth.dto.AuthenticationResponse;
 import org.jbd.backend.auth.dto.OAuth2LoginRequest;
+import org.jbd.backend.auth.dto.OAuth2UserInfo;
 import org.jbd.backend.common.exception.BusinessException;
 import org.jbd.backend.common.exception.ErrorCode;
 import org.jbd.backend.user.domain.User;
@@ -14,10 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -41,10 +39,10 @@ class OAuth2ServiceTest {
     private JwtService jwtService;
     
     @Mock
-    private RestTemplate restTemplate;
+    private GoogleIdTokenVerifier googleIdTokenVerifier;
     
     @Mock
-    private ObjectMapper objectMapper;
+    private GoogleOAuthClient googleOAuthClient;
     
     @InjectMocks
     private OAuth2Service oauth2Service;
@@ -68,8 +66,7 @@ class OAuth2ServiceTest {
         tokenInfo.put("picture", "https://example.com/photo.jpg");
         tokenInfo.put("email_verified", true);
         
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(tokenInfo, HttpStatus.OK);
-        given(restTemplate.getForEntity(anyString(), eq(Map.class))).willReturn(responseEntity);
+        given(googleIdTokenVerifier.verify(idToken)).willReturn(new OAuth2UserInfo(tokenInfo));
         
         given(userRepository.findByEmailAndIsDeletedFalse("newuser@gmail.com")).willReturn(Optional.empty());
         
@@ -110,8 +107,7 @@ class OAuth2ServiceTest {
         tokenInfo.put("picture", "https://example.com/newphoto.jpg");
         tokenInfo.put("email_verified", true);
         
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(tokenInfo, HttpStatus.OK);
-        given(restTemplate.getForEntity(anyString(), eq(Map.class))).willReturn(responseEntity);
+        given(googleIdTokenVerifier.verify(idToken)).willReturn(new OAuth2UserInfo(tokenInfo));
         
         User existingUser = new User("existing@gmail.com", "password", "Old User", UserType.GENERAL);
         existingUser.setId(1L);
@@ -139,8 +135,8 @@ class OAuth2ServiceTest {
         String invalidToken = "invalid.token";
         OAuth2LoginRequest request = new OAuth2LoginRequest(invalidToken);
         
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(HttpStatus.BAD_REQUEST);
-        given(restTemplate.getForEntity(anyString(), eq(Map.class))).willReturn(responseEntity);
+        given(googleIdTokenVerifier.verify(invalidToken))
+                .willThrow(new BusinessException(ErrorCode.INVALID_OAUTH2_TOKEN));
         
         // when & then
         assertThatThrownBy(() -> oauth2Service.authenticateWithGoogle(request))
@@ -158,14 +154,9 @@ class OAuth2ServiceTest {
         
         OAuth2LoginRequest request = new OAuth2LoginRequest(idToken);
         
-        // Mock Google API response with wrong audience
-        Map<String, Object> tokenInfo = new HashMap<>();
-        tokenInfo.put("aud", "wrong-client-id");
-        tokenInfo.put("exp", String.valueOf(System.currentTimeMillis() / 1000 + 3600));
-        tokenInfo.put("email", "user@gmail.com");
-        
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(tokenInfo, HttpStatus.OK);
-        given(restTemplate.getForEntity(anyString(), eq(Map.class))).willReturn(responseEntity);
+        // audience 검증은 GoogleIdTokenVerifier가 수행 (GoogleIdTokenVerifierTest 참고)
+        given(googleIdTokenVerifier.verify(idToken))
+                .willThrow(new BusinessException(ErrorCode.INVALID_OAUTH2_TOKEN));
         
         // when & then
         assertThatThrownBy(() -> oauth2Service.authenticateWithGoogle(request))
@@ -183,14 +174,8 @@ class OAuth2ServiceTest {
         
         OAuth2LoginRequest request = new OAuth2LoginRequest(idToken);
         
-        // Mock Google API response with expired token
-        Map<String, Object> tokenInfo = new HashMap<>();
-        tokenInfo.put("aud", clientId);
-        tokenInfo.put("exp", String.valueOf(System.currentTimeMillis() / 1000 - 3600)); // Expired 1 hour ago
-        tokenInfo.put("email", "user@gmail.com");
-        
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(tokenInfo, HttpStatus.OK);
-        given(restTemplate.getForEntity(anyString(), eq(Map.class))).willReturn(responseEntity);
+        given(googleIdTokenVerifier.verify(idToken))
+                .willThrow(new BusinessException(ErrorCode.EXPIRED_OAUTH2_TOKEN));
         
         // when & then
         assertThatThrownBy(() -> oauth2Service.authenticateWithGoogle(request))
@@ -214,8 +199,7 @@ class OAuth2ServiceTest {
         tokenInfo.put("exp", String.valueOf(System.currentTimeMillis() / 1000 + 3600));
         tokenInfo.put("name", "User Name");
         
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(tokenInfo, HttpStatus.OK);
-        given(restTemplate.getForEntity(anyString(), eq(Map.class))).willReturn(responseEntity);
+        given(googleIdTokenVerifier.verify(idToken)).willReturn(new OAuth2UserInfo(tokenInfo));
         
         // when & then
         assertThatThrownBy(() -> oauth2Service.authenticateWithGoogle(request))
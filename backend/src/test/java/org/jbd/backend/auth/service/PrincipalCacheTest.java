@@ -0,0 +1,98 @@
+package org.jbd.backend.auth.service;
+
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.jbd.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("인증 사용자 캐시 테스트")
+class PrincipalCacheTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("TTL 안에서는 DB를 다시 조회하지 않는다")
+    void TTL_안에서는_DB를_다시_조회하지_않는다() {
+        // given
+        PrincipalCache cache = new PrincipalCache(userRepository, 30, 100, clock::get);
+        when(userRepository.findByEmailAndIsDeletedFalse(EMAIL)).thenReturn(Optional.of(user(UserType.GENERAL)));
+
+        // when
+        AuthenticatedPrincipal first = cache.get(EMAIL);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(29));
+        AuthenticatedPrincipal second = cache.get(EMAIL);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        cache.get(EMAIL);
+
+        // then
+        assertThat(first.getId()).isEqualTo(1L);
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(2)).findByEmailAndIsDeletedFalse(EMAIL);
+    }
+
+    @Test
+    @DisplayName("제거 후에는 변경된 사용자 정보를 다시 읽는다")
+    void 제거_후에는_변경된_사용자_정보를_다시_읽는다() {
+        // given
+        PrincipalCache cache = new PrincipalCache(userRepository, 30, 100, clock::get);
+        when(userRepository.findByEmailAndIsDeletedFalse(EMAIL))
+                .thenReturn(Optional.of(user(UserType.GENERAL)))
+                .thenReturn(Optional.of(user(UserType.COMPANY)));
+        cache.get(EMAIL);
+
+        // when
+        cache.evictAfterCommit(EMAIL); // 트랜잭션 밖이면 즉시 제거
+        AuthenticatedPrincipal reloaded = cache.get(EMAIL);
+
+        // then
+        assertThat(reloaded.getUserType()).isEqualTo(UserType.COMPANY);
+        assertThat(reloaded.getAuthorities()).extracting("authority").containsExactly("ROLE_COMPANY");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 null을 반환하고 캐시하지 않는다")
+    void 존재하지_않는_사용자는_캐시하지_않는다() {
+        // given
+        PrincipalCache cache = new PrincipalCache(userRepository, 30, 100, clock::get);
+        when(userRepository.findByEmailAndIsDeletedFalse(EMAIL)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(cache.get(EMAIL)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰 무효화 시점 이전에 발급된 토큰은 거부한다")
+    void 토큰_무효화_시점_이전에_발급된_토큰은_거부한다() {
+        // given
+        User user = user(UserType.GENERAL);
+        user.invalidateIssuedTokens();
+        AuthenticatedPrincipal principal = AuthenticatedPrincipal.from(user);
+        long invalidBefore = principal.getTokensInvalidBeforeMillis();
+
+        // when & then
+        assertThat(principal.isIssuedAfterInvalidation(Instant.ofEpochMilli(invalidBefore - 1000))).isFalse();
+        assertThat(principal.isIssuedAfterInvalidation(Instant.ofEpochMilli(invalidBefore))).isTrue();
+        assertThat(principal.isIssuedAfterInvalidation(null)).isFalse();
+        assertThat(AuthenticatedPrincipal.from(user(UserType.GENERAL)).isIssuedAfterInvalidation(null)).isTrue();
+    }
+
+    private User user(UserType userType) {
+        User user = new User(EMAIL, "hash", userType);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+}
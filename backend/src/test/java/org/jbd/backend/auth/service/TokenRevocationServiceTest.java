@@ -0,0 +1,111 @@
+package org.jbd.backend.auth.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.jbd.backend.auth.domain.RevokedToken;
+import org.jbd.backend.auth.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("토큰 폐기 서비스 테스트")
+class TokenRevocationServiceTest {
+
+    private final RevokedTokenRepository revokedTokenRepository = mock(RevokedTokenRepository.class);
+    private final TokenRevocationService service = new TokenRevocationService(revokedTokenRepository);
+
+    @Test
+    @DisplayName("폐기되지 않은 토큰은 저장소를 조회하지 않는다")
+    void 폐기되지_않은_토큰은_저장소를_조회하지_않는다() {
+        // when
+        boolean revoked = service.isRevoked(claims("jti-1"));
+
+        // then
+        assertThat(revoked).isFalse();
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    @DisplayName("필터가 음성인 토큰은 트랜잭션을 열지 않는다")
+    void 필터가_음성인_토큰은_트랜잭션을_열지_않는다() {
+        // given
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        ProxyFactory proxyFactory = new ProxyFactory(service);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        TokenRevocationService proxied = (TokenRevocationService) proxyFactory.getProxy();
+
+        // when
+        boolean revoked = proxied.isRevoked(claims("jti-4"));
+
+        // then
+        assertThat(revoked).isFalse();
+        verifyNoInteractions(transactionManager, revokedTokenRepository);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 저장 후 폐기된 것으로 판정한다")
+    void 폐기한_토큰은_폐기된_것으로_판정한다() {
+        // given
+        VerifiedToken claims = claims("jti-2");
+        when(revokedTokenRepository.existsById("jti-2")).thenReturn(false, true);
+
+        // when
+        boolean saved = service.revoke(claims);
+        boolean revoked = service.isRevoked(claims);
+
+        // then
+        assertThat(saved).isTrue();
+        assertThat(revoked).isTrue();
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("동기화 시 다른 노드에서 폐기된 토큰을 필터에 반영한다")
+    void 동기화_시_다른_노드에서_폐기된_토큰을_반영한다() {
+        // given
+        when(revokedTokenRepository.findActiveJtis(any())).thenReturn(List.of());
+        when(revokedTokenRepository.findJtisRevokedSince(any(), any())).thenReturn(List.of(), List.of("jti-3"));
+        when(revokedTokenRepository.existsById("jti-3")).thenReturn(true);
+        service.rebuild();
+
+        // when
+        boolean beforeSync = service.isRevoked(claims("jti-3"));
+        service.sync();
+        boolean afterSync = service.isRevoked(claims("jti-3"));
+
+        // then
+        assertThat(beforeSync).isFalse();
+        assertThat(afterSync).isTrue();
+    }
+
+    @Test
+    @DisplayName("jti가 없는 이전 형식 토큰은 폐기하지 않는다")
+    void jti가_없는_토큰은_폐기하지_않는다() {
+        // given
+        VerifiedToken claims = VerifiedToken.from(Jwts.claims().setSubject("user@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000)));
+
+        // when & then
+        assertThat(service.revoke(claims)).isFalse();
+        assertThat(service.isRevoked(claims)).isFalse();
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    private VerifiedToken claims(String jti) {
+        Claims claims = Jwts.claims().setSubject("user@example.com").setId(jti)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000));
+        claims.put("userId", 1L);
+        return VerifiedToken.from(claims);
+    }
+}
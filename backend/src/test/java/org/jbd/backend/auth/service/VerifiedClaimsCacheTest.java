@@ -0,0 +1,95 @@
+package org.jbd.backend.auth.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검증된 JWT 클레임 캐시 테스트")
+class VerifiedClaimsCacheTest {
+
+    @Test
+    @DisplayName("만료 전까지는 저장된 클레임을 반환하고 만료 후에는 제거한다")
+    void 만료_전까지만_클레임을_반환한다() {
+        // given
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(10);
+        // JWT의 exp는 초 단위이므로 초 경계에 맞춤
+        long expiresAt = (System.currentTimeMillis() / 1000 + 60) * 1000;
+        cache.put("token-a", claims("a@example.com", expiresAt));
+
+        // when & then
+        assertThat(cache.get("token-a", expiresAt - 1).getSubject()).isEqualTo("a@example.com");
+        assertThat(cache.get("token-b", expiresAt - 1)).isNull();
+        assertThat(cache.get("token-a", expiresAt)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 없는 토큰은 캐시하지 않는다")
+    void 만료_시각이_없는_토큰은_캐시하지_않는다() {
+        // given
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(10);
+
+        // when
+        cache.put("token", VerifiedToken.from(Jwts.claims().setSubject("a@example.com")));
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 만료된 항목부터 정리해 크기를 제한한다")
+    void 최대_개수를_넘지_않는다() {
+        // given
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(100);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 50; i++) {
+            cache.put("expired-" + i, claims("user" + i, now - 1));
+        }
+        for (int i = 0; i < 50; i++) {
+            cache.put("valid-" + i, claims("user" + i, now + 60_000));
+        }
+
+        // when
+        cache.put("valid-new", claims("new", now + 60_000));
+
+        // then
+        assertThat(cache.size()).isEqualTo(51);
+        assertThat(cache.get("valid-new", now).getSubject()).isEqualTo("new");
+
+        for (int i = 0; i < 500; i++) {
+            cache.put("more-" + i, claims("user" + i, now + 60_000));
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("캐시에는 원본 클레임이 아닌 불변 스냅샷을 보관해 원본을 바꿔도 영향이 없다")
+    void 원본_클레임을_바꿔도_캐시된_값은_그대로다() {
+        // given
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(10);
+        long expiresAt = (System.currentTimeMillis() / 1000 + 60) * 1000;
+        Claims claims = Jwts.claims().setSubject("a@example.com").setExpiration(new Date(expiresAt));
+        claims.put("userType", "GENERAL");
+        cache.put("token", VerifiedToken.from(claims));
+
+        // when
+        claims.setSubject("b@example.com");
+        claims.put("userType", "ADMIN");
+        claims.put("isAdmin", true);
+
+        // then
+        VerifiedToken cached = cache.get("token", expiresAt - 1);
+        assertThat(cached.getSubject()).isEqualTo("a@example.com");
+        assertThat(cached.getUserType()).isEqualTo("GENERAL");
+        assertThat(cached.isAdmin()).isFalse();
+    }
+
+    private VerifiedToken claims(String subject, long expiresAtMillis) {
+        return VerifiedToken.from(Jwts.claims().setSubject(subject).setExpiration(new Date(expiresAtMillis)));
+    }
+}
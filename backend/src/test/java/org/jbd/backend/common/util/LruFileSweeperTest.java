@@ -0,0 +1,68 @@
+package org.jbd.backend.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("파일 저장소 정리 테스트")
+class LruFileSweeperTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("만료된 파일과 중단되어 남은 임시 파일을 삭제하고 쓰는 중인 임시 파일은 남긴다")
+    void 만료된_파일과_오래된_임시_파일을_삭제한다() throws Exception {
+        // given
+        long now = System.currentTimeMillis();
+        Path expired = file("ab/expired", 10, now - 10_000);
+        Path live = file("ab/live", 10, now - 10_000);
+        Path staleTemp = file("ab/stale" + LruFileSweeper.TEMP_SUFFIX, 10, now - 120_000);
+        Path writingTemp = file("ab/writing" + LruFileSweeper.TEMP_SUFFIX, 10, now - 1_000);
+
+        // when
+        int deleted = LruFileSweeper.sweep(directory, 2, Long.MAX_VALUE, now,
+                (file, lastUsedMillis) -> file.equals(expired));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(expired).doesNotExist();
+        assertThat(staleTemp).doesNotExist();
+        assertThat(live).exists();
+        assertThat(writingTemp).exists();
+    }
+
+    @Test
+    @DisplayName("크기 상한을 넘으면 마지막 사용 시각이 오래된 파일부터 삭제한다")
+    void 상한을_넘으면_오래된_파일부터_삭제한다() throws Exception {
+        // given
+        long now = System.currentTimeMillis();
+        Path oldest = file("ab/oldest", 100, now - 30_000);
+        Path older = file("cd/older", 100, now - 20_000);
+        Path touched = file("cd/touched", 100, now - 40_000);
+        LruFileSweeper.touch(touched, now);
+
+        // when
+        int deleted = LruFileSweeper.sweep(directory, 2, 200, now, (file, lastUsedMillis) -> false);
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(oldest).doesNotExist();
+        assertThat(older).exists();
+        assertThat(touched).exists();
+    }
+
+    private Path file(String name, int size, long lastModifiedMillis) throws Exception {
+        Path file = directory.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[size]);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModifiedMillis));
+        return file;
+    }
+}
@@ -0,0 +1,56 @@
+package org.jbd.backend.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("트랜잭션 동기화 유틸리티 테스트")
+class TransactionUtilsTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 없으면 즉시 실행한다")
+    void 트랜잭션이_없으면_즉시_실행한다() {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+
+        // when
+        TransactionUtils.runAfterCommit(runs::incrementAndGet);
+
+        // then
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋된 뒤에만 실행하고 롤백되면 실행하지 않는다")
+    void 커밋된_뒤에만_실행한다() {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        TransactionUtils.runAfterCommit(runs::incrementAndGet);
+        int beforeCommit = runs.get();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        int afterRollback = runs.get();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(beforeCommit).isZero();
+        assertThat(afterRollback).isZero();
+        assertThat(runs).hasValue(1);
+    }
+}
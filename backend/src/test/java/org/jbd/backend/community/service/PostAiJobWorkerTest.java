@@ -0,0 +1,252 @@
+package org.jbd.backend.community.service;
+
+import org.jbd.backend.ai.client.AISentimentBatcher;
+import org.jbd.backend.ai.client.AIServiceClient;
+import org.jbd.backend.ai.dto.ImageGenerationDto;
+import org.jbd.backend.ai.dto.SentimentAnalysisDto;
+import org.jbd.backend.community.domain.Category;
+import org.jbd.backend.community.domain.Post;
+import org.jbd.backend.community.domain.PostAiJob;
+import org.jbd.backend.community.domain.enums.PostAiJobStatus;
+import org.jbd.backend.community.domain.enums.PostAiJobType;
+import org.jbd.backend.community.domain.enums.PostAiStatus;
+import org.jbd.backend.community.repository.PostAiJobRepository;
+import org.jbd.backend.community.repository.PostRepository;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("게시글 AI 후처리 워커 테스트")
+class PostAiJobWorkerTest {
+
+    private static final String OWNER = "lease-owner";
+
+    @Mock
+    private PostAiJobRepository jobRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private AISentimentBatcher sentimentBatcher;
+
+    @Mock
+    private AIServiceClient aiServiceClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostAiJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new PostAiJobWorker(jobRepository, postRepository, sentimentBatcher, aiServiceClient, transactionManager);
+        ReflectionTestUtils.setField(worker, "workers", 2);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        worker.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.stop();
+    }
+
+    @Test
+    @DisplayName("감정 분석 작업이 성공하면 결과를 저장하고 게시글 AI 상태를 완료로 바꾼다")
+    void 감정_분석_작업_성공() {
+        // given
+        Post post = post(10L);
+        PostAiJob job = job(1L, PostAiJobType.SENTIMENT, 1);
+        given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+        given(postRepository.findById(10L)).willReturn(Optional.of(post));
+        given(sentimentBatcher.analyze("합격 후기 최종 합격했어요", "ko"))
+                .willReturn(new SentimentAnalysisDto.AnalyzeResponse(true, "ok",
+                        new SentimentAnalysisDto.SentimentData("POSITIVE", 0.8, 0.9, "")));
+        givenLeaseHeld();
+        given(jobRepository.countByPostIdAndStatusIn(eq(10L), anyCollection())).willReturn(0L);
+        given(jobRepository.existsByPostIdAndStatus(10L, PostAiJobStatus.FAILED)).willReturn(false);
+
+        // when
+        worker.process(1L, OWNER);
+
+        // then
+        verify(jobRepository).markSucceeded(eq(1L), eq(OWNER), eq(PostAiJobStatus.RUNNING),
+                eq(PostAiJobStatus.SUCCEEDED), any(LocalDateTime.class));
+        assertThat(post.getSentimentLabel()).isEqualTo("positive");
+        assertThat(post.getSentimentScore()).isEqualTo(0.8);
+        assertThat(post.getAiStatus()).isEqualTo(PostAiStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("시도 횟수가 남은 작업이 실패하면 백오프 후 다시 실행하도록 대기 상태로 되돌린다")
+    void 실패한_작업은_재시도_대기() {
+        // given
+        Post post = post(10L);
+        PostAiJob job = job(1L, PostAiJobType.SENTIMENT, 1);
+        given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+        given(postRepository.findById(10L)).willReturn(Optional.of(post));
+        given(sentimentBatcher.analyze(anyString(), anyString()))
+                .willThrow(new IllegalStateException("AI 서비스 연결 실패"));
+
+        // when
+        worker.process(1L, OWNER);
+
+        // then
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobRepository).markRetry(eq(1L), eq(OWNER), eq(PostAiJobStatus.RUNNING), eq(PostAiJobStatus.PENDING),
+                nextAttemptAt.capture(), eq("AI 서비스 연결 실패"), any(LocalDateTime.class));
+        assertThat(nextAttemptAt.getValue()).isAfter(LocalDateTime.now());
+        assertThat(post.getAiStatus()).isEqualTo(PostAiStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("시도 횟수를 모두 소진하면 작업과 게시글 AI 상태를 실패로 남긴다")
+    void 재시도_소진시_실패() {
+        // given
+        Post post = post(10L);
+        PostAiJob job = job(1L, PostAiJobType.IMAGE, 3);
+        given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+        given(postRepository.findById(10L)).willReturn(Optional.of(post));
+        given(aiServiceClient.generateImage(anyString(), anyString(), anyString(), anyInt()))
+                .willReturn(new ImageGenerationDto.GenerateResponse(false, "이미지 생성 실패", null));
+        given(jobRepository.markFailed(eq(1L), eq(OWNER), eq(PostAiJobStatus.RUNNING), eq(PostAiJobStatus.FAILED),
+                eq("이미지 생성 실패"), any(LocalDateTime.class))).willReturn(1);
+        given(jobRepository.countByPostIdAndStatusIn(eq(10L), anyCollection())).willReturn(0L);
+        given(jobRepository.existsByPostIdAndStatus(10L, PostAiJobStatus.FAILED)).willReturn(true);
+
+        // when
+        worker.process(1L, OWNER);
+
+        // then
+        assertThat(post.getAiStatus()).isEqualTo(PostAiStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("작업 대기 중 작성자가 이미지를 지정했으면 생성된 이미지로 덮어쓰지 않는다")
+    void 작성자_이미지는_덮어쓰지_않는다() {
+        // given
+        Post post = post(10L);
+        post.setImageUrl("https://cdn.example.com/mine.png");
+        PostAiJob job = job(1L, PostAiJobType.IMAGE, 1);
+        given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+        given(postRepository.findById(10L)).willReturn(Optional.of(post));
+        given(aiServiceClient.generateImage(anyString(), anyString(), anyString(), anyInt()))
+                .willReturn(new ImageGenerationDto.GenerateResponse(true, "ok",
+                        new ImageGenerationDto.ImageData("https://cdn.example.com/generated.png",
+                                "prompt", "digital-art", "1024x1024", 1.0)));
+        givenLeaseHeld();
+        given(jobRepository.countByPostIdAndStatusIn(eq(10L), anyCollection())).willReturn(1L);
+
+        // when
+        worker.process(1L, OWNER);
+
+        // then
+        assertThat(post.getImageUrl()).isEqualTo("https://cdn.example.com/mine.png");
+        assertThat(post.getAiStatus()).isEqualTo(PostAiStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글의 작업은 AI를 호출하지 않고 완료 처리한다")
+    void 삭제된_게시글은_AI를_호출하지_않는다() {
+        // given
+        Post post = post(10L);
+        post.delete();
+        PostAiJob job = job(1L, PostAiJobType.SENTIMENT, 1);
+        given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+        given(postRepository.findById(10L)).willReturn(Optional.of(post));
+        givenLeaseHeld();
+
+        // when
+        worker.process(1L, OWNER);
+
+        // then
+        verify(jobRepository).markSucceeded(eq(1L), eq(OWNER), any(), any(), any());
+        verify(sentimentBatcher, never()).analyze(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("임대 시간이 지나 다른 워커가 재선점한 작업의 늦은 결과는 게시글에 반영하지 않는다")
+    void 임대를_잃은_작업의_결과는_버린다() {
+        // given
+        Post post = post(10L);
+        PostAiJob job = job(1L, PostAiJobType.SENTIMENT, 1);
+        given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+        given(postRepository.findById(10L)).willReturn(Optional.of(post));
+        given(sentimentBatcher.analyze(anyString(), anyString()))
+                .willReturn(new SentimentAnalysisDto.AnalyzeResponse(true, "ok",
+                        new SentimentAnalysisDto.SentimentData("POSITIVE", 0.8, 0.9, "")));
+        given(jobRepository.markSucceeded(eq(1L), eq(OWNER), any(), any(), any())).willReturn(0);
+
+        // when
+        worker.process(1L, OWNER);
+
+        // then
+        assertThat(post.getSentimentLabel()).isNull();
+        assertThat(post.getAiStatus()).isEqualTo(PostAiStatus.PENDING);
+        verify(jobRepository, never()).countByPostIdAndStatusIn(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 선점한 작업은 실행하지 않는다")
+    void 선점에_실패한_작업은_건너뛴다() {
+        // given
+        given(jobRepository.findDueJobIds(eq(PostAiJobStatus.PENDING), eq(PostAiJobStatus.RUNNING),
+                any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(1L, 2L));
+        given(jobRepository.claim(eq(1L), any(), any(), any(), any(), anyString())).willReturn(1);
+        given(jobRepository.claim(eq(2L), any(), any(), any(), any(), anyString())).willReturn(0);
+        given(jobRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when
+        int claimed = worker.poll();
+
+        // then
+        assertThat(claimed).isEqualTo(1);
+        verify(jobRepository, timeout(1000)).findById(1L);
+        verify(jobRepository, never()).findById(2L);
+    }
+
+    private void givenLeaseHeld() {
+        given(jobRepository.markSucceeded(eq(1L), eq(OWNER), any(), any(), any())).willReturn(1);
+    }
+
+    private static Post post(Long id) {
+        User author = new User("writer@example.com", "password", UserType.GENERAL);
+        Post post = new Post("합격 후기", "최종 합격했어요", author, new Category("자유", "자유 게시판"));
+        ReflectionTestUtils.setField(post, "id", id);
+        post.updateAiStatus(PostAiStatus.PENDING);
+        return post;
+    }
+
+    private static PostAiJob job(Long id, PostAiJobType type, int attempts) {
+        PostAiJob job = new PostAiJob(10L, type, type == PostAiJobType.IMAGE ? "A creative illustration" : null);
+        ReflectionTestUtils.setField(job, "id", id);
+        ReflectionTestUtils.setField(job, "attempts", attempts);
+        return job;
+    }
+}
@@ -1,6 +1,5 @@
 package org.jbd.backend.community.service;
 
-import org.jbd.backend.ai.client.AIServiceClient;
 import org.jbd.backend.community.domain.Category;
 import org.jbd.backend.community.domain.Post;
 import org.jbd.backend.community.dto.PostDto;
@@ -46,13 +45,13 @@ class PostServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private AIServiceClient aiServiceClient;
+    private PostAiJobService postAiJobService;
 
     private PostService postService;
 
     @BeforeEach
     void setUp() {
-        postService = new PostServiceImpl(postRepository, categoryRepository, userRepository, aiServiceClient);
+        postService = new PostServiceImpl(postRepository, categoryRepository, userRepository, postAiJobService);
     }
 
     @Test
@@ -81,6 +80,7 @@ class PostServiceTest {
         assertThat(response.getCategoryName()).isEqualTo("Java");
         assertThat(response.getAuthorName()).isEqualTo("테스트사용자");
         verify(postRepository, times(1)).save(any(Post.class));
+        verify(postAiJobService).enqueue(savedPost, null);
     }
 
     @Test
@@ -0,0 +1,115 @@
+package org.jbd.backend.community.service;
+
+import org.jbd.backend.ai.client.AISentimentBatcher;
+import org.jbd.backend.ai.dto.SentimentAnalysisDto;
+import org.jbd.backend.community.domain.Category;
+import org.jbd.backend.community.domain.Post;
+import org.jbd.backend.community.repository.PostRepository;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("감정 분석 백필 서비스 테스트")
+class SentimentBackfillServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private AISentimentBatcher sentimentBatcher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SentimentBackfillService backfillService;
+
+    @BeforeEach
+    void setUp() {
+        backfillService = new SentimentBackfillService(postRepository, sentimentBatcher, transactionManager);
+        ReflectionTestUtils.setField(backfillService, "chunkSize", 2);
+    }
+
+    @Test
+    @DisplayName("감정 라벨이 없는 게시글을 청크 단위로 분석해 저장한다")
+    void 라벨이_없는_게시글을_청크_단위로_분석한다() {
+        // given
+        Post first = post(1L, "합격", "최종 합격했어요");
+        Post second = post(2L, "불합격", "이번에도 떨어졌어요");
+        Post third = post(5L, "질문", "포트폴리오 질문입니다");
+        given(postRepository.findSentimentBackfillTargets(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(first, second));
+        given(postRepository.findSentimentBackfillTargets(eq(2L), any(Pageable.class)))
+                .willReturn(List.of(third));
+        given(postRepository.findSentimentBackfillTargets(eq(5L), any(Pageable.class)))
+                .willReturn(List.of());
+        given(sentimentBatcher.analyzeAll(List.of(
+                new SentimentAnalysisDto.AnalyzeRequest("합격 최종 합격했어요", "ko"),
+                new SentimentAnalysisDto.AnalyzeRequest("불합격 이번에도 떨어졌어요", "ko"))))
+                .willReturn(List.of(result("POSITIVE", 0.8), result("NEGATIVE", -0.6)));
+        given(sentimentBatcher.analyzeAll(List.of(
+                new SentimentAnalysisDto.AnalyzeRequest("질문 포트폴리오 질문입니다", "ko"))))
+                .willReturn(List.of(result("NEUTRAL", 0.0)));
+        given(postRepository.updateSentimentIfAbsent(any(), anyDouble(), anyString())).willReturn(1);
+
+        // when
+        int updated = backfillService.backfill();
+
+        // then
+        assertThat(updated).isEqualTo(3);
+        verify(postRepository).updateSentimentIfAbsent(1L, 0.8, "positive");
+        verify(postRepository).updateSentimentIfAbsent(2L, -0.6, "negative");
+        verify(postRepository).updateSentimentIfAbsent(5L, 0.0, "neutral");
+    }
+
+    @Test
+    @DisplayName("분석에 실패한 게시글은 라벨 없이 남겨 다음 실행에서 다시 시도한다")
+    void 분석에_실패한_게시글은_저장하지_않는다() {
+        // given
+        Post failed = post(3L, "제목", "내용");
+        given(postRepository.findSentimentBackfillTargets(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(failed));
+        given(postRepository.findSentimentBackfillTargets(eq(3L), any(Pageable.class)))
+                .willReturn(List.of());
+        given(sentimentBatcher.analyzeAll(any()))
+                .willReturn(List.of(new SentimentAnalysisDto.AnalyzeResponse(false, "오류", null)));
+
+        // when
+        int updated = backfillService.backfill();
+
+        // then
+        assertThat(updated).isZero();
+        verify(postRepository, never()).updateSentimentIfAbsent(any(), anyDouble(), anyString());
+    }
+
+    private static Post post(Long id, String title, String content) {
+        User author = new User("writer@example.com", "password", UserType.GENERAL);
+        Post post = new Post(title, content, author, new Category("자유", "자유 게시판"));
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+
+    private static SentimentAnalysisDto.AnalyzeResponse result(String label, double score) {
+        return new SentimentAnalysisDto.AnalyzeResponse(true, "ok",
+                new SentimentAnalysisDto.SentimentData(label, score, 0.9, ""));
+    }
+}
@@ -1,7 +1,8 @@
 package org.jbd.backend.dashboard.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.jbd.backend.auth.service.JwtService;
+import org.jbd.backend.auth.service.AuthenticatedPrincipal;
+import org.jbd.backend.auth.service.CurrentUser;
 import org.jbd.backend.common.exception.GlobalExceptionHandler;
 import org.jbd.backend.dashboard.dto.AdminDashboardDto;
 import org.jbd.backend.dashboard.dto.CompanyUserDashboardDto;
@@ -12,7 +13,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
@@ -35,18 +35,14 @@ class DashboardControllerTest {
     @Mock
     private DashboardService dashboardService;
 
-    @Mock
-    private JwtService jwtService;
-
-    @InjectMocks
-    private DashboardController dashboardController;
-
+    private CurrentUser currentUser;
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(dashboardController)
+        currentUser = new CurrentUser();
+        mockMvc = MockMvcBuilders.standaloneSetup(new DashboardController(dashboardService, currentUser))
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
         objectMapper = new ObjectMapper();
@@ -56,7 +52,6 @@ class DashboardControllerTest {
     @DisplayName("일반 유저 대시보드를 조회할 수 있다")
     void 일반_유저_대시보드를_조회할_수_있다() throws Exception {
         // given
-        String token = "Bearer valid-jwt-token";
         Long userId = 1L;
         
         GeneralUserDashboardDto dashboardDto = GeneralUserDashboardDto.builder()
@@ -91,13 +86,11 @@ class DashboardControllerTest {
                         .build())
                 .build();
 
-        given(jwtService.extractUserId("valid-jwt-token")).willReturn(userId);
-        given(jwtService.extractUserType("valid-jwt-token")).willReturn(UserType.GENERAL.name());
+        authenticate(userId, UserType.GENERAL);
         given(dashboardService.getGeneralUserDashboard(userId)).willReturn(dashboardDto);
 
         // when & then
-        mockMvc.perform(get("/api/dashboard")
-                        .header("Authorization", token)
+        mockMvc.perform(get("/dashboard")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isOk())
@@ -114,7 +107,6 @@ class DashboardControllerTest {
     @DisplayName("기업 유저 대시보드를 조회할 수 있다")
     void 기업_유저_대시보드를_조회할_수_있다() throws Exception {
         // given
-        String token = "Bearer valid-jwt-token";
         Long userId = 2L;
         
         CompanyUserDashboardDto dashboardDto = CompanyUserDashboardDto.builder()
@@ -149,13 +141,11 @@ class DashboardControllerTest {
                         .build())
                 .build();
 
-        given(jwtService.extractUserId("valid-jwt-token")).willReturn(userId);
-        given(jwtService.extractUserType("valid-jwt-token")).willReturn(UserType.COMPANY.name());
+        authenticate(userId, UserType.COMPANY);
         given(dashboardService.getCompanyUserDashboard(userId)).willReturn(dashboardDto);
 
         // when & then
-        mockMvc.perform(get("/api/dashboard")
-                        .header("Authorization", token)
+        mockMvc.perform(get("/dashboard")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isOk())
@@ -172,7 +162,6 @@ class DashboardControllerTest {
     @DisplayName("관리자 대시보드를 조회할 수 있다")
     void 관리자_대시보드를_조회할_수_있다() throws Exception {
         // given
-        String token = "Bearer valid-jwt-token";
         Long userId = 3L;
         
         AdminDashboardDto dashboardDto = AdminDashboardDto.builder()
@@ -214,13 +203,11 @@ class DashboardControllerTest {
                         .build())
                 .build();
 
-        given(jwtService.extractUserId("valid-jwt-token")).willReturn(userId);
-        given(jwtService.extractUserType("valid-jwt-token")).willReturn(UserType.ADMIN.name());
+        authenticate(userId, UserType.ADMIN);
         given(dashboardService.getAdminDashboard()).willReturn(dashboardDto);
 
         // when & then
-        mockMvc.perform(get("/api/dashboard")
-                        .header("Authorization", token)
+        mockMvc.perform(get("/dashboard")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isOk())
@@ -236,12 +223,8 @@ class DashboardControllerTest {
     @Test
     @DisplayName("인증되지 않은 사용자는 대시보드에 접근할 수 없다")
     void 인증되지_않은_사용자는_대시보드에_접근할_수_없다() throws Exception {
-        // given - malformed authorization header that will cause authentication failure
-        String malformedToken = "NotBearer invalid-format";
-        
-        // when & then
-        mockMvc.perform(get("/api/dashboard")
-                        .header("Authorization", malformedToken)
+        // when & then - 필터가 인증 컨텍스트를 채우지 않은 요청
+        mockMvc.perform(get("/dashboard")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isUnauthorized())
@@ -249,17 +232,20 @@ class DashboardControllerTest {
     }
 
     @Test
-    @DisplayName("잘못된 토큰으로는 대시보드에 접근할 수 없다")
-    void 잘못된_토큰으로는_대시보드에_접근할_수_없다() throws Exception {
+    @DisplayName("관리자가 아니면 관리자 대시보드에 접근할 수 없다")
+    void 관리자가_아니면_관리자_대시보드에_접근할_수_없다() throws Exception {
         // given
-        String invalidToken = "Bearer invalid-token";
-        given(jwtService.extractUserId("invalid-token")).willThrow(new RuntimeException("Invalid token"));
+        authenticate(2L, UserType.COMPANY);
 
         // when & then
-        mockMvc.perform(get("/api/dashboard")
-                        .header("Authorization", invalidToken)
+        mockMvc.perform(get("/dashboard/admin")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
-                .andExpect(status().isUnauthorized());
+                .andExpect(status().isForbidden());
+    }
+
+    private void authenticate(Long userId, UserType userType) {
+        currentUser.authenticate(new AuthenticatedPrincipal(userId, "user" + userId + "@example.com", userType,
+                true, false, false, 0L));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package org.jbd.backend.dashboard.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("취업 점수 분포 스케치 테스트")
+class JobScoreSketchTest {
+
+    @Test
+    @DisplayName("점수를 추가하면 평균과 상위 백분위를 계산할 수 있다")
+    void 점수를_추가하면_평균과_상위_백분위를_계산할_수_있다() {
+        // given
+        JobScoreSketch sketch = new JobScoreSketch();
+        for (int score = 1; score <= 100; score++) {
+            sketch.add(score);
+        }
+
+        // when & then
+        assertThat(sketch.getTotalCount()).isEqualTo(100);
+        assertThat(sketch.getMean()).isEqualTo(50.5);
+        assertThat(sketch.getTopPercent(91)).isEqualTo(10.0);
+        assertThat(sketch.getTopPercent(100)).isEqualTo(1.0);
+        assertThat(sketch.getQuantile(0.5)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("점수가 바뀌면 이전 점수는 분포에서 제거된다")
+    void 점수가_바뀌면_이전_점수는_분포에서_제거된다() {
+        // given
+        JobScoreSketch sketch = new JobScoreSketch();
+        sketch.add(40);
+        sketch.add(60);
+
+        // when
+        sketch.replace(40, 80);
+
+        // then
+        assertThat(sketch.getTotalCount()).isEqualTo(2);
+        assertThat(sketch.countBetween(40, 40)).isZero();
+        assertThat(sketch.countBetween(80, 80)).isEqualTo(1);
+        assertThat(sketch.getMean()).isEqualTo(70.0);
+    }
+
+    @Test
+    @DisplayName("다른 스케치와 병합할 수 있다")
+    void 다른_스케치와_병합할_수_있다() {
+        // given
+        JobScoreSketch first = new JobScoreSketch();
+        first.add(30);
+        first.add(50);
+        JobScoreSketch second = new JobScoreSketch();
+        second.add(50);
+        second.add(90);
+
+        // when
+        first.merge(second);
+
+        // then
+        assertThat(first.getTotalCount()).isEqualTo(4);
+        assertThat(first.countBetween(50, 50)).isEqualTo(2);
+        assertThat(first.getTopPercent(90)).isEqualTo(25.0);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 점수는 경계값으로 보정된다")
+    void 범위를_벗어난_점수는_경계값으로_보정된다() {
+        // given
+        JobScoreSketch sketch = new JobScoreSketch();
+
+        // when
+        sketch.add(150);
+        sketch.add(-5);
+
+        // then
+        assertThat(sketch.countBetween(100, 100)).isEqualTo(1);
+        assertThat(sketch.countBetween(0, 0)).isEqualTo(1);
+    }
+}
@@ -9,6 +9,8 @@ import org.jbd.backend.dashboard.repository.CertificateRequestRepository;
 import org.jbd.backend.dashboard.repository.SystemMetricsRepository;
 import org.jbd.backend.job.repository.JobApplicationRepository;
 import org.jbd.backend.job.repository.JobPostingRepository;
+import org.jbd.backend.job.service.ApplicationProgressRollupService;
+import org.jbd.backend.job.service.SkillDemandService;
 import org.jbd.backend.user.domain.User;
 import org.jbd.backend.user.domain.enums.UserType;
 import org.jbd.backend.user.repository.UserRepository;
@@ -51,6 +53,15 @@ class DashboardServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private JobScoreRankingService jobScoreRankingService;
+
+    @Mock
+    private ApplicationProgressRollupService applicationProgressRollupService;
+
+    @Mock
+    private SkillDemandService skillDemandService;
+
     @InjectMocks
     private DashboardService dashboardService;
 
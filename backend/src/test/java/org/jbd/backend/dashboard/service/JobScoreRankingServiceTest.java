@@ -0,0 +1,92 @@
+package org.jbd.backend.dashboard.service;
+
+import org.jbd.backend.dashboard.repository.JobScoreSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("취업 점수 순위 서비스 테스트")
+class JobScoreRankingServiceTest {
+
+    @Mock
+    private JobScoreSnapshotRepository jobScoreSnapshotRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobScoreRankingService rankingService;
+
+    @BeforeEach
+    void setUp() {
+        rankingService = new JobScoreRankingService(jobScoreSnapshotRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("제거한 사용자는 분포에서 빠지고 스냅샷도 삭제된다")
+    void 제거한_사용자는_분포와_스냅샷에서_빠진다() {
+        // given
+        rankingService.recordScore(1L, 80);
+        rankingService.recordScore(2L, 40);
+
+        // when
+        rankingService.removeUser(1L);
+        rankingService.flushSnapshots();
+
+        // then
+        assertThat(rankingService.isRanked(1L)).isFalse();
+        assertThat(rankingService.getRankedUserCount()).isEqualTo(1);
+        assertThat(rankingService.getAverageScore()).isEqualTo(40);
+        verify(jobScoreSnapshotRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("스냅샷 저장이 실패하면 변경분을 다시 대기열에 넣어 다음 주기에 저장한다")
+    void 저장_실패시_다음_주기에_재시도한다() {
+        // given
+        rankingService.recordScore(1L, 80);
+        given(jobScoreSnapshotRepository.findAllById(anyIterable()))
+                .willThrow(new DataAccessResourceFailureException("connection refused"))
+                .willReturn(List.of());
+
+        // when
+        rankingService.flushSnapshots();
+        rankingService.flushSnapshots();
+
+        // then
+        verify(jobScoreSnapshotRepository, times(2)).findAllById(anyIterable());
+        verify(jobScoreSnapshotRepository).saveAll(anyCollection());
+        verify(transactionManager).rollback(null);
+    }
+
+    @Test
+    @DisplayName("제거 후 다시 점수가 기록되면 스냅샷을 삭제하지 않는다")
+    void 제거_후_재기록되면_삭제하지_않는다() {
+        // given
+        rankingService.recordScore(1L, 80);
+        rankingService.removeUser(1L);
+
+        // when
+        rankingService.recordScore(1L, 70);
+        rankingService.flushSnapshots();
+
+        // then
+        assertThat(rankingService.getAverageScore()).isEqualTo(70);
+        verify(jobScoreSnapshotRepository, never()).deleteAllByIdInBatch(anyIterable());
+    }
+}
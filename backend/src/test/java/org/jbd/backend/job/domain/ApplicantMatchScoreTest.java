@@ -0,0 +1,71 @@
+package org.jbd.backend.job.domain;
+
+import org.jbd.backend.job.domain.enums.ExperienceLevel;
+import org.jbd.backend.user.domain.CandidateIndex.CandidateDocument;
+import org.jbd.backend.user.domain.enums.EducationLevel;
+import org.jbd.backend.user.domain.enums.SkillLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지원자 적합도 점수 테스트")
+class ApplicantMatchScoreTest {
+
+    @Test
+    @DisplayName("요건을 모두 충족하면 100점이다")
+    void 요건을_모두_충족하면_100점이다() {
+        // given
+        ApplicantMatchScore.Requirements requirements = new ApplicantMatchScore.Requirements(
+                Set.of("java", "spring"), ExperienceLevel.JUNIOR, "정보처리기사 자격증 소지자 우대");
+        CandidateDocument candidate = new CandidateDocument(1L,
+                Map.of("Java", SkillLevel.ADVANCED, "Spring", SkillLevel.INTERMEDIATE),
+                24, EducationLevel.BACHELOR, Set.of("정보처리기사"));
+
+        // when
+        ApplicantMatchScore score = ApplicantMatchScore.calculate(requirements, candidate);
+
+        // then
+        assertThat(score.getTotal()).isEqualTo(100);
+        assertThat(score.getMatchedSkills()).containsExactly("java", "spring");
+    }
+
+    @Test
+    @DisplayName("기술과 경력이 부족하면 비율만큼 감점된다")
+    void 기술과_경력이_부족하면_비율만큼_감점된다() {
+        // given
+        ApplicantMatchScore.Requirements requirements = new ApplicantMatchScore.Requirements(
+                Set.of("java", "spring", "aws", "docker"), ExperienceLevel.SENIOR, null);
+        CandidateDocument candidate = new CandidateDocument(2L,
+                Map.of("java", SkillLevel.EXPERT), 30, EducationLevel.HIGH_SCHOOL, Set.of());
+
+        // when
+        ApplicantMatchScore score = ApplicantMatchScore.calculate(requirements, candidate);
+
+        // then
+        assertThat(score.getSkillScore()).isEqualTo(13);      // 50 * 1/4
+        assertThat(score.getExperienceScore()).isEqualTo(13); // 25 * 30/60
+        assertThat(score.getEducationScore()).isEqualTo(5);   // 15 * 1/3
+        assertThat(score.getCertificationScore()).isZero();
+        assertThat(score.getTotal()).isEqualTo(31);
+    }
+
+    @Test
+    @DisplayName("자격 요건은 대소문자 구분 없이 비교하고 필요 기술이 바뀌면 다른 요건이다")
+    void 필요_기술이_바뀌면_다른_요건이다() {
+        // given
+        ApplicantMatchScore.Requirements first = new ApplicantMatchScore.Requirements(
+                Set.of("java"), ExperienceLevel.ANY, "Java 개발 경험");
+        ApplicantMatchScore.Requirements same = new ApplicantMatchScore.Requirements(
+                Set.of("java"), ExperienceLevel.ANY, "java 개발 경험");
+        ApplicantMatchScore.Requirements changed = new ApplicantMatchScore.Requirements(
+                Set.of("java", "kotlin"), ExperienceLevel.ANY, "Java 개발 경험");
+
+        // then
+        assertThat(first).isEqualTo(same);
+        assertThat(first).isNotEqualTo(changed);
+    }
+}
@@ -0,0 +1,102 @@
+package org.jbd.backend.job.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Space-Saving 스케치 테스트")
+class SpaceSavingSketchTest {
+
+    @Test
+    @DisplayName("용량 이내에서는 정확한 빈도를 유지한다")
+    void 용량_이내에서는_정확한_빈도를_유지한다() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(10);
+
+        // when
+        offer(sketch, "java", 5);
+        offer(sketch, "react", 3);
+        offer(sketch, "aws", 1);
+
+        // then
+        List<SpaceSavingSketch.Counter> top = sketch.top(2);
+        assertThat(top).extracting(SpaceSavingSketch.Counter::getItem).containsExactly("java", "react");
+        assertThat(sketch.estimate("java")).isEqualTo(5);
+        assertThat(sketch.estimate("aws")).isEqualTo(1);
+        assertThat(top.get(0).getError()).isZero();
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 적은 항목을 교체하고 빈도가 높은 항목은 유지한다")
+    void 용량을_넘으면_가장_적은_항목을_교체하고_빈도가_높은_항목은_유지한다() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(3);
+        offer(sketch, "java", 10);
+        offer(sketch, "react", 8);
+        offer(sketch, "aws", 1);
+
+        // when
+        offer(sketch, "docker", 2);
+
+        // then
+        assertThat(sketch.size()).isEqualTo(3);
+        assertThat(sketch.estimate("aws")).isZero();
+        assertThat(sketch.estimate("docker")).isEqualTo(3);
+        assertThat(sketch.top(3).get(2).getError()).isEqualTo(1);
+        assertThat(sketch.top(2)).extracting(SpaceSavingSketch.Counter::getItem).containsExactly("java", "react");
+    }
+
+    @Test
+    @DisplayName("다른 스케치를 병합하면 빈도가 합산된다")
+    void 다른_스케치를_병합하면_빈도가_합산된다() {
+        // given
+        SpaceSavingSketch first = new SpaceSavingSketch(5);
+        offer(first, "java", 2);
+        SpaceSavingSketch second = new SpaceSavingSketch(5);
+        offer(second, "java", 3);
+        offer(second, "kotlin", 1);
+
+        // when
+        first.merge(second);
+
+        // then
+        assertThat(first.estimate("java")).isEqualTo(5);
+        assertThat(first.estimate("kotlin")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 빈도가 줄고 0이 되면 추적에서 빠진다")
+    void 취소한_항목은_빈도가_줄고_0이_되면_빠진다() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(5);
+        offer(sketch, "java", 2);
+        offer(sketch, "kotlin", 1);
+
+        // when
+        sketch.decrement("java");
+        sketch.decrement("kotlin");
+        sketch.decrement("python");
+
+        // then
+        assertThat(sketch.estimate("java")).isEqualTo(1);
+        assertThat(sketch.estimate("kotlin")).isZero();
+        assertThat(sketch.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("용량이 0 이하이면 생성할 수 없다")
+    void 용량이_0_이하이면_생성할_수_없다() {
+        assertThatThrownBy(() -> new SpaceSavingSketch(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void offer(SpaceSavingSketch sketch, String item, int times) {
+        for (int i = 0; i < times; i++) {
+            sketch.offer(item);
+        }
+    }
+}
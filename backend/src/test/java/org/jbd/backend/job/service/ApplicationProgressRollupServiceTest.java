@@ -0,0 +1,126 @@
+package org.jbd.backend.job.service;
+
+import org.jbd.backend.job.domain.ApplicationMonthlyProgress;
+import org.jbd.backend.job.domain.JobApplication;
+import org.jbd.backend.job.domain.enums.ApplicationStatus;
+import org.jbd.backend.job.repository.ApplicationMonthlyProgressRepository;
+import org.jbd.backend.job.repository.JobApplicationRepository;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("월별 지원 현황 집계 서비스 테스트")
+class ApplicationProgressRollupServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private ApplicationMonthlyProgressRepository progressRepository;
+
+    @Mock
+    private JobApplicationRepository jobApplicationRepository;
+
+    @InjectMocks
+    private ApplicationProgressRollupService rollupService;
+
+    private JobApplication application;
+    private int monthKey;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User("jobseeker@example.com", "password", UserType.GENERAL);
+        ReflectionTestUtils.setField(user, "id", USER_ID);
+        application = new JobApplication(user, null, "지원합니다!");
+        monthKey = ApplicationMonthlyProgress.monthKeyOf(application.getAppliedAt());
+    }
+
+    @Test
+    @DisplayName("신규 지원은 upsert로 반영해 같은 달 첫 지원이 동시에 들어와도 행을 새로 저장하지 않는다")
+    void 신규_지원은_upsert로_반영한다() {
+        // when
+        rollupService.onApplied(application);
+
+        // then
+        verify(progressRepository).upsertIncrement(eq(USER_ID), eq(monthKey), eq(1), eq(0), eq(0), any(LocalDateTime.class));
+        verify(progressRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("면접 단계로 바뀌면 면접 수만 증가시킨다")
+    void 면접_단계_전이() {
+        // given
+        application.passDocumentReview();
+        ApplicationStatus previous = application.getStatus();
+        application.scheduleInterview(LocalDateTime.now().plusDays(3));
+
+        // when
+        rollupService.onStatusChanged(application, previous);
+
+        // then
+        verify(progressRepository).upsertIncrement(eq(USER_ID), eq(monthKey), eq(0), eq(1), eq(0), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("면접 통과에서 최종 합격으로 바뀌면 면접 수를 빼고 합격 수를 더한다")
+    void 최종_합격_전이() {
+        // given
+        application.passDocumentReview();
+        application.passInterview();
+        ApplicationStatus previous = application.getStatus();
+        application.hire();
+
+        // when
+        rollupService.onStatusChanged(application, previous);
+
+        // then
+        verify(progressRepository).upsertIncrement(eq(USER_ID), eq(monthKey), eq(0), eq(-1), eq(1), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("집계에 영향이 없는 상태 변경은 저장소를 호출하지 않는다")
+    void 집계_무관_상태_전이() {
+        // given
+        ApplicationStatus previous = application.getStatus();
+        application.review();
+
+        // when
+        rollupService.onStatusChanged(application, previous);
+        rollupService.onStatusChanged(application, application.getStatus());
+
+        // then
+        verifyNoInteractions(progressRepository);
+    }
+
+    @Test
+    @DisplayName("지원서 삭제는 기존 집계 행에서만 빼고 새 행을 만들지 않는다")
+    void 삭제는_기존_행에서만_뺀다() {
+        // given
+        application.passDocumentReview();
+        application.passInterview();
+
+        // when
+        rollupService.onRemoved(application);
+
+        // then
+        verify(progressRepository).increment(eq(USER_ID), eq(monthKey), eq(-1), eq(-1), eq(0), any(LocalDateTime.class));
+        verify(progressRepository, never()).upsertIncrement(anyLong(), anyInt(), anyInt(), anyInt(), anyInt(), any());
+    }
+}
@@ -46,6 +46,9 @@ class JobApplicationServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationProgressRollupService applicationProgressRollupService;
+
     @InjectMocks
     private JobApplicationService jobApplicationService;
 
@@ -42,6 +42,12 @@ class JobPostingServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationProgressRollupService applicationProgressRollupService;
+
+    @Mock
+    private SkillDemandService skillDemandService;
+
     @InjectMocks
     private JobPostingService jobPostingService;
 
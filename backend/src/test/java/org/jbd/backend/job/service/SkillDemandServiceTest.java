@@ -0,0 +1,154 @@
+package org.jbd.backend.job.service;
+
+import org.jbd.backend.job.domain.JobPosting;
+import org.jbd.backend.job.domain.enums.ExperienceLevel;
+import org.jbd.backend.job.domain.enums.JobType;
+import org.jbd.backend.job.dto.SkillDemandDto;
+import org.jbd.backend.job.repository.JobPostingRepository;
+import org.jbd.backend.user.domain.User;
+import org.jbd.backend.user.domain.enums.UserType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("기술 수요 인덱스 서비스 테스트")
+class SkillDemandServiceTest {
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    private SkillDemandService skillDemandService;
+    private User companyUser;
+
+    @BeforeEach
+    void setUp() {
+        skillDemandService = new SkillDemandService(jobPostingRepository);
+        ReflectionTestUtils.setField(skillDemandService, "windowDays", 30);
+        ReflectionTestUtils.setField(skillDemandService, "capacity", 10);
+        ReflectionTestUtils.setField(skillDemandService, "inDemandTop", 2);
+        companyUser = new User("company@example.com", "password", UserType.COMPANY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("조회는 스냅샷을 다시 계산하지 않고 갱신 주기 이후에 변경분이 보인다")
+    void 조회는_갱신_주기_이후에_변경분을_본다() {
+        // given
+        skillDemandService.recordPublished(publishedPosting("Java, Spring", "백엔드"));
+
+        // when & then
+        assertThat(skillDemandService.hasData()).isFalse();
+        skillDemandService.refreshSnapshot();
+        assertThat(skillDemandService.isInDemand("java", "백엔드")).isTrue();
+        assertThat(skillDemandService.getInDemandSkills(null, 10))
+                .extracting(SkillDemandDto::getSkill)
+                .containsExactlyInAnyOrder("Java", "Spring");
+    }
+
+    @Test
+    @DisplayName("마감되거나 삭제된 공고의 기술은 집계에서 빠진다")
+    void 마감된_공고의_기술은_집계에서_빠진다() {
+        // given
+        JobPosting kept = publishedPosting("Java, Kotlin", "백엔드");
+        JobPosting closed = publishedPosting("Java, Python", "백엔드");
+        skillDemandService.recordPublished(kept);
+        skillDemandService.recordPublished(closed);
+
+        // when
+        skillDemandService.recordWithdrawn(closed);
+        skillDemandService.refreshSnapshot();
+
+        // then
+        assertThat(skillDemandService.getInDemandSkills("백엔드", 10))
+                .extracting(SkillDemandDto::getSkill, SkillDemandDto::getPostingCount)
+                .containsExactlyInAnyOrder(tuple("Java", 1L), tuple("Kotlin", 1L));
+        assertThat(skillDemandService.isInDemand("Python", "백엔드")).isFalse();
+    }
+
+    @Test
+    @DisplayName("필요 기술이 수정되면 빠진 기술은 빼고 추가된 기술만 더한다")
+    void 필요_기술_수정은_증감으로_반영한다() {
+        // given
+        JobPosting posting = publishedPosting("Java, Spring", "백엔드");
+        skillDemandService.recordPublished(posting);
+
+        // when
+        posting.updateContent(posting.getDescription(), null, "Java, Kotlin", null);
+        skillDemandService.recordChanged(posting, "Java, Spring", "백엔드");
+        skillDemandService.refreshSnapshot();
+
+        // then
+        assertThat(skillDemandService.getInDemandSkills("백엔드", 10))
+                .extracting(SkillDemandDto::getSkill, SkillDemandDto::getPostingCount)
+                .containsExactlyInAnyOrder(tuple("Java", 1L), tuple("Kotlin", 1L));
+    }
+
+    @Test
+    @DisplayName("부서가 바뀌면 이전 부서에서 빼고 새 부서에 반영한다")
+    void 부서_변경은_세그먼트를_옮긴다() {
+        // given
+        JobPosting posting = publishedPosting("Java", "백엔드");
+        skillDemandService.recordPublished(posting);
+        skillDemandService.recordPublished(publishedPosting("React", "프론트엔드"));
+
+        // when
+        posting.updateBasicInfo(posting.getTitle(), posting.getCompanyName(), posting.getLocation(),
+                posting.getJobType(), "플랫폼", posting.getField(), posting.getExperienceLevel());
+        skillDemandService.recordChanged(posting, "Java", "백엔드");
+        skillDemandService.refreshSnapshot();
+
+        // then
+        assertThat(skillDemandService.isInDemand("Java", "플랫폼")).isTrue();
+        assertThat(skillDemandService.getInDemandSkills("백엔드", 10)).isEmpty();
+        assertThat(skillDemandService.getInDemandSkills(null, 10))
+                .extracting(SkillDemandDto::getPostingCount)
+                .containsExactly(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 커밋된 뒤에만 반영한다")
+    void 트랜잭션_변경은_커밋_후에_반영한다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        skillDemandService.recordPublished(publishedPosting("Java", "백엔드"));
+
+        // when
+        skillDemandService.refreshSnapshot();
+        boolean beforeCommit = skillDemandService.hasData();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        skillDemandService.refreshSnapshot();
+
+        // then
+        assertThat(beforeCommit).isFalse();
+        assertThat(skillDemandService.isInDemand("Java", null)).isTrue();
+    }
+
+    private JobPosting publishedPosting(String requiredSkills, String department) {
+        JobPosting posting = new JobPosting(companyUser, "개발자 모집", "테스트기업",
+                "서울", JobType.FULL_TIME, ExperienceLevel.MID_LEVEL);
+        posting.updateBasicInfo(posting.getTitle(), posting.getCompanyName(), posting.getLocation(),
+                posting.getJobType(), department, null, posting.getExperienceLevel());
+        posting.updateContent("설명", null, requiredSkills, null);
+        posting.publish(LocalDate.now().plusDays(30));
+        return posting;
+    }
+}
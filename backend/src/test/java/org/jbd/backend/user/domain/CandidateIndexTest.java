@@ -0,0 +1,100 @@
+package org.jbd.backend.user.domain;
+
+import org.jbd.backend.user.domain.CandidateIndex.CandidateDocument;
+import org.jbd.backend.user.domain.enums.EducationLevel;
+import org.jbd.backend.user.domain.enums.SkillLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("인재 검색 색인 테스트")
+class CandidateIndexTest {
+
+    @Test
+    @DisplayName("기술 조건은 모두 보유한 사용자만 대소문자 구분 없이 매칭한다")
+    void 기술_조건은_모두_보유한_사용자만_매칭한다() {
+        // given
+        CandidateIndex index = new CandidateIndex();
+        index.put(document(1L, Map.of("Java", SkillLevel.ADVANCED, "Spring", SkillLevel.INTERMEDIATE), 24, EducationLevel.BACHELOR));
+        index.put(document(2L, Map.of("java", SkillLevel.EXPERT), 60, EducationLevel.MASTER));
+        index.put(document(3L, Map.of("React", SkillLevel.EXPERT), 12, EducationLevel.BACHELOR));
+
+        // when
+        CandidateIndex.SearchResult result = index.search(query(List.of("JAVA", "spring"), null, null), 0, 10);
+
+        // then
+        assertThat(result.getTotalMatches()).isEqualTo(1);
+        assertThat(result.getMatches()).extracting(m -> m.getDocument().getUserId()).containsExactly(1L);
+        assertThat(index.search(query(List.of("kotlin"), null, null), 0, 10).getTotalMatches()).isZero();
+    }
+
+    @Test
+    @DisplayName("숙련도 합계, 경력 개월 수 순으로 정렬하고 페이지를 나눈다")
+    void 숙련도_경력_순으로_정렬하고_페이지를_나눈다() {
+        // given
+        CandidateIndex index = new CandidateIndex();
+        index.put(document(1L, Map.of("java", SkillLevel.BEGINNER), 100, EducationLevel.DOCTORATE));
+        index.put(document(2L, Map.of("java", SkillLevel.EXPERT), 10, EducationLevel.BACHELOR));
+        index.put(document(3L, Map.of("java", SkillLevel.EXPERT), 30, EducationLevel.BACHELOR));
+        index.put(document(4L, Map.of("java", SkillLevel.INTERMEDIATE), 50, EducationLevel.BACHELOR));
+
+        // when
+        CandidateIndex.SearchResult first = index.search(query(List.of("java"), null, null), 0, 2);
+        CandidateIndex.SearchResult second = index.search(query(List.of("java"), null, null), 2, 2);
+
+        // then
+        assertThat(first.getTotalMatches()).isEqualTo(4);
+        assertThat(first.getMatches()).extracting(m -> m.getDocument().getUserId()).containsExactly(3L, 2L);
+        assertThat(second.getMatches()).extracting(m -> m.getDocument().getUserId()).containsExactly(4L, 1L);
+        assertThat(index.search(query(List.of("java"), null, null), 4, 2).getMatches()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최소 경력과 최소 학력 서열로 걸러낸다")
+    void 최소_경력과_최소_학력_서열로_걸러낸다() {
+        // given
+        CandidateIndex index = new CandidateIndex();
+        index.put(document(1L, Map.of("java", SkillLevel.ADVANCED), 36, EducationLevel.BOOTCAMP));
+        index.put(document(2L, Map.of("java", SkillLevel.ADVANCED), 36, EducationLevel.MASTER));
+        index.put(document(3L, Map.of("java", SkillLevel.ADVANCED), 6, EducationLevel.DOCTORATE));
+
+        // when
+        CandidateIndex.SearchResult result = index.search(query(List.of(), 24, EducationLevel.BACHELOR), 0, 10);
+
+        // then
+        assertThat(result.getMatches()).extracting(m -> m.getDocument().getUserId()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("문서를 교체하거나 삭제하면 이전 기술 목록에서 빠진다")
+    void 문서를_교체하거나_삭제하면_이전_기술_목록에서_빠진다() {
+        // given
+        CandidateIndex index = new CandidateIndex();
+        index.put(document(1L, Map.of("java", SkillLevel.ADVANCED), 12, null));
+        index.put(document(2L, Map.of("java", SkillLevel.ADVANCED), 12, null));
+
+        // when
+        index.put(document(1L, Map.of("python", SkillLevel.ADVANCED), 12, null));
+        index.remove(2L);
+
+        // then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search(query(List.of("java"), null, null), 0, 10).getTotalMatches()).isZero();
+        assertThat(index.search(query(List.of("python"), null, null), 0, 10).getMatches())
+                .extracting(m -> m.getDocument().getUserId()).containsExactly(1L);
+    }
+
+    private CandidateDocument document(Long userId, Map<String, SkillLevel> skills, int careerMonths,
+                                       EducationLevel education) {
+        return new CandidateDocument(userId, skills, careerMonths, education, Set.of());
+    }
+
+    private CandidateIndex.Query query(List<String> skills, Integer minCareerMonths, EducationLevel minEducation) {
+        return new CandidateIndex.Query(skills, minCareerMonths, minEducation, null);
+    }
+}
@@ -0,0 +1,79 @@
+package org.jbd.backend.user.service;
+
+import org.jbd.backend.common.dto.PageResponse;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.user.domain.CandidateIndex;
+import org.jbd.backend.user.domain.enums.SkillLevel;
+import org.jbd.backend.user.dto.CandidateSearchResultDto;
+import org.jbd.backend.user.repository.CareerHistoryRepository;
+import org.jbd.backend.user.repository.CertificationRepository;
+import org.jbd.backend.user.repository.EducationRepository;
+import org.jbd.backend.user.repository.UserProfileRepository;
+import org.jbd.backend.user.repository.UserSkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("인재 검색 서비스 테스트")
+class CandidateSearchServiceTest {
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+    @Mock
+    private UserSkillRepository userSkillRepository;
+    @Mock
+    private EducationRepository educationRepository;
+    @Mock
+    private CareerHistoryRepository careerHistoryRepository;
+    @Mock
+    private CertificationRepository certificationRepository;
+
+    private CandidateSearchService candidateSearchService;
+
+    @BeforeEach
+    void setUp() {
+        candidateSearchService = new CandidateSearchService(userProfileRepository, userSkillRepository,
+                educationRepository, careerHistoryRepository, certificationRepository);
+        CandidateIndex index = (CandidateIndex) ReflectionTestUtils.getField(candidateSearchService, "index");
+        index.put(new CandidateIndex.CandidateDocument(1L, Map.of("java", SkillLevel.ADVANCED), 24, null, Set.of()));
+    }
+
+    @Test
+    @DisplayName("page * size가 int 범위를 넘는 페이지는 빈 페이지와 전체 건수를 돌려준다")
+    void 범위를_넘는_페이지는_빈_페이지를_돌려준다() {
+        // when
+        PageResponse<CandidateSearchResultDto> result = candidateSearchService.search(
+                List.of("java"), null, null, null, Integer.MAX_VALUE, 100);
+
+        // then
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verifyNoInteractions(userProfileRepository);
+    }
+
+    @Test
+    @DisplayName("음수 페이지나 범위를 벗어난 크기는 INVALID_REQUEST로 거부한다")
+    void 잘못된_페이지_요청은_거부한다() {
+        assertThatThrownBy(() -> candidateSearchService.search(List.of(), null, null, null, -1, 20))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REQUEST);
+        assertThatThrownBy(() -> candidateSearchService.search(List.of(), null, null, null, 0,
+                CandidateSearchService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+}
@@ -0,0 +1,150 @@
+package org.jbd.backend.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jbd.backend.common.exception.BusinessException;
+import org.jbd.backend.common.exception.ErrorCode;
+import org.jbd.backend.user.domain.VerificationToken;
+import org.jbd.backend.user.domain.enums.VerificationPurpose;
+import org.jbd.backend.user.repository.VerificationTokenRepository;
+import org.jbd.backend.webmail.service.WebMailService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("EmailVerificationService 테스트")
+class EmailVerificationServiceTest {
+
+    private final VerificationTokenRepository verificationTokenRepository = mock(VerificationTokenRepository.class);
+    private final EmailVerificationService emailVerificationService =
+            new EmailVerificationService(mock(WebMailService.class), verificationTokenRepository,
+                    new StubTransactionManager(), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("토큰은 해시로 저장하고 같은 이메일의 이전 토큰을 교체한다")
+    void 토큰은_해시로_저장하고_이전_토큰을_교체한다() {
+        // given
+        String token = emailVerificationService.generateToken();
+
+        // when
+        emailVerificationService.sendVerificationEmail("user@example.com", token);
+
+        // then
+        ArgumentCaptor<VerificationToken> captor = ArgumentCaptor.forClass(VerificationToken.class);
+        verify(verificationTokenRepository).deleteByEmailAndPurpose("user@example.com", VerificationPurpose.EMAIL);
+        verify(verificationTokenRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getTokenHash())
+                .isEqualTo(EmailVerificationService.hash(token))
+                .doesNotContain(token);
+        assertThat(captor.getValue().getPurpose()).isEqualTo(VerificationPurpose.EMAIL);
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 한 번만 사용할 수 있다")
+    void 유효한_토큰은_한_번만_사용할_수_있다() {
+        // given
+        String token = "token";
+        when(verificationTokenRepository.consume(eq(EmailVerificationService.hash(token)), any()))
+                .thenReturn(1, 0);
+
+        // when & then
+        assertThat(emailVerificationService.verifyToken(token)).isTrue();
+        assertThat(emailVerificationService.verifyToken(token)).isFalse();
+        assertThat(emailVerificationService.verifyToken(" ")).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기 토큰이 상한이면 테이블을 세지 않고 발급을 거부한다")
+    void 대기_토큰이_상한이면_발급을_거부한다() {
+        // given
+        when(verificationTokenRepository.countByExpiresAtAfter(any())).thenReturn(100_000L);
+        emailVerificationService.init();
+        clearInvocations(verificationTokenRepository);
+
+        // when & then
+        assertThatThrownBy(() -> emailVerificationService.sendPasswordResetEmail("user@example.com", "token"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.VERIFICATION_CAPACITY_EXCEEDED);
+        verify(verificationTokenRepository, never()).countByExpiresAtAfter(any());
+        verify(verificationTokenRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("대기 토큰 수는 발급·교체·사용 시 증감하고 정리 주기마다 DB 건수로 맞춘다")
+    void 대기_토큰_수를_증감하고_정리_주기마다_맞춘다() {
+        // given
+        ReflectionTestUtils.setField(emailVerificationService, "maxPendingTokens", 2L);
+        when(verificationTokenRepository.deleteByEmailAndPurpose(any(), any())).thenReturn(0, 1, 0);
+        when(verificationTokenRepository.consume(any(), any())).thenReturn(1);
+
+        // when
+        emailVerificationService.sendVerificationEmail("a@example.com", "a1");
+        emailVerificationService.sendVerificationEmail("a@example.com", "a2");
+        emailVerificationService.sendVerificationEmail("b@example.com", "b1");
+
+        // then
+        assertThatThrownBy(() -> emailVerificationService.sendVerificationEmail("c@example.com", "c1"))
+                .isInstanceOf(BusinessException.class);
+        assertThat(emailVerificationService.verifyToken("a2")).isTrue();
+        emailVerificationService.sendVerificationEmail("c@example.com", "c1");
+
+        // 다른 노드에서 발급된 토큰까지 정리 주기에 반영
+        when(verificationTokenRepository.countByExpiresAtAfter(any())).thenReturn(2L);
+        emailVerificationService.sweepExpiredTokens();
+        assertThatThrownBy(() -> emailVerificationService.sendVerificationEmail("d@example.com", "d1"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("같은 이메일·용도의 동시 재발송이 유니크 제약에 걸리면 정상 응답으로 끝내고 대기 토큰 수를 올리지 않는다")
+    void 동시_재발송의_유니크_제약_위반은_정상_응답으로_처리한다() {
+        // given
+        ReflectionTestUtils.setField(emailVerificationService, "maxPendingTokens", 1L);
+        when(verificationTokenRepository.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("uk_verification_tokens_email_purpose"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        emailVerificationService.sendVerificationEmail("user@example.com", "lost");
+        emailVerificationService.sendVerificationEmail("other@example.com", "stored");
+
+        // then - 롤백된 발급은 세지 않으므로 상한 1에서 두 번째 발급까지 성공
+        verify(verificationTokenRepository, times(2)).saveAndFlush(any());
+        assertThatThrownBy(() -> emailVerificationService.sendVerificationEmail("third@example.com", "third"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.VERIFICATION_CAPACITY_EXCEEDED);
+    }
+
+    /**
+     * 커밋·롤백 시 트랜잭션 동기화 콜백만 실행하는 트랜잭션 매니저
+     */
+    private static final class StubTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
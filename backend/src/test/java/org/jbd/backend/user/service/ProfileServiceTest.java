@@ -47,6 +47,15 @@ class ProfileServiceTest {
     @Mock
     private ExperienceRepository experienceRepository;
 
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private CandidateSearchService candidateSearchService;
+
+    @Mock
+    private ProfileVersionService profileVersionService;
+
     @InjectMocks
     private ProfileService profileService;
 
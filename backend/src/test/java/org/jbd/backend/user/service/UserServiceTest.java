@@ -2,6 +2,7 @@ package org.jbd.backend.user.service;
 
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.introspector.FieldReflectionArbitraryIntrospector;
+import org.jbd.backend.auth.service.PrincipalCache;
 import org.jbd.backend.common.exception.BusinessException;
 import org.jbd.backend.common.exception.ErrorCode;
 import org.jbd.backend.user.domain.User;
@@ -40,6 +41,12 @@ class UserServiceTest {
     
     @Mock
     private EmailVerificationService emailVerificationService;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private ProfileVersionService profileVersionService;
     
     @InjectMocks
     private UserService userService;
@@ -0,0 +1,165 @@
+package org.jbd.backend.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 AI 서비스 서버
+ *
+ * 127.0.0.1의 임의 포트에서 경로별로 고정 JSON 응답을 지연 시간과 함께 돌려줍니다.
+ * {@link #respondOnce}로 지정한 응답은 고정 응답보다 먼저 한 번씩 사용됩니다.
+ * 요청 수와 클라이언트 연결(원격 포트) 수를 기록해 연결 재사용 여부를 확인할 수 있습니다.
+ * {@link #respondStream}으로 지정한 경로는 SSE 이벤트를 간격을 두고 하나씩 보내며, 전송 중 클라이언트가 연결을 끊으면 기록합니다.
+ */
+public class StubAIServer implements AutoCloseable {
+
+    static {
+        // 응답 헤더와 본문이 나뉘어 전송될 때 Nagle 지연이 측정에 섞이지 않도록 설정
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+    private final Map<String, Queue<Route>> onceRoutes = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final Map<String, StreamRoute> streamRoutes = new ConcurrentHashMap<>();
+    private final AtomicInteger abortedStreams = new AtomicInteger();
+
+    public StubAIServer(int workerThreads) throws IOException {
+        this.executor = Executors.newFixedThreadPool(workerThreads);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 경로의 응답을 지정합니다.
+     */
+    public StubAIServer respond(String path, int status, String json, long delayMillis) {
+        routes.put(path, new Route(status, json, delayMillis));
+        return this;
+    }
+
+    /**
+     * 경로의 다음 요청 한 건에만 사용할 응답을 추가합니다. 여러 번 호출하면 순서대로 사용됩니다.
+     */
+    public StubAIServer respondOnce(String path, int status, String json, long delayMillis) {
+        onceRoutes.computeIfAbsent(path, key -> new ConcurrentLinkedQueue<>())
+                .add(new Route(status, json, delayMillis));
+        return this;
+    }
+
+    /**
+     * 경로의 응답을 SSE 스트림으로 지정합니다. 각 data를 intervalMillis 간격으로 한 이벤트씩 보냅니다.
+     */
+    public StubAIServer respondStream(String path, List<String> events, long intervalMillis) {
+        streamRoutes.put(path, new StreamRoute(events, intervalMillis));
+        return this;
+    }
+
+    /**
+     * 모든 이벤트를 보내기 전에 클라이언트가 연결을 끊은 스트림 수
+     */
+    public int getAbortedStreamCount() {
+        return abortedStreams.get();
+    }
+
+    public int getRequestCount(String path) {
+        AtomicInteger count = requestCounts.get(path);
+        return count != null ? count.get() : 0;
+    }
+
+    public int getConnectionCount() {
+        return clientPorts.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        requestCounts.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+        try (InputStream in = exchange.getRequestBody()) {
+            in.readAllBytes();
+        }
+
+        StreamRoute stream = streamRoutes.get(path);
+        if (stream != null) {
+            handleStream(exchange, stream);
+            return;
+        }
+
+        Queue<Route> once = onceRoutes.get(path);
+        Route route = once != null ? once.poll() : null;
+        if (route == null) {
+            route = routes.getOrDefault(path, new Route(404, "{\"success\":false}", 0));
+        }
+        if (route.delayMillis() > 0) {
+            try {
+                Thread.sleep(route.delayMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.close();
+                return;
+            }
+        }
+        byte[] body = route.json().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(route.status(), body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void handleStream(HttpExchange exchange, StreamRoute stream) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        try {
+            for (String data : stream.events()) {
+                Thread.sleep(stream.intervalMillis());
+                out.write(("data:" + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+            out.close();
+        } catch (IOException e) {
+            abortedStreams.incrementAndGet();
+            exchange.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+        }
+    }
+
+    private record Route(int status, String json, long delayMillis) {
+    }
+
+    private record StreamRoute(List<String> events, long intervalMillis) {
+    }
+}
@@ -0,0 +1,123 @@
+package org.jbd.backend.util;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 Google ID 토큰 발급자
+ *
+ * RSA 키로 ID 토큰을 서명하고, 127.0.0.1의 임의 포트에서 해당 공개 키를 JWKS로 제공합니다.
+ * 실제 Google 엔드포인트 없이 ID 토큰 검증과 키 교체를 재현할 때 사용합니다.
+ */
+public class StubGoogleIssuer implements AutoCloseable {
+
+    public static final String ISSUER = "https://accounts.google.com";
+
+    private final HttpServer server;
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private final long maxAgeSeconds;
+    private volatile KeyPair keyPair;
+    private volatile String keyId;
+
+    public StubGoogleIssuer(long maxAgeSeconds) throws IOException {
+        this.maxAgeSeconds = maxAgeSeconds;
+        rotateKey();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/certs", exchange -> {
+            jwksRequests.incrementAndGet();
+            byte[] body = jwks().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=" + this.maxAgeSeconds);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    public String getJwksUri() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/certs";
+    }
+
+    public int getJwksRequests() {
+        return jwksRequests.get();
+    }
+
+    /**
+     * 서명 키를 새로 만듭니다. 이후 JWKS는 새 키만 제공합니다.
+     */
+    public void rotateKey() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            this.keyPair = generator.generateKeyPair();
+            this.keyId = UUID.randomUUID().toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 기본 클레임으로 ID 토큰을 발급합니다.
+     */
+    public String idToken(String audience, String email, Instant expiresAt) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("email", email);
+        claims.put("email_verified", true);
+        claims.put("name", "Stub User");
+        return idToken(ISSUER, audience, "stub-" + email, expiresAt, claims);
+    }
+
+    public String idToken(String issuer, String audience, String subject, Instant expiresAt, Map<String, Object> claims) {
+        return Jwts.builder()
+                .setHeaderParam("kid", keyId)
+                .addClaims(claims)
+                .setIssuer(issuer)
+                .setAudience(audience)
+                .setSubject(subject)
+                .setIssuedAt(Date.from(expiresAt.minusSeconds(3600)))
+                .setExpiration(Date.from(expiresAt))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private String jwks() {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "{\"keys\":[{\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"kid\":\"" + keyId + "\","
+                + "\"n\":\"" + encoder.encodeToString(unsigned(publicKey.getModulus().toByteArray())) + "\","
+                + "\"e\":\"" + encoder.encodeToString(unsigned(publicKey.getPublicExponent().toByteArray())) + "\"}]}";
+    }
+
+    private static byte[] unsigned(byte[] bytes) {
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return bytes;
+    }
+}